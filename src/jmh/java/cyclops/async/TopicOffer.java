@@ -0,0 +1,84 @@
+package cyclops.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+
+@State(Scope.Thread)
+public class TopicOffer {
+
+    @Param({"1", "4", "16"})
+    int subscribers;
+
+    Topic<Integer> topic;
+    Integer[] batch;
+
+    @Setup
+    public void setup() {
+        topic = new Topic<>(new Queue<>(), QueueFactories.unboundedNonBlockingQueue());
+        for (int i = 0; i < subscribers; i++)
+            topic.stream();
+        batch = new Integer[1000];
+        for (int i = 0; i < batch.length; i++)
+            batch[i] = i;
+    }
+
+    private void drain() {
+        topic.getDistributor()
+             .getSubscribers()
+             .forEach(q -> q.getQueue().clear());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void fromStreamOfOne(Blackhole bh) {
+        for (int i = 0; i < batch.length; i++) {
+            bh.consume(topic.fromStream(Stream.of(batch[i])));
+        }
+        drain();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void offer(Blackhole bh) {
+        for (int i = 0; i < batch.length; i++) {
+            bh.consume(topic.offer(batch[i]));
+        }
+        drain();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void offerAll(Blackhole bh) {
+        bh.consume(topic.offerAll(batch));
+        drain();
+    }
+
+}
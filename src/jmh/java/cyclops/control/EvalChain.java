@@ -0,0 +1,65 @@
+package cyclops.control;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class EvalChain {
+
+ @Param({"10", "1000", "1000000"})
+ public int steps;
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void alwaysMap(Blackhole bh){
+   Eval<Integer> eval = Eval.always(()->0);
+   for(int i=0;i<steps;i++)
+    eval = eval.map(x->x+1);
+   bh.consume(eval.get());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void alwaysFlatMap(Blackhole bh){
+   Eval<Integer> eval = Eval.always(()->0);
+   for(int i=0;i<steps;i++)
+    eval = eval.flatMap(x->Eval.always(()->x+1));
+   bh.consume(eval.get());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void laterMapFlatMap(Blackhole bh){
+   Eval<Integer> eval = Eval.later(()->0);
+   for(int i=0;i<steps;i++)
+    eval = i%2==0 ? eval.map(x->x+1) : eval.flatMap(x->Eval.later(()->x+1));
+   bh.consume(eval.get());
+ }
+
+}
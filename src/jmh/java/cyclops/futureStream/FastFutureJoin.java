@@ -0,0 +1,71 @@
+package cyclops.futureStream;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.FinalPipeline;
+import com.aol.cyclops2.react.BlockingWait;
+import cyclops.async.LazyReact;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class FastFutureJoin {
+
+    @Param({"PARK", "SPIN_THEN_PARK"})
+    String wait;
+
+    BlockingWait blockingWait;
+    ExecutorService completer;
+    LazyReact react;
+
+    @Setup
+    public void setup() {
+        blockingWait = "PARK".equals(wait) ? BlockingWait.PARK : BlockingWait.SPIN_THEN_PARK;
+        completer = Executors.newFixedThreadPool(2);
+        react = new LazyReact(Executors.newFixedThreadPool(4)).withBlockingWait(blockingWait);
+    }
+
+    @TearDown
+    public void tearDown() {
+        completer.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    @Threads(8)
+    public void joinUnderContention(Blackhole bh) {
+        FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(), 0, blockingWait);
+        completer.execute(() -> f.set(1));
+        bh.consume(f.join());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    @Threads(4)
+    public void futureStreamToList(Blackhole bh) {
+        bh.consume(react.range(0, 1000)
+                        .map(i -> i * 2)
+                        .toList());
+    }
+
+}
@@ -0,0 +1,49 @@
+package cyclops.futureStream;
+
+import cyclops.async.LazyReact;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class FilterSelectivity {
+
+    @Param({"1", "50", "99"})
+    int percentKept;
+
+    ExecutorService exec;
+    LazyReact react;
+
+    @Setup
+    public void setup() {
+        exec = Executors.newFixedThreadPool(4);
+        react = new LazyReact(exec);
+    }
+
+    @TearDown
+    public void tearDown() {
+        exec.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void filter(Blackhole bh) {
+        bh.consume(react.range(0, 10_000)
+                        .filter(i -> i % 100 < percentKept)
+                        .map(i -> i * 2)
+                        .toList());
+    }
+
+}
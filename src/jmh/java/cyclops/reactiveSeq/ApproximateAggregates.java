@@ -0,0 +1,87 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class ApproximateAggregates {
+
+ @Param({"10000", "1000000"})
+ public int size;
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public Optional<Integer> percentile() {
+   return ReactiveSeq.range(0, size)
+                     .percentile(0.99);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public Optional<Integer> approximatePercentile() {
+   return ReactiveSeq.range(0, size)
+                     .approximatePercentile(0.99);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long countDistinct() {
+   return ReactiveSeq.range(0, size)
+                     .countDistinct();
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long approximateCountDistinct() {
+   return ReactiveSeq.range(0, size)
+                     .approximateCountDistinct();
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long runningPercentile() {
+   return ReactiveSeq.range(0, size)
+                     .runningPercentile(0.99)
+                     .count();
+ }
+}
@@ -0,0 +1,94 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.IntSeq;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed ReactiveSeq versus the unboxed IntSeq (pull and push) for map / filter / scanLeft / sliding over 100,000 ints.
+ */
+public class IntSeqMapScan {
+
+ static final int SIZE = 100_000;
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqBoxed(Blackhole bh){
+  bh.consume(ReactiveSeq.range(0, SIZE)
+          .map(i -> i * 2)
+          .filter(i -> i % 3 != 0)
+          .scanLeft(0, (a, b) -> a + b)
+          .sliding(8)
+          .count());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsBoxed(Blackhole bh){
+  bh.consume(Spouts.range(0, SIZE)
+          .map(i -> i * 2)
+          .filter(i -> i % 3 != 0)
+          .scanLeft(0, (a, b) -> a + b)
+          .sliding(8)
+          .count());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void intSeqPull(Blackhole bh){
+  bh.consume(IntSeq.range(0, SIZE)
+          .map(i -> i * 2)
+          .filter(i -> i % 3 != 0)
+          .scanLeft(0, (a, b) -> a + b)
+          .sliding(8)
+          .count());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void intSeqPush(Blackhole bh){
+  bh.consume(Spouts.rangeIntSeq(0, SIZE)
+          .map(i -> i * 2)
+          .filter(i -> i % 3 != 0)
+          .scanLeft(0, (a, b) -> a + b)
+          .sliding(8)
+          .count());
+ }
+
+}
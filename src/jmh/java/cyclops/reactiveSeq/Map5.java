@@ -1,9 +1,14 @@
 package cyclops.reactiveSeq;
 
+import com.aol.cyclops2.internal.stream.spliterators.push.ArrayOfValuesOperator;
 import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -11,6 +16,8 @@ import java.util.stream.Stream;
 
 public class Map5 {
 
+ static final Integer[] VALUES = ReactiveSeq.range(0, 1000).toArray(Integer[]::new);
+
  @Benchmark
  @BenchmarkMode(Mode.SampleTime)
  @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -78,4 +85,104 @@ public class Map5 {
   }
  }
 
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMap(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.of(VALUES)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ /*
+  * Backpressured (reactive-streams) pipelines, demand is signalled one element at a time via the Iterator
+  */
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void reactiveStreamMapPerElement(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   Iterator<Integer> it = Spouts.reactiveStream(new ArrayOfValuesOperator<>(VALUES))
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .iterator();
+   List<Integer> list = new ArrayList<>(VALUES.length);
+   while(it.hasNext())
+    list.add(it.next());
+   bh.consume(list);
+  }
+ }
+
+ /*
+  * Backpressured (reactive-streams) pipelines drained via forEachRemaining, demand is signalled in batches
+  */
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void reactiveStreamMapBatched(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   List<Integer> list = new ArrayList<>(VALUES.length);
+   Spouts.reactiveStream(new ArrayOfValuesOperator<>(VALUES))
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .spliterator()
+           .forEachRemaining(list::add);
+   bh.consume(list);
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void reactiveStreamFlatMapBatched(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.reactiveStream(new ArrayOfValuesOperator<>(VALUES))
+           .map(i -> i * 2)
+           .flatMap(i -> Stream.of(i, i))
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package cyclops.reactiveSeq;
+
+import cyclops.async.QueueFactories;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class MergePrefetch {
+
+ @Param({"2", "16", "1000"})
+ public int inners;
+
+ int perInner;
+
+ @Setup
+ public void setup() {
+   perInner = 100_000 / inners;
+ }
+
+ @Benchmark
+ @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long flatMapPPrefetch() {
+   return Spouts.range(0, inners)
+                .flatMapP(inners, i -> Spouts.range(0, perInner))
+                .count();
+ }
+ @Benchmark
+ @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long flatMapPQueue() {
+   return Spouts.range(0, inners)
+                .flatMapP(inners, QueueFactories.unboundedNonBlockingQueue(), i -> Spouts.range(0, perInner))
+                .count();
+ }
+ @Benchmark
+ @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long mergePPrefetch() {
+   return Spouts.range(0, perInner)
+                .mergeP(publishers(inners - 1))
+                .count();
+ }
+ @Benchmark
+ @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long mergeLatest() {
+   return Spouts.mergeLatest(publishers(inners))
+                .count();
+ }
+
+ private Publisher<Integer>[] publishers(int n) {
+   Publisher<Integer>[] pubs = new Publisher[n];
+   for (int i = 0; i < n; i++)
+     pubs[i] = Spouts.range(0, perInner);
+   return pubs;
+ }
+}
@@ -0,0 +1,74 @@
+package cyclops.reactiveSeq;
+
+import cyclops.Monoids;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class MonoidReductions {
+
+ @Param({"10", "1000"})
+ public int windowSize;
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long slidingWindowFn() {
+   return ReactiveSeq.range(0, 100_000)
+                     .sliding(windowSize, 1, w -> Monoids.intSum.reduce(w.stream()))
+                     .count();
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long slidingReduce() {
+   return ReactiveSeq.range(0, 100_000)
+                     .slidingReduce(windowSize, Monoids.intSum)
+                     .count();
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long mapReduce() {
+   return ReactiveSeq.range(0, 1_000_000)
+                     .mapReduce(i -> (long) i, Monoids.longSum);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long mapReduceParallel() {
+   return ReactiveSeq.range(0, 1_000_000)
+                     .mapReduceParallel(i -> (long) i, Monoids.longSum);
+ }
+}
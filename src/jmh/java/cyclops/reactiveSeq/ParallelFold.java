@@ -0,0 +1,86 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class ParallelFold {
+
+ @Param({"1", "2", "4", "8", "16", "32"})
+ public int cores;
+
+ ForkJoinPool pool;
+
+ @Setup
+ public void setup(){
+   pool = new ForkJoinPool(cores);
+ }
+
+ @TearDown
+ public void tearDown(){
+   pool.shutdown();
+ }
+
+ static long work(int i){
+   long result = i;
+   for(int k=0;k<100;k++)
+     result = result * 31 + k;
+   return result;
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long splittableOrdered(){
+
+   return ReactiveSeq.range(0,1000000)
+           .foldParallel(pool,s->s.mapToLong(ParallelFold::work).sum());
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long splittableUnordered(){
+
+   return ReactiveSeq.range(0,1000000)
+           .foldParallelUnordered(pool,s->s.mapToLong(ParallelFold::work).sum());
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long queueHandoff(){
+
+   return ReactiveSeq.iterate(0,i->i+1)
+           .limit(1000000)
+           .foldParallel(pool,s->s.mapToLong(ParallelFold::work).sum());
+
+ }
+
+
+}
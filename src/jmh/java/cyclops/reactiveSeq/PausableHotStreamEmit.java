@@ -0,0 +1,77 @@
+package cyclops.reactiveSeq;
+
+import com.aol.cyclops2.internal.stream.PausableHotStreamImpl;
+import com.aol.cyclops2.types.stream.NonPausableHotStream;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Emission loop cost per element, per connection. The HotStream is run on the benchmark thread (direct Executor),
+ * so only the pause check and the dispatch to the connected Queues are measured.
+ */
+@State(Scope.Thread)
+public class PausableHotStreamEmit {
+
+    static final int ELEMENTS = 10_000;
+    static final Executor DIRECT = Runnable::run;
+
+    @Param({"1", "4", "16", "256"})
+    int connections;
+
+    Queue<Integer>[] queues;
+
+    @Setup
+    public void setup() {
+        queues = new Queue[connections];
+        for (int i = 0; i < connections; i++)
+            queues[i] = new ArrayDeque<>(ELEMENTS);
+    }
+
+    private void drain() {
+        for (Queue<Integer> q : queues)
+            q.clear();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void pausableHotStream(Blackhole bh) {
+        PausableHotStreamImpl<Integer> hot = new PausableHotStreamImpl<>(ReactiveSeq.range(0, ELEMENTS));
+        for (Queue<Integer> q : queues)
+            bh.consume(hot.connect(q));
+        bh.consume(hot.init(DIRECT));
+        drain();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hotStream(Blackhole bh) {
+        NonPausableHotStream<Integer> hot = new NonPausableHotStream<>(ReactiveSeq.range(0, ELEMENTS));
+        for (Queue<Integer> q : queues)
+            bh.consume(hot.connect(q));
+        bh.consume(hot.init(DIRECT));
+        drain();
+    }
+}
@@ -0,0 +1,87 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class SlidingLarge {
+
+ @Param({"100", "1000"})
+ public int windowSize;
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqSliding(Blackhole bh){
+
+   ReactiveSeq.range(0,10000)
+           .sliding(windowSize,1)
+           .forEach(w->bh.consume(w.get(w.size()-1)));
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqSlidingTransient(Blackhole bh){
+
+   ReactiveSeq.range(0,10000)
+           .sliding(windowSize,1,w->w.get(w.size()-1))
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsSliding(Blackhole bh){
+
+   Spouts.range(0,10000)
+           .sliding(windowSize,1)
+           .forEach(w->bh.consume(w.get(w.size()-1)));
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsSlidingTransient(Blackhole bh){
+
+   Spouts.range(0,10000)
+           .sliding(windowSize,1,w->w.get(w.size()-1))
+           .forEach(bh::consume);
+
+ }
+
+
+}
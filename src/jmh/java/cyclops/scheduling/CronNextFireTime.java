@@ -0,0 +1,76 @@
+package cyclops.scheduling;
+
+import com.aol.cyclops2.util.stream.scheduling.cron.CompiledCron;
+import com.aol.cyclops2.util.stream.scheduling.cron.CronExpression;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class CronNextFireTime {
+
+ @Param({"* * * * * ?", "0 0/5 14,18 * * ?", "0 15 10 ? * 6#3"})
+ public String expression;
+
+ CronExpression cron;
+ CompiledCron compiled;
+ long now;
+
+ @Setup
+ public void setup() throws ParseException {
+   cron = new CronExpression(expression);
+   compiled = CompiledCron.of(cron);
+   now = System.currentTimeMillis();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.Throughput)
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long parseAndCronExpression() throws ParseException {
+
+   return new CronExpression(expression).getNextValidTimeAfter(new Date(now)).getTime();
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.Throughput)
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long cronExpression(){
+
+   return cron.getNextValidTimeAfter(new Date(now)).getTime();
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.Throughput)
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public long compiledCron(){
+
+   return compiled.nextFireMillis(now);
+
+ }
+
+
+}
@@ -0,0 +1,73 @@
+package cyclops.scheduling;
+
+import cyclops.async.HashedWheelTimer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+
+@State(Scope.Benchmark)
+public class ScheduleTimeouts {
+
+ @Param({"1000", "100000"})
+ public int timeouts;
+
+ ScheduledExecutorService pool;
+ ScheduledFuture<?>[] futures;
+
+ @Setup
+ public void setup() {
+   pool = Executors.newScheduledThreadPool(1);
+   futures = new ScheduledFuture<?>[timeouts];
+ }
+
+ @TearDown
+ public void teardown() {
+   pool.shutdownNow();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.Throughput)
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public int scheduledThreadPool() {
+   return scheduleAndCancel(pool);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.Throughput)
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public int hashedWheelTimer() {
+   return scheduleAndCancel(HashedWheelTimer.shared());
+ }
+
+ /*
+  * The common case for the time based stream operators, most timeouts are cancelled or superseded before they expire
+  */
+ private int scheduleAndCancel(ScheduledExecutorService ex) {
+   for (int i = 0; i < timeouts; i++) {
+     futures[i] = ex.schedule(() -> { }, 1 + i % 1000, TimeUnit.MILLISECONDS);
+   }
+   int cancelled = 0;
+   for (int i = 0; i < timeouts; i++) {
+     if (futures[i].cancel(false))
+       cancelled++;
+   }
+   return cancelled;
+ }
+}
@@ -105,6 +105,8 @@ public class ExecutionPipeline {
             } catch (final Throwable e) {
                 ex = (X) e;
             }
+            if (res == FastFuture.FILTERED)
+                return res;
             fn.accept(res, ex);
             if (ex != null)
                 throw (RuntimeException) ex;
@@ -175,7 +177,11 @@ public class ExecutionPipeline {
         }
         final Function before = functionList.get(functionList.size() - 1);
         final PStack<Function> removed = functionList.minus(functionList.size() - 1);
-        return removed.plus(removed.size(), fn.compose(before));
+        final Function composed = t -> {
+            final Object in = before.apply(t);
+            return in == FastFuture.FILTERED ? in : fn.apply(in); //filtered, skip the remaining synchronous functions
+        };
+        return removed.plus(removed.size(), composed);
     }
 
     private Function composeFirstRecovery() {
@@ -4,12 +4,15 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
 import com.aol.cyclops2.internal.react.exceptions.SimpleReactCompletionException;
+import com.aol.cyclops2.react.BlockingWait;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -34,12 +37,22 @@ public class FastFuture<T> {
     private volatile Consumer<OnComplete> essential;
     @Getter
     private volatile boolean completedExceptionally = false;
+    /**
+     * True if the result was removed by a filter stage, remaining stages are skipped and join throws a
+     * SimpleReactCompletionException caused by a FilteredExecutionPathException
+     */
+    @Getter
+    private volatile boolean filtered = false;
     private final AtomicReference result = new AtomicReference(
                                                                UNSET);
     private final AtomicReference exception = new AtomicReference(
                                                                   UNSET);
     private final Consumer<FastFuture<T>> doFinally;
     private static UnSet UNSET = new UnSet();
+    /*
+     * Returned by a filter stage (rather than throwing an Exception) to mark the result as filtered
+     */
+    static final Object FILTERED = new Object();
 
     static class UnSet {
     }
@@ -52,65 +65,141 @@ public class FastFuture<T> {
     private final AtomicInteger max = new AtomicInteger(
                                                         0);
 
+    private final BlockingWait blockingWait;
+    private volatile WaitNode waiters;
+    private static final AtomicReferenceFieldUpdater<FastFuture, WaitNode> WAITERS = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                          WaitNode.class,
+                                                                                                                          "waiters");
+
+    static final class WaitNode {
+        final Thread thread = Thread.currentThread();
+        WaitNode next;
+    }
+
     public FastFuture() {
         max.set(0);
         this.doFinally = null;
         this.pipeline = null;
+        this.blockingWait = BlockingWait.PARK;
     }
 
     private T result() {
-        Object res = UNSET;
-        while ((res = result.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (T) res;
+        final Object res = result.get();
+        if (res != UNSET)
+            return (T) res;
+        awaitDone();
+        return (T) result.get();
     }
 
     private Throwable exception() {
-        Object result = UNSET;
-        while ((result = exception.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (Throwable) result;
+        final Object res = exception.get();
+        if (res != UNSET)
+            return (Throwable) res;
+        awaitDone();
+        return (Throwable) exception.get();
     }
 
     public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
+        this(pipeline, doFinally, BlockingWait.PARK);
+    }
+
+    public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally, final BlockingWait blockingWait) {
         this.max.set(0);
         this.pipeline = pipeline;
         this.doFinally = doFinally;
+        this.blockingWait = blockingWait;
 
     }
 
     public FastFuture(final FinalPipeline pipeline, final int max) {
+        this(pipeline, max, BlockingWait.PARK);
+    }
+
+    public FastFuture(final FinalPipeline pipeline, final int max, final BlockingWait blockingWait) {
         this.max.set(max);
         this.pipeline = pipeline;
         this.doFinally = null;
+        this.blockingWait = blockingWait;
     }
 
     public void await() {
+        awaitDone();
+    }
 
-        long spin = 1;
+    private void awaitDone() {
+        if (done)
+            return;
+        for (int i = blockingWait.getSpins(); i > 0; i--) {
+            if (done)
+                return;
+        }
+        for (int i = blockingWait.getYields(); i > 0; i--) {
+            Thread.yield();
+            if (done)
+                return;
+        }
+        final WaitNode node = new WaitNode();
+        WaitNode head;
+        do {
+            head = waiters;
+            node.next = head;
+        } while (!WAITERS.compareAndSet(this, head, node));
+
+        boolean interrupted = false;
         while (!done) {
-            LockSupport.parkNanos(spin++);
+            LockSupport.park(this);
+            if (Thread.interrupted())
+                interrupted = true;
         }
+        if (interrupted)
+            Thread.currentThread()
+                  .interrupt();
+    }
 
+    private void releaseWaiters() {
+        if (waiters == null)
+            return;
+        WaitNode next = WAITERS.getAndSet(this, null);
+        while (next != null) {
+            LockSupport.unpark(next.thread);
+            next = next.next;
+        }
     }
 
     /**
      * Join which can be called exactly once!
      * 
      * @return Result
+     * @throws SimpleReactCompletionException caused by a FilteredExecutionPathException if the result was filtered
      */
     public T join() {
+        return join(true, null);
+    }
+
+    /**
+     * As {@link #join()} (and can also be called exactly once!), but a filtered result is returned as the supplied
+     * value rather than thrown, avoiding the Exception on the collecting path
+     *
+     * @param filteredValue Value to return if the result was filtered
+     * @return Result, or filteredValue if the result was filtered
+     */
+    public T joinOrFiltered(final T filteredValue) {
+        return join(false, filteredValue);
+    }
+
+    private T join(final boolean throwIfFiltered, final T filteredValue) {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
+            awaitDone();
             if (completedExceptionally)
                 throw new SimpleReactCompletionException(
                                                          exception());
+            if (filtered) {
+                if (throwIfFiltered)
+                    throw new SimpleReactCompletionException(
+                                                             new FilteredExecutionPathException());
+                return filteredValue;
+            }
             return result();
         } finally {
             markComplete();
@@ -138,6 +227,8 @@ public class FastFuture<T> {
                 return;
             if (c.exceptionally)
                 f.completeExceptionally(c.exception);
+            else if (c.filtered)
+                f.completeExceptionally(new FilteredExecutionPathException());
             else
                 f.complete((T) c.result);
         });
@@ -179,6 +270,7 @@ public class FastFuture<T> {
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
         done = true;
+        releaseWaiters();
         return this;
     }
 
@@ -288,6 +380,10 @@ public class FastFuture<T> {
         try {
 
             final Object current = result.get();
+            if (current == FILTERED) {
+                filtered();
+                return;
+            }
 
             final Object use = current;
             if (index < pipeline.functions.length) {
@@ -313,9 +409,16 @@ public class FastFuture<T> {
 
     }
 
+    private boolean filtered() {
+        this.result.lazySet(null);
+        this.filtered = true;
+        return done();
+    }
+
     private boolean done() {
         this.completedExceptionally = false;
         this.done = true;
+        releaseWaiters();
         handleOnComplete(true);
 
         return true;
@@ -330,6 +433,8 @@ public class FastFuture<T> {
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
+        this.filtered = false;
+        this.waiters = null;
         this.done = false;
     }
 
@@ -369,7 +474,7 @@ public class FastFuture<T> {
     private OnComplete buildOnComplete() {
         final OnComplete c = new OnComplete(
                                             !completedExceptionally && done ? result() : null, completedExceptionally ? exception() : null,
-                                            this.completedExceptionally);
+                                            this.completedExceptionally, this.filtered);
         return c;
     }
 
@@ -378,6 +483,7 @@ public class FastFuture<T> {
         public final Object result;
         public final Throwable exception;
         public final boolean exceptionally;
+        public final boolean filtered;
     }
 
 }
\ No newline at end of file
@@ -1,39 +1,159 @@
 package com.aol.cyclops2.internal.react.async.future;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
-import lombok.AllArgsConstructor;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 
 /**
- * Single consumer / multiple producer future pool
- * 
+ * Multiple consumer / multiple producer future pool
+ *
+ * Recycled futures are cached in small magazines, striped by thread, so that both {@link #next(Supplier)} and
+ * {@link #done(FastFuture)} are usually served from an uncontended stripe. Only when a magazine is empty (next) or full
+ * (done) is it exchanged with the shared depot of full magazines. The stripes belong to the pool (rather than to a
+ * ThreadLocal), so recycled futures are released with the pool when its stream completes instead of being held by
+ * long lived executor threads.
+ *
+ * Hit, miss and discard counters record whether pooling is paying off for a given stream.
+ *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
 public class FuturePool {
 
-    private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
-    private final int max;
+    public static final int DEFAULT_MAGAZINE_SIZE = 16;
 
-    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
+    private final ManyToManyConcurrentArrayQueue<FastFuture[]> depot;
+    private final Magazine[] stripes;
+    private final int mask;
+    private final int magazineSize;
 
-            final FastFuture next = pool.poll();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    /**
+     * @param max Approximate maximum number of futures held in the shared depot
+     */
+    public FuturePool(final int max) {
+        this(max, DEFAULT_MAGAZINE_SIZE);
+    }
+
+    /**
+     * @param max Approximate maximum number of futures held in the shared depot
+     * @param magazineSize Number of futures cached per stripe before they are handed to the depot
+     */
+    public FuturePool(final int max, final int magazineSize) {
+        this.magazineSize = Math.max(1, magazineSize);
+        this.depot = new ManyToManyConcurrentArrayQueue<>(
+                                                          Math.max(2, max / this.magazineSize));
+        final int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime()
+                                                                  .availableProcessors() * 2 - 1)) << 1;
+        this.stripes = new Magazine[size];
+        for (int i = 0; i < size; i++)
+            stripes[i] = new Magazine(
+                                      this.magazineSize);
+        this.mask = size - 1;
+    }
+
+    private Magazine stripe() {
+        final long id = Thread.currentThread()
+                              .getId();
+        return stripes[(int) (id ^ (id >>> 32)) & mask];
+    }
+
+    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
+        final Magazine local = stripe();
+        FastFuture next = null;
+        synchronized (local) {
+            if (local.size == 0)
+                local.refill(depot.poll());
+            if (local.size > 0)
+                next = local.pop();
+        }
+        if (next != null) {
             next.clearFast();
+            hits.increment();
             return next;
         }
-
+        misses.increment();
         return factory.get();
     }
 
     public <T> void done(final FastFuture<T> f) {
-        if (pool.size() < max) {
+        final Magazine local = stripe();
+        synchronized (local) {
+            if (local.size == magazineSize) {
+                if (!depot.offer(local.items)) {
+                    discards.increment();
+                    return;
+                }
+                local.empty();
+            }
+            local.push(f);
+        }
 
-            pool.offer(f);
+    }
+
+    /**
+     * @return Number of futures served from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of futures that had to be created because the pool was empty
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of completed futures dropped because the pool was full
+     */
+    public long getDiscards() {
+        return discards.sum();
+    }
+
+    /**
+     * Stack of recycled futures, guarded by its own monitor. Full magazines are passed to other stripes only via the
+     * depot.
+     */
+    private static final class Magazine {
+        private FastFuture[] items;
+        private FastFuture[] spare;
+        private int size;
+
+        Magazine(final int capacity) {
+            this.items = new FastFuture[capacity];
         }
 
+        FastFuture pop() {
+            final FastFuture next = items[--size];
+            items[size] = null;
+            return next;
+        }
+
+        void push(final FastFuture f) {
+            items[size++] = f;
+        }
+
+        void refill(final FastFuture[] full) {
+            if (full == null)
+                return;
+            spare = items;
+            items = full;
+            size = full.length;
+        }
+
+        void empty() {
+            if (spare != null) {
+                items = spare;
+                spare = null;
+            } else
+                items = new FastFuture[items.length];
+            size = 0;
+        }
     }
 }
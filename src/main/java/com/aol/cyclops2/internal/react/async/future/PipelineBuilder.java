@@ -5,6 +5,7 @@ import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import cyclops.function.Cacheable;
 import cyclops.function.Memoize;
@@ -85,6 +86,22 @@ public class PipelineBuilder {
 
     }
 
+    /**
+     * Filter without an Exception, results that do not match the predicate complete the FastFuture as filtered and
+     * skip any remaining stages
+     */
+    public <T> PipelineBuilder filter(final Predicate<? super T> p) {
+        return thenApply(filtering(p));
+    }
+
+    public <T> PipelineBuilder filterAsync(final Predicate<? super T> p, final Executor exec) {
+        return thenApplyAsync(filtering(p), exec);
+    }
+
+    private static <T> Function<T, Object> filtering(final Predicate<? super T> p) {
+        return in -> p.test(in) ? in : FastFuture.FILTERED;
+    }
+
     public <X extends Throwable, T> PipelineBuilder exceptionally(final Function<? super X, ? extends T> fn) {
 
         return withBuilder(builder.exceptionally(fn));
@@ -5,7 +5,6 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 
 import cyclops.async.LazyReact;
 import cyclops.stream.ReactiveSeq;
@@ -15,6 +14,7 @@ import com.aol.cyclops2.internal.react.async.future.FuturePool;
 import com.aol.cyclops2.internal.react.async.future.PipelineBuilder;
 
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.experimental.Wither;
 
 @AllArgsConstructor
@@ -24,6 +24,7 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
     @Wither
     private final LazyReact react;
     private PipelineBuilder pipeline;
+    @Getter
     private final FuturePool pool;
 
     public LazyStreamWrapper(final Supplier<Stream> values, final LazyReact react) {
@@ -35,9 +36,6 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         this.react = react;
         if (react.isPoolingActive())
             pool = new FuturePool(
-                                  new ManyToOneConcurrentArrayQueue<>(
-                                                                      react.getMaxActive()
-                                                                           .getMaxActive()),
                                   react.getMaxActive()
                                        .getMaxActive());
         else
@@ -54,9 +52,9 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         final Function<Object, FastFuture> factory = v -> {
 
             final FastFuture next = pool != null ? pool.next(() -> new FastFuture<>(
-                                                                                    f.getPipeline(), fut -> pool.done(fut)))
+                                                                                    f.getPipeline(), fut -> pool.done(fut), react.getBlockingWait()))
                     : new FastFuture<>(
-                                       f.getPipeline(), 0);
+                                       f.getPipeline(), 0, react.getBlockingWait());
             next.set(v);
             return next;
         };
@@ -79,9 +77,9 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
 
     private FastFuture buildPool(final FinalPipeline pipeline) {
         return pool != null ? pool.next(() -> new FastFuture<>(
-                                                               pipeline, fut -> pool.done(fut)))
+                                                               pipeline, fut -> pool.done(fut), react.getBlockingWait()))
                 : new FastFuture<>(
-                                   pipeline, 0);
+                                   pipeline, 0, react.getBlockingWait());
     }
 
     public <R> LazyStreamWrapper<R> operation(final Function<PipelineBuilder, PipelineBuilder> action) {
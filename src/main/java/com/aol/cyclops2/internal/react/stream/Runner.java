@@ -5,7 +5,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import cyclops.async.Queue.ClosedQueueException;
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
-import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
 import com.aol.cyclops2.internal.react.exceptions.SimpleReactProcessingException;
 import com.aol.cyclops2.react.collectors.lazy.EmptyCollector;
 import com.aol.cyclops2.types.futurestream.Continuation;
@@ -102,7 +101,7 @@ public class Runner<U> {
                                                        0);
         f.essential(event -> {
 
-            if (event.exception != null && event.exception.getCause() instanceof FilteredExecutionPathException) {
+            if (event.filtered) {
                 if (called.compareAndSet(0, 1))
                     cont[0].proceed();
 
@@ -3,8 +3,10 @@ package com.aol.cyclops2.internal.stream;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -51,13 +53,22 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implement
 
     @Override
     public ReactiveSeq<T> connect(final Queue<T> queue) {
-        connections.getAndSet(connected, queue);
-        connected++;
+        return connect(queue, queue instanceof BlockingQueue ? Overflow.BLOCK : Overflow.DROP_NEWEST);
+    }
+
+    @Override
+    public ReactiveSeq<T> connect(final Queue<T> queue, final Overflow overflow) {
+        final AtomicBoolean connection = addConnection(queue, overflow);
         unpause();
         return Streams.reactiveSeq(StreamSupport.stream(new ClosingSpliterator(
-                                                                                   Long.MAX_VALUE, queue, open),
+                                                                                   Long.MAX_VALUE, queue, connection),
                                                             false),
                                        Optional.empty());
     }
 
+    @Override
+    public boolean disconnect(final Queue<T> queue) {
+        return removeConnection(queue);
+    }
+
 }
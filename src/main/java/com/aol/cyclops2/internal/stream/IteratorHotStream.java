@@ -1,29 +1,34 @@
 package com.aol.cyclops2.internal.stream;
 
-import java.util.Date;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
-import cyclops.Matchables;
-import cyclops.function.FluentFunctions;
+import com.aol.cyclops2.types.stream.HotStream.Overflow;
 import com.aol.cyclops2.util.ExceptionSoftener;
-import com.aol.cyclops2.util.stream.scheduling.cron.CronExpression;
+import com.aol.cyclops2.util.stream.scheduling.cron.CompiledCron;
 
 public class IteratorHotStream<T> {
 
-    protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(
-                                                                                            10);
+    /**
+     * Copy-on-write snapshot of connected Queues, each with its own overflow policy, so emitting an element does not
+     * allocate or lock. Connections can be added and removed at any time.
+     */
+    @SuppressWarnings("unchecked")
+    private volatile Connection<T>[] connections = new Connection[0];
     protected final AtomicBoolean open = new AtomicBoolean(
                                                            true);
     protected volatile int connected = 0;
     protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(
                                                                                            CompletableFuture.<Void> completedFuture(null));
+    private volatile boolean paused = false;
 
     public boolean isPaused() {
         return pause.get()
@@ -31,6 +36,7 @@ public class IteratorHotStream<T> {
     }
 
     protected void unpause() {
+        paused = false;
         final CompletableFuture<Void> current = pause.get();
         if (!current.isDone())
             current.complete(null);
@@ -38,32 +44,145 @@ public class IteratorHotStream<T> {
 
     protected void pause() {
         pause.set(new CompletableFuture<Void>());
+        paused = true;
+    }
+
+    /**
+     * Block the emitting thread while this HotStream is paused, a volatile read otherwise
+     */
+    protected void awaitUnpaused() {
+        if (paused)
+            pause.get()
+                 .join();
+    }
+
+    /**
+     * @return The open flag of the new connection, cleared when it is disconnected or this HotStream completes
+     */
+    protected synchronized AtomicBoolean addConnection(final Queue<T> queue, final Overflow overflow) {
+        final Connection<T> connection = new Connection<>(
+                                                          queue, overflow);
+        if (!open.get())
+            connection.open.set(false);
+        final Connection<T>[] current = connections;
+        final Connection<T>[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = connection;
+        connections = next;
+        connected = next.length;
+        return connection.open;
+    }
+
+    protected synchronized boolean removeConnection(final Queue<T> queue) {
+        final Connection<T>[] current = connections;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].queue == queue) {
+                current[i].open.set(false);
+                final Connection<T>[] next = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                connections = next;
+                connected = next.length;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Emit the supplied value to all connected Queues
+     */
+    protected void emit(final T next) {
+        for (final Connection<T> connection : connections)
+            connection.deliver(next);
+    }
+
+    /**
+     * No more values will be emitted, connected Streams complete once they have drained their Queues
+     */
+    protected synchronized void complete() {
+        open.set(false);
+        for (final Connection<T> connection : connections)
+            connection.open.set(false);
+    }
+
+    private static final class Connection<T> {
+        private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        final Queue<T> queue;
+        final Overflow overflow;
+        final AtomicBoolean open = new AtomicBoolean(
+                                                     true);
+
+        Connection(final Queue<T> queue, final Overflow overflow) {
+            this.queue = queue;
+            this.overflow = overflow;
+        }
+
+        void deliver(final T next) {
+            switch (overflow) {
+            case BLOCK:
+                block(next);
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(next))
+                    queue.poll();
+                break;
+            default:
+                queue.offer(next);
+            }
+        }
+
+        /*
+         * Wait for space, but give up if this connection is disconnected while waiting
+         */
+        private void block(final T next) {
+            try {
+                if (queue instanceof BlockingQueue) {
+                    final BlockingQueue<T> blocking = (BlockingQueue<T>) queue;
+                    while (!blocking.offer(next, MAX_PARK_NANOS, TimeUnit.NANOSECONDS)) {
+                        if (!open.get())
+                            return;
+                    }
+                    return;
+                }
+                long nanos = 1;
+                while (!queue.offer(next)) {
+                    if (!open.get())
+                        return;
+                    LockSupport.parkNanos(nanos);
+                    if (Thread.interrupted())
+                        throw new InterruptedException();
+                    nanos = Math.min(nanos * 2, MAX_PARK_NANOS);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
     }
 
     protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
-        final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
+        scheduleInternal(it, ExceptionSoftener.softenSupplier(() -> CompiledCron.compile(cron))
+                                              .get(),
+                         ex);
+    }
 
-        final long delay = d.getTime() - now.getTime();
+    protected void scheduleInternal(final Iterator<T> it, final CompiledCron cron, final ScheduledExecutorService ex) {
+        final long now = System.currentTimeMillis();
+        final long next = cron.nextFireMillis(now);
+        if (next < 0) {
+            complete();
+            return;
+        }
+
+        final long delay = next - now;
 
         ex.schedule(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
                     try {
-                        final T next = it.next();
-                        final int local = connected;
-
-                        for (int i = 0; i < local; i++) {
-
-                            Matchables.blocking(connections.get(i))
-                                      .visit(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
+                        final T nextValue = it.next();
+                        emit(nextValue);
 
                     } finally {
 
@@ -71,7 +190,7 @@ public class IteratorHotStream<T> {
 
                     }
                 } else {
-                    open.set(false);
+                    complete();
                 }
             }
         } , delay, TimeUnit.MILLISECONDS);
@@ -85,20 +204,10 @@ public class IteratorHotStream<T> {
 
                     final T next = it.next();
 
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-
-                    }
+                    emit(next);
 
                 } else {
-                    open.set(false);
+                    complete();
                 }
             }
         } , delay, delay, TimeUnit.MILLISECONDS);
@@ -113,19 +222,10 @@ public class IteratorHotStream<T> {
 
                     final T next = it.next();
 
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
+                    emit(next);
 
                 } else {
-                    open.set(false);
+                    complete();
                 }
             }
         } , 0, rate, TimeUnit.MILLISECONDS);
@@ -0,0 +1,127 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX.Type;
+import com.aol.cyclops2.internal.stream.spliterators.push.doubles.*;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.async.Future;
+import cyclops.async.Queue;
+import cyclops.stream.DoubleSeq;
+import cyclops.stream.ReactiveSeq;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Push based DoubleSeq backed by a {@link DoubleOperator}, the primitive counterpart of {@link ReactiveStreamX}
+ */
+public class OperatorBasedDoubleSeq implements DoubleSeq {
+
+    @Getter
+    final DoubleOperator source;
+    final Consumer<? super Throwable> defaultErrorHandler;
+    final Type async;
+
+    public OperatorBasedDoubleSeq(DoubleOperator source, Type async){
+        this.source = source;
+        this.defaultErrorHandler = e->{ if(!(e instanceof Queue.ClosedQueueException)) throw ExceptionSoftener.throwSoftenedException(e);};
+        this.async = async;
+    }
+
+    public Type getType() {
+        return async;
+    }
+
+    DoubleSeq createSeq(DoubleOperator operator){
+        return new OperatorBasedDoubleSeq(operator,async);
+    }
+
+    @Override
+    public DoubleSeq map(DoubleUnaryOperator fn) {
+        if(source instanceof DoubleMapOperator)
+            return createSeq(((DoubleMapOperator)source).compose(fn));
+        return createSeq(new DoubleMapOperator(source,fn));
+    }
+
+    @Override
+    public DoubleSeq filter(DoublePredicate fn) {
+        return createSeq(new DoubleFilterOperator(source,fn));
+    }
+
+    @Override
+    public DoubleSeq scanLeft(double identity, DoubleBinaryOperator fn) {
+        return createSeq(new DoubleScanLeftOperator(source,identity,fn));
+    }
+
+    @Override
+    public double foldLeft(double identity, DoubleBinaryOperator fn) {
+        double[] result = {identity};
+        forEach(e -> result[0] = fn.applyAsDouble(result[0],e));
+        return result[0];
+    }
+
+    @Override
+    public ReactiveSeq<double[]> sliding(int size, int increment) {
+        return new ReactiveStreamX<>(new DoubleSlidingOperator(source,size,increment),async);
+    }
+
+    @Override
+    public DoubleSeq zip(DoubleSeq other, DoubleBinaryOperator zipper) {
+        return createSeq(new DoubleZippingOperator(source,other::iterator,zipper));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn) {
+        return new ReactiveStreamX<R>(new DoubleToObjOperator<R>(source,fn),async);
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        Future<Boolean> complete = Future.future();
+        if(async==Type.NO_BACKPRESSURE) {
+            source.subscribeAll(action, this.defaultErrorHandler, () -> complete.complete(true));
+        }else{
+            source.subscribe(action, this.defaultErrorHandler, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get();
+    }
+
+    @Override
+    public double[] toArray() {
+        double[][] buffer = {new double[16]};
+        int[] size = {0};
+        forEach(e -> {
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],size[0]*2);
+            buffer[0][size[0]++] = e;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+
+    @Override
+    public long count() {
+        long[] result = {0};
+        forEach(e -> result[0]++);
+        return result[0];
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleOperatorToIterator(source,defaultErrorHandler);
+    }
+
+    @Override
+    public DoubleStream toDoubleStream() {
+        return StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED),false);
+    }
+}
@@ -0,0 +1,127 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX.Type;
+import com.aol.cyclops2.internal.stream.spliterators.push.ints.*;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.async.Future;
+import cyclops.async.Queue;
+import cyclops.stream.IntSeq;
+import cyclops.stream.ReactiveSeq;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Push based IntSeq backed by a {@link IntOperator}, the primitive counterpart of {@link ReactiveStreamX}
+ */
+public class OperatorBasedIntSeq implements IntSeq {
+
+    @Getter
+    final IntOperator source;
+    final Consumer<? super Throwable> defaultErrorHandler;
+    final Type async;
+
+    public OperatorBasedIntSeq(IntOperator source, Type async){
+        this.source = source;
+        this.defaultErrorHandler = e->{ if(!(e instanceof Queue.ClosedQueueException)) throw ExceptionSoftener.throwSoftenedException(e);};
+        this.async = async;
+    }
+
+    public Type getType() {
+        return async;
+    }
+
+    IntSeq createSeq(IntOperator operator){
+        return new OperatorBasedIntSeq(operator,async);
+    }
+
+    @Override
+    public IntSeq map(IntUnaryOperator fn) {
+        if(source instanceof IntMapOperator)
+            return createSeq(((IntMapOperator)source).compose(fn));
+        return createSeq(new IntMapOperator(source,fn));
+    }
+
+    @Override
+    public IntSeq filter(IntPredicate fn) {
+        return createSeq(new IntFilterOperator(source,fn));
+    }
+
+    @Override
+    public IntSeq scanLeft(int identity, IntBinaryOperator fn) {
+        return createSeq(new IntScanLeftOperator(source,identity,fn));
+    }
+
+    @Override
+    public int foldLeft(int identity, IntBinaryOperator fn) {
+        int[] result = {identity};
+        forEach(e -> result[0] = fn.applyAsInt(result[0],e));
+        return result[0];
+    }
+
+    @Override
+    public ReactiveSeq<int[]> sliding(int size, int increment) {
+        return new ReactiveStreamX<>(new IntSlidingOperator(source,size,increment),async);
+    }
+
+    @Override
+    public IntSeq zip(IntSeq other, IntBinaryOperator zipper) {
+        return createSeq(new IntZippingOperator(source,other::iterator,zipper));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn) {
+        return new ReactiveStreamX<R>(new IntToObjOperator<R>(source,fn),async);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        Future<Boolean> complete = Future.future();
+        if(async==Type.NO_BACKPRESSURE) {
+            source.subscribeAll(action, this.defaultErrorHandler, () -> complete.complete(true));
+        }else{
+            source.subscribe(action, this.defaultErrorHandler, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get();
+    }
+
+    @Override
+    public int[] toArray() {
+        int[][] buffer = {new int[16]};
+        int[] size = {0};
+        forEach(e -> {
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],size[0]*2);
+            buffer[0][size[0]++] = e;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+
+    @Override
+    public long count() {
+        long[] result = {0};
+        forEach(e -> result[0]++);
+        return result[0];
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntOperatorToIterator(source,defaultErrorHandler);
+    }
+
+    @Override
+    public IntStream toIntStream() {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED),false);
+    }
+}
@@ -0,0 +1,127 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX.Type;
+import com.aol.cyclops2.internal.stream.spliterators.push.longs.*;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.async.Future;
+import cyclops.async.Queue;
+import cyclops.stream.LongSeq;
+import cyclops.stream.ReactiveSeq;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Push based LongSeq backed by a {@link LongOperator}, the primitive counterpart of {@link ReactiveStreamX}
+ */
+public class OperatorBasedLongSeq implements LongSeq {
+
+    @Getter
+    final LongOperator source;
+    final Consumer<? super Throwable> defaultErrorHandler;
+    final Type async;
+
+    public OperatorBasedLongSeq(LongOperator source, Type async){
+        this.source = source;
+        this.defaultErrorHandler = e->{ if(!(e instanceof Queue.ClosedQueueException)) throw ExceptionSoftener.throwSoftenedException(e);};
+        this.async = async;
+    }
+
+    public Type getType() {
+        return async;
+    }
+
+    LongSeq createSeq(LongOperator operator){
+        return new OperatorBasedLongSeq(operator,async);
+    }
+
+    @Override
+    public LongSeq map(LongUnaryOperator fn) {
+        if(source instanceof LongMapOperator)
+            return createSeq(((LongMapOperator)source).compose(fn));
+        return createSeq(new LongMapOperator(source,fn));
+    }
+
+    @Override
+    public LongSeq filter(LongPredicate fn) {
+        return createSeq(new LongFilterOperator(source,fn));
+    }
+
+    @Override
+    public LongSeq scanLeft(long identity, LongBinaryOperator fn) {
+        return createSeq(new LongScanLeftOperator(source,identity,fn));
+    }
+
+    @Override
+    public long foldLeft(long identity, LongBinaryOperator fn) {
+        long[] result = {identity};
+        forEach(e -> result[0] = fn.applyAsLong(result[0],e));
+        return result[0];
+    }
+
+    @Override
+    public ReactiveSeq<long[]> sliding(int size, int increment) {
+        return new ReactiveStreamX<>(new LongSlidingOperator(source,size,increment),async);
+    }
+
+    @Override
+    public LongSeq zip(LongSeq other, LongBinaryOperator zipper) {
+        return createSeq(new LongZippingOperator(source,other::iterator,zipper));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn) {
+        return new ReactiveStreamX<R>(new LongToObjOperator<R>(source,fn),async);
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Future<Boolean> complete = Future.future();
+        if(async==Type.NO_BACKPRESSURE) {
+            source.subscribeAll(action, this.defaultErrorHandler, () -> complete.complete(true));
+        }else{
+            source.subscribe(action, this.defaultErrorHandler, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get();
+    }
+
+    @Override
+    public long[] toArray() {
+        long[][] buffer = {new long[16]};
+        int[] size = {0};
+        forEach(e -> {
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],size[0]*2);
+            buffer[0][size[0]++] = e;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+
+    @Override
+    public long count() {
+        long[] result = {0};
+        forEach(e -> result[0]++);
+        return result[0];
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongOperatorToIterator(source,defaultErrorHandler);
+    }
+
+    @Override
+    public LongStream toLongStream() {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED),false);
+    }
+}
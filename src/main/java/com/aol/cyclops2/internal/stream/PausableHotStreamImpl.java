@@ -4,8 +4,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
-import cyclops.Matchables;
-import cyclops.function.FluentFunctions;
 import com.aol.cyclops2.types.stream.PausableHotStream;
 
 public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T>implements PausableHotStream<T> {
@@ -18,23 +16,11 @@ public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T>implements Pau
         CompletableFuture.runAsync(() -> {
 
             stream.forEach(a -> {
-                pause.get()
-                     .join();
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Matchables.blocking(connections.get(i))
-                              .visit(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-
-                }
-
+                awaitUnpaused();
+                emit(a);
             });
 
-            open.set(false);
+            complete();
 
         } , exec);
         return this;
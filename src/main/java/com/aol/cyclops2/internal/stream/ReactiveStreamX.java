@@ -2,6 +2,9 @@ package com.aol.cyclops2.internal.stream;
 
 import com.aol.cyclops2.internal.stream.spliterators.IteratableSpliterator;
 import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import com.aol.cyclops2.internal.stream.spliterators.push.doubles.ToDoubleOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.ints.ToIntOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.longs.ToLongOperator;
 import com.aol.cyclops2.types.Traversable;
 import com.aol.cyclops2.types.futurestream.Continuation;
 import com.aol.cyclops2.types.stream.HotStream;
@@ -11,15 +14,19 @@ import cyclops.CyclopsCollectors;
 import cyclops.Streams;
 import cyclops.async.*;
 import cyclops.async.Queue;
-import cyclops.async.wait.DirectWaitStrategy;
 import cyclops.collections.ListX;
 import cyclops.collections.SetX;
 import cyclops.collections.immutable.PVectorX;
 import cyclops.control.Maybe;
 import cyclops.control.either.Either;
 import cyclops.function.Monoid;
+import cyclops.function.Fn3;
+import cyclops.function.Fn4;
 import cyclops.monads.AnyM;
 import cyclops.monads.Witness;
+import cyclops.stream.DoubleSeq;
+import cyclops.stream.IntSeq;
+import cyclops.stream.LongSeq;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import lombok.AllArgsConstructor;
@@ -245,6 +252,16 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new SlidingOperator<>( source,Function.identity(), windowSize,increment));
     }
 
+    @Override
+    public final <R> ReactiveSeq<R> sliding(final int windowSize, final int increment, final Function<? super PVectorX<T>, ? extends R> windowFn) {
+        return createSeq(new SlidingOperator<>( source,windowFn, windowSize,increment,true));
+    }
+
+    @Override
+    public final <R> ReactiveSeq<R> slidingMapReduce(final int windowSize, final Function<? super T, ? extends R> mapper, final Monoid<R> monoid) {
+        return createSeq(new SlidingReduceOperator<>( source,mapper,monoid, windowSize));
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingOperator<T,List<T>,ListX<T>>( source,()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize));
@@ -370,8 +387,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final <R> ReactiveSeq<R> flatMapP(int maxConcurrency,final Function<? super T, ? extends Publisher<? extends R>> fn) {
-        //QueueFactories.boundedNonBlockingQueue(maxConcurrency*4,new DirectWaitStrategy<>())
-        return flatMapP(maxConcurrency, QueueFactories.unboundedNonBlockingQueue(new DirectWaitStrategy<>()),fn);
+        return createSeq(new FlatMapPublisherOperator<>(source,fn,maxConcurrency),Type.BACKPRESSURE);
 
     }
     public <R> ReactiveSeq<R> flatMapP(final int maxConcurrency, final QueueFactory<R> factory,Function<? super T, ? extends Publisher<? extends R>> mapper) {
@@ -623,6 +639,21 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
 
     }
+    @Override
+    public IntSeq toIntSeq(ToIntFunction<? super T> fn) {
+        return new OperatorBasedIntSeq(new ToIntOperator<>(source,fn),async);
+    }
+
+    @Override
+    public LongSeq toLongSeq(ToLongFunction<? super T> fn) {
+        return new OperatorBasedLongSeq(new ToLongOperator<>(source,fn),async);
+    }
+
+    @Override
+    public DoubleSeq toDoubleSeq(ToDoubleFunction<? super T> fn) {
+        return new OperatorBasedDoubleSeq(new ToDoubleOperator<>(source,fn),async);
+    }
+
     @Override
     public long count() {
 
@@ -768,6 +799,21 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
                 ()->ListX.fromIterable(new ArrayList<>(100)),
                 Function.identity(),time, t));
     }
+
+    @Override
+    public ReactiveSeq<ListX<T>> groupedBySizeAndTime(final int size, final long time, final TimeUnit t, final ScheduledExecutorService ex) {
+        return createSeq(new GroupedByTimeAndSizeOperator<>(this. source,()->ListX.fromIterable(new ArrayList<>(size)),
+                        Function.identity(),time,t,size,ex)
+               );
+
+    }
+
+    @Override
+    public ReactiveSeq<ListX<T>> groupedByTime(final long time, final TimeUnit t, final ScheduledExecutorService ex) {
+        return createSeq(new GroupedByTimeOperator<>( source,
+                ()->ListX.fromIterable(new ArrayList<>(100)),
+                Function.identity(),time, t,ex));
+    }
     @Override
     public ReactiveSeq<T> skip(final long time, final TimeUnit unit) {
         return createSeq(new SkipWhileTimeOperator<>( source, time, unit));
@@ -779,6 +825,67 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     }
 
+    @Override
+    public ReactiveSeq<T> debounce(final long time, final TimeUnit t) {
+        return createSeq(new DebounceOperator<>( source,time,t));
+    }
+
+    /*
+     * SYNC streams are driven by the consuming thread, which sleeps between elements. Async streams reschedule the
+     * emission of delayed elements on the shared timing wheel rather than blocking the producing thread.
+     */
+    @Override
+    public ReactiveSeq<T> onePer(final long time, final TimeUnit t) {
+        if(async==Type.SYNC)
+            return super.onePer(time,t);
+        final long next = t.toNanos(time);
+        return createSeq(new DelayOperator<>( source,()->{
+            long[] last = {-1};
+            return now->{
+                final long delay = last[0]==-1 ? 0 : next - (now - last[0]);
+                last[0] = now + Math.max(0,delay);
+                return delay;
+            };
+        },HashedWheelTimer.shared()));
+    }
+
+    @Override
+    public ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t) {
+        if(async==Type.SYNC)
+            return super.xPer(x,time,t);
+        final long next = t.toNanos(time);
+        return createSeq(new DelayOperator<>( source,()->{
+            long[] last = {-1};
+            int[] count = {0};
+            return now->{
+                if (++count[0] < x)
+                    return 0;
+                count[0] = 0;
+                final long delay = last[0]==-1 ? 0 : next - (now - last[0]);
+                last[0] = now + Math.max(0,delay);
+                return delay;
+            };
+        },HashedWheelTimer.shared()));
+    }
+
+    @Override
+    public ReactiveSeq<T> fixedDelay(final long l, final TimeUnit unit) {
+        if(async==Type.SYNC)
+            return super.fixedDelay(l,unit);
+        final long delay = unit.toNanos(l);
+        return createSeq(new DelayOperator<>( source,()->now->delay,HashedWheelTimer.shared()));
+    }
+
+    @Override
+    public ReactiveSeq<T> jitter(final long maxJitterPeriodInNanos) {
+        if(async==Type.SYNC)
+            return super.jitter(maxJitterPeriodInNanos);
+        return createSeq(new DelayOperator<>( source,()->{
+            final Random r = new Random();
+            return now->(long) (maxJitterPeriodInNanos * r.nextDouble());
+        },HashedWheelTimer.shared()));
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> groupedWhile(final Predicate<? super T> predicate) {
         return createSeq(new GroupedWhileOperator<>( source,()->ListX.of(),Function.identity(), predicate));
@@ -943,13 +1050,24 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         }
 
 
+    }
+    private ReactiveStreamX<T> merge(Publisher<T>[] publishers){
+        Operator<T>[] op = new Operator[publishers.length];
+        for(int i=0;i<publishers.length;i++){
+            if(publishers[i] instanceof ReactiveStreamX){
+                op[i] = ((ReactiveStreamX<T>)publishers[i]).getSource();
+            }else{
+                op[i] = new PublisherToOperator<T>(publishers[i]);
+            }
+        }
+        return createSeq(new MergeOperator<T>(op));
     }
     @Override
     public ReactiveSeq<T> mergeP(final QueueFactory<T> factory,final Publisher<T>... publishers){
         Publisher<T>[] pubs = new Publisher[publishers.length+1];
         pubs[0]=this;
         System.arraycopy(publishers,0,pubs,1,publishers.length);
-        ReactiveStreamX<T> merged =(ReactiveStreamX<T>) Spouts.mergeLatest(pubs);
+        ReactiveStreamX<T> merged = merge(pubs);
         if(async==Type.SYNC || async ==Type.BACKPRESSURE)
          return merged.withAsync(Type.BACKPRESSURE);
         else
@@ -961,7 +1079,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         pubs[0]=this;
         System.arraycopy(publishers,0,pubs,1,publishers.length);
 
-        ReactiveStreamX<T> merged =(ReactiveStreamX<T>) Spouts.mergeLatest(pubs);
+        ReactiveStreamX<T> merged = merge(pubs);
         if(async==Type.SYNC || async ==Type.BACKPRESSURE)
             return merged.withAsync(Type.BACKPRESSURE);
         else
@@ -1170,7 +1288,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
             return result;
 
         }
-        return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
+        return Streams.toBufferingCopier(() -> iterator(),num)
                                 .map(ReactiveSeq::fromIterable);
     }
 
@@ -1254,13 +1372,37 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return zip3(second,third,Tuple::tuple);
+    }
+
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third, Fn3<? super T, ? super S, ? super U, ? extends R> fn3) {
+        ReactiveStreamX<R> res = createSeq(new Zipping3Operator<>(source, zipSource(second), zipSource(third), fn3));
+        if(this.async == Type.SYNC){
+            return res.withAsync(Type.BACKPRESSURE);
+        }
+        return res;
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return zip4(second,third,fourth,Tuple::tuple);
+    }
+
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth, Fn4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        ReactiveStreamX<R> res = createSeq(new Zipping4Operator<>(source, zipSource(second), zipSource(third), zipSource(fourth), fn));
+        if(this.async == Type.SYNC){
+            return res.withAsync(Type.BACKPRESSURE);
+        }
+        return res;
+    }
+
+    private static <U> Operator<U> zipSource(Iterable<? extends U> it){
+        if(it instanceof ReactiveStreamX){
+            return ((ReactiveStreamX<U>)it).source;
+        }
+        return new IterableSourceOperator<U>((Iterable<U>)it);
     }
 
     @Override
@@ -0,0 +1,199 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Copies an Iterator into multiple Iterators that share a single buffer. Elements pulled from the source are appended
+ * once to an array backed, segmented log and each copy reads from the log via its own index. Segments that every copy
+ * has moved past are no longer referenced and can be garbage collected, so fanning out costs one buffered reference
+ * per element rather than one per copy.
+ *
+ * The distance between the leading copy and the slowest copy can be bounded, when the bound is reached the
+ * {@link Overflow} policy determines whether the leading copy waits for the slowest copy to catch up, the slowest
+ * copies drop their oldest buffered elements, or an IllegalStateException is thrown.
+ *
+ * The copies may be consumed on different threads.
+ *
+ * <pre>
+ * {@code
+ *   List<Iterator<Integer>> copies = new SharedBufferCopier<>(ReactiveSeq.range(0,1000).iterator(),2,100,Overflow.BLOCK)
+ *                                           .copies();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements copied
+ */
+public class SharedBufferCopier<T> {
+
+    /**
+     * Policy applied when the leading copy is bound elements ahead of the slowest copy
+     */
+    public static enum Overflow {
+        /**
+         * Wait until the slowest copy has caught up (the copies should be consumed on different threads)
+         */
+        BLOCK,
+        /**
+         * The slowest copies drop their oldest buffered elements
+         */
+        DROP,
+        /**
+         * Throw an IllegalStateException from the leading copy
+         */
+        ERROR
+    }
+
+    private static final int SEGMENT_SIZE = 64;
+
+    private final Iterator<T> source;
+    private final long bound;
+    private final Overflow overflow;
+    private final List<Reader> readers;
+    private Segment tail = new Segment(0);
+    private long written = 0;
+    private int waiting = 0;
+
+    /**
+     * Unbounded copier
+     *
+     * @param source Iterator to copy
+     * @param copies Number of copies
+     */
+    public SharedBufferCopier(final Iterator<T> source, final int copies) {
+        this(source, copies, Long.MAX_VALUE, Overflow.BLOCK);
+    }
+
+    /**
+     * @param source Iterator to copy
+     * @param copies Number of copies
+     * @param bound Maximum number of elements the leading copy may be ahead of the slowest copy
+     * @param overflow Policy applied when the bound is reached
+     */
+    public SharedBufferCopier(final Iterator<T> source, final int copies, final long bound, final Overflow overflow) {
+        if (bound < 1)
+            throw new IllegalArgumentException("Bound must be at least 1, was " + bound);
+        this.source = source;
+        this.bound = bound;
+        this.overflow = overflow;
+        this.readers = new ArrayList<>(copies);
+        for (int i = 0; i < copies; i++)
+            readers.add(new Reader(tail));
+    }
+
+    /**
+     * @return The copies, each a single use Iterator
+     */
+    public List<Iterator<T>> copies() {
+        return new ArrayList<>(readers);
+    }
+
+    private long slowest() {
+        long min = written;
+        for (final Reader r : readers) {
+            if (r.index < min)
+                min = r.index;
+        }
+        return min;
+    }
+
+    /*
+     * Called with the lock held when the reader has consumed everything buffered so far
+     */
+    private void pull(final Reader reader) {
+        while (written - slowest() >= bound) {
+            switch (overflow) {
+            case BLOCK:
+                waiting++;
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                } finally {
+                    waiting--;
+                }
+                if (reader.index < written) //another copy pulled the next element while this one was waiting
+                    return;
+                break;
+            case DROP:
+                final long oldest = written - bound + 1;
+                for (final Reader r : readers) {
+                    if (r.index < oldest)
+                        r.skipTo(oldest);
+                }
+                break;
+            default:
+                throw new IllegalStateException(
+                                                "Copy is " + bound + " elements ahead of the slowest copy, the buffer bound has been reached");
+            }
+        }
+        final T next = source.next();
+        final int offset = (int) (written - tail.base);
+        if (offset == SEGMENT_SIZE) {
+            tail = tail.next = new Segment(
+                                           written);
+            tail.values[0] = next;
+        } else {
+            tail.values[offset] = next;
+        }
+        written++;
+    }
+
+    private static final class Segment {
+        final Object[] values = new Object[SEGMENT_SIZE];
+        final long base;
+        Segment next;
+
+        Segment(final long base) {
+            this.base = base;
+        }
+    }
+
+    private final class Reader implements Iterator<T> {
+        long index = 0;
+        Segment segment;
+
+        Reader(final Segment segment) {
+            this.segment = segment;
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (SharedBufferCopier.this) {
+                return index < written || source.hasNext();
+            }
+        }
+
+        @Override
+        public T next() {
+            synchronized (SharedBufferCopier.this) {
+                if (index == written) {
+                    if (!source.hasNext())
+                        throw new NoSuchElementException();
+                    pull(this);
+                }
+                if (index - segment.base == SEGMENT_SIZE)
+                    segment = segment.next;
+                final T value = (T) segment.values[(int) (index - segment.base)];
+                index++;
+                if (waiting > 0)
+                    SharedBufferCopier.this.notifyAll();
+                return value;
+            }
+        }
+
+        void skipTo(final long target) {
+            while (target - segment.base >= SEGMENT_SIZE && segment.next != null)
+                segment = segment.next;
+            index = target;
+        }
+    }
+}
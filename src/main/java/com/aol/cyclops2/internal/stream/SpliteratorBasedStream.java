@@ -9,6 +9,7 @@ import com.aol.cyclops2.types.stream.reactive.ValueSubscriber;
 import cyclops.*;
 import cyclops.async.QueueFactories;
 import cyclops.async.QueueFactory;
+import cyclops.async.RetryPolicy;
 import cyclops.async.Signal;
 import cyclops.collections.ListX;
 import com.aol.cyclops2.internal.stream.publisher.PublisherIterable;
@@ -180,11 +181,33 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
 
 
+    /*
+     * Array, List, range and Iterable sources are split into chunks and processed directly by the ForkJoinPool, other
+     * Streams are handed off via a Queue
+     */
+    @Override
+    public <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
+        Spliterator<T> split = ParallelSplittable.parallelSpliterator(copy());
+        if(split==null)
+            return super.foldParallel(fn);
+        return fn.apply(StreamSupport.stream(split,true));
+    }
+
     @Override
     public final ReactiveSeq<PVectorX<T>> sliding(final int windowSize, final int increment) {
         return createSeq(new SlidingSpliterator<>(get(),Function.identity(), windowSize,increment), reversible);
     }
 
+    @Override
+    public final <R> ReactiveSeq<R> sliding(final int windowSize, final int increment, final Function<? super PVectorX<T>, ? extends R> windowFn) {
+        return createSeq(new SlidingSpliterator<>(get(),windowFn, windowSize,increment,true), reversible);
+    }
+
+    @Override
+    public final <R> ReactiveSeq<R> slidingMapReduce(final int windowSize, final Function<? super T, ? extends R> mapper, final Monoid<R> monoid) {
+        return createSeq(new SlidingReduceSpliterator<>(get(),mapper,monoid, windowSize), reversible);
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingSpliterator<T,List<T>,ListX<T>>(get(),()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize), this.reversible);
@@ -406,6 +429,17 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return flatMapP(maxConcurrency, QueueFactories.boundedNonBlockingQueue(maxConcurrency*4),mapper);
     }
 
+    /**
+     * Pull based Streams are consumed on the calling thread, so rather than merging the retrying Futures via flatMapP
+     * (which subscribes to every Publisher at once), a sliding window of at most maxConcurrency elements is started
+     * ahead of the consumer, the next element is started as soon as the head is emitted. Results are emitted in
+     * encounter order.
+     */
+    @Override
+    public <R> ReactiveSeq<R> retry(final Function<? super T, ? extends R> fn, final RetryPolicy policy, final int maxConcurrency) {
+        return createSeq(new RetrySpliterator<>(get(), fn, policy, maxConcurrency), Optional.empty());
+    }
+
     /**
      * A potentially asynchronous flatMap operation where data from each publisher may arrive out of order (if publishers
      * are configured to publish asynchronously.
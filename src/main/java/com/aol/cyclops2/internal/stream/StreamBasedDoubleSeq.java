@@ -0,0 +1,93 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleScanLeftSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleSlidingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleZippingSpliterator;
+import cyclops.stream.DoubleSeq;
+import cyclops.stream.ReactiveSeq;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pull based DoubleSeq backed by a {@link DoubleStream}
+ */
+public class StreamBasedDoubleSeq implements DoubleSeq {
+
+    private final DoubleStream stream;
+
+    public StreamBasedDoubleSeq(DoubleStream stream){
+        this.stream = stream;
+    }
+
+    @Override
+    public DoubleSeq map(DoubleUnaryOperator fn) {
+        return new StreamBasedDoubleSeq(stream.map(fn));
+    }
+
+    @Override
+    public DoubleSeq filter(DoublePredicate fn) {
+        return new StreamBasedDoubleSeq(stream.filter(fn));
+    }
+
+    @Override
+    public DoubleSeq scanLeft(double identity, DoubleBinaryOperator fn) {
+        return new StreamBasedDoubleSeq(StreamSupport.doubleStream(new DoubleScanLeftSpliterator(stream.spliterator(),identity,fn),false));
+    }
+
+    @Override
+    public double foldLeft(double identity, DoubleBinaryOperator fn) {
+        return stream.reduce(identity,fn);
+    }
+
+    @Override
+    public ReactiveSeq<double[]> sliding(int size, int increment) {
+        return ReactiveSeq.fromSpliterator(new DoubleSlidingSpliterator(stream.spliterator(),size,increment));
+    }
+
+    @Override
+    public DoubleSeq zip(DoubleSeq other, DoubleBinaryOperator zipper) {
+        return new StreamBasedDoubleSeq(StreamSupport.doubleStream(new DoubleZippingSpliterator(stream.spliterator(),other.iterator(),zipper),false));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn) {
+        return ReactiveSeq.fromSpliterator(stream.<R>mapToObj(fn).spliterator());
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public double[] toArray() {
+        return stream.toArray();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public double sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public DoubleStream toDoubleStream() {
+        return stream;
+    }
+}
@@ -0,0 +1,93 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntScanLeftSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntSlidingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntZippingSpliterator;
+import cyclops.stream.IntSeq;
+import cyclops.stream.ReactiveSeq;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pull based IntSeq backed by a {@link IntStream}
+ */
+public class StreamBasedIntSeq implements IntSeq {
+
+    private final IntStream stream;
+
+    public StreamBasedIntSeq(IntStream stream){
+        this.stream = stream;
+    }
+
+    @Override
+    public IntSeq map(IntUnaryOperator fn) {
+        return new StreamBasedIntSeq(stream.map(fn));
+    }
+
+    @Override
+    public IntSeq filter(IntPredicate fn) {
+        return new StreamBasedIntSeq(stream.filter(fn));
+    }
+
+    @Override
+    public IntSeq scanLeft(int identity, IntBinaryOperator fn) {
+        return new StreamBasedIntSeq(StreamSupport.intStream(new IntScanLeftSpliterator(stream.spliterator(),identity,fn),false));
+    }
+
+    @Override
+    public int foldLeft(int identity, IntBinaryOperator fn) {
+        return stream.reduce(identity,fn);
+    }
+
+    @Override
+    public ReactiveSeq<int[]> sliding(int size, int increment) {
+        return ReactiveSeq.fromSpliterator(new IntSlidingSpliterator(stream.spliterator(),size,increment));
+    }
+
+    @Override
+    public IntSeq zip(IntSeq other, IntBinaryOperator zipper) {
+        return new StreamBasedIntSeq(StreamSupport.intStream(new IntZippingSpliterator(stream.spliterator(),other.iterator(),zipper),false));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn) {
+        return ReactiveSeq.fromSpliterator(stream.<R>mapToObj(fn).spliterator());
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public int[] toArray() {
+        return stream.toArray();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public int sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public IntStream toIntStream() {
+        return stream;
+    }
+}
@@ -0,0 +1,93 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongScanLeftSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongSlidingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongZippingSpliterator;
+import cyclops.stream.LongSeq;
+import cyclops.stream.ReactiveSeq;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pull based LongSeq backed by a {@link LongStream}
+ */
+public class StreamBasedLongSeq implements LongSeq {
+
+    private final LongStream stream;
+
+    public StreamBasedLongSeq(LongStream stream){
+        this.stream = stream;
+    }
+
+    @Override
+    public LongSeq map(LongUnaryOperator fn) {
+        return new StreamBasedLongSeq(stream.map(fn));
+    }
+
+    @Override
+    public LongSeq filter(LongPredicate fn) {
+        return new StreamBasedLongSeq(stream.filter(fn));
+    }
+
+    @Override
+    public LongSeq scanLeft(long identity, LongBinaryOperator fn) {
+        return new StreamBasedLongSeq(StreamSupport.longStream(new LongScanLeftSpliterator(stream.spliterator(),identity,fn),false));
+    }
+
+    @Override
+    public long foldLeft(long identity, LongBinaryOperator fn) {
+        return stream.reduce(identity,fn);
+    }
+
+    @Override
+    public ReactiveSeq<long[]> sliding(int size, int increment) {
+        return ReactiveSeq.fromSpliterator(new LongSlidingSpliterator(stream.spliterator(),size,increment));
+    }
+
+    @Override
+    public LongSeq zip(LongSeq other, LongBinaryOperator zipper) {
+        return new StreamBasedLongSeq(StreamSupport.longStream(new LongZippingSpliterator(stream.spliterator(),other.iterator(),zipper),false));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn) {
+        return ReactiveSeq.fromSpliterator(stream.<R>mapToObj(fn).spliterator());
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public long[] toArray() {
+        return stream.toArray();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public long sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public LongStream toLongStream() {
+        return stream;
+    }
+}
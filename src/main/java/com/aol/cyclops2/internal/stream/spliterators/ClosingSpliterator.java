@@ -9,6 +9,8 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class ClosingSpliterator<IN,T> extends BaseComposableSpliterator<IN,T,ClosingSpliterator<IN,?>> implements Spliterator<T> {
+    private static final long MAX_PARK_NANOS = 1_000_000l;
+
     private final long estimate;
 
     private final Queue<IN> queue;
@@ -45,28 +47,51 @@ public class ClosingSpliterator<IN,T> extends BaseComposableSpliterator<IN,T,Clo
         Objects.requireNonNull(action);
         final Consumer<? super IN> toUse = apply(action);
 
-        if (!open.get() && queue.size() == 0) {
-
-            return false;
-        }
-
-        while (open.get() || queue.size() > 0) {
-            long nanos = 1l;
-
+        long nanos = 1l;
+        for (;;) {
+            final boolean closed = !open.get();
             IN value;
             if ((value = queue.poll()) != null) {
                 toUse.accept(nullSafe(value));
 
                 return true;
             }
+            if (closed && queue.size() == 0)
+                return false;
             LockSupport.parkNanos(nanos);
-            nanos = nanos * 2;
+            nanos = Math.min(nanos * 2, MAX_PARK_NANOS);
 
         }
-        return false;
 
     }
 
+    /*
+     * Drain everything available on each wake up, only backing off when the Queue is empty.
+     * The open flag is read before polling, elements offered before the connection was closed are visible to that poll,
+     * so the last element cannot be missed when closing races with an empty poll
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final Consumer<? super IN> toUse = apply(action);
+        long nanos = 1l;
+        for (;;) {
+            final boolean closed = !open.get();
+            IN value;
+            if ((value = queue.poll()) != null) {
+                do {
+                    toUse.accept(nullSafe(value));
+                } while ((value = queue.poll()) != null);
+                nanos = 1l;
+            } else if (closed && queue.size() == 0) {
+                return;
+            } else {
+                LockSupport.parkNanos(nanos);
+                nanos = Math.min(nanos * 2, MAX_PARK_NANOS);
+            }
+        }
+    }
+
     private IN nullSafe(final IN value) {
         return value;
     }
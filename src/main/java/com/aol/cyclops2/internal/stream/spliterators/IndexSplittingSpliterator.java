@@ -0,0 +1,63 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Spliterator over the indices [index,fence) of a random access source, trySplit hands off the first half of the
+ * remaining range so ForkJoin tasks can work steal chunks of the source
+ */
+public class IndexSplittingSpliterator<T> implements Spliterator<T> {
+
+    private final LongFunction<? extends T> elementAt;
+    private long index;
+    private final long fence;
+
+    public IndexSplittingSpliterator(LongFunction<? extends T> elementAt, long index, long fence) {
+        this.elementAt = elementAt;
+        this.index = index;
+        this.fence = Math.max(index,fence);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if(index<fence){
+            action.accept(elementAt.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        long i = index;
+        index = fence;
+        for(;i<fence;i++){
+            action.accept(elementAt.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long lo = index;
+        long mid = lo + ((fence - lo) >>> 1);
+        if(lo>=mid)
+            return null;
+        index = mid;
+        return new IndexSplittingSpliterator<T>(elementAt,lo,mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence-index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -2,6 +2,7 @@ package com.aol.cyclops2.internal.stream.spliterators;
 
 import com.aol.cyclops2.types.mixins.Printable;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -11,7 +12,7 @@ import java.util.function.Consumer;
  * Created by johnmcclean on 22/12/2016.
  */
 
-public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>{
+public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>, ParallelSplittable<T>{
 
     private final Iterable<T> source;
 
@@ -47,6 +48,19 @@ public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T
         return false;
     }
 
+    /*
+     * Collections provide their own (splittable) Spliterators, other Iterables are split by the JDK in growing batches
+     * of elements copied from the Iterator
+     */
+    @Override
+    public Spliterator<T> parallelSpliterator() {
+        if(active==null && source instanceof Collection)
+            return source.spliterator();
+        if(active==null)
+            active=source.iterator();
+        return Spliterators.spliteratorUnknownSize(active,Spliterator.ORDERED);
+    }
+
     @Override
     public Spliterator<T> copy() {
         return new IteratableSpliterator<>(source);
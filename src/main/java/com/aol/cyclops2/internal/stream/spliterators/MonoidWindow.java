@@ -0,0 +1,87 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+/**
+ * Fixed size window that maintains the Monoid aggregate of its contents incrementally, backing the sliding reduce
+ * operators.
+ *
+ * Uses the two stack technique : new values are pushed onto the back stack, which keeps a running aggregate, values are
+ * evicted from the front stack, which holds the aggregate of each of its suffixes. When the front stack is empty the
+ * back stack is flipped onto it, computing the suffix aggregates newest first. Each value is therefore combined a
+ * constant number of times (amortised O(1) per value, rather than O(windowSize) to recompute every window), and
+ * values are always combined oldest first, so the Monoid need not be commutative.
+ */
+public class MonoidWindow<T> {
+
+    private final Monoid<T> monoid;
+    private final Object[] back;
+    private final Object[] front;
+    private int backSize = 0;
+    private T backAggregate;
+    private int frontStart = 0;
+    private int frontEnd = 0;
+
+    public MonoidWindow(Monoid<T> monoid, int windowSize) {
+        this.monoid = monoid;
+        this.back = new Object[Math.max(1, windowSize)];
+        this.front = new Object[back.length];
+    }
+
+    /**
+     * Add a value, evicting the oldest value if the window is already full
+     *
+     * @return true if the window is full after adding value
+     */
+    public boolean add(T value) {
+        if (isFull())
+            evict();
+        back[backSize] = value;
+        backAggregate = backSize == 0 ? value : monoid.apply(backAggregate, value);
+        backSize++;
+        return isFull();
+    }
+
+    public boolean isFull() {
+        return size() == back.length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return frontEnd - frontStart + backSize;
+    }
+
+    /**
+     * @return Aggregate of the current window contents, oldest first (the Monoid zero if the window is empty)
+     */
+    public T aggregate() {
+        if (frontStart == frontEnd)
+            return backSize == 0 ? monoid.zero() : backAggregate;
+        T frontAggregate = (T) front[frontStart];
+        return backSize == 0 ? frontAggregate : monoid.apply(frontAggregate, backAggregate);
+    }
+
+    private void evict() {
+        if (frontStart == frontEnd)
+            flip();
+        front[frontStart++] = null;
+    }
+
+    private void flip() {
+        T suffix = (T) back[backSize - 1];
+        front[backSize - 1] = suffix;
+        for (int i = backSize - 2; i >= 0; i--) {
+            suffix = monoid.apply((T) back[i], suffix);
+            front[i] = suffix;
+        }
+        for (int i = 0; i < backSize; i++)
+            back[i] = null;
+        frontStart = 0;
+        frontEnd = backSize;
+        backSize = 0;
+        backAggregate = null;
+    }
+}
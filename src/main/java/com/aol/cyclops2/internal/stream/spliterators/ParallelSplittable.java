@@ -0,0 +1,37 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * A source Spliterator whose remaining elements can be split into chunks for execution on a ForkJoinPool, rather than
+ * being handed off element by element via a Queue
+ */
+public interface ParallelSplittable<T> {
+
+    /**
+     * @return A Spliterator over the remaining elements that supports trySplit, or null if they can't be split
+     */
+    Spliterator<T> parallelSpliterator();
+
+    public static <T> Spliterator<T> parallelSpliterator(Spliterator<T> split){
+        if(split instanceof ParallelSplittable){
+            return ((ParallelSplittable<T>)split).parallelSpliterator();
+        }
+        return null;
+    }
+
+    /**
+     * @return A Spliterator over the remaining elements that supports trySplit, the elements are buffered into a List
+     * only if the supplied Spliterator can't be split
+     */
+    public static <T> Spliterator<T> splitOrBuffer(Spliterator<T> split){
+        Spliterator<T> parallel = parallelSpliterator(split);
+        if(parallel!=null)
+            return parallel;
+        List<T> buffer = new ArrayList<>();
+        split.forEachRemaining(buffer::add);
+        return buffer.spliterator();
+    }
+}
@@ -0,0 +1,54 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.async.Future;
+import cyclops.async.RetryPolicy;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps a sliding window of up to maxConcurrency started (possibly retrying) Futures, the next element is started as
+ * soon as the head of the window is emitted. Results are emitted in encounter order.
+ */
+public class RetrySpliterator<T, R> extends Spliterators.AbstractSpliterator<R> implements CopyableSpliterator<R> {
+    private final Spliterator<T> source;
+    private final Function<? super T, ? extends R> fn;
+    private final RetryPolicy policy;
+    private final int maxConcurrency;
+    private final ArrayDeque<Future<R>> window;
+
+    public RetrySpliterator(final Spliterator<T> source, final Function<? super T, ? extends R> fn,
+                            final RetryPolicy policy, final int maxConcurrency) {
+        super(source.estimateSize(), source.characteristics() & Spliterator.ORDERED);
+        this.source = source;
+        this.fn = fn;
+        this.policy = policy;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.window = new ArrayDeque<>(this.maxConcurrency);
+    }
+
+    private void fill() {
+        while (window.size() < maxConcurrency && source.tryAdvance(t -> window.add(policy.<T, R> retry(fn, t)))) {
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        fill();
+        final Future<R> head = window.poll();
+        if (head == null)
+            return false;
+        final R result = head.get();
+        fill();
+        action.accept(result);
+        return true;
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new RetrySpliterator<>(CopyableSpliterator.copy(source), fn, policy, maxConcurrency);
+    }
+}
@@ -8,7 +8,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 //@AllArgsConstructor
-public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Indexable<T> {
+public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Indexable<T>, ParallelSplittable<T> {
 
     private final Object[] array;
     private int max;
@@ -99,6 +99,16 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
         return this;
     }
 
+    @Override
+    public Spliterator<T> parallelSpliterator() {
+        final Object[] array = this.array;
+        if (!reverse) {
+            return new IndexSplittingSpliterator<T>(i -> (T) array[(int) i], Math.max(0, index), max);
+        }
+        final int from = index;
+        return new IndexSplittingSpliterator<T>(i -> (T) array[from - (int) i], 0, from - start + 1);
+    }
+
     @Override
     public ReversableSpliterator<T> copy() {
 
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.RandomAccess;
 import java.util.function.Consumer;
 
 import lombok.AllArgsConstructor;
@@ -11,7 +12,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @AllArgsConstructor
-public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T> {
+public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, ParallelSplittable<T> {
 
     private final List<T> list;
     private ListIterator<T> it;
@@ -74,6 +75,19 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    @Override
+    public Spliterator<T> parallelSpliterator() {
+        final List<T> list = this.list;
+        final int next = it.nextIndex();
+        if (!(list instanceof RandomAccess)) {
+            return reverse || next > 0 ? null : list.spliterator();
+        }
+        if (!reverse) {
+            return new IndexSplittingSpliterator<T>(i -> list.get((int) i), next, list.size());
+        }
+        return new IndexSplittingSpliterator<T>(i -> list.get(next - 1 - (int) i), 0, next);
+    }
+
     @Override
     public Spliterator<T> trySplit() {
 
@@ -0,0 +1,81 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Emits the Monoid aggregate of each sliding window (with an increment of 1), maintained incrementally by a
+ * {@link MonoidWindow} rather than recomputed per window.
+ */
+public class SlidingReduceSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
+                                implements CopyableSpliterator<R> {
+    private final Spliterator<T> source;
+    private final Function<? super T, ? extends R> mapper;
+    private final Monoid<R> monoid;
+    private final int windowSize;
+    final MonoidWindow<R> window;
+
+    public SlidingReduceSpliterator(final Spliterator<T> source, Function<? super T, ? extends R> mapper,
+                                    Monoid<R> monoid, int windowSize) {
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+
+        this.source = source;
+        this.mapper = mapper;
+        this.monoid = monoid;
+        this.windowSize = windowSize;
+        this.window = new MonoidWindow<>(monoid,windowSize);
+
+    }
+
+    boolean sent = false;
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        if(!canAdvance)
+            return;
+        canAdvance = false;
+        source.forEachRemaining(t->{
+            if(window.add(mapper.apply(t))){
+                action.accept(window.aggregate());
+                sent = true;
+            }
+        });
+        if(!sent && !window.isEmpty()){
+            sent = true;
+            action.accept(window.aggregate());
+        }
+
+    }
+    boolean canAdvance = true;
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if(!canAdvance)
+            return false;
+        boolean advanced;
+        do {
+            advanced = source.tryAdvance(t -> window.add(mapper.apply(t)));
+        }while(advanced && !window.isFull());
+        if(advanced){
+            sent = true;
+            action.accept(window.aggregate());
+            return true;
+        }
+        canAdvance = false;
+        if(!sent && !window.isEmpty()){
+            sent = true;
+            action.accept(window.aggregate());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new SlidingReduceSpliterator<T, R>(CopyableSpliterator.copy(source),mapper,monoid, windowSize);
+    }
+
+
+}
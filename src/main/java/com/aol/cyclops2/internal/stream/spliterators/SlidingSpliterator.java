@@ -1,9 +1,6 @@
 package com.aol.cyclops2.internal.stream.spliterators;
 
-import cyclops.collections.box.Mutable;
 import cyclops.collections.immutable.PVectorX;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -20,9 +17,19 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
     private final Function<? super PVectorX<T>, ? extends R> finalizer;
     private final int windowSize;
     private final int increment;
-    final Mutable<PVector<T>> list = Mutable.of(TreePVector.empty());
+    private final boolean transientViews;
+    final Window<T> window;
     public SlidingSpliterator(final Spliterator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
                                 int windowSize, int increment) {
+        this(source,finalizer,windowSize,increment,false);
+    }
+
+    /**
+     * @param transientViews If true the finalizer is passed a view over the window buffer that is only valid during the
+     *                       call, rather than an immutable copy of the window
+     */
+    public SlidingSpliterator(final Spliterator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
+                              int windowSize, int increment, boolean transientViews) {
         super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
 
         this.source = source;
@@ -30,12 +37,12 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         this.windowSize = windowSize;
         this.finalizer=finalizer;
         this.increment=increment;
-
-
+        this.transientViews = transientViews;
+        this.window = new Window<>(windowSize,increment,transientViews);
 
     }
     public <R2> SlidingSpliterator<T,?> compose(Function<? super R,? extends R2> fn){
-        return new SlidingSpliterator<T,R2>(CopyableSpliterator.copy(source),finalizer.andThen(fn), windowSize,increment);
+        return new SlidingSpliterator<T,R2>(CopyableSpliterator.copy(source),finalizer.andThen(fn), windowSize,increment,transientViews);
     }
 
     boolean sent = false;
@@ -46,15 +53,12 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         source.forEachRemaining(t->{
             if(data==false)
                  data = true;
-            list.mutate(var -> var.plus(Math.max(0, var.size()), t));
-            if(list.get().size()==windowSize){
+            if(window.add(t)){
 
-                action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                action.accept(finalizer.apply(window.window()));
                 sent = true;
 
-                for (int i = 0; i < increment && list.get()
-                        .size() > 0; i++)
-                list.mutate(var -> var.minus(0));
+                window.slide();
             }else{
 
                 sent =false;
@@ -63,7 +67,7 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
 
         });
         if(!sent && data){
-            action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+            action.accept(finalizer.apply(window.window()));
         }
 
     }
@@ -73,32 +77,25 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
        if(!canAdvance)
            return false;
        data = false;
-        for (int i = 0; i < increment && list.get()
-                .size() > 0; i++)
-            list.mutate(var -> var.minus(0));
-        for (; list.get()
-                .size() < windowSize
+       window.slide();
+        for (; !window.isFull()
                 && canAdvance;) {
-            Mutable<T> box = Mutable.of(null);
             canAdvance = source.tryAdvance(t -> {
-                box.accept(t);
+                data = true;
+                window.add(t);
 
             });
-            if (box.get()!=null) {
-                data =true;
-                list.mutate(var -> var.plus(Math.max(0, var.size()), box.get()));
-            }
 
         }
         if(data)
-            action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+            action.accept(finalizer.apply(window.window()));
 
         return canAdvance;
     }
 
     @Override
     public Spliterator<R> copy() {
-        return new SlidingSpliterator<T, R>(CopyableSpliterator.copy(source),finalizer, windowSize,increment);
+        return new SlidingSpliterator<T, R>(CopyableSpliterator.copy(source),finalizer, windowSize,increment,transientViews);
     }
 
 
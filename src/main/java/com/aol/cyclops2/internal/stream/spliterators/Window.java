@@ -0,0 +1,97 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.collections.immutable.PVectorX;
+
+/**
+ * Buffer backing the sliding window operators.
+ *
+ * Values are added until the window is full, the window is then emitted (oldest first) and the oldest increment
+ * values are dropped. Windows are emitted either as an immutable view over an append only chunk of the buffer, or as a
+ * transient view over a ring buffer that is only valid until the window next changes.
+ *
+ * Immutable windows share their chunk, slots are only ever written once, so emitting a window doesn't copy it. When a
+ * chunk fills up the current window (at most windowSize values) is copied to the start of a new chunk, an amortized
+ * fraction of a copy per value.
+ */
+public class Window<T> {
+
+    private static final int MIN_CHUNK = 64;
+
+    private final int windowSize;
+    private final int increment;
+    private final boolean transientViews;
+    private Object[] buffer;
+    private int head = 0;
+    private int size = 0;
+
+    public Window(int windowSize, int increment, boolean transientViews) {
+        this.windowSize = Math.max(1, windowSize);
+        this.increment = checkIncrement(increment);
+        this.transientViews = transientViews;
+        this.buffer = new Object[transientViews ? this.windowSize : Math.max(MIN_CHUNK, this.windowSize * 4)];
+    }
+
+    /**
+     * @throws IllegalArgumentException if increment is not positive
+     */
+    public static int checkIncrement(int increment) {
+        if (increment <= 0)
+            throw new IllegalArgumentException(
+                                               "Sliding window increment must be greater than 0, but was " + increment);
+        return increment;
+    }
+
+    /**
+     * @return true if the window is full after adding value
+     */
+    public boolean add(T value) {
+        if (transientViews) {
+            buffer[(head + size) % buffer.length] = value;
+        } else {
+            if (head + size == buffer.length) {
+                Object[] next = new Object[buffer.length];
+                System.arraycopy(buffer, head, next, 0, size);
+                buffer = next;
+                head = 0;
+            }
+            buffer[head + size] = value;
+        }
+        size++;
+        return size == windowSize;
+    }
+
+    public boolean isFull() {
+        return size == windowSize;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * With transient views the returned PVectorX wraps the live buffer (via PVectorX.fromIterable), the WindowView
+     * fixes head and size when it is created but reads the buffer slots when it is accessed. Once the window slides
+     * those slots hold later values, so transient views (and anything built lazily from them) must not be read after
+     * the window next changes.
+     *
+     * @return The current window contents, oldest first
+     */
+    public PVectorX<T> window() {
+        return PVectorX.fromIterable(new WindowView<>(buffer, head, size));
+    }
+
+    /**
+     * Slide the window forward, dropping the oldest increment values
+     */
+    public void slide() {
+        int drop = Math.min(increment, size);
+        if (transientViews) {
+            for (int i = 0; i < drop; i++)
+                buffer[(head + i) % buffer.length] = null;
+            head = (head + drop) % buffer.length;
+        } else {
+            head += drop;
+        }
+        size -= drop;
+    }
+}
@@ -0,0 +1,89 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import java.util.AbstractList;
+import java.util.Collection;
+
+/**
+ * Lightweight read only PVector over a (possibly circular) region of an array, as emitted by {@link Window}.
+ * Reads are O(1), persistent updates copy the view into a TreePVector.
+ */
+public class WindowView<T> extends AbstractList<T> implements PVector<T> {
+
+    private final Object[] buffer;
+    private final int head;
+    private final int size;
+
+    WindowView(Object[] buffer, int head, int size) {
+        this.buffer = buffer;
+        this.head = head;
+        this.size = size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return (T) buffer[(head + index) % buffer.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private PVector<T> toPVector() {
+        return TreePVector.from(this);
+    }
+
+    @Override
+    public PVector<T> plus(T e) {
+        return toPVector().plus(e);
+    }
+
+    @Override
+    public PVector<T> plusAll(Collection<? extends T> list) {
+        return toPVector().plusAll(list);
+    }
+
+    @Override
+    public PVector<T> with(int i, T e) {
+        return toPVector().with(i, e);
+    }
+
+    @Override
+    public PVector<T> plus(int i, T e) {
+        return toPVector().plus(i, e);
+    }
+
+    @Override
+    public PVector<T> plusAll(int i, Collection<? extends T> list) {
+        return toPVector().plusAll(i, list);
+    }
+
+    @Override
+    public PVector<T> minus(Object e) {
+        return toPVector().minus(e);
+    }
+
+    @Override
+    public PVector<T> minusAll(Collection<?> list) {
+        return toPVector().minusAll(list);
+    }
+
+    @Override
+    public PVector<T> minus(int i) {
+        return toPVector().minus(i);
+    }
+
+    @Override
+    public PVector<T> subList(int start, int end) {
+        if (start < 0 || end > size || start > end)
+            throw new IndexOutOfBoundsException();
+        if (start == end)
+            return TreePVector.empty();
+        return new WindowView<>(buffer, (head + start) % buffer.length, end - start);
+    }
+}
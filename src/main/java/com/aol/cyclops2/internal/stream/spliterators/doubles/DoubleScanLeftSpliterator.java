@@ -0,0 +1,70 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Unboxed scanLeft, the identity value is emitted first followed by each running result
+ */
+public class DoubleScanLeftSpliterator implements Spliterator.OfDouble, DoubleConsumer {
+
+    private final Spliterator.OfDouble source;
+    private final DoubleBinaryOperator function;
+    private double current;
+    private boolean seeded = false;
+    private final long size;
+    private final int characteristics;
+
+    public DoubleScanLeftSpliterator(Spliterator.OfDouble source, double identity, DoubleBinaryOperator function) {
+        this.source = source;
+        this.current = identity;
+        this.function = function;
+        long sourceSize = source.estimateSize();
+        this.size = sourceSize == Long.MAX_VALUE ? Long.MAX_VALUE : sourceSize + 1;
+        this.characteristics = source.characteristics() & Spliterator.ORDERED;
+    }
+
+    @Override
+    public void accept(double value) {
+        current = function.applyAsDouble(current, value);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current);
+            return true;
+        }
+        if (source.tryAdvance((DoubleConsumer) this)) {
+            action.accept(current);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current);
+        }
+        source.forEachRemaining((DoubleConsumer) e -> action.accept(current = function.applyAsDouble(current, e)));
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Sliding windows over an unboxed source, buffered in a fixed size ring (see {@link DoubleWindow})
+ */
+public class DoubleSlidingSpliterator implements Spliterator<double[]>, DoubleConsumer {
+
+    private final Spliterator.OfDouble source;
+    private final DoubleWindow window;
+    private boolean full = false;
+
+    public DoubleSlidingSpliterator(Spliterator.OfDouble source, int windowSize, int increment) {
+        this.source = source;
+        this.window = new DoubleWindow(windowSize, increment);
+    }
+
+    @Override
+    public void accept(double value) {
+        full = window.add(value);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super double[]> action) {
+        while (source.tryAdvance((DoubleConsumer) this)) {
+            if (full) {
+                action.accept(window.emit());
+                return true;
+            }
+        }
+        if (window.hasPartial()) {
+            action.accept(window.partial());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super double[]> action) {
+        source.forEachRemaining((DoubleConsumer) e -> {
+            if (window.add(e))
+                action.accept(window.emit());
+        });
+        if (window.hasPartial())
+            action.accept(window.partial());
+    }
+
+    @Override
+    public Spliterator<double[]> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & Spliterator.ORDERED;
+    }
+}
@@ -0,0 +1,58 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+/**
+ * Fixed size ring buffer backing the unboxed sliding window operators.
+ *
+ * Values are added until the window is full, the window is then copied out (oldest first) and the oldest increment
+ * values are dropped. A trailing partial window is available if the last value added did not complete a window.
+ */
+public class DoubleWindow {
+
+    private final double[] buffer;
+    private final int increment;
+    private int head = 0;
+    private int size = 0;
+    private boolean sent = false;
+
+    public DoubleWindow(int windowSize, int increment) {
+        this.buffer = new double[windowSize];
+        this.increment = increment;
+    }
+
+    /**
+     * @return true if the window is full after adding value
+     */
+    public boolean add(double value) {
+        buffer[(head + size) % buffer.length] = value;
+        size++;
+        return sent = size == buffer.length;
+    }
+
+    /**
+     * @return Copy of the full window, after which the window slides forward by increment
+     */
+    public double[] emit() {
+        double[] result = copy();
+        int drop = Math.min(Math.max(1, increment), size);
+        head = (head + drop) % buffer.length;
+        size -= drop;
+        return result;
+    }
+
+    public boolean hasPartial() {
+        return !sent && size > 0;
+    }
+
+    public double[] partial() {
+        sent = true;
+        return copy();
+    }
+
+    private double[] copy() {
+        double[] result = new double[size];
+        int first = Math.min(size, buffer.length - head);
+        System.arraycopy(buffer, head, result, 0, first);
+        System.arraycopy(buffer, 0, result, first, size - first);
+        return result;
+    }
+}
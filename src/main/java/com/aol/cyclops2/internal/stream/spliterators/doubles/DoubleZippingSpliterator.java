@@ -0,0 +1,51 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Unboxed zip of a Spliterator and a primitive iterator, completes when either side is exhausted
+ */
+public class DoubleZippingSpliterator implements Spliterator.OfDouble, DoubleConsumer {
+
+    private final Spliterator.OfDouble left;
+    private final PrimitiveIterator.OfDouble right;
+    private final DoubleBinaryOperator zipper;
+    private double value;
+
+    public DoubleZippingSpliterator(Spliterator.OfDouble left, PrimitiveIterator.OfDouble right, DoubleBinaryOperator zipper) {
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public void accept(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (!right.hasNext() || !left.tryAdvance((DoubleConsumer) this))
+            return false;
+        action.accept(zipper.applyAsDouble(value, right.nextDouble()));
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return left.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return left.characteristics() & Spliterator.ORDERED;
+    }
+}
@@ -0,0 +1,70 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Unboxed scanLeft, the identity value is emitted first followed by each running result
+ */
+public class IntScanLeftSpliterator implements Spliterator.OfInt, IntConsumer {
+
+    private final Spliterator.OfInt source;
+    private final IntBinaryOperator function;
+    private int current;
+    private boolean seeded = false;
+    private final long size;
+    private final int characteristics;
+
+    public IntScanLeftSpliterator(Spliterator.OfInt source, int identity, IntBinaryOperator function) {
+        this.source = source;
+        this.current = identity;
+        this.function = function;
+        long sourceSize = source.estimateSize();
+        this.size = sourceSize == Long.MAX_VALUE ? Long.MAX_VALUE : sourceSize + 1;
+        this.characteristics = source.characteristics() & Spliterator.ORDERED;
+    }
+
+    @Override
+    public void accept(int value) {
+        current = function.applyAsInt(current, value);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current);
+            return true;
+        }
+        if (source.tryAdvance((IntConsumer) this)) {
+            action.accept(current);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current);
+        }
+        source.forEachRemaining((IntConsumer) e -> action.accept(current = function.applyAsInt(current, e)));
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Sliding windows over an unboxed source, buffered in a fixed size ring (see {@link IntWindow})
+ */
+public class IntSlidingSpliterator implements Spliterator<int[]>, IntConsumer {
+
+    private final Spliterator.OfInt source;
+    private final IntWindow window;
+    private boolean full = false;
+
+    public IntSlidingSpliterator(Spliterator.OfInt source, int windowSize, int increment) {
+        this.source = source;
+        this.window = new IntWindow(windowSize, increment);
+    }
+
+    @Override
+    public void accept(int value) {
+        full = window.add(value);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[]> action) {
+        while (source.tryAdvance((IntConsumer) this)) {
+            if (full) {
+                action.accept(window.emit());
+                return true;
+            }
+        }
+        if (window.hasPartial()) {
+            action.accept(window.partial());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super int[]> action) {
+        source.forEachRemaining((IntConsumer) e -> {
+            if (window.add(e))
+                action.accept(window.emit());
+        });
+        if (window.hasPartial())
+            action.accept(window.partial());
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & Spliterator.ORDERED;
+    }
+}
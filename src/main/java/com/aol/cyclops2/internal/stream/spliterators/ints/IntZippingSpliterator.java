@@ -0,0 +1,51 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Unboxed zip of a Spliterator and a primitive iterator, completes when either side is exhausted
+ */
+public class IntZippingSpliterator implements Spliterator.OfInt, IntConsumer {
+
+    private final Spliterator.OfInt left;
+    private final PrimitiveIterator.OfInt right;
+    private final IntBinaryOperator zipper;
+    private int value;
+
+    public IntZippingSpliterator(Spliterator.OfInt left, PrimitiveIterator.OfInt right, IntBinaryOperator zipper) {
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public void accept(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (!right.hasNext() || !left.tryAdvance((IntConsumer) this))
+            return false;
+        action.accept(zipper.applyAsInt(value, right.nextInt()));
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return left.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return left.characteristics() & Spliterator.ORDERED;
+    }
+}
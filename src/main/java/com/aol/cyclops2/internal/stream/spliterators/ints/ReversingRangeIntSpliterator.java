@@ -5,12 +5,14 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 
+import com.aol.cyclops2.internal.stream.spliterators.IndexSplittingSpliterator;
 import com.aol.cyclops2.internal.stream.spliterators.Indexable;
+import com.aol.cyclops2.internal.stream.spliterators.ParallelSplittable;
 import com.aol.cyclops2.internal.stream.spliterators.ReversableSpliterator;
 import lombok.Getter;
 import lombok.Setter;
 
-public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer> {
+public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer>, ParallelSplittable<Integer> {
 
     private final int min;
     private final int max;
@@ -71,6 +73,15 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
         return this;
     }
 
+    @Override
+    public Spliterator<Integer> parallelSpliterator() {
+        final int from = index;
+        if (!reverse) {
+            return new IndexSplittingSpliterator<Integer>(i -> (int) i, from, max);
+        }
+        return new IndexSplittingSpliterator<Integer>(i -> from - (int) i, 0, from - min);
+    }
+
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeIntSpliterator(
@@ -0,0 +1,70 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Unboxed scanLeft, the identity value is emitted first followed by each running result
+ */
+public class LongScanLeftSpliterator implements Spliterator.OfLong, LongConsumer {
+
+    private final Spliterator.OfLong source;
+    private final LongBinaryOperator function;
+    private long current;
+    private boolean seeded = false;
+    private final long size;
+    private final int characteristics;
+
+    public LongScanLeftSpliterator(Spliterator.OfLong source, long identity, LongBinaryOperator function) {
+        this.source = source;
+        this.current = identity;
+        this.function = function;
+        long sourceSize = source.estimateSize();
+        this.size = sourceSize == Long.MAX_VALUE ? Long.MAX_VALUE : sourceSize + 1;
+        this.characteristics = source.characteristics() & Spliterator.ORDERED;
+    }
+
+    @Override
+    public void accept(long value) {
+        current = function.applyAsLong(current, value);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current);
+            return true;
+        }
+        if (source.tryAdvance((LongConsumer) this)) {
+            action.accept(current);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current);
+        }
+        source.forEachRemaining((LongConsumer) e -> action.accept(current = function.applyAsLong(current, e)));
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
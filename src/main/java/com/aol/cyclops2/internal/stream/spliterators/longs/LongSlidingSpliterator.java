@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Sliding windows over an unboxed source, buffered in a fixed size ring (see {@link LongWindow})
+ */
+public class LongSlidingSpliterator implements Spliterator<long[]>, LongConsumer {
+
+    private final Spliterator.OfLong source;
+    private final LongWindow window;
+    private boolean full = false;
+
+    public LongSlidingSpliterator(Spliterator.OfLong source, int windowSize, int increment) {
+        this.source = source;
+        this.window = new LongWindow(windowSize, increment);
+    }
+
+    @Override
+    public void accept(long value) {
+        full = window.add(value);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super long[]> action) {
+        while (source.tryAdvance((LongConsumer) this)) {
+            if (full) {
+                action.accept(window.emit());
+                return true;
+            }
+        }
+        if (window.hasPartial()) {
+            action.accept(window.partial());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super long[]> action) {
+        source.forEachRemaining((LongConsumer) e -> {
+            if (window.add(e))
+                action.accept(window.emit());
+        });
+        if (window.hasPartial())
+            action.accept(window.partial());
+    }
+
+    @Override
+    public Spliterator<long[]> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & Spliterator.ORDERED;
+    }
+}
@@ -0,0 +1,51 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Unboxed zip of a Spliterator and a primitive iterator, completes when either side is exhausted
+ */
+public class LongZippingSpliterator implements Spliterator.OfLong, LongConsumer {
+
+    private final Spliterator.OfLong left;
+    private final PrimitiveIterator.OfLong right;
+    private final LongBinaryOperator zipper;
+    private long value;
+
+    public LongZippingSpliterator(Spliterator.OfLong left, PrimitiveIterator.OfLong right, LongBinaryOperator zipper) {
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public void accept(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (!right.hasNext() || !left.tryAdvance((LongConsumer) this))
+            return false;
+        action.accept(zipper.applyAsLong(value, right.nextLong()));
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return left.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return left.characteristics() & Spliterator.ORDERED;
+    }
+}
@@ -1,6 +1,8 @@
 package com.aol.cyclops2.internal.stream.spliterators.longs;
 
+import com.aol.cyclops2.internal.stream.spliterators.IndexSplittingSpliterator;
 import com.aol.cyclops2.internal.stream.spliterators.Indexable;
+import com.aol.cyclops2.internal.stream.spliterators.ParallelSplittable;
 import com.aol.cyclops2.internal.stream.spliterators.ReversableSpliterator;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,7 +13,7 @@ import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 
-public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long> {
+public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long>, ParallelSplittable<Long> {
 
     private final long min;
     private final long max;
@@ -72,6 +74,15 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
         return this;
     }
 
+    @Override
+    public Spliterator<Long> parallelSpliterator() {
+        final long from = index;
+        if (!reverse) {
+            return new IndexSplittingSpliterator<Long>(i -> i, from, max);
+        }
+        return new IndexSplittingSpliterator<Long>(i -> from - i, 0, from - min);
+    }
+
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeLongSpliterator(
@@ -0,0 +1,69 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Emits an element and then drops all elements until the debounce period has elapsed since the last emission. The
+ * elapsed time is checked as each element arrives, as a timer tick (e.g. on a HashedWheelTimer) is far coarser than
+ * short debounce periods. Elements are not held back for a trailing emission, so no timer is needed.
+ */
+public class DebounceOperator<T> extends BaseOperator<T,T> {
+
+    private final long timeNanos;
+
+    public DebounceOperator(Operator<T> source, long time, TimeUnit t){
+        super(source);
+        this.timeNanos = t.toNanos(time);
+    }
+
+    /*
+     * last holds the System.nanoTime() of the last emission, 0 before the first
+     */
+    private boolean pass(AtomicLong last){
+        if(timeNanos<=0)
+            return true;
+        long now = System.nanoTime();
+        long previous = last.get();
+        if(previous!=0 && now-previous<timeNanos)
+            return false;
+        last.set(now==0 ? 1 : now);
+        return true;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        AtomicLong last = new AtomicLong(0);
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        if(pass(last))
+                            onNext.accept(e);
+                        else{
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        AtomicLong last = new AtomicLong(0);
+        source.subscribeAll(e-> {
+                    try {
+                        if(pass(last))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
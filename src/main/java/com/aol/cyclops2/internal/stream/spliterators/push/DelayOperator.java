@@ -0,0 +1,203 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import cyclops.async.HashedWheelTimer;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Delays the emission of each element by an amount of time determined by a (stateful, per subscription) delay function.
+ * The delay function is passed the System.nanoTime() at which the element became ready to be delayed (the later of its
+ * arrival and the emission of the previous element) and returns the delay in nanoseconds. Rather than blocking the
+ * emitting thread, delayed elements are emitted from a timer task on the ScheduledExecutorService (e.g. a
+ * HashedWheelTimer). Elements whose remaining delay is less than one tick of a HashedWheelTimer are emitted inline,
+ * rather than rounded up to a tick and handed off to the timer's executor.
+ *
+ * One element is requested from upstream at a time, the next element is requested once the current element has been
+ * emitted (and there is outstanding demand). Elements pushed by sources that ignore backpressure are queued and emitted
+ * in order.
+ */
+public class DelayOperator<T> extends BaseOperator<T,T> {
+
+    private final Supplier<? extends LongUnaryOperator> delayFn;
+    private final ScheduledExecutorService ex;
+    private final long inlineNanos;
+
+    public DelayOperator(Operator<T> source, Supplier<? extends LongUnaryOperator> delayFn, ScheduledExecutorService ex){
+        super(source);
+        this.delayFn = delayFn;
+        this.ex = ex;
+        this.inlineNanos = ex instanceof HashedWheelTimer ? ((HashedWheelTimer)ex).getTickNanos() : 1;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Delaying sub = new Delaying(onNext,onError,onComplete);
+        sub.start();
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private static final class Entry<T> {
+        final T value;
+        final long deadline;
+
+        Entry(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+    }
+
+    private final class Delaying extends StreamSubscription {
+        private final Consumer<? super T> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+        private final LongUnaryOperator delay = delayFn.get();
+        private final ArrayDeque<Entry<T>> queue = new ArrayDeque<>();
+        private StreamSubscription upstream;
+        private ScheduledFuture<?> timer;
+        private long lastDeadline = Long.MIN_VALUE;
+        private boolean awaiting = false; //an element has been requested from upstream and has not arrived yet
+        private boolean draining = false;
+        private boolean drainAgain = false;
+        private boolean upstreamComplete = false;
+        private boolean completed = false;
+
+        Delaying(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void start() {
+            synchronized (this) {
+                upstream = source.subscribe(this::onElement, this::onUpstreamError, this::onUpstreamComplete);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if(n<=0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            if(!isOpen)
+                return;
+            super.request(n);
+            synchronized (this) {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (timer != null)
+                    timer.cancel(false);
+                timer = null;
+                queue.clear();
+            }
+            if (upstream != null)
+                upstream.cancel();
+            super.cancel();
+        }
+
+        /*
+         * Synchronous sources emit from within upstream.request and downstream consumers may request from within onNext,
+         * loop here rather than recursing on each element
+         */
+        private void drain() {
+            if (draining) {
+                drainAgain = true;
+                return;
+            }
+            draining = true;
+            try {
+                do {
+                    drainAgain = false;
+                    Entry<T> next;
+                    while (timer == null && isOpen && (next = queue.peek()) != null) {
+                        long remaining = next.deadline - System.nanoTime();
+                        if (remaining >= inlineNanos) {
+                            timer = ex.schedule(this::onTimer, remaining, TimeUnit.NANOSECONDS);
+                            break;
+                        }
+                        queue.poll();
+                        emit(next.value);
+                    }
+                    if (timer == null && queue.isEmpty()) {
+                        if (upstreamComplete)
+                            complete();
+                        else if (!awaiting && isActive()) {
+                            awaiting = true;
+                            upstream.request(1l);
+                        }
+                    }
+                } while (drainAgain);
+            } finally {
+                draining = false;
+            }
+        }
+
+        private synchronized void onElement(T e) {
+            awaiting = false;
+            long ready = Math.max(System.nanoTime(), lastDeadline);
+            long delayNanos;
+            try {
+                delayNanos = delay.applyAsLong(ready);
+            } catch (Throwable t) {
+                onUpstreamError(t);
+                return;
+            }
+            lastDeadline = ready + Math.max(0, delayNanos);
+            queue.add(new Entry<>(e, lastDeadline));
+            drain();
+        }
+
+        private synchronized void onTimer() {
+            timer = null;
+            if (!isOpen)
+                return;
+            drain();
+        }
+
+        private void emit(T e) {
+            requested.decrementAndGet();
+            try {
+                onNext.accept(e);
+            } catch (Throwable t) {
+                onError.accept(t);
+            }
+        }
+
+        private synchronized void onUpstreamError(Throwable t) {
+            awaiting = false;
+            requested.decrementAndGet();
+            onError.accept(t);
+            drain();
+        }
+
+        private synchronized void onUpstreamComplete() {
+            awaiting = false;
+            upstreamComplete = true;
+            drain();
+        }
+
+        private void complete() {
+            if (completed)
+                return;
+            completed = true;
+            isOpen = false;
+            onComplete.run();
+        }
+    }
+}
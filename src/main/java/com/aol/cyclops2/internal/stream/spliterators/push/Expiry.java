@@ -0,0 +1,33 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time limit measured from construction. The scheduled task only sets a hint, until it runs each check compares
+ * System.nanoTime() against the limit, so the limit still expires on time if the executor is busy.
+ */
+final class Expiry {
+    private final long start = System.nanoTime();
+    private final long nanos;
+    private volatile boolean expired;
+
+    Expiry(final long nanos, final ScheduledExecutorService ex) {
+        this.nanos = nanos;
+        this.expired = nanos <= 0;
+        if (!expired)
+            ex.schedule(() -> {
+                expired = true;
+            }, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    boolean isExpired() {
+        if (expired)
+            return true;
+        if (System.nanoTime() - start >= nanos) {
+            expired = true;
+            return true;
+        }
+        return false;
+    }
+}
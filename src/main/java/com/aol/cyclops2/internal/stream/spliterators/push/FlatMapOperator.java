@@ -82,8 +82,10 @@ public class FlatMapOperator<T,R> extends BaseOperator<T,R> {
 
                                     return false;
                                 }
+                                long budget = res.requested.get();
+                                long emitted = 0;
                                 try {
-                                    while (res.isActive()) {
+                                    while (res.isOpen && budget > 0) {
                                         try {
                                             canAdvance = split.tryAdvance(onNext);
 
@@ -92,7 +94,10 @@ public class FlatMapOperator<T,R> extends BaseOperator<T,R> {
                                         }
 
                                         if (canAdvance) {
-                                            res.requested.decrementAndGet();
+                                            if (++emitted == budget) { //demand is accounted for once per batch
+                                                budget = res.produced(emitted);
+                                                emitted = 0;
+                                            }
 
                                         } else {
 
@@ -114,6 +119,7 @@ public class FlatMapOperator<T,R> extends BaseOperator<T,R> {
 
                                     }
                                 } finally {
+                                    res.produced(emitted);
                                     advancing.set(0);
                                 }
                                 if (!canAdvance && res.isActive() && !(status.get() >= 100)) {
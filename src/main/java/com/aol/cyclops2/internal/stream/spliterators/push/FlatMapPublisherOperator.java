@@ -0,0 +1,77 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Maps each element to a Publisher and merges up to maxConcurrency of the resulting Publishers at a time. Each inner
+ * Publisher is prefetched into its own bounded buffer (see {@link PrefetchingMergeSubscription}), another element is
+ * requested from upstream as each inner Publisher completes. Nothing is requested from upstream until downstream
+ * demand arrives.
+ */
+public class FlatMapPublisherOperator<T,R> extends BaseOperator<T,R> {
+
+    private final Function<? super T, ? extends Publisher<? extends R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public FlatMapPublisherOperator(Operator<T> source, Function<? super T, ? extends Publisher<? extends R>> mapper, int maxConcurrency){
+        this(source,mapper,maxConcurrency,MergeOperator.DEFAULT_PREFETCH);
+    }
+    public FlatMapPublisherOperator(Operator<T> source, Function<? super T, ? extends Publisher<? extends R>> mapper, int maxConcurrency, int prefetch){
+        super(source);
+        this.mapper = mapper;
+        this.maxConcurrency = Math.max(1,maxConcurrency);
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription upstream[] = {null};
+        AtomicBoolean started = new AtomicBoolean(false);
+        PrefetchingMergeSubscription<R> sub = new PrefetchingMergeSubscription<R>(onNext,onError,onComplete,prefetch){
+            @Override
+            public void request(long n) {
+                super.request(n);
+                if(n>0 && started.compareAndSet(false,true))
+                    upstream[0].request(maxConcurrency);
+            }
+
+            @Override
+            void replenishOuter() {
+                if(upstream[0]!=null)
+                    upstream[0].request(1l);
+            }
+
+            @Override
+            void cancelOuter() {
+                if(upstream[0]!=null)
+                    upstream[0].cancel();
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    Publisher<? extends R> next;
+                    try {
+                        next = mapper.apply(e);
+                    } catch (Throwable t) {
+                        sub.outerError(t);
+                        sub.replenishOuter();
+                        return;
+                    }
+                    sub.addInner(next);
+                }
+                ,t->{
+                    sub.outerError(t);
+                    sub.replenishOuter();
+                },sub::outerComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -1,6 +1,9 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -18,18 +21,32 @@ public class GroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> e
     private final long time;
     private final TimeUnit t;
     private final int groupSize;
+    private final ScheduledExecutorService ex;
 
 
     public GroupedByTimeAndSizeOperator(Operator<T> source, Supplier<? extends C> factory,
                                         Function<? super C, ? extends R> finalizer, long time,
                                         TimeUnit t,
                                         int groupSize){
+        this(source,factory,finalizer,time,t,groupSize,null);
+    }
+
+    /**
+     * @param ex If present, used to emit partially filled groups as soon as their time window expires, rather than
+     *           when the next element arrives
+     */
+    public GroupedByTimeAndSizeOperator(Operator<T> source, Supplier<? extends C> factory,
+                                        Function<? super C, ? extends R> finalizer, long time,
+                                        TimeUnit t,
+                                        int groupSize,
+                                        ScheduledExecutorService ex){
         super(source);
         this.factory = factory;
         this.finalizer = finalizer;
         this.time = time;
         this.t = t;
         this.groupSize = groupSize;
+        this.ex = ex;
 
 
 
@@ -38,6 +55,11 @@ public class GroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> e
 
     @Override
     public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        if(ex!=null) {
+            ScheduledGrouping sub = new ScheduledGrouping(onNext, onError, onComplete);
+            sub.start();
+            return sub;
+        }
         long toRun = t.toNanos(time);
         Collection[] next = {factory.get()};
         long[] start ={System.nanoTime()};
@@ -105,6 +127,10 @@ public class GroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> e
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        if(ex!=null){
+            subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+            return;
+        }
         long toRun = t.toNanos(time);
         Collection[] next = {factory.get()};
         long[] start ={System.nanoTime()};
@@ -134,4 +160,193 @@ public class GroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> e
                     onCompleteDs.run();
                 });
     }
+
+    /**
+     * Groups elements by size and time, with a timer on the ScheduledExecutorService emitting partially filled
+     * groups when their window expires. Completed groups are only emitted when there is downstream demand,
+     * emission from the upstream and timer threads is serialized.
+     *
+     * Upstream elements are requested one at a time, and only while the completed groups waiting to be emitted do
+     * not cover the outstanding demand, so a slow Subscriber does not cause completed groups to accumulate.
+     * Unbounded demand is forwarded upstream as is.
+     */
+    private final class ScheduledGrouping extends StreamSubscription {
+        private final Consumer<? super R> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+        private final long toRun = t.toNanos(time);
+        private final ArrayDeque<C> ready = new ArrayDeque<>();
+        private StreamSubscription upstream;
+        private C next = factory.get();
+        private long start = System.nanoTime();
+        private ScheduledFuture<?> timer;
+        private boolean upstreamComplete = false;
+        private boolean completed = false;
+        private boolean draining = false;
+        /*
+         * an upstream element has been requested and not yet received
+         */
+        private boolean pulling = false;
+        private boolean unbounded = false;
+        private boolean inPull = false;
+
+        ScheduledGrouping(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void start() {
+            synchronized (this) {
+                upstream = source.subscribe(this::onElement, this::onUpstreamError, this::onUpstreamComplete);
+                schedule(toRun);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if(n<=0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            if(!isOpen)
+                return;
+            super.request(n);
+            synchronized (this) {
+                drain();
+            }
+            pull();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (timer != null)
+                    timer.cancel(false);
+            }
+            if (upstream != null)
+                upstream.cancel();
+            super.cancel();
+        }
+
+        private void onElement(T e) {
+            synchronized (this) {
+                pulling = false;
+                try {
+                    next.add(e);
+                    if (next.size() >= groupSize || System.nanoTime() - start > toRun) {
+                        flush();
+                    }
+                } catch (Throwable t) {
+                    onError.accept(t);
+                }
+            }
+            pull();
+        }
+
+        private void onUpstreamError(Throwable t) {
+            synchronized (this) {
+                pulling = false;
+                onError.accept(t);
+                requested.decrementAndGet();
+            }
+            pull();
+        }
+
+        /*
+         * request the next upstream element, if the completed groups do not already cover the outstanding demand.
+         * upstream.request is called outside of the monitor, as a blocking upstream (e.g. a Queue) would otherwise
+         * stop the timer from emitting. Elements delivered synchronously from within upstream.request re-enter here
+         * and return, the loop requests the next element once upstream.request has returned
+         */
+        private void pull() {
+            for (;;) {
+                long n;
+                synchronized (this) {
+                    if (inPull || unbounded || pulling || upstreamComplete || !isOpen)
+                        return;
+                    long demand = requested.get();
+                    if (demand == Long.MAX_VALUE) {
+                        unbounded = true;
+                        n = Long.MAX_VALUE;
+                    } else if (ready.size() < demand) {
+                        pulling = true;
+                        n = 1l;
+                    } else {
+                        return;
+                    }
+                    inPull = true;
+                }
+                try {
+                    upstream.request(n);
+                } finally {
+                    synchronized (this) {
+                        inPull = false;
+                    }
+                }
+            }
+        }
+
+        private synchronized void onUpstreamComplete() {
+            if (next.size() > 0) {
+                ready.add(next);
+                next = factory.get();
+            }
+            upstreamComplete = true;
+            drain();
+        }
+
+        private synchronized void onTimer() {
+            if (!isOpen || completed)
+                return;
+            long elapsed = System.nanoTime() - start;
+            if (elapsed < toRun) {
+                schedule(toRun - elapsed);
+                return;
+            }
+            if (next.size() > 0) {
+                flush();
+            } else {
+                start = System.nanoTime();
+            }
+            schedule(toRun);
+        }
+
+        private void schedule(long delay) {
+            timer = ex.schedule(this::onTimer, delay, TimeUnit.NANOSECONDS);
+        }
+
+        private void flush() {
+            ready.add(next);
+            next = factory.get();
+            start = System.nanoTime();
+            drain();
+        }
+
+        private void drain() {
+            if (draining)
+                return;
+            draining = true;
+            try {
+                while (!ready.isEmpty() && requested.get() > 0 && isOpen) {
+                    C group = ready.poll();
+                    requested.decrementAndGet();
+                    try {
+                        onNext.accept(finalizer.apply(group));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                if (upstreamComplete && ready.isEmpty() && !completed) {
+                    completed = true;
+                    if (timer != null)
+                        timer.cancel(false);
+                    isOpen = false;
+                    onComplete.run();
+                }
+            } finally {
+                draining = false;
+            }
+        }
+    }
 }
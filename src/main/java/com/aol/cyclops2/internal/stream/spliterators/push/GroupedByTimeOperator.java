@@ -1,6 +1,7 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
 import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -17,23 +18,40 @@ public class GroupedByTimeOperator<T,C extends Collection<? super T>,R> extends
     private final Function<? super C, ? extends R> finalizer;
     private final long time;
     private final TimeUnit t;
+    private final ScheduledExecutorService ex;
 
     public GroupedByTimeOperator(Operator<T> source, Supplier<? extends C> factory,
                                  Function<? super C, ? extends R> finalizer,long time,
                                  TimeUnit t){
+        this(source,factory,finalizer,time,t,null);
+    }
+
+    /**
+     * @param ex If present, used to emit partially filled groups as soon as their time window expires, rather than
+     *           when the next element arrives
+     */
+    public GroupedByTimeOperator(Operator<T> source, Supplier<? extends C> factory,
+                                 Function<? super C, ? extends R> finalizer,long time,
+                                 TimeUnit t,ScheduledExecutorService ex){
         super(source);
         this.factory = factory;
         this.finalizer = finalizer;
         this.time = time;
         this.t = t;
+        this.ex = ex;
 
 
 
     }
 
+    private GroupedByTimeAndSizeOperator<T,C,R> scheduled(){
+        return new GroupedByTimeAndSizeOperator<T,C,R>(source,factory,finalizer,time,t,Integer.MAX_VALUE,ex);
+    }
 
     @Override
     public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        if(ex!=null)
+            return scheduled().subscribe(onNext,onError,onComplete);
         long toRun = t.toNanos(time);
         Collection[] next = {factory.get()};
         long[] start ={System.nanoTime()};
@@ -103,6 +121,10 @@ public class GroupedByTimeOperator<T,C extends Collection<? super T>,R> extends
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        if(ex!=null){
+            scheduled().subscribeAll(onNext,onError,onCompleteDs);
+            return;
+        }
         long toRun = t.toNanos(time);
         Collection[] next = {factory.get()};
         long[] start ={System.nanoTime()};
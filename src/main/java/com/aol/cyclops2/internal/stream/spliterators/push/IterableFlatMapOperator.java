@@ -78,8 +78,10 @@ public class IterableFlatMapOperator<T,R> extends BaseOperator<T,R> {
 
                                 return;
                             }
+                            long budget = res.requested.get();
+                            long emitted = 0;
                             try {
-                                while (res.isActive()) {
+                                while (res.isOpen && budget > 0) {
                                     try {
 
                                         canAdvance = split.tryAdvance(onNext);
@@ -89,7 +91,10 @@ public class IterableFlatMapOperator<T,R> extends BaseOperator<T,R> {
                                     }
 
                                     if (canAdvance) {
-                                        res.requested.decrementAndGet();
+                                        if (++emitted == budget) { //demand is accounted for once per batch
+                                            budget = res.produced(emitted);
+                                            emitted = 0;
+                                        }
 
                                     } else {
 
@@ -113,6 +118,7 @@ public class IterableFlatMapOperator<T,R> extends BaseOperator<T,R> {
 
                                 }
                             }finally{
+                                res.produced(emitted);
                                 advancing.set(0);
                             }
                             if(!canAdvance && res.isActive() && !(status.get()>=100)) {
@@ -1,5 +1,8 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
+import cyclops.async.HashedWheelTimer;
+
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -13,24 +16,34 @@ public class LimitWhileTimeOperator<T,R> extends BaseOperator<T,T> {
 
     private final long time;
     private final TimeUnit t;
+    private final ScheduledExecutorService ex;
     public LimitWhileTimeOperator(Operator<T> source, final long time, final TimeUnit t){
+        this(source,time,t,HashedWheelTimer.shared());
+    }
+
+    /**
+     * @param ex Used to schedule a hint that the time limit has expired, elements arriving before the hint compare
+     *           System.nanoTime() against the limit so a late (or never run) timer task cannot extend it
+     */
+    public LimitWhileTimeOperator(Operator<T> source, final long time, final TimeUnit t, ScheduledExecutorService ex){
         super(source);
         this.time = time;
         this.t = t;
+        this.ex = ex;
+    }
 
-
-
+    private Expiry expiry(){
+        return new Expiry(t.toNanos(time),ex);
     }
 
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
-        final  long toRun = t.toNanos(time);
-        final  long start = System.nanoTime();
+        Expiry expired = expiry();
         StreamSubscription sub[] = {null};
         sub[0] = source.subscribe(e-> {
                     try {
 
-                        if(System.nanoTime()-start < toRun)
+                        if(!expired.isExpired())
                             onNext.accept(e);
                         else{
 
@@ -49,12 +62,11 @@ public class LimitWhileTimeOperator<T,R> extends BaseOperator<T,T> {
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
-        final  long toRun = t.toNanos(time);
-        final  long start = System.nanoTime();
+        Expiry expired = expiry();
         source.subscribeAll(e-> {
                     try {
 
-                        if(System.nanoTime()-start < toRun)
+                        if(!expired.isExpired())
                             onNext.accept(e);
                         else{
 
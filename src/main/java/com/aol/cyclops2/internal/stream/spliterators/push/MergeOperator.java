@@ -0,0 +1,50 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+
+/**
+ * Merges a fixed set of sources, each source is prefetched into its own bounded buffer (see
+ * {@link PrefetchingMergeSubscription})
+ */
+public class MergeOperator<IN> implements Operator<IN> {
+
+    /**
+     * Number of elements prefetched from each source
+     */
+    public static final int DEFAULT_PREFETCH = 32;
+
+    private final Operator<IN>[] operators;
+    private final int prefetch;
+
+    public MergeOperator(Operator<IN>[] sources){
+        this(sources,DEFAULT_PREFETCH);
+    }
+    public MergeOperator(Operator<IN>[] sources, int prefetch){
+        this.operators=sources;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super IN> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrefetchingMergeSubscription<IN> sub = new PrefetchingMergeSubscription<IN>(onNext,onError,onComplete,prefetch){
+            @Override
+            void replenishOuter() {
+
+            }
+
+            @Override
+            void cancelOuter() {
+
+            }
+        };
+        for(Operator<IN> next : operators)
+            sub.addInner(next);
+        sub.outerComplete();
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super IN> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -2,11 +2,13 @@ package com.aol.cyclops2.internal.stream.spliterators.push;
 
 import com.aol.cyclops2.util.ExceptionSoftener;
 import lombok.Setter;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
@@ -18,20 +20,40 @@ import java.util.function.Function;
  */
 public class OperatorToIterable<T,R>  implements Iterable<T> {
 
+    /**
+     * Number of elements requested at a time when draining an async Operator via forEachRemaining
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
     Operator<T> source;
     final Consumer<? super Throwable> defaultErrorHandler;
     final boolean async;
+    final int batchSize;
 
     public OperatorToIterable(Operator<T> source, Consumer<? super Throwable> defaultErrorHandler){
        this.source= source;
        this.defaultErrorHandler = defaultErrorHandler;
        async=false;
+       batchSize = DEFAULT_BATCH_SIZE;
 
     }
     public OperatorToIterable(Operator<T> source, Consumer<? super Throwable> defaultErrorHandler,boolean async){
         this.source= source;
         this.defaultErrorHandler = defaultErrorHandler;
         this.async = async;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+
+    }
+
+    /**
+     * @param batchSize Demand signalled per batch when an async Operator is drained via forEachRemaining, a batchSize
+     *                  of 1 requests one element at a time
+     */
+    public OperatorToIterable(Operator<T> source, Consumer<? super Throwable> defaultErrorHandler,boolean async,int batchSize){
+        this.source= source;
+        this.defaultErrorHandler = defaultErrorHandler;
+        this.async = async;
+        this.batchSize = batchSize;
 
     }
 
@@ -43,10 +65,23 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
             final AtomicBoolean done = new AtomicBoolean(false);
             volatile boolean requested = false;
             volatile  boolean awaiting = false;
+            volatile OneToOneConcurrentArrayQueue<Object> batch = null;
+            final ConcurrentLinkedQueue<Object> overflow = new ConcurrentLinkedQueue<>();
+            boolean started = false;
             StreamSubscription sub = source.subscribe(e ->{
+                OneToOneConcurrentArrayQueue<Object> b = batch;
+                if(b!=null) {
+                    handOff(b,e == null ? NULL : e);
+                    return;
+                }
                 value.set(e);
                 awaiting = false;
             } , e -> {
+                OneToOneConcurrentArrayQueue<Object> b = batch;
+                if(b!=null) {
+                    handOff(b,new Failure(e));
+                    return;
+                }
                 error.set(e);
                 awaiting = false;
             }, () -> {
@@ -56,12 +91,60 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
             });
 
             public void forEachRemaining(Consumer<? super T> action) {
-                if(async)
-                    Iterator.super.forEachRemaining(action);
+                if(async) {
+                    if(batchSize>1 && !started)
+                        drainBatched(action);
+                    else
+                        Iterator.super.forEachRemaining(action);
+                }
                 else
                       source.subscribeAll(action,defaultErrorHandler,()->{});
             }
 
+            /*
+             * Elements an Operator delivers beyond the capacity of the batch queue (i.e. well beyond the demand signalled)
+             * are moved to the unbounded overflow queue, rather than dropped. While the overflow queue is non-empty all
+             * further elements are added to it, so the consumer sees every element in the batch queue before those
+             * in the overflow queue
+             */
+            private void handOff(OneToOneConcurrentArrayQueue<Object> b,Object next){
+                if(!overflow.isEmpty() || !b.offer(next))
+                    overflow.add(next);
+            }
+
+            /*
+             * Demand is signalled in batches and elements are handed over via a bounded SPSC queue, so the per element
+             * request / await round trip between the consuming and producing threads is avoided. Demand for the next
+             * batch is signalled once half of the current batch has been consumed.
+             */
+            private void drainBatched(Consumer<? super T> action){
+                started = true;
+                OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(batchSize*2); //slack for Operators that overshoot demand
+                batch = queue;
+                long outstanding = 0;
+                for(;;){
+                    if(outstanding <= batchSize/2 && !done.get()){
+                        long n = batchSize - Math.max(outstanding,0);
+                        outstanding = batchSize;
+                        sub.request(n);
+                    }
+                    Object next = queue.poll();
+                    if(next==null)
+                        next = overflow.poll();
+                    if(next==null){
+                        if(done.get() && queue.isEmpty() && overflow.isEmpty())
+                            return;
+                        LockSupport.parkNanos(0l);
+                        continue;
+                    }
+                    outstanding--;
+                    if(next instanceof Failure)
+                        defaultErrorHandler.accept(((Failure)next).error);
+                    else
+                        action.accept(next==NULL ? null : (T)next);
+                }
+            }
+
 
             boolean unRead(){
                 return (value.get()!=UNSET || error.get()!=UNSET);
@@ -73,6 +156,7 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
             }
             @Override
             public boolean hasNext() {
+                started = true;
                 if(complete())
                     return false;
                 if (!requested) {
@@ -108,5 +192,15 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
         };
     }
 
+    private static final Object NULL = new Object();
+
+    private static final class Failure {
+        final Throwable error;
+
+        Failure(Throwable error) {
+            this.error = error;
+        }
+    }
+
 
 }
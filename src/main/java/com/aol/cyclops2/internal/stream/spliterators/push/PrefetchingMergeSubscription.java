@@ -0,0 +1,346 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Merges a dynamic set of inner sources. Each inner source has a small single producer / single consumer prefetch
+ * buffer, which is replenished in batches as it is drained. A work in progress counter ensures only one thread drains
+ * the buffers (round robin) and emits downstream at a time, so emission is serialised without a shared queue or wait
+ * strategy and memory is bounded per inner source. Errors are emitted in place of an element and count against
+ * downstream demand.
+ *
+ * Inner sources that are push Operators follow the Operator convention, errors are not terminal and the source may
+ * continue emitting. For any other Publisher onError is terminal for that inner source (Reactive Streams 1.7), it is
+ * removed once the error has been emitted, making room for another inner source.
+ *
+ * Inner sources that ignore backpressure overflow into an unbounded queue rather than blocking. Nothing is requested
+ * from an inner source until there is downstream demand, so sources that share an upstream subscription (e.g.
+ * multicast) are all subscribed before any of them emit.
+ */
+abstract class PrefetchingMergeSubscription<R> extends StreamSubscription {
+
+    private static final Object NULL = new Object();
+
+    private final Consumer<? super R> onNext;
+    private final Consumer<? super Throwable> onError;
+    private final Runnable onComplete;
+    private final int prefetch;
+    private final int limit;
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private final ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+    private volatile Inner[] inners = newInners(0);
+    private volatile boolean outerComplete = false;
+    private boolean completed = false;
+    private int index = 0;
+
+    PrefetchingMergeSubscription(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete, int prefetch) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+        this.prefetch = Math.max(1, prefetch);
+        this.limit = Math.max(1, this.prefetch - (this.prefetch >> 2));
+    }
+
+    /**
+     * Called when there is capacity for another inner source, e.g. (on the draining thread) when an inner source has
+     * completed and all of its elements have been emitted
+     */
+    abstract void replenishOuter();
+
+    /**
+     * Called when downstream cancels
+     */
+    abstract void cancelOuter();
+
+    void addInner(Publisher<? extends R> publisher) {
+        Inner inner = add();
+        if (inner == null)
+            return;
+        if (publisher instanceof ReactiveStreamX) {
+            Operator<R> op = ((ReactiveStreamX<R>) publisher).getSource();
+            inner.onSubscribe(op.subscribe(inner::onNext, inner::onErrorElement, inner::onComplete));
+        } else {
+            ((Publisher<R>) publisher).subscribe(inner);
+        }
+    }
+
+    void addInner(Operator<R> op) {
+        Inner inner = add();
+        if (inner != null)
+            inner.onSubscribe(op.subscribe(inner::onNext, inner::onErrorElement, inner::onComplete));
+    }
+
+    private Inner[] newInners(int size) {
+        return (Inner[]) new PrefetchingMergeSubscription.Inner[size];
+    }
+
+    private synchronized Inner add() {
+        if (!isOpen)
+            return null;
+        Inner inner = new Inner();
+        Inner[] current = inners;
+        Inner[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = inner;
+        inners = next;
+        return inner;
+    }
+
+    private synchronized void remove(Inner inner) {
+        Inner[] current = inners;
+        int n = current.length;
+        for (int i = 0; i < n; i++) {
+            if (current[i] == inner) {
+                Inner[] next = newInners(n - 1);
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, n - i - 1);
+                inners = next;
+                return;
+            }
+        }
+    }
+
+    void outerError(Throwable t) {
+        errors.offer(t);
+        drain();
+    }
+
+    /**
+     * No more inner sources will be added
+     */
+    void outerComplete() {
+        outerComplete = true;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+            return;
+        }
+        super.request(n);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        Inner[] current;
+        synchronized (this) {
+            super.cancel();
+            current = inners;
+            inners = newInners(0);
+        }
+        for (Inner inner : current)
+            inner.cancel();
+        cancelOuter();
+    }
+
+    void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        try {
+            drainLoop();
+        } catch (Throwable t) {
+            wip.set(0); //error handlers may rethrow, allow the next signal to resume draining
+            throw t;
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (!isOpen)
+                return;
+            Inner[] current = inners;
+            int n = current.length;
+            long r = requested.get();
+            if (r > 0) {
+                for (Inner inner : current)
+                    inner.start();
+            }
+            long emitted = 0;
+            int start = n == 0 ? 0 : (index++ & Integer.MAX_VALUE) % n;
+            boolean found = true;
+            while (found && emitted < r) {
+                found = false;
+                for (int i = 0; i < n && emitted < r; i++) {
+                    Inner inner = current[(start + i) % n];
+                    Object next = inner.poll();
+                    if (next == null)
+                        continue;
+                    found = true;
+                    emitted++;
+                    if (next instanceof ErrorSignal) {
+                        onError.accept(((ErrorSignal) next).error);
+                    } else {
+                        try {
+                            onNext.accept(next == NULL ? null : (R) next);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                    }
+                    if (!isOpen)
+                        return;
+                    inner.consumed();
+                }
+                if (emitted < r) {
+                    Throwable error = errors.poll();
+                    if (error != null) {
+                        found = true;
+                        emitted++;
+                        onError.accept(error);
+                        if (!isOpen)
+                            return;
+                    }
+                }
+            }
+            if (emitted > 0)
+                produced(emitted);
+
+            for (Inner inner : current) {
+                if (inner.done && inner.isEmpty()) {
+                    remove(inner);
+                    replenishOuter();
+                }
+            }
+            if (outerComplete && inners.length == 0 && errors.isEmpty() && !completed) {
+                completed = true;
+                isOpen = false;
+                onComplete.run();
+                return;
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                return;
+        }
+    }
+
+    private static final class ErrorSignal {
+        final Throwable error;
+
+        ErrorSignal(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private final class Inner implements Subscriber<R> {
+        private final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch);
+        private volatile ConcurrentLinkedQueue<Object> overflow;
+        private volatile Subscription sub;
+        private volatile boolean done = false;
+        private boolean started = false;
+        private int consumed = 0;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            sub = s;
+            if (!isOpen) {
+                s.cancel();
+                return;
+            }
+            drain();
+        }
+
+        /*
+         * Only called by the draining thread, once there is downstream demand
+         */
+        void start() {
+            Subscription s = sub;
+            if (!started && s != null) {
+                started = true;
+                s.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(R r) {
+            if (done)
+                return;
+            enqueue(r == null ? NULL : r);
+            drain();
+        }
+
+        /*
+         * Terminal, the error is queued before marking this inner source done so it is emitted before removal
+         */
+        @Override
+        public void onError(Throwable t) {
+            if (done)
+                return;
+            enqueue(new ErrorSignal(t));
+            done = true;
+            drain();
+        }
+
+        /*
+         * Operator convention, the error replaces an element and the source may continue
+         */
+        void onErrorElement(Throwable t) {
+            if (done)
+                return;
+            enqueue(new ErrorSignal(t));
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        /*
+         * Only called by the (single) producing thread of this inner source
+         */
+        private void enqueue(Object o) {
+            if (overflow != null && !overflow.isEmpty()) {
+                overflow.offer(o);
+            } else if (!queue.offer(o)) {
+                if (overflow == null)
+                    overflow = new ConcurrentLinkedQueue<>();
+                overflow.offer(o);
+            }
+        }
+
+        Object poll() {
+            Object next = queue.poll();
+            if (next == null) {
+                ConcurrentLinkedQueue<Object> o = overflow;
+                if (o != null)
+                    next = o.poll();
+            }
+            return next;
+        }
+
+        boolean isEmpty() {
+            ConcurrentLinkedQueue<Object> o = overflow;
+            return queue.isEmpty() && (o == null || o.isEmpty());
+        }
+
+        /*
+         * Replenish in batches, rather than requesting one element for each element emitted
+         */
+        void consumed() {
+            Subscription s = sub;
+            if (++consumed >= limit && s != null && !done) {
+                long n = consumed;
+                consumed = 0;
+                s.request(n);
+            }
+        }
+
+        void cancel() {
+            Subscription s = sub;
+            if (s != null)
+                s.cancel();
+        }
+    }
+}
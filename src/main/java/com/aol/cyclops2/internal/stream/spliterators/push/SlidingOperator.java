@@ -1,9 +1,7 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
-import cyclops.collections.box.Mutable;
+import com.aol.cyclops2.internal.stream.spliterators.Window;
 import cyclops.collections.immutable.PVectorX;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import java.util.Collection;
 import java.util.function.Consumer;
@@ -20,14 +18,25 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
     private final Function<? super PVectorX<T>, ? extends R> finalizer;
     private final int windowSize;
     private final int increment;
+    private final boolean transientViews;
 
     public SlidingOperator(Operator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
                            int windowSize, int increment){
+        this(source,finalizer,windowSize,increment,false);
+    }
+
+    /**
+     * @param transientViews If true the finalizer is passed a view over the window buffer that is only valid during the
+     *                       call, rather than an immutable copy of the window
+     */
+    public SlidingOperator(Operator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
+                           int windowSize, int increment, boolean transientViews){
         super(source);
 
         this.finalizer = finalizer;
         this.windowSize = windowSize;
-        this.increment = increment;
+        this.increment = Window.checkIncrement(increment);
+        this.transientViews = transientViews;
 
 
 
@@ -62,19 +71,16 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                 super.cancel();
             }
         };
-        final Mutable<PVector<T>> list = cyclops.collections.box.Mutable.of(TreePVector.empty());
+        final Window<T> window = new Window<>(windowSize,increment,transientViews);
         boolean[] sent = {false};
         upstream[0] = source.subscribe(e-> {
                     try {
-                        list.mutate(var -> var.plus(Math.max(0, var.size()),e));
-                        if(list.get().size()==windowSize) {
+                        if(window.add(e)) {
 
-                            onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                            onNext.accept(finalizer.apply(window.window()));
                             sub.requested.decrementAndGet();
                             sent[0] = true;
-                            for (int i = 0; i < increment && list.get()
-                                    .size() > 0; i++)
-                                list.mutate(var -> var.minus(0));
+                            window.slide();
                         }else if(sub.isOpen){
                             upstream[0].request(1l);
                             sent[0]=false;
@@ -92,8 +98,8 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                     if(sub.isActive())
                         upstream[0].request(1);
                 },()->{
-                    if(!sent[0] && list.get().size()>0)
-                        onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                    if(!sent[0] && !window.isEmpty())
+                        onNext.accept(finalizer.apply(window.window()));
                     sub.requested.decrementAndGet();
                     onComplete.run();
                 });
@@ -102,18 +108,15 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        final Mutable<PVector<T>> list = cyclops.collections.box.Mutable.of(TreePVector.empty());
+        final Window<T> window = new Window<>(windowSize,increment,transientViews);
         boolean[] sent = {false};
         source.subscribeAll(e-> {
                     try {
-                        list.mutate(var -> var.plus(Math.max(0, var.size()),e));
-                        if(list.get().size()==windowSize) {
+                        if(window.add(e)) {
 
-                            onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                            onNext.accept(finalizer.apply(window.window()));
                             sent[0] = true;
-                            for (int i = 0; i < increment && list.get()
-                                    .size() > 0; i++)
-                                list.mutate(var -> var.minus(0));
+                            window.slide();
                         }else{
                             sent[0]=false;
                         }
@@ -125,8 +128,8 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                     }
                 }
                 ,onError,()->{
-                    if(!sent[0]  && list.get().size()>0)
-                        onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                    if(!sent[0]  && !window.isEmpty())
+                        onNext.accept(finalizer.apply(window.window()));
                     onCompleteDs.run();
                 });
     }
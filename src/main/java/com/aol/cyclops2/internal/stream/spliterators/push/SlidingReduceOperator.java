@@ -0,0 +1,108 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.internal.stream.spliterators.MonoidWindow;
+import cyclops.function.Monoid;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Emits the Monoid aggregate of each sliding window (with an increment of 1), maintained incrementally by a
+ * {@link MonoidWindow} rather than recomputed per window.
+ */
+public class SlidingReduceOperator<T,R> extends BaseOperator<T,R> {
+
+
+    private final Function<? super T, ? extends R> mapper;
+    private final Monoid<R> monoid;
+    private final int windowSize;
+
+    public SlidingReduceOperator(Operator<T> source, Function<? super T, ? extends R> mapper,
+                                 Monoid<R> monoid, int windowSize){
+        super(source);
+
+        this.mapper = mapper;
+        this.monoid = monoid;
+        this.windowSize = windowSize;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                upstream[0].request(n);
+
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        final MonoidWindow<R> window = new MonoidWindow<>(monoid,windowSize);
+        boolean[] sent = {false};
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        if(window.add(mapper.apply(e))) {
+                            onNext.accept(window.aggregate());
+                            sub.requested.decrementAndGet();
+                            sent[0] = true;
+                        }else if(sub.isOpen){
+                            upstream[0].request(1l);
+                        }
+
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,t->{
+                    onError.accept(t);
+                    sub.requested.decrementAndGet();
+                    if(sub.isActive())
+                        upstream[0].request(1);
+                },()->{
+                    if(!sent[0] && !window.isEmpty())
+                        onNext.accept(window.aggregate());
+                    sub.requested.decrementAndGet();
+                    onComplete.run();
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        final MonoidWindow<R> window = new MonoidWindow<>(monoid,windowSize);
+        boolean[] sent = {false};
+        source.subscribeAll(e-> {
+                    try {
+                        if(window.add(mapper.apply(e))) {
+                            onNext.accept(window.aggregate());
+                            sent[0] = true;
+                        }
+
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!sent[0]  && !window.isEmpty())
+                        onNext.accept(window.aggregate());
+                    onCompleteDs.run();
+                });
+    }
+}
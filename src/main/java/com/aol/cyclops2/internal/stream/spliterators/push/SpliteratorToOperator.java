@@ -27,12 +27,16 @@ public class SpliteratorToOperator<T> implements Operator<T> {
             LongConsumer work = n-> {
 
 
-                    while(isActive() && canAdvance[0]) {
+                    long budget = requested.get();
+                    long emitted = 0;
+                    while(isOpen && budget>0 && canAdvance[0]) {
                         try {
 
                             canAdvance[0] = split.tryAdvance(onNext);
-                            if(canAdvance[0])
-                                requested.decrementAndGet();
+                            if(canAdvance[0] && ++emitted==budget) { //demand is accounted for once per batch
+                                budget = produced(emitted);
+                                emitted = 0;
+                            }
 
 
                         } catch (Throwable t) {
@@ -40,6 +44,7 @@ public class SpliteratorToOperator<T> implements Operator<T> {
                             onError.accept(t);
                         }
                     }
+                    produced(emitted);
                     if(!canAdvance[0] || !isOpen) {
                         if(!closed[0]) {
                             closed[0] = true;
@@ -47,6 +47,27 @@ public class StreamSubscription implements Subscription {
     }
 
 
+    /**
+     * Bulk demand accounting, record that n elements have been emitted against the outstanding demand in a single
+     * atomic operation (rather than one per element). Unbounded demand (Long.MAX_VALUE) is never decremented.
+     *
+     * @param n Number of elements emitted since the last call
+     * @return Remaining demand, including any demand signalled concurrently
+     */
+    public long produced(long n){
+        for (; ; ) {
+            long currentRequests = requested.get();
+            if (Long.MAX_VALUE==currentRequests || n==0) {
+                return currentRequests;
+            }
+            long remaining = Math.max(0,currentRequests - n);
+            if (requested.compareAndSet(currentRequests, remaining)) {
+                return remaining;
+            }
+
+        }
+    }
+
     @Override
     public void request(long n) {
         requestInternal(n);
@@ -0,0 +1,255 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Zips any number of sources. Each source has a small single producer / single consumer prefetch buffer that is
+ * replenished in batches as it is drained, producers never wait for one another. A work in progress counter ensures
+ * only one thread combines the heads of the buffers and emits downstream at a time.
+ *
+ * Errors are emitted (in order) when there is outstanding demand, but do not count against it. The zip completes when
+ * any source has completed and all of its elements have been zipped.
+ */
+final class ZipSubscription<R> extends StreamSubscription {
+
+    static final int DEFAULT_PREFETCH = 32;
+
+    private static final Object NULL = new Object();
+
+    private final Consumer<? super R> onNext;
+    private final Consumer<? super Throwable> onError;
+    private final Runnable onComplete;
+    private final Function<Object[], ? extends R> zipper;
+    private final Operator<?>[] sources;
+    private final Side[] sides;
+    private final Object[] heads;
+    private final int prefetch;
+    private final int limit;
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private boolean completed = false;
+
+    private ZipSubscription(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
+                            int prefetch, Function<Object[], ? extends R> zipper, Operator<?>[] sources) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+        this.zipper = zipper;
+        this.sources = sources;
+        this.prefetch = Math.max(1, prefetch);
+        this.limit = Math.max(1, this.prefetch - (this.prefetch >> 2));
+        this.sides = (Side[]) new ZipSubscription.Side[sources.length];
+        for (int i = 0; i < sides.length; i++)
+            sides[i] = new Side();
+        this.heads = new Object[sources.length];
+    }
+
+    /**
+     * Subscribe to each source and zip their elements with the supplied function. The array passed to the zipper is
+     * reused for each element and should not be retained.
+     */
+    static <R> StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete,
+                                            int prefetch, Function<Object[], ? extends R> zipper, Operator<?>... sources) {
+        ZipSubscription<R> sub = new ZipSubscription<>(onNext, onError, onComplete, prefetch, zipper, sources);
+        sub.start();
+        return sub;
+    }
+
+    private void start() {
+        for (int i = 0; i < sources.length && isOpen; i++) {
+            Side side = sides[i];
+            side.onSubscribe(((Operator<Object>) sources[i]).subscribe(side::onNext, side::onError, side::onComplete));
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+            return;
+        }
+        super.request(n);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        super.cancel();
+        for (Side side : sides)
+            side.cancel();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        try {
+            drainLoop();
+        } catch (Throwable t) {
+            wip.set(0); //error handlers may rethrow, allow the next signal to resume draining
+            throw t;
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (!isOpen)
+                return;
+            long r = requested.get();
+            long emitted = 0;
+            while (emitted < r) {
+                boolean ready = true;
+                for (Side side : sides) {
+                    Object head;
+                    while ((head = side.peek()) instanceof ErrorSignal) {
+                        side.poll();
+                        side.consumed();
+                        onError.accept(((ErrorSignal) head).error);
+                        if (!isOpen)
+                            return;
+                    }
+                    if (head == null)
+                        ready = false;
+                }
+                if (!ready)
+                    break;
+                for (int i = 0; i < sides.length; i++) {
+                    Object next = sides[i].poll();
+                    heads[i] = next == NULL ? null : next;
+                    sides[i].consumed();
+                }
+                emitted++;
+                try {
+                    onNext.accept(zipper.apply(heads));
+                } catch (Throwable t) {
+                    onError.accept(t);
+                } finally {
+                    Arrays.fill(heads, null);
+                }
+                if (!isOpen)
+                    return;
+            }
+            if (emitted > 0)
+                produced(emitted);
+
+            for (Side side : sides) {
+                if (side.done && side.isEmpty()) {
+                    complete();
+                    return;
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                return;
+        }
+    }
+
+    private void complete() {
+        if (completed)
+            return;
+        completed = true;
+        cancel();
+        onComplete.run();
+    }
+
+    private static final class ErrorSignal {
+        final Throwable error;
+
+        ErrorSignal(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private final class Side {
+        private final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch);
+        private volatile ConcurrentLinkedQueue<Object> overflow;
+        private volatile StreamSubscription sub;
+        private volatile boolean done = false;
+        private int consumed = 0;
+
+        void onSubscribe(StreamSubscription s) {
+            sub = s;
+            if (!isOpen) {
+                s.cancel();
+                return;
+            }
+            s.request(prefetch);
+        }
+
+        void onNext(Object e) {
+            offer(e == null ? NULL : e);
+        }
+
+        void onError(Throwable t) {
+            offer(new ErrorSignal(t));
+        }
+
+        void onComplete() {
+            done = true;
+            drain();
+        }
+
+        /*
+         * Only called by the (single) producing thread of this source, sources that ignore backpressure overflow
+         * into an unbounded queue rather than blocking
+         */
+        private void offer(Object o) {
+            if (overflow != null && !overflow.isEmpty()) {
+                overflow.offer(o);
+            } else if (!queue.offer(o)) {
+                if (overflow == null)
+                    overflow = new ConcurrentLinkedQueue<>();
+                overflow.offer(o);
+            }
+            drain();
+        }
+
+        Object peek() {
+            Object next = queue.peek();
+            if (next == null) {
+                ConcurrentLinkedQueue<Object> o = overflow;
+                if (o != null)
+                    next = o.peek();
+            }
+            return next;
+        }
+
+        Object poll() {
+            Object next = queue.poll();
+            if (next == null) {
+                ConcurrentLinkedQueue<Object> o = overflow;
+                if (o != null)
+                    next = o.poll();
+            }
+            return next;
+        }
+
+        boolean isEmpty() {
+            ConcurrentLinkedQueue<Object> o = overflow;
+            return queue.isEmpty() && (o == null || o.isEmpty());
+        }
+
+        /*
+         * Replenish in batches, rather than requesting one element for each element zipped
+         */
+        void consumed() {
+            StreamSubscription s = sub;
+            if (++consumed >= limit && s != null && !done) {
+                long n = consumed;
+                consumed = 0;
+                s.request(n);
+            }
+        }
+
+        void cancel() {
+            StreamSubscription s = sub;
+            if (s != null)
+                s.cancel();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Emits the values of a double[] without boxing
+ */
+public class DoubleArrayOperator implements DoubleOperator {
+
+
+    final double[] values;
+
+
+    public DoubleArrayOperator(double... values){
+        this.values = values;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        int[] index ={0};
+        AtomicBoolean completeSent = new AtomicBoolean(false);
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n->{
+                if (n == Long.MAX_VALUE) {
+                    pushAll();
+
+                    return;
+                }
+                long reqs = n;
+                int delivered = 0;
+                do{
+
+
+                    while (delivered < reqs && index[0] < values.length) {
+                        if (!isOpen)
+                            return;
+                        onNext.accept(values[index[0]++]);
+                        delivered++;
+
+                    }
+
+
+                    if (index[0] >= values.length) {
+                        if (!completeSent.get()) {
+                            completeSent.set(true);
+                            onComplete.run();
+                            cancel();
+                            return;
+                        }
+
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+
+                    }
+
+                }while(true);
+
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+
+            }
+
+            private void pushAll() {
+                int local = index[0];
+                for (; local < values.length; local++) {
+                    if(!isOpen)
+                        break;
+                    onNext.accept(values[local]);
+                }
+
+                if(!completeSent.get()) {
+                    completeSent.set(true);
+                    onComplete.run();
+                    cancel();
+                }
+            }
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        for(int i=0;i<values.length;i++)
+            onNext.accept(values[i]);
+        onCompleteDs.run();
+    }
+}
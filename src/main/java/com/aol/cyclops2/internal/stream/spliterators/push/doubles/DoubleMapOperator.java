@@ -0,0 +1,54 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Unboxed map over a DoubleOperator
+ */
+public class DoubleMapOperator implements DoubleOperator {
+
+    final DoubleOperator source;
+    final DoubleUnaryOperator mapper;
+
+    public DoubleMapOperator(DoubleOperator source, DoubleUnaryOperator mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+    public DoubleMapOperator compose(DoubleUnaryOperator fn){
+        return new DoubleMapOperator(source,mapper.andThen(fn));
+    }
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsDouble(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsDouble(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,18 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Push based source of unboxed double values, the primitive counterpart of
+ * {@link com.aol.cyclops2.internal.stream.spliterators.push.Operator}
+ */
+public interface DoubleOperator {
+
+
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,63 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Zips a DoubleOperator with a primitive iterator, completing when either side is exhausted
+ */
+public class DoubleZippingOperator implements DoubleOperator {
+
+    final DoubleOperator left;
+    final Supplier<? extends PrimitiveIterator.OfDouble> right;
+    final DoubleBinaryOperator zipper;
+
+    public DoubleZippingOperator(DoubleOperator left, Supplier<? extends PrimitiveIterator.OfDouble> right, DoubleBinaryOperator zipper){
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrimitiveIterator.OfDouble it = right.get();
+        boolean[] completed = {false};
+        StreamSubscription[] upstream = {null};
+        upstream[0] = left.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        if(it.hasNext())
+                            onNext.accept(zipper.applyAsDouble(e, it.nextDouble()));
+                        else{
+                            completed[0] = true;
+                            upstream[0].cancel();
+                            onComplete.run();
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]) {
+                        completed[0] = true;
+                        onComplete.run();
+                    }
+                });
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //subscribeAll can't be cancelled when the right hand side is exhausted
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,18 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Push based source of unboxed int values, the primitive counterpart of
+ * {@link com.aol.cyclops2.internal.stream.spliterators.push.Operator}
+ */
+public interface IntOperator {
+
+
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,63 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Zips a IntOperator with a primitive iterator, completing when either side is exhausted
+ */
+public class IntZippingOperator implements IntOperator {
+
+    final IntOperator left;
+    final Supplier<? extends PrimitiveIterator.OfInt> right;
+    final IntBinaryOperator zipper;
+
+    public IntZippingOperator(IntOperator left, Supplier<? extends PrimitiveIterator.OfInt> right, IntBinaryOperator zipper){
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrimitiveIterator.OfInt it = right.get();
+        boolean[] completed = {false};
+        StreamSubscription[] upstream = {null};
+        upstream[0] = left.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        if(it.hasNext())
+                            onNext.accept(zipper.applyAsInt(e, it.nextInt()));
+                        else{
+                            completed[0] = true;
+                            upstream[0].cancel();
+                            onComplete.run();
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]) {
+                        completed[0] = true;
+                        onComplete.run();
+                    }
+                });
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //subscribeAll can't be cancelled when the right hand side is exhausted
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,18 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Push based source of unboxed long values, the primitive counterpart of
+ * {@link com.aol.cyclops2.internal.stream.spliterators.push.Operator}
+ */
+public interface LongOperator {
+
+
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
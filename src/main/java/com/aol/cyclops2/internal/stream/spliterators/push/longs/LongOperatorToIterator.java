@@ -0,0 +1,75 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Pulls values one at a time from a LongOperator (see {@link com.aol.cyclops2.internal.stream.spliterators.push.OperatorToIterable}),
+ * the current value is held unboxed.
+ */
+public class LongOperatorToIterator implements PrimitiveIterator.OfLong {
+
+    private final Consumer<? super Throwable> defaultErrorHandler;
+    private final StreamSubscription sub;
+
+    private long value;
+    private volatile boolean available = false;
+    private volatile Throwable error = null;
+    private volatile boolean done = false;
+    private volatile boolean requested = false;
+    private volatile boolean awaiting = false;
+
+    public LongOperatorToIterator(LongOperator source, Consumer<? super Throwable> defaultErrorHandler){
+        this.defaultErrorHandler = defaultErrorHandler;
+        this.sub = source.subscribe(e ->{
+            value = e;
+            available = true;
+            awaiting = false;
+        } , e -> {
+            error = e;
+            awaiting = false;
+        }, () -> {
+            done = true;
+            awaiting = false;
+        });
+    }
+
+    private boolean unRead(){
+        return available || error!=null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(done && !unRead())
+            return false;
+        if (!requested) {
+            awaiting = true;
+            requested = true;
+            sub.request(1l);
+            while(awaiting && !done){
+                LockSupport.parkNanos(0l);
+            }
+        }
+        return !done || unRead();
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        requested = false;
+        if (error != null) {
+            Throwable t = error;
+            error = null;
+            defaultErrorHandler.accept(t);
+            return nextLong();
+        }
+        available = false;
+        return value;
+    }
+}
@@ -0,0 +1,112 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Emits the long values from start (inclusive) to end (exclusive) without boxing
+ */
+public class LongRangeOperator implements LongOperator {
+
+
+    final long start;
+    final long end;
+
+    public LongRangeOperator(long start, long end){
+        this.start = start;
+        this.end = end;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        long[] index = {start};
+        AtomicBoolean completed = new AtomicBoolean(false);
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work =  n ->{
+                if(n==Long.MAX_VALUE) {
+                    pushAll();
+                    return;
+                }
+                long reqs = n;
+                long delivered = 0;
+                do {
+
+                    while (delivered < reqs && index[0] < end) {
+                        if (!isOpen)
+                            return;
+                        try {
+                            onNext.accept(index[0]++);
+                            delivered++;
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+
+                    }
+                    if (index[0] == end) {
+                        if (!completed.get()) {
+                            completed.set(true);
+                            onComplete.run();
+                            cancel();
+                            return;
+                        }
+
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+                }while(true);
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+            }
+            private void pushAll() {
+                for(;index[0]<end;index[0]++){
+
+                    try {
+                        if(isOpen)
+                            onNext.accept(index[0]);
+                        else
+                            break;
+                    }catch(Throwable t){
+                        onError.accept(t);
+                    }
+                }
+                if(index[0]==end){
+                    if (!completed.get()) {
+                        completed.set(true);
+                        onComplete.run();
+                    }
+
+                }
+                requested.set(0);
+            }
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        for (long i = start; i < end; i++) {
+            onNext.accept(i);
+        }
+
+        onCompleteDs.run();
+    }
+}
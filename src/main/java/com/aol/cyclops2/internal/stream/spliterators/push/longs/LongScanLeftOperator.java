@@ -0,0 +1,84 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Unboxed scanLeft over a LongOperator. The identity value is emitted first, followed by each running result.
+ */
+public class LongScanLeftOperator implements LongOperator {
+
+    final LongOperator source;
+    final long identity;
+    final LongBinaryOperator function;
+
+    public LongScanLeftOperator(LongOperator source, long identity, LongBinaryOperator function){
+        this.source = source;
+        this.identity = identity;
+        this.function = function;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        long[] current = {identity};
+        boolean[] seeded = {false};
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                if(!seeded[0]){
+                    seeded[0] = true;
+                    onNext.accept(identity);
+                    if(n==1)
+                        return;
+                    if(n!=Long.MAX_VALUE)
+                        n--;
+                }
+                upstream[0].request(n);
+
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        onNext.accept(current[0] = function.applyAsLong(current[0], e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        long[] current = {identity};
+        onNext.accept(identity);
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(current[0] = function.applyAsLong(current[0], e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,92 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongWindow;
+import com.aol.cyclops2.internal.stream.spliterators.push.Operator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+
+/**
+ * Sliding windows over a LongOperator, buffered in a fixed size ring (see {@link LongWindow}).
+ * Only the emitted windows are allocated.
+ */
+public class LongSlidingOperator implements Operator<long[]> {
+
+    final LongOperator source;
+    private final int windowSize;
+    private final int increment;
+
+    public LongSlidingOperator(LongOperator source, int windowSize, int increment){
+        this.source = source;
+        this.windowSize = windowSize;
+        this.increment = increment;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super long[]> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        StreamSubscription[] upstream = {null};
+        boolean[] unbounded = {false};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                if(n==Long.MAX_VALUE)
+                    unbounded[0] = true;
+                upstream[0].request(n);
+
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        LongWindow window = new LongWindow(windowSize,increment);
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        if(window.add(e))
+                            onNext.accept(window.emit());
+                        else if(!unbounded[0] && sub.isOpen)
+                            upstream[0].request(1l);
+
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(window.hasPartial())
+                        onNext.accept(window.partial());
+                    onComplete.run();
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super long[]> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        LongWindow window = new LongWindow(windowSize,increment);
+        source.subscribeAll(e-> {
+                    try {
+                        if(window.add(e))
+                            onNext.accept(window.emit());
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(window.hasPartial())
+                        onNext.accept(window.partial());
+                    onCompleteDs.run();
+                });
+    }
+}
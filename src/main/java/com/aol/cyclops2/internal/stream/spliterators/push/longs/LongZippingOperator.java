@@ -0,0 +1,63 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Zips a LongOperator with a primitive iterator, completing when either side is exhausted
+ */
+public class LongZippingOperator implements LongOperator {
+
+    final LongOperator left;
+    final Supplier<? extends PrimitiveIterator.OfLong> right;
+    final LongBinaryOperator zipper;
+
+    public LongZippingOperator(LongOperator left, Supplier<? extends PrimitiveIterator.OfLong> right, LongBinaryOperator zipper){
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrimitiveIterator.OfLong it = right.get();
+        boolean[] completed = {false};
+        StreamSubscription[] upstream = {null};
+        upstream[0] = left.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        if(it.hasNext())
+                            onNext.accept(zipper.applyAsLong(e, it.nextLong()));
+                        else{
+                            completed[0] = true;
+                            upstream[0].cancel();
+                            onComplete.run();
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]) {
+                        completed[0] = true;
+                        onComplete.run();
+                    }
+                });
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //subscribeAll can't be cancelled when the right hand side is exhausted
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
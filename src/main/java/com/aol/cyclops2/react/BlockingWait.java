@@ -0,0 +1,47 @@
+package com.aol.cyclops2.react;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Builder;
+import lombok.experimental.Wither;
+
+/**
+ * Determines how a thread blocked waiting for a FutureStream task to complete behaves.
+ *
+ * A waiting thread first busy spins, then yields, for the configured number of iterations. If the task
+ * still hasn't completed the thread is parked until the completing thread unparks it.
+ *
+ * <pre>
+ * {@code
+ *    new LazyReact().withBlockingWait(BlockingWait.SPIN_THEN_PARK)
+ *                   .range(0,1000)
+ *                   .map(this::process)
+ *                   .toList();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@AllArgsConstructor
+@Getter
+@Wither
+@Builder
+public class BlockingWait {
+
+    private final int spins;
+    private final int yields;
+
+    /**
+     * Park immediately until the task completes
+     */
+    public static final BlockingWait PARK = new BlockingWait(
+                                                             0, 0);
+    /**
+     * Spin briefly, then yield briefly, before parking until the task completes. Trades some CPU for
+     * lower latency when tasks are short lived.
+     */
+    public static final BlockingWait SPIN_THEN_PARK = new BlockingWait(
+                                                                       100, 10);
+
+}
@@ -0,0 +1,134 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.FastFuture.OnComplete;
+
+/**
+ * In-flight futures tracked by completion rather than by scanning.
+ *
+ * Each future pushes itself onto a done queue when it completes and decrements the active count, waking the
+ * (single) submitting thread if it is waiting for capacity. Admission control and collection of completed futures are
+ * therefore O(1) per future. Apart from completion callbacks, all methods must be called from the submitting thread.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Result type
+ */
+final class ActiveFutures<T> {
+
+    private static final AtomicIntegerFieldUpdater<ActiveFutures> ACTIVE = AtomicIntegerFieldUpdater.newUpdater(ActiveFutures.class,
+                                                                                                                 "active");
+
+    private final ManyToOneConcurrentLinkedQueue<FastFuture<T>> done = new ManyToOneConcurrentLinkedQueue<>();
+    private volatile int active = 0;
+    private volatile Thread waiter;
+    private int tracked = 0;
+
+    /**
+     * Start tracking a future, it will be available via {@link #drain(Consumer)} once complete
+     */
+    public void add(final FastFuture<T> f) {
+        tracked++;
+        ACTIVE.incrementAndGet(this);
+        f.onComplete(new Completion(
+                                    f));
+    }
+
+    /**
+     * Start tracking a future, reporting its latency to maxActive on completion if it is adaptive
+     */
+    public void add(final FastFuture<T> f, final MaxActive maxActive) {
+        if (!(maxActive instanceof AdaptiveMaxActive)) {
+            add(f);
+            return;
+        }
+        tracked++;
+        ACTIVE.incrementAndGet(this);
+        f.onComplete(new SampledCompletion(
+                                           f, (AdaptiveMaxActive) maxActive));
+    }
+
+    /**
+     * @return Number of futures added but not yet drained
+     */
+    public int size() {
+        return tracked;
+    }
+
+    /**
+     * Block the calling thread until at most limit futures remain incomplete
+     */
+    public void await(final int limit) {
+        if (active <= limit)
+            return;
+        boolean interrupted = false;
+        waiter = Thread.currentThread();
+        while (active > limit) {
+            LockSupport.park(this);
+            if (Thread.interrupted())
+                interrupted = true;
+        }
+        waiter = null;
+        if (interrupted)
+            Thread.currentThread()
+                  .interrupt();
+    }
+
+    /**
+     * Pass each completed future not yet drained to the supplied Consumer
+     */
+    public void drain(final Consumer<? super FastFuture<T>> c) {
+        FastFuture<T> next;
+        while ((next = done.poll()) != null) {
+            tracked--;
+            c.accept(next);
+        }
+    }
+
+    private class Completion implements Consumer<OnComplete> {
+        private final FastFuture<T> future;
+        volatile int fired = 0;
+
+        Completion(final FastFuture<T> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void accept(final OnComplete c) {
+            if (fired != 0 || !FIRED.compareAndSet(this, 0, 1))
+                return; //onComplete may be called more than once
+            done.offer(future);
+            completed(ACTIVE.getAndDecrement(ActiveFutures.this));
+            final Thread w = waiter;
+            if (w != null)
+                LockSupport.unpark(w);
+        }
+
+        void completed(final int inFlight) {
+        }
+    }
+
+    private final class SampledCompletion extends Completion {
+        private final AdaptiveMaxActive maxActive;
+        private final long start = System.nanoTime();
+
+        SampledCompletion(final FastFuture<T> future, final AdaptiveMaxActive maxActive) {
+            super(future);
+            this.maxActive = maxActive;
+        }
+
+        @Override
+        void completed(final int inFlight) {
+            maxActive.sample(System.nanoTime() - start, inFlight);
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<ActiveFutures.Completion> FIRED = AtomicIntegerFieldUpdater.newUpdater(ActiveFutures.Completion.class,
+                                                                                                                          "fired");
+}
@@ -0,0 +1,186 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import lombok.Getter;
+
+/**
+ * A MaxActive that adjusts the number of active Future Tasks from observed task latency (AIMD).
+ *
+ * Latencies are evaluated in windows of roughly one limit's worth of completed tasks. If the average latency of a
+ * window exceeds the baseline (no load) latency by more than the configured tolerance, the limit is multiplicatively
+ * decreased. Otherwise, if the window was fully utilised (the number of tasks in flight reached the limit), the limit
+ * is increased by one.
+ *
+ * <pre>
+ * {@code
+ *  new LazyReact().withMaxActive(AdaptiveMaxActive.aimd(10, 1, 500))
+ *                 .range(0,1_000_000)
+ *                 .map(this::callService)
+ *                 .forEach(System.out::println);
+ * }
+ * </pre>
+ *
+ * A single instance may be shared across all the Streams created by a LazyReact builder.
+ *
+ * @author johnmcclean
+ *
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+    private static final int SAMPLES = 128;
+    private static final int MIN_WINDOW = 8;
+
+    @Getter
+    private final int minLimit;
+    @Getter
+    private final int maxLimit;
+    @Getter
+    private final double tolerance;
+    @Getter
+    private final double backoff;
+
+    private volatile int limit;
+
+    private final long[] samples = new long[SAMPLES];
+    private long sampleCount = 0;
+
+    private int windowCount = 0;
+    private long windowSum = 0;
+    private int windowMaxInFlight = 0;
+    private volatile long baselineLatency = Long.MAX_VALUE;
+
+    /**
+     * @param initial Initial limit
+     * @param minLimit Lower bound for the limit
+     * @param maxLimit Upper bound for the limit
+     * @param tolerance Multiple of the baseline latency above which the limit is reduced
+     * @param backoff Factor applied to the limit on reduction
+     */
+    public AdaptiveMaxActive(final int initial, final int minLimit, final int maxLimit, final double tolerance,
+            final double backoff) {
+        super(initial, initial);
+        if (minLimit < 1 || maxLimit < minLimit)
+            throw new IllegalArgumentException(
+                                               "Require 1 <= minLimit <= maxLimit, was " + minLimit + " , " + maxLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoff = backoff;
+        this.limit = clamp(initial);
+    }
+
+    /**
+     * AIMD limiter that backs off by 10% when window latency exceeds twice the baseline
+     *
+     * @param initial Initial limit
+     * @param minLimit Lower bound for the limit
+     * @param maxLimit Upper bound for the limit
+     * @return Adaptive MaxActive
+     */
+    public static AdaptiveMaxActive aimd(final int initial, final int minLimit, final int maxLimit) {
+        return new AdaptiveMaxActive(
+                                     initial, minLimit, maxLimit, 2.0, 0.9);
+    }
+
+    /**
+     * @return AIMD limiter for IO bound tasks, starting from the {@link MaxActive#IO} limit
+     */
+    public static AdaptiveMaxActive io() {
+        return aimd(MaxActive.IO.getMaxActive(), 1, 1000);
+    }
+
+    /**
+     * @return Current limit
+     */
+    @Override
+    public int getMaxActive() {
+        return limit;
+    }
+
+    /**
+     * @return Level the active tasks are allowed to drain to once the limit is exceeded (90% of the current limit)
+     */
+    @Override
+    public int getReduceTo() {
+        final int current = limit;
+        return Math.max(1, current - Math.max(1, current / 10));
+    }
+
+    /**
+     * @param maxActive Initial limit, clamped to this limiter's bounds
+     * @return A new AdaptiveMaxActive with the same bounds, tolerance and backoff, starting from the supplied limit
+     */
+    @Override
+    public AdaptiveMaxActive withMaxActive(final int maxActive) {
+        return new AdaptiveMaxActive(
+                                     maxActive, minLimit, maxLimit, tolerance, backoff);
+    }
+
+    /**
+     * Not supported, the level to drain to is derived from the current limit (see {@link #getReduceTo()})
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public AdaptiveMaxActive withReduceTo(final int reduceTo) {
+        throw new UnsupportedOperationException(
+                                                "AdaptiveMaxActive derives reduceTo from the current limit");
+    }
+
+    /**
+     * @return Lowest average window latency observed in nanoseconds, or Long.MAX_VALUE if no window has completed yet
+     */
+    public long getBaselineLatency() {
+        return baselineLatency;
+    }
+
+    /**
+     * @return The most recent latency samples (nanoseconds), oldest first
+     */
+    public synchronized long[] getLatencySamples() {
+        final int size = (int) Math.min(sampleCount, SAMPLES);
+        final long[] result = new long[size];
+        final long start = sampleCount - size;
+        for (int i = 0; i < size; i++)
+            result[i] = samples[(int) ((start + i) % SAMPLES)];
+        return result;
+    }
+
+    /**
+     * Record the latency of a completed task
+     *
+     * @param latencyNanos Time from submission to completion
+     * @param inFlight Number of tasks in flight when the task completed (including the task itself)
+     */
+    public synchronized void sample(final long latencyNanos, final int inFlight) {
+        samples[(int) (sampleCount++ % SAMPLES)] = latencyNanos;
+        windowSum += latencyNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        if (++windowCount < Math.max(MIN_WINDOW, limit))
+            return;
+
+        final long average = windowSum / windowCount;
+        final long baseline = baselineLatency;
+        if (average < baseline)
+            baselineLatency = average;
+        else //allow the baseline to drift upwards slowly, so a permanent change in latency is eventually accepted
+            baselineLatency = baseline + (average - baseline) / 64;
+
+        if (baseline != Long.MAX_VALUE && average > baseline * tolerance)
+            limit = clamp((int) (limit * backoff));
+        else if (windowMaxInFlight >= limit)
+            limit = clamp(limit + 1);
+
+        windowCount = 0;
+        windowSum = 0;
+        windowMaxInFlight = 0;
+    }
+
+    private int clamp(final int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveMaxActive[limit=" + limit + ", baselineLatency=" + baselineLatency + "]";
+    }
+}
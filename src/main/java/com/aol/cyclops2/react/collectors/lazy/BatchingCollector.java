@@ -1,11 +1,7 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 import com.aol.cyclops2.types.futurestream.BlockingStream;
@@ -30,7 +26,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
     @Getter
     private final Collection<FastFuture<T>> results;
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final ActiveFutures<T> active = new ActiveFutures<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -51,27 +47,11 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
+        active.add(t, maxActive);
 
         if (active.size() > maxActive.getMaxActive()) {
-
-            while (active.size() > maxActive.getReduceTo()) {
-
-                final List<FastFuture<T>> toRemove = active.stream()
-                                                           .filter(cf -> cf.isDone())
-                                                           .collect(Collectors.toList());
-                active.removeAll(toRemove);
-                results.addAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-                        promise.complete(true);
-                    } , active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
-            }
+            active.await(maxActive.getReduceTo());
+            active.drain(results::add);
         }
 
     }
@@ -81,12 +61,8 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public void block(final Function<FastFuture<T>, T> safeJoin) {
-        if (active.size() == 0)
-            return;
-        active.stream()
-              .peek(f -> safeJoin.apply(f))
-              .forEach(a -> {
-              });
+        active.await(0);
+        active.drain(f -> safeJoin.apply(f));
 
     }
 
@@ -105,8 +81,8 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getAllResults() {
-        results.addAll(active);
-        active.clear();
+        active.await(0);
+        active.drain(results::add);
         return results;
     }
 
@@ -2,10 +2,7 @@ package com.aol.cyclops2.react.collectors.lazy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 
@@ -24,7 +21,7 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final ActiveFutures<T> active = new ActiveFutures<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -42,37 +39,17 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
+        active.add(t, maxActive);
 
         if (active.size() > maxActive.getMaxActive()) {
-
-            while (active.size() > maxActive.getReduceTo()) {
-
-                final List<FastFuture> toRemove = active.stream()
-                                                        .filter(cf -> cf.isDone())
-                                                        .peek(this::handleExceptions)
-                                                        .collect(Collectors.toList());
-
-                active.removeAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
-            }
+            active.await(maxActive.getReduceTo());
         }
+        active.drain(cf -> safeJoin.apply(cf));
 
     }
 
     public void add(final FastFuture<T> t) {
-        active.add(t);
-    }
-
-    private void handleExceptions(final FastFuture cf) {
-        if (cf.isCompletedExceptionally())
-            safeJoin.apply(cf);
+        active.add(t, maxActive);
     }
 
     @Override
@@ -87,12 +64,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void block(final Function<FastFuture<T>, T> safeJoin) {
 
-        if (active.size() == 0)
-            return;
-        active.stream()
-              .peek(cf -> safeJoin.apply(cf))
-              .forEach(a -> {
-              });
+        active.await(0);
+        active.drain(cf -> safeJoin.apply(cf));
 
     }
 
@@ -102,9 +75,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getResults() {
-        active.stream()
-              .forEach(cf -> safeJoin.apply(cf));
-        active.clear();
+        active.await(0);
+        active.drain(cf -> safeJoin.apply(cf));
         return new ArrayList<>();
     }
 
@@ -2,19 +2,29 @@ package com.aol.cyclops2.types;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.aol.cyclops2.internal.stream.spliterators.ParallelSplittable;
 import com.aol.cyclops2.types.stream.ToStream;
 
+import org.jooq.lambda.tuple.Tuple2;
+
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Streamable;
+import cyclops.stream.sketch.HyperLogLog;
+import cyclops.stream.sketch.QuantileSketch;
+import cyclops.stream.sketch.SpaceSaving;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import cyclops.collections.ListX;
 import cyclops.collections.MapX;
@@ -106,6 +116,57 @@ public interface Folds<T> extends ToStream<T> {
         return reduce(reducer.zero(),reducer);
     }
 
+    /**
+     * Reduce this Folds to a single value using the supplied Monoid, evaluated as a parallel tree of partial reductions
+     * on the common ForkJoinPool. Array, List and range sources are split directly into contiguous chunks in encounter
+     * order, other sources are first buffered into a List, so the Monoid need not be commutative. The Monoid zero may be combined many times
+     * and must not be mutated by the Monoid (unlike {@link Folds#reduce(Monoid)}, which may suit Monoids accumulating
+     * into a mutable zero).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.range(0, 1_000_000).map(i->(long)i).reduceParallel(Monoids.longSum);
+     *
+     *  //499999500000
+     * }
+     * </pre>
+     *
+     * @param reducer Associative Monoid to reduce values
+     * @return reduced values
+     */
+    default T reduceParallel(final Monoid<T> reducer) {
+        return StreamSupport.stream(ParallelSplittable.splitOrBuffer(stream().spliterator()), true)
+                            .reduce(reducer.zero(), reducer);
+    }
+
+    /**
+     * As {@link Folds#reduceParallel(Monoid)} evaluated on the supplied ForkJoinPool
+     */
+    default T reduceParallel(final ForkJoinPool fj, final Monoid<T> reducer) {
+        return fj.submit(() -> reduceParallel(reducer)).join();
+    }
+
+    /**
+     * As {@link Folds#mapReduce(Function, Monoid)} but evaluated as a parallel tree of partial reductions, see
+     * {@link Folds#reduceParallel(Monoid)}
+     *
+     * @param mapper Function to map each element to the type of the Monoid
+     * @param reducer Associative Monoid to reduce values
+     * @return Reduce result
+     */
+    default <R> R mapReduceParallel(final Function<? super T, ? extends R> mapper, final Monoid<R> reducer) {
+        return StreamSupport.stream(ParallelSplittable.splitOrBuffer(stream().spliterator()), true)
+                            .<R> map(mapper)
+                            .reduce(reducer.zero(), reducer);
+    }
+
+    /**
+     * As {@link Folds#mapReduceParallel(Function, Monoid)} evaluated on the supplied ForkJoinPool
+     */
+    default <R> R mapReduceParallel(final ForkJoinPool fj, final Function<? super T, ? extends R> mapper, final Monoid<R> reducer) {
+        return fj.submit(() -> mapReduceParallel(mapper, reducer)).join();
+    }
+
     /**
      * An equivalent function to {@link java.util.stream.Stream#reduce(BinaryOperator)}
      *  
@@ -286,6 +347,88 @@ public interface Folds<T> extends ToStream<T> {
         return stream().foldRightMapToType(reducer);
     }
 
+    /**
+     * Approximate percentile, computed in a single pass with bounded memory via a {@link QuantileSketch} (rather than
+     * buffering and sorting every element)
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.range(0,1_000_000).approximatePercentile(0.99,Comparator.naturalOrder());
+     *  
+     *  //Optional[~990_000]
+     * }
+     * </pre>
+     * 
+     * @param percentile Percentile between 0 and 1
+     * @param comparator Ordering of the elements
+     * @return Approximate percentile, or Optional.empty if there are no elements
+     */
+    default Optional<T> approximatePercentile(final double percentile, final Comparator<? super T> comparator) {
+        return stream().collect(QuantileSketch.collector(comparator))
+                       .percentile(percentile);
+    }
+
+    /**
+     * As {@link #approximatePercentile(double, Comparator)} for Comparable elements
+     */
+    default Optional<T> approximatePercentile(final double percentile) {
+        return approximatePercentile(percentile, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * As {@link #approximatePercentile(double)} with a percentile of 0.5
+     */
+    default Optional<T> approximateMedian() {
+        return approximatePercentile(0.5);
+    }
+
+    /**
+     * Approximate number of distinct elements (by hashCode), computed in a single pass with fixed memory via a
+     * {@link HyperLogLog}
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.range(0,1_000_000).map(i->i%1000).approximateCountDistinct();
+     *  
+     *  //~1000
+     * }
+     * </pre>
+     * 
+     * @return Approximate number of distinct elements
+     */
+    default long approximateCountDistinct() {
+        return stream().collect(HyperLogLog.collector())
+                       .estimate();
+    }
+
+    /**
+     * The most frequent elements with their (over) estimated counts, computed in a single pass with bounded memory via
+     * {@link SpaceSaving}
+     * 
+     * <pre>
+     * {@code 
+     *  ReactiveSeq.of("a","b","a","c","a","b").heavyHitters(2);
+     *  
+     *  //[(a,3),(b,2)]
+     * }
+     * </pre>
+     * 
+     * @param n Number of elements to return
+     * @return Up to n of the most frequent elements, most frequent first
+     */
+    default ListX<Tuple2<T, Long>> heavyHitters(final int n) {
+        return stream().collect(SpaceSaving.collector(Math.max(n, SpaceSaving.DEFAULT_CAPACITY)))
+                       .top(n);
+    }
+
+    /**
+     * @return The (approximately) most frequent element, via {@link SpaceSaving}
+     */
+    default Optional<T> approximateMode() {
+        return stream().collect(SpaceSaving.<T> collector(SpaceSaving.DEFAULT_CAPACITY))
+                       .mode();
+    }
+
     /**
      * <pre>
      * {@code
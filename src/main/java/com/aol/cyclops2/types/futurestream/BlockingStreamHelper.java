@@ -89,7 +89,7 @@ public class BlockingStreamHelper {
     @SuppressWarnings("rawtypes")
     public static Object getSafe(final FastFuture next, final Optional<Consumer<Throwable>> errorHandler) {
         try {
-            return next.join();
+            return next.joinOrFiltered(MissingValue.MISSING_VALUE);
         } catch (final SimpleReactCompletionException e) {
             capture(e.getCause(), errorHandler);
         } catch (final RuntimeException e) {
@@ -307,12 +307,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
 
         if (!isAsync())
             return filterSync(p);
-        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.thenApplyAsync((in) -> {
-            if (!p.test((U) in)) {
-                throw new FilteredExecutionPathException();
-            }
-            return in;
-        } , getTaskExecutor());
+        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.filterAsync(p, getTaskExecutor());
         return this.withLastActive(getLastActive().operation(fn));
 
     }
@@ -331,12 +326,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
      */
     @Override
     default LazySimpleReactStream<U> filterSync(final Predicate<? super U> p) {
-        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.thenApply((in) -> {
-            if (!p.test((U) in)) {
-                throw new FilteredExecutionPathException();
-            }
-            return in;
-        });
+        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.filter(p);
         return this.withLastActive(getLastActive().operation(fn));
 
     }
@@ -4,6 +4,7 @@ import java.util.Queue;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import cyclops.stream.ReactiveSeq;
@@ -27,6 +28,24 @@ import cyclops.stream.ReactiveSeq;
  * @param <T> Data type of elements in the Stream
  */
 public interface HotStream<T> {
+
+    /**
+     * Policy applied when a connected Stream falls behind and its transfer Queue is full
+     */
+    public static enum Overflow {
+        /**
+         * The HotStream waits for space in the Queue (slowing every connection) until it is disconnected
+         */
+        BLOCK,
+        /**
+         * The oldest queued element is dropped to make room
+         */
+        DROP_OLDEST,
+        /**
+         * The new element is dropped
+         */
+        DROP_NEWEST
+    }
     
     /**
      * Connect to this HotStream (Stream that is already emitting data)
@@ -85,6 +104,50 @@ public interface HotStream<T> {
      */
     public ReactiveSeq<T> connect(Queue<T> queue);
 
+    /**
+     * Connect to this HotStream, applying the provided Overflow policy if the connected Stream falls behind
+     * 
+     * <pre>
+     * {@code 
+     *   ReactiveSeq<Integer> latest = ReactiveSeq.range(0,Integer.MAX_VALUE)
+                                                 .hotStream(exec)
+                                                 .connect(Overflow.DROP_OLDEST);
+     * 
+     * }
+     * </pre>
+     * 
+     * @param overflow Policy applied when the connected Stream falls behind
+     * @return Stream connected to the HotStream emitting data
+     */
+    public default ReactiveSeq<T> connect(final Overflow overflow) {
+        if (overflow == Overflow.DROP_OLDEST) //the HotStream polls as well as offers
+            return connect(new ManyToManyConcurrentArrayQueue<T>(
+                                                                 256),
+                           overflow);
+        return connect(new OneToOneConcurrentArrayQueue<T>(
+                                                           256),
+                       overflow);
+    }
+
+    /**
+     * Connect to this HotStream using the provided transfer Queue, applying the provided Overflow policy when it is full.
+     * DROP_OLDEST requires a Queue that supports concurrent polling.
+     * 
+     * @param queue Transfer Queue between the Streams
+     * @param overflow Policy applied when the Queue is full
+     * @return Stream connected to the HotStream emitting data
+     */
+    public ReactiveSeq<T> connect(Queue<T> queue, Overflow overflow);
+
+    /**
+     * Disconnect the Stream using the provided transfer Queue, the HotStream stops emitting to it immediately and the
+     * connected Stream completes once it has drained any queued elements
+     * 
+     * @param queue Transfer Queue of the connection to remove
+     * @return true if the Queue was connected
+     */
+    public boolean disconnect(Queue<T> queue);
+
     /**
      * Connect to this HotStream using the provided transfer async.Queue.
      * The transfer Queue can be used to apply backpressure to the HotStream if it produces
@@ -4,8 +4,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
-import cyclops.Matchables;
-import cyclops.function.FluentFunctions;
 import com.aol.cyclops2.internal.stream.BaseHotStreamImpl;
 
 /**
@@ -28,22 +26,9 @@ public class NonPausableHotStream<T> extends BaseHotStreamImpl<T> {
         CompletableFuture.runAsync(() -> {
             pause.get()
                  .join();
-            stream.forEach(a -> {
+            stream.forEach(this::emit);
 
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Matchables.blocking(connections.get(i))
-                              .visit(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-                }
-
-            });
-
-            open.set(false);
+            complete();
 
         } , exec);
         return this;
@@ -0,0 +1,324 @@
+package com.aol.cyclops2.util.stream.scheduling.cron;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * An immutable, precompiled form of a (Quartz format) {@link CronExpression}. Each field is held as a bitmask and the
+ * next fire time is computed field by field over primitive values, only the final result is materialised as a
+ * java.time value. A CompiledCron can be shared between threads and reused for every tick of a schedule.
+ *
+ * <pre>
+ * {@code
+ *   CompiledCron everySecond = CompiledCron.compile("* * * * * ?");
+ *   long delay = everySecond.nextFireMillis(System.currentTimeMillis()) - System.currentTimeMillis();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class CompiledCron {
+
+    private static final int YEAR_BASE = 1970;
+
+    private final String expression;
+    private final ZoneId zone;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final BitSet years;
+    private final int maxYear;
+
+    private final boolean dayOfMonthRule;
+    private final boolean lastDayOfMonth;
+    private final int lastDayOffset;
+    private final boolean nearestWeekday;
+    private final int firstDayOfMonth;
+    private final boolean lastDayOfWeek;
+    private final int nthDayOfWeek;
+    private final int firstDayOfWeek;
+
+    private CompiledCron(final CronExpression cron, final ZoneId zone) {
+        this.expression = cron.getCronExpression();
+        this.zone = zone;
+        this.seconds = mask(cron.seconds);
+        this.minutes = mask(cron.minutes);
+        this.hours = mask(cron.hours);
+        this.daysOfMonth = mask(cron.daysOfMonth);
+        this.months = mask(cron.months);
+        this.daysOfWeek = mask(cron.daysOfWeek);
+        this.years = new BitSet();
+        for (final Integer year : cron.years) {
+            if (year >= YEAR_BASE && year <= CronExpression.MAX_YEAR)
+                years.set(year - YEAR_BASE);
+        }
+        this.maxYear = CronExpression.MAX_YEAR;
+        this.dayOfMonthRule = !cron.daysOfMonth.contains(CronExpression.NO_SPEC);
+        this.lastDayOfMonth = cron.lastdayOfMonth;
+        this.lastDayOffset = cron.lastdayOffset;
+        this.nearestWeekday = cron.nearestWeekday;
+        this.firstDayOfMonth = cron.daysOfMonth.isEmpty() ? 0 : cron.daysOfMonth.first();
+        this.lastDayOfWeek = cron.lastdayOfWeek;
+        this.nthDayOfWeek = cron.nthdayOfWeek;
+        this.firstDayOfWeek = cron.daysOfWeek.isEmpty() ? 0 : cron.daysOfWeek.first();
+    }
+
+    /**
+     * Compile a cron expression, resolved against the system default time zone
+     *
+     * @param cron Cron expression in Quartz format
+     * @return Compiled cron expression
+     * @throws ParseException If the expression is invalid
+     */
+    public static CompiledCron compile(final String cron) throws ParseException {
+        return compile(cron, ZoneId.systemDefault());
+    }
+
+    /**
+     * Compile a cron expression, resolved against the supplied time zone
+     *
+     * @param cron Cron expression in Quartz format
+     * @param zone Zone to resolve fire times in
+     * @return Compiled cron expression
+     * @throws ParseException If the expression is invalid
+     */
+    public static CompiledCron compile(final String cron, final ZoneId zone) throws ParseException {
+        return new CompiledCron(
+                                new CronExpression(
+                                                   cron),
+                                zone);
+    }
+
+    /**
+     * @param cron Parsed cron expression to compile, resolved against the expression's time zone
+     * @return Compiled cron expression
+     */
+    public static CompiledCron of(final CronExpression cron) {
+        return new CompiledCron(
+                                cron, cron.getTimeZone()
+                                          .toZoneId());
+    }
+
+    /**
+     * @return Zone fire times are resolved in
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @param epochMillis Time after which the next fire time should be found
+     * @return Epoch milliseconds of the next fire time strictly after the supplied time, or -1 if there is none
+     */
+    public long nextFireMillis(final long epochMillis) {
+        final ZonedDateTime next = nextAfter(Instant.ofEpochMilli(epochMillis)
+                                                    .atZone(zone));
+        return next == null ? -1 : next.toInstant()
+                                       .toEpochMilli();
+    }
+
+    /**
+     * Equivalent to {@link CronExpression#getNextValidTimeAfter(java.util.Date)}
+     *
+     * @param after Time after which the next fire time should be found
+     * @return Next fire time strictly after the supplied time (in this CompiledCron's zone), or null if there is none
+     */
+    public ZonedDateTime nextAfter(final ZonedDateTime after) {
+        final LocalDateTime start = after.withZoneSameInstant(zone)
+                                         .toLocalDateTime();
+        int year = start.getYear();
+        int month = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int hour = start.getHour();
+        int minute = start.getMinute();
+        int second = start.getSecond() + 1;
+
+        for (;;) {
+            if (year > maxYear)
+                return null;
+            final int nextYear = years.nextSetBit(year - YEAR_BASE);
+            if (nextYear < 0)
+                return null;
+            if (nextYear + YEAR_BASE != year) {
+                year = nextYear + YEAR_BASE;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            final int nextMonth = next(months, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            final int nextDay = nextDay(year, month, day);
+            if (nextDay < 0) {
+                if (++month > 12) {
+                    month = 1;
+                    year++;
+                }
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+
+            final int nextHour = next(hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+
+            final int nextMinute = next(minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+
+            final int nextSecond = next(seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            second = nextSecond;
+
+            final ZonedDateTime result = ZonedDateTime.of(year, month, day, hour, minute, second, 0, zone);
+            if (result.getHour() != hour || result.getMinute() != minute) {
+                //local time falls in a DST gap, continue the search from the end of the gap
+                year = result.getYear();
+                month = result.getMonthValue();
+                day = result.getDayOfMonth();
+                hour = result.getHour();
+                minute = result.getMinute();
+                second = result.getSecond();
+                continue;
+            }
+            //local times in a DST overlap resolve to the earlier offset
+            if (result.isAfter(after))
+                return result;
+            second++;
+        }
+    }
+
+    /**
+     * @return First day of the month at or after day that satisfies the day of month / day of week rule, or -1
+     */
+    private int nextDay(final int year, final int month, final int day) {
+        final int lastDay = Month.of(month)
+                                 .length(Year.isLeap(year));
+        if (day > lastDay)
+            return -1;
+        if (dayOfMonthRule) {
+            if (lastDayOfMonth || nearestWeekday) {
+                final int target = dayOfMonthTarget(year, month, lastDay);
+                return target >= day ? target : -1;
+            }
+            final int next = next(daysOfMonth, day);
+            return next > lastDay ? -1 : next;
+        }
+        final int firstDow = dayOfWeek(year, month, 1);
+        for (int d = day; d <= lastDay; d++) {
+            final int dow = (firstDow + d - 2) % 7 + 1;
+            if (lastDayOfWeek) {
+                if (dow == firstDayOfWeek && d + 7 > lastDay)
+                    return d;
+            } else if (nthDayOfWeek != 0) {
+                if (dow == firstDayOfWeek && (d - 1) / 7 + 1 == nthDayOfWeek)
+                    return d;
+            } else if ((daysOfWeek & (1L << dow)) != 0) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * The single day of month selected by the 'L', 'L-n', 'LW' and 'nW' options, or -1 if it falls outside the month
+     */
+    private int dayOfMonthTarget(final int year, final int month, final int lastDay) {
+        int target = lastDayOfMonth ? lastDay - lastDayOffset : firstDayOfMonth;
+        if (target < 1 || target > lastDay)
+            return -1;
+        if (nearestWeekday) {
+            final int dow = dayOfWeek(year, month, target);
+            if (dow == 7 && target == 1)
+                target += 2;
+            else if (dow == 7)
+                target -= 1;
+            else if (dow == 1 && target == lastDay)
+                target -= 2;
+            else if (dow == 1)
+                target += 1;
+        }
+        return target;
+    }
+
+    private static final int[] MONTH_OFFSETS = { 0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4 };
+
+    /*
+     * Day of week in Quartz numbering (1 = Sunday, 7 = Saturday), via Sakamoto's method
+     */
+    static int dayOfWeek(final int year, final int month, final int day) {
+        final int y = month < 3 ? year - 1 : year;
+        return (y + y / 4 - y / 100 + y / 400 + MONTH_OFFSETS[month - 1] + day) % 7 + 1;
+    }
+
+    /*
+     * Smallest value >= from set in the mask, or -1
+     */
+    private static int next(final long mask, final int from) {
+        if (from > 63)
+            return -1;
+        final long remaining = mask & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static long mask(final Set<Integer> values) {
+        long mask = 0;
+        for (final Integer value : values) {
+            if (value >= 0 && value < 64)
+                mask |= 1L << value;
+        }
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
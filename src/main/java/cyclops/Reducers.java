@@ -1,6 +1,9 @@
 package cyclops;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
@@ -73,7 +76,8 @@ public class Reducers {
      */
     public static <T> Reducer<PQueueX<T>> toPQueueX() {
         
-        return Reducer.<PQueueX<T>> of(PQueueX.empty(), (final PQueueX<T> a) -> b -> a.plusAll(b), (final T x) -> PQueueX.singleton(x));
+        return Reducer.<PQueueX<T>> of(PQueueX.empty(), (final PQueueX<T> a) -> b -> a.plusAll(b), (final T x) -> PQueueX.singleton(x),
+                                       Reducers.<T, PQueueX<T>> buffered(l -> PQueueX.fromCollection(queueOf(l))));
     }
 
     /**
@@ -88,7 +92,8 @@ public class Reducers {
      */
     public static <T> Reducer<POrderedSetX<T>> toPOrderedSetX() {
         return Reducer.<POrderedSetX<T>> of(POrderedSetX.<T> empty(), (final POrderedSetX<T> a) -> b -> a.plusAll(b),
-                                            (final T x) -> POrderedSetX.singleton(x));
+                                            (final T x) -> POrderedSetX.singleton(x),
+                                            Reducers.<T, POrderedSetX<T>> buffered(l -> POrderedSetX.fromCollection(OrderedPSet.from(l))));
     }
 
     /**
@@ -102,7 +107,8 @@ public class Reducers {
      * @return Reducer for PSetX
      */
     public static <T> Reducer<PSetX<T>> toPSetX() {
-        return Reducer.<PSetX<T>> of(PSetX.empty(), (final PSetX<T> a) -> b -> a.plusAll(b), (final T x) -> PSetX.singleton(x));
+        return Reducer.<PSetX<T>> of(PSetX.empty(), (final PSetX<T> a) -> b -> a.plusAll(b), (final T x) -> PSetX.singleton(x),
+                                     Reducers.<T, PSetX<T>> buffered(l -> PSetX.fromCollection(HashTreePSet.from(l))));
     }
 
     /**
@@ -116,7 +122,8 @@ public class Reducers {
      * @return Reducer for PStackX
      */
     public static <T> Reducer<PStackX<T>> toPStackX() {
-        return Reducer.<PStackX<T>> of(PStackX.empty(), (final PStackX<T> a) -> b -> a.plusAll(b), (final T x) -> PStackX.singleton(x));
+        return Reducer.<PStackX<T>> of(PStackX.empty(), (final PStackX<T> a) -> b -> a.plusAll(b), (final T x) -> PStackX.singleton(x),
+                                       Reducers.<T, PStackX<T>> buffered(l -> PStackX.fromCollection(consReversed(l))));
     }
 
     /**
@@ -130,7 +137,8 @@ public class Reducers {
      * @return Reducer for PVectorX
      */
     public static <T> Reducer<PVectorX<T>> toPVectorX() {
-        return Reducer.<PVectorX<T>> of(PVectorX.empty(), (final PVectorX<T> a) -> b -> a.plusAll(b), (final T x) -> PVectorX.singleton(x));
+        return Reducer.<PVectorX<T>> of(PVectorX.empty(), (final PVectorX<T> a) -> b -> a.plusAll(b), (final T x) -> PVectorX.singleton(x),
+                                        Reducers.<T, PVectorX<T>> buffered(l -> PVectorX.fromCollection(TreePVector.from(l))));
     }
 
 
@@ -145,7 +153,39 @@ public class Reducers {
      * @return Reducer for PBagX
      */
     public static <T> Reducer<PBagX<T>> toPBagX() {
-        return Reducer.<PBagX<T>> of(PBagX.empty(), (final PBagX<T> a) -> b -> a.plusAll(b), (final T x) -> PBagX.singleton(x));
+        return Reducer.<PBagX<T>> of(PBagX.empty(), (final PBagX<T> a) -> b -> a.plusAll(b), (final T x) -> PBagX.singleton(x),
+                                     Reducers.<T, PBagX<T>> buffered(l -> PBagX.fromCollection(HashTreePBag.from(l))));
+    }
+
+    /*
+     * Bulk (mapReduce) construction of persistent collections accumulates into a single mutable buffer, and builds the
+     * persistent collection from it once, rather than creating a singleton collection per element and plusAll-ing them
+     * together.
+     */
+    private static <T, R> Collector<T, ?, R> buffered(final Function<? super List<T>, ? extends R> finisher) {
+        return Collector.<T, List<T>, R> of(ArrayList::new, (list, t) -> list.add(t), (a, b) -> {
+            a.addAll(b);
+            return a;
+        } , finisher::apply);
+    }
+
+    private static <T> PStack<T> consInOrder(final List<T> values) {
+        PStack<T> result = ConsPStack.empty();
+        for (int i = values.size() - 1; i >= 0; i--)
+            result = result.plus(values.get(i));
+        return result;
+    }
+
+    private static <T> PStack<T> consReversed(final List<T> values) {
+        PStack<T> result = ConsPStack.empty();
+        for (final T next : values)
+            result = result.plus(next);
+        return result;
+    }
+
+    private static <T> PQueue<T> queueOf(final List<T> values) {
+        return AmortizedPQueue.<T> empty()
+                              .plusAll(values);
     }
 
     private static <T> PQueue<T> queueSingleton(final T value) {
@@ -165,7 +205,8 @@ public class Reducers {
      * @return Reducer to PQueue types
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(AmortizedPQueue.empty(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> queueSingleton(x));
+        return Reducer.<PQueue<T>> of(AmortizedPQueue.empty(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> queueSingleton(x),
+                                      Reducers.<T, PQueue<T>> buffered(Reducers::queueOf));
     }
     /**
      * <pre>
@@ -179,7 +220,8 @@ public class Reducers {
      */
     public static <T> Reducer<POrderedSet<T>> toPOrderedSet() {
         return Reducer.<POrderedSet<T>> of(OrderedPSet.empty(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> OrderedPSet.singleton(x));
+                                           (final T x) -> OrderedPSet.singleton(x),
+                                           Reducers.<T, POrderedSet<T>> buffered(OrderedPSet::from));
     }
     /**
      * <pre>
@@ -192,7 +234,8 @@ public class Reducers {
      * @return Reducer for PBag
      */
     public static <T> Reducer<PBag<T>> toPBag() {
-        return Reducer.<PBag<T>> of(HashTreePBag.empty(), (final PBag<T> a) -> b -> a.plusAll(b), (final T x) -> HashTreePBag.singleton(x));
+        return Reducer.<PBag<T>> of(HashTreePBag.empty(), (final PBag<T> a) -> b -> a.plusAll(b), (final T x) -> HashTreePBag.singleton(x),
+                                    Reducers.<T, PBag<T>> buffered(HashTreePBag::from));
     }
     /**
      * <pre>
@@ -205,7 +248,8 @@ public class Reducers {
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(HashTreePSet.empty(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> HashTreePSet.singleton(x));
+        return Reducer.<PSet<T>> of(HashTreePSet.empty(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> HashTreePSet.singleton(x),
+                                    Reducers.<T, PSet<T>> buffered(HashTreePSet::from));
     }
     /**
      * <pre>
@@ -218,7 +262,8 @@ public class Reducers {
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(TreePVector.empty(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> TreePVector.singleton(x));
+        return Reducer.<PVector<T>> of(TreePVector.empty(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> TreePVector.singleton(x),
+                                       Reducers.<T, PVector<T>> buffered(TreePVector::from));
     }
     /**
      * <pre>
@@ -231,7 +276,8 @@ public class Reducers {
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ConsPStack.empty(), (final PStack<T> a) -> b -> a.plusAll(a.size(), b), (final T x) -> ConsPStack.singleton(x));
+        return Reducer.<PStack<T>> of(ConsPStack.empty(), (final PStack<T> a) -> b -> a.plusAll(a.size(), b), (final T x) -> ConsPStack.singleton(x),
+                                      Reducers.<T, PStack<T>> buffered(Reducers::consInOrder));
     }
     /**
      * <pre>
@@ -244,7 +290,8 @@ public class Reducers {
      * @return Reducer for PStack in reveresed order
      */
     public static <T> Reducer<PStack<T>> toPStackReversed() {
-        return Reducer.<PStack<T>> of(ConsPStack.empty(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> ConsPStack.singleton(x));
+        return Reducer.<PStack<T>> of(ConsPStack.empty(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> ConsPStack.singleton(x),
+                                      Reducers.<T, PStack<T>> buffered(Reducers::consReversed));
     }
     /**
      * <pre>
@@ -2381,9 +2381,24 @@ public class Streams {
 
     public static final <A> ListX<Iterable<A>> toBufferingCopier(final Iterable<A> it, final int copies) {
 
+        return toBufferingCopier(it,copies,Long.MAX_VALUE,SharedBufferCopier.Overflow.BLOCK);
+    }
+
+    /**
+     * Copy an Iterable, the copies share a single buffer (see {@link SharedBufferCopier}). Each time the copies are
+     * iterated together the Iterable is iterated once, iterating a copy a second time starts a new pass over the Iterable.
+     *
+     * @param it Iterable to copy
+     * @param copies Number of copies
+     * @param bound Maximum number of elements the leading copy may be ahead of the slowest copy
+     * @param overflow Policy applied when the bound is reached
+     * @return Copies of the Iterable
+     */
+    public static final <A> ListX<Iterable<A>> toBufferingCopier(final Iterable<A> it, final int copies, final long bound, final SharedBufferCopier.Overflow overflow) {
+        final SharedCopies<A> shared = new SharedCopies<>(()->new SharedBufferCopier<>(it.iterator(),copies,bound,overflow));
         return  ListX.range(0,copies)
                 .zipWithIndex()
-                .map(t->()-> toBufferingCopier(it.iterator(),copies).get(t.v2).get());
+                .map(t->()-> shared.take(t.v2.intValue()));
     }
     public static final <A> ListX<Iterable<A>> toBufferingCopier(final Iterable<A> it, final int copies,Supplier<Deque<A>> bufferSupplier) {
 
@@ -2393,18 +2408,22 @@ public class Streams {
     }
 
     public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies) {
-        final List<Iterator<A>> result = new ArrayList<>();
 
-        ArrayList<Deque<A>> localBuffers = new ArrayList<>(copies);
-        for(int i=0;i<copies;i++) {
-            final Deque<A> buffer = new LinkedList<A>();
-            localBuffers.add(buffer);
-            result.add(new CopyingIterator(localBuffers,
-                    iterator,  buffer));
-        }
+        return ListX.fromIterable(new SharedBufferCopier<>(iterator,copies).copies());
+    }
 
+    /**
+     * Copy an Iterator, the copies share a single buffer (see {@link SharedBufferCopier})
+     *
+     * @param iterator Iterator to copy
+     * @param copies Number of copies
+     * @param bound Maximum number of elements the leading copy may be ahead of the slowest copy
+     * @param overflow Policy applied when the bound is reached
+     * @return Copies of the Iterator
+     */
+    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies, final long bound, final SharedBufferCopier.Overflow overflow) {
 
-        return ListX.fromIterable(result);
+        return ListX.fromIterable(new SharedBufferCopier<>(iterator,copies,bound,overflow).copies());
     }
     public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies, Supplier<Deque<A>> bufferSupplier) {
         final List<Iterator<A>> result = new ArrayList<>();
@@ -2421,6 +2440,28 @@ public class Streams {
         return ListX.fromIterable(result);
     }
 
+    /*
+     * Copies of an Iterable share a copier until a copy is iterated a second time
+     */
+    private static final class SharedCopies<T> {
+        private final Supplier<SharedBufferCopier<T>> factory;
+        private List<Iterator<T>> current;
+        private boolean[] taken;
+
+        SharedCopies(Supplier<SharedBufferCopier<T>> factory) {
+            this.factory = factory;
+        }
+
+        synchronized Iterator<T> take(int index) {
+            if (current == null || taken[index]) {
+                current = factory.get().copies();
+                taken = new boolean[current.size()];
+            }
+            taken[index] = true;
+            return current.get(index);
+        }
+    }
+
     @AllArgsConstructor
     static class DuplicatingIterator<T> implements Iterator<T> {
 
@@ -0,0 +1,316 @@
+package cyclops.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel, a ScheduledExecutorService that can manage very large numbers of pending timeouts on a single
+ * timer thread. Scheduling and cancelling a task are O(1), expired tasks are run on the supplied Executor.
+ *
+ * Time is divided into ticks and tasks are placed in one of a fixed number of buckets (the wheel) according to the tick
+ * in which they expire. Each tick the timer thread only visits the tasks in one bucket, so tasks never run early but may
+ * run up to one tick late.
+ *
+ * The shared instance, used by the time based operators on {@link cyclops.stream.Spouts} streams, ticks every
+ * millisecond and runs expired tasks on the common ForkJoinPool.
+ *
+ * <pre>
+ * {@code
+ *   Spouts.async(publisher)
+ *         .onePer(1, TimeUnit.SECONDS)  //backs off via the shared timing wheel rather than sleeping the producing thread
+ *         .groupedByTime(10, TimeUnit.SECONDS, HashedWheelTimer.shared())
+ *
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class HashedWheelTimer extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final HashedWheelTimer SHARED = new HashedWheelTimer(
+                                                                        1, TimeUnit.MILLISECONDS, 512,
+                                                                        ForkJoinPool.commonPool());
+
+    private final long tickNanos;
+    private final WheelTask<?>[] heads;
+    private final WheelTask<?>[] tails;
+    private final int mask;
+    private final Executor executor;
+    private final Queue<WheelTask<?>> pending = new ConcurrentLinkedQueue<>();
+    private final long startTime = System.nanoTime();
+    private final Thread worker;
+    private volatile boolean started = false;
+    private volatile boolean shutdown = false;
+    private volatile boolean terminated = false;
+
+    /**
+     * @param tick Duration of a tick (the resolution of the timer)
+     * @param unit TimeUnit for the tick
+     * @param wheelSize Number of buckets in the wheel (rounded up to a power of 2)
+     * @param executor Executor expired tasks are run on
+     */
+    public HashedWheelTimer(final long tick, final TimeUnit unit, final int wheelSize, final Executor executor) {
+        this.tickNanos = Math.max(1, unit.toNanos(tick));
+        final int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.heads = new WheelTask[size];
+        this.tails = new WheelTask[size];
+        this.mask = size - 1;
+        this.executor = executor;
+        this.worker = new Thread(
+                                 this::run, "cyclops-wheel-timer");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * @return Shared HashedWheelTimer with a 1 millisecond tick, running tasks on the common ForkJoinPool
+     */
+    public static HashedWheelTimer shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return Duration of a tick in nanoseconds, tasks may run up to one tick late
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+        return enqueue(new WheelTask<Void>(
+                                           command, null, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+        return enqueue(new WheelTask<V>(
+                                        callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay, final long period,
+            final TimeUnit unit) {
+        if (period <= 0)
+            throw new IllegalArgumentException();
+        return enqueue(new WheelTask<Void>(
+                                           command, null, deadline(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay, final long delay,
+            final TimeUnit unit) {
+        if (delay <= 0)
+            throw new IllegalArgumentException();
+        return enqueue(new WheelTask<Void>(
+                                           command, null, deadline(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (shutdown)
+            throw new RejectedExecutionException(
+                                                 "HashedWheelTimer has been shutdown");
+        executor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        if (this == SHARED)
+            throw new UnsupportedOperationException(
+                                                    "The shared HashedWheelTimer can not be shutdown");
+        shutdown = true;
+        LockSupport.unpark(worker);
+        if (!started)
+            terminated = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        final List<Runnable> remaining = new ArrayList<>(
+                                                         pending);
+        pending.clear();
+        return remaining;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (started)
+            worker.join(Math.max(1, unit.toMillis(timeout)));
+        return terminated;
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    private long deadline(final long delay, final TimeUnit unit) {
+        return now() + Math.max(0, unit.toNanos(delay));
+    }
+
+    private <V> WheelTask<V> enqueue(final WheelTask<V> task) {
+        if (shutdown)
+            throw new RejectedExecutionException(
+                                                 "HashedWheelTimer has been shutdown");
+        start();
+        pending.offer(task);
+        return task;
+    }
+
+    private void start() {
+        if (!started) {
+            synchronized (this) {
+                if (!started) {
+                    worker.start();
+                    started = true;
+                }
+            }
+        }
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!shutdown) {
+            final long tickEnd = tickNanos * (tick + 1);
+            long sleep;
+            while ((sleep = tickEnd - now()) > 0 && !shutdown) {
+                LockSupport.parkNanos(this, sleep);
+            }
+            transferPending(tick);
+            expire(tick);
+            tick++;
+        }
+        terminated = true;
+    }
+
+    /*
+     * Only the timer thread touches the buckets, new tasks are handed over via the pending queue
+     */
+    private void transferPending(final long tick) {
+        WheelTask<?> task;
+        while ((task = pending.poll()) != null) {
+            if (task.isCancelled())
+                continue;
+            final long expiresAt = Math.max(tick, task.deadline / tickNanos);
+            task.remainingRounds = (expiresAt - tick) / heads.length;
+            final int index = (int) (expiresAt & mask);
+            task.next = null;
+            if (tails[index] == null) {
+                heads[index] = tails[index] = task;
+            } else {
+                tails[index].next = task;
+                tails[index] = task;
+            }
+        }
+    }
+
+    private void expire(final long tick) {
+        final int index = (int) (tick & mask);
+        WheelTask<?> previous = null;
+        WheelTask<?> task = heads[index];
+        while (task != null) {
+            final WheelTask<?> next = task.next;
+            final boolean remove = task.isCancelled() || task.remainingRounds <= 0;
+            if (remove) {
+                if (previous == null)
+                    heads[index] = next;
+                else
+                    previous.next = next;
+                if (tails[index] == task)
+                    tails[index] = previous;
+                task.next = null;
+                if (!task.isCancelled())
+                    dispatch(task);
+            } else {
+                task.remainingRounds--;
+                previous = task;
+            }
+            task = next;
+        }
+    }
+
+    private void dispatch(final WheelTask<?> task) {
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        /**
+         * Nanoseconds since the timer started
+         */
+        private volatile long deadline;
+        /**
+         * 0 for one shot tasks, positive for fixed rate and negative for fixed delay tasks
+         */
+        private final long period;
+        private long remainingRounds;
+        private WheelTask<?> next;
+
+        WheelTask(final Runnable runnable, final V result, final long deadline, final long period) {
+            super(runnable, result);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        WheelTask(final Callable<V> callable, final long deadline, final long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = 0;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (super.runAndReset() && !shutdown) {
+                deadline = period > 0 ? deadline + period : now() - period;
+                pending.offer(this);
+            }
+        }
+
+        @Override
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(final Delayed o) {
+            if (o == this)
+                return 0;
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -26,9 +26,11 @@ import org.reactivestreams.Publisher;
 import com.aol.cyclops2.internal.react.FutureStreamImpl;
 import com.aol.cyclops2.internal.react.stream.InfiniteClosingSpliteratorFromSupplier;
 import com.aol.cyclops2.internal.react.stream.ReactBuilder;
+import com.aol.cyclops2.react.BlockingWait;
 import com.aol.cyclops2.react.RetryBuilder;
 import com.aol.cyclops2.react.ThreadPools;
 import com.aol.cyclops2.react.async.subscription.Subscription;
+import com.aol.cyclops2.react.collectors.lazy.AdaptiveMaxActive;
 import com.aol.cyclops2.react.collectors.lazy.MaxActive;
 import cyclops.function.Cacheable;
 import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
@@ -96,6 +98,8 @@ public class LazyReact implements ReactBuilder {
     private final boolean autoMemoize;
     @Getter
     private final Cacheable<?> memoizeCache;
+    @Getter
+    private final BlockingWait blockingWait;
 
 
 
@@ -173,6 +177,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        blockingWait = BlockingWait.PARK;
 
     }
 
@@ -192,6 +197,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        blockingWait = BlockingWait.PARK;
 
     }
 
@@ -215,6 +221,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        blockingWait = BlockingWait.PARK;
     }
 
     /**
@@ -399,6 +406,51 @@ public class LazyReact implements ReactBuilder {
         return withAsync(false);
     }
 
+    /**
+     * Threads blocked waiting for tasks in Streams created by the returned LazyReact builder will spin briefly before
+     * parking until the task completes. This can reduce latency for blocking terminal operations when tasks are
+     * short lived, at the cost of some CPU. By default waiting threads park immediately.
+     *
+     * <pre>
+     * {@code
+     *   new LazyReact().spinThenPark()
+     *                  .range(0,1000)
+     *                  .map(i->i*2)
+     *                  .toList();
+     * }
+     * </pre>
+     *
+     * @return LazyReact that spins before parking blocked threads
+     * @see BlockingWait#SPIN_THEN_PARK
+     */
+    public LazyReact spinThenPark() {
+        return withBlockingWait(BlockingWait.SPIN_THEN_PARK);
+    }
+
+    /**
+     * Adjust the number of active Future Tasks for Streams created by the returned LazyReact builder from
+     * observed task latency, rather than using a fixed MaxActive. The limit starts at the {@link MaxActive#IO} level.
+     *
+     * <pre>
+     * {@code
+     *   LazyReact react = new LazyReact().adaptiveMaxActive();
+     *   react.range(0,1_000_000)
+     *        .map(this::callService)
+     *        .forEach(System.out::println);
+     *
+     *   AdaptiveMaxActive limit = (AdaptiveMaxActive)react.getMaxActive();
+     *   limit.getMaxActive();     //current limit
+     *   limit.getLatencySamples(); //latencies used to decide it
+     * }
+     * </pre>
+     *
+     * @return LazyReact with an adaptive MaxActive
+     * @see AdaptiveMaxActive
+     */
+    public LazyReact adaptiveMaxActive() {
+        return withMaxActive(AdaptiveMaxActive.io());
+    }
+
     /**
      * Construct a FutureStream from an Publisher
      * 
@@ -574,6 +626,19 @@ public class LazyReact implements ReactBuilder {
     public LazyReact(final Executor executor, final RetryExecutor retrier, final Boolean async, final MaxActive maxActive,
             final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
             final Cacheable memoizeCache) {
+        this(executor, retrier, async, maxActive, streamOfFutures, objectPoolingActive, autoOptimize, autoMemoize, memoizeCache,
+             BlockingWait.PARK);
+    }
+
+    /**
+     * @param executor Task Executor for concurrent tasks
+     * @param retrier Async Retrier
+     * @param async If true each task will be submitted to an executor service
+     * @param blockingWait Determines how threads blocked waiting for tasks to complete behave
+     */
+    public LazyReact(final Executor executor, final RetryExecutor retrier, final Boolean async, final MaxActive maxActive,
+            final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
+            final Cacheable memoizeCache, final BlockingWait blockingWait) {
         super();
         this.executor = executor;
         this.retrier = retrier;
@@ -587,6 +652,8 @@ public class LazyReact implements ReactBuilder {
         this.autoOptimize = autoOptimize;
         this.autoMemoize = autoMemoize;
         this.memoizeCache = memoizeCache;
+        this.blockingWait = Optional.ofNullable(blockingWait)
+                                    .orElse(BlockingWait.PARK);
 
     }
 
@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
@@ -16,6 +17,7 @@ import java.util.stream.StreamSupport;
 import com.aol.cyclops2.react.async.subscription.Subscription;
 import cyclops.collections.ListX;
 import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
 import cyclops.async.AdaptersModule.ClosingSpliterator;
 import cyclops.async.AdaptersModule.QueueToBlockingQueueWrapper;
 import cyclops.async.AdaptersModule.SingleContinuation;
@@ -257,6 +259,39 @@ public class Queue<T> implements Adapter<T> {
         return streamGroupedBySizeAndTime(Integer.MAX_VALUE,time,t);
 
     }
+
+    /**
+     * Stream data from this Queue batched by time, a timer on the supplied ScheduledExecutorService emits each batch
+     * when its time window expires, even if no further data arrives on the Queue.
+     *
+     * @param time Time period to build a single batch in
+     * @param t Time unit for batch
+     * @param ex ScheduledExecutorService used to emit batches when their time window expires
+     * @return Stream of batches from this Queue
+     */
+    public ReactiveSeq<ListX<T>> streamGroupedByTime(long time, TimeUnit t, ScheduledExecutorService ex){
+        return pushStream().groupedByTime(time,t,ex);
+
+    }
+
+    /**
+     * Stream data from this Queue batched by size and time, a timer on the supplied ScheduledExecutorService emits
+     * partially filled batches when their time window expires, even if no further data arrives on the Queue.
+     *
+     * @param size Max size of a batch
+     * @param time Time period to build a single batch in
+     * @param t Time unit for batch
+     * @param ex ScheduledExecutorService used to emit batches when their time window expires
+     * @return Stream of batches from this Queue
+     */
+    public ReactiveSeq<ListX<T>> streamGroupedBySizeAndTime(int size, long time, TimeUnit t, ScheduledExecutorService ex){
+        return pushStream().groupedBySizeAndTime(size,time,t,ex);
+    }
+
+    private ReactiveSeq<T> pushStream(){
+        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+        return Spouts.fromSpliterator(closingStream(this::get, new AlwaysContinue()).spliterator());
+    }
     public boolean checkTime(long current, long start,long toRun){
         boolean result = current-start < toRun;
 
@@ -385,8 +420,11 @@ public class Queue<T> implements Adapter<T> {
                                 handleTimeout(timer, timeoutNanos);
 
                         }
+                        if (data == null) //closed, another consumer may have taken the remaining data
+                            data = ensureClear(queue.poll());
                         if (data != null)
                             return (T) nillSafe(ensureNotPoisonPill(ensureClear(data)));
+                        throw new ClosedQueueException();
                     }finally{
                      }
                 }
@@ -0,0 +1,285 @@
+package cyclops.async;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Wither;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Retry with exponential backoff, where the backoff between attempts never blocks a thread. Each failed attempt is
+ * rescheduled on a ScheduledExecutorService and the result is made available as a {@link Future}.
+ *
+ * <pre>
+ * {@code
+ *  RetryPolicy policy = RetryPolicy.of(7, 200, TimeUnit.MILLISECONDS)
+ *                                  .withMaxDelayMillis(5_000)
+ *                                  .withJitter(0.2);
+ *
+ *  Spouts.of(1,2,3)
+ *        .retry(this::callService,policy)
+ *        .forEach(System.out::println);
+ *
+ *  policy.getStats().getRetries(); //number of retries made so far
+ * }
+ * </pre>
+ *
+ * The Stats instance is shared by policies created from this one via the with methods, use withStats(new Stats()) to
+ * monitor them separately.
+ *
+ * @author johnmcclean
+ *
+ */
+@Getter
+@Wither
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RetryPolicy {
+
+    /**
+     * Number of retries after the initial attempt
+     */
+    private final int maxRetries;
+    /**
+     * Delay before the first retry
+     */
+    private final long initialDelayMillis;
+    /**
+     * Factor the delay is multiplied by after each retry
+     */
+    private final double multiplier;
+    /**
+     * Upper bound for the delay between attempts
+     */
+    private final long maxDelayMillis;
+    /**
+     * Fraction of the delay by which it is randomly increased or decreased (0 for no jitter)
+     */
+    private final double jitter;
+    private final ScheduledExecutorService scheduler;
+    private final Stats stats;
+
+    /**
+     * Retry up to retries times, doubling the delay (starting at the supplied delay) after each retry. Retries are
+     * scheduled on a shared, daemon ScheduledExecutorService.
+     *
+     * @param retries Number of retries after the initial attempt
+     * @param delay Delay before the first retry
+     * @param unit TimeUnit for the delay
+     * @return RetryPolicy
+     */
+    public static RetryPolicy of(final int retries, final long delay, final TimeUnit unit) {
+        return of(retries, delay, unit, DefaultScheduler.INSTANCE);
+    }
+
+    /**
+     * Retry up to retries times, doubling the delay (starting at the supplied delay) after each retry.
+     *
+     * @param retries Number of retries after the initial attempt
+     * @param delay Delay before the first retry
+     * @param unit TimeUnit for the delay
+     * @param scheduler Executor to schedule (and run) retries on
+     * @return RetryPolicy
+     */
+    public static RetryPolicy of(final int retries, final long delay, final TimeUnit unit, final ScheduledExecutorService scheduler) {
+        return new RetryPolicy(
+                               retries, unit.toMillis(delay), 2, Long.MAX_VALUE, 0, scheduler, new Stats());
+    }
+
+    /**
+     * @param retry Zero based index of the retry
+     * @return Delay in milliseconds before the specified retry, including jitter
+     */
+    public long delayMillis(final int retry) {
+        final double base = Math.min(maxDelayMillis, initialDelayMillis * Math.pow(multiplier, retry));
+        final double jittered = jitter > 0 ? base + base * jitter * (ThreadLocalRandom.current()
+                                                                                       .nextDouble() * 2 - 1)
+                : base;
+        return (long) Math.max(0, Math.min(maxDelayMillis, jittered));
+    }
+
+    /**
+     * Apply the function to the supplied input, retrying on failure
+     *
+     * @param fn Function to apply
+     * @param input Input to the function
+     * @return Future populated with the result, or the last error if all retries fail
+     */
+    public <T, R> Future<R> retry(final Function<? super T, ? extends R> fn, final T input) {
+        final Future<R> result = Future.future();
+        attempt(fn, input, result, 0);
+        return result;
+    }
+
+    /**
+     * Get a value from the supplier, retrying on failure
+     *
+     * @param supplier Supplier to call
+     * @return Future populated with the result, or the last error if all retries fail
+     */
+    public <R> Future<R> retry(final Supplier<? extends R> supplier) {
+        return retry(__ -> supplier.get(), null);
+    }
+
+    /**
+     * Create a Function that applies the supplied function with retries, at most maxConcurrency inputs are being
+     * transformed (or waiting to retry) at once. Further inputs are queued and started, in the order in which they
+     * were supplied, as earlier ones complete. Waiting never blocks a thread.
+     *
+     * @param fn Function to apply
+     * @param maxConcurrency Maximum number of inputs being transformed (or waiting to retry) at once
+     * @return Function returning a Future populated with the result, or the last error if all retries fail
+     */
+    public <T, R> Function<T, Future<R>> limitedRetry(final Function<? super T, ? extends R> fn, final int maxConcurrency) {
+        final Limiter limiter = new Limiter(
+                                            maxConcurrency);
+        return input -> {
+            final Future<R> result = Future.future();
+            limiter.start(() -> {
+                result.getFuture()
+                      .whenComplete((r, e) -> limiter.release());
+                attempt(fn, input, result, 0);
+            });
+            return result;
+        };
+    }
+
+    private <T, R> void attempt(final Function<? super T, ? extends R> fn, final T input, final Future<R> result, final int retry) {
+        final R value;
+        try {
+            value = fn.apply(input);
+        } catch (final Throwable t) {
+            if (retry >= maxRetries) {
+                stats.exhausted.increment();
+                result.completeExceptionally(t);
+                return;
+            }
+            final long delay = delayMillis(retry);
+            stats.retried(delay);
+            try {
+                scheduler.schedule(() -> attempt(fn, input, result, retry + 1), delay, TimeUnit.MILLISECONDS);
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+            }
+            return;
+        }
+        result.complete(value);
+    }
+
+    /**
+     * Retry counts and delays for monitoring
+     */
+    public static class Stats {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder totalDelayMillis = new LongAdder();
+        private final AtomicLong lastDelayMillis = new AtomicLong();
+
+        void retried(final long delay) {
+            retries.increment();
+            totalDelayMillis.add(delay);
+            lastDelayMillis.set(delay);
+        }
+
+        /**
+         * @return Number of retries scheduled
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        /**
+         * @return Number of operations that failed after all retries
+         */
+        public long getExhausted() {
+            return exhausted.sum();
+        }
+
+        /**
+         * @return Sum of all delays scheduled before a retry
+         */
+        public long getTotalDelayMillis() {
+            return totalDelayMillis.sum();
+        }
+
+        /**
+         * @return Most recently scheduled delay
+         */
+        public long getLastDelayMillis() {
+            return lastDelayMillis.get();
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[retries=" + getRetries() + ", exhausted=" + getExhausted() + ", totalDelayMillis="
+                    + getTotalDelayMillis() + ", lastDelayMillis=" + getLastDelayMillis() + "]";
+        }
+    }
+
+    /*
+     * Starts queued tasks while fewer than max are active. Tasks that complete synchronously release their permit from
+     * inside drain, the wip counter turns that into another iteration of the drain loop rather than a nested call.
+     */
+    private static class Limiter {
+        private final int max;
+        private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private int active = 0;
+
+        Limiter(final int max) {
+            this.max = Math.max(1, max);
+        }
+
+        void start(final Runnable task) {
+            synchronized (this) {
+                pending.add(task);
+            }
+            drain();
+        }
+
+        void release() {
+            synchronized (this) {
+                active--;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            do {
+                for (;;) {
+                    final Runnable next;
+                    synchronized (this) {
+                        if (active >= max || pending.isEmpty())
+                            break;
+                        active++;
+                        next = pending.poll();
+                    }
+                    next.run();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+    }
+
+    private static class DefaultScheduler {
+        static final ScheduledExecutorService INSTANCE = Executors.newScheduledThreadPool(Runtime.getRuntime()
+                                                                                                 .availableProcessors(),
+                                                                                          DefaultScheduler::daemon);
+
+        private static Thread daemon(final Runnable r) {
+            final Thread t = new Thread(r, "cyclops-retry");
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
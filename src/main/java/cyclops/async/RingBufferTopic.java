@@ -0,0 +1,391 @@
+package cyclops.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+
+import com.aol.cyclops2.react.async.subscription.AlwaysContinue;
+import com.aol.cyclops2.react.async.subscription.Continueable;
+import com.aol.cyclops2.types.futurestream.Continuation;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.async.Queue.ClosedQueueException;
+import cyclops.async.wait.SpinWait;
+import cyclops.async.wait.WaitStrategy;
+import cyclops.stream.ReactiveSeq;
+
+import lombok.Getter;
+
+/**
+ * A Topic backed by a single shared ring buffer. Rather than copying each element into a Queue per subscriber,
+ * every connected Stream tracks its own read sequence over the shared buffer. Publishers wait (using the
+ * producer WaitStrategy) for the slowest connected Stream when the buffer is full, consumers wait (using the
+ * consumer WaitStrategy) for data to be published.
+ *
+ * Memory use is bounded by the buffer capacity regardless of the number of subscribers.
+ *
+ * <pre>
+ * {@code
+ *   RingBufferTopic<Integer> topic = new RingBufferTopic<>(1024);
+ *   ReactiveSeq<Integer> s1 = topic.stream();
+ *   ReactiveSeq<Integer> s2 = topic.stream();
+ *   topic.offer(1);
+ *   topic.close();
+ *
+ *   s1.toList(); //[1]
+ *   s2.toList(); //[1]
+ * }
+ * </pre>
+ *
+ * Streams only receive data published after they connect. Data published while no Streams are connected is
+ * discarded. As with Topic, Streams that are no longer consuming should be disconnected, otherwise they will
+ * eventually hold up publishers. WaitStrategies that do not retry themselves (e.g. DirectWaitStrategy) are
+ * retried in a busy loop.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type for the Topic
+ */
+public class RingBufferTopic<T> extends Topic<T> {
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+    private final WaitStrategy<T> producerWait;
+    private final WaitStrategy<T> consumerWait;
+
+    /**
+     * serialises publishers, which may wait for capacity while holding it
+     */
+    private final Object publishLock = new Object();
+    /**
+     * guards connecting and disconnecting Streams, never held while waiting so a slow Stream can always be
+     * disconnected (or the Topic closed) to release a waiting publisher
+     */
+    private final Object lock = new Object();
+    /**
+     * sequence of the last element published
+     */
+    private volatile long published = -1;
+    /**
+     * lowest read sequence observed across all cursors, refreshed only when the buffer appears full
+     */
+    private long cachedGatingSequence = 0;
+    /**
+     * snapshot of the connected cursors, replaced (never mutated) on connect / disconnect
+     */
+    private volatile List<Cursor> cursors = Collections.emptyList();
+    /**
+     * id for the next connected Stream, ids are never reused so they are stable across disconnects
+     */
+    private int nextId = 0;
+    @Getter(lombok.AccessLevel.PACKAGE)
+    private volatile PMap<ReactiveSeq<?>, Cursor> streamToCursor = HashTreePMap.empty();
+    private volatile boolean open = true;
+    /**
+     * true once a size Signal has been set on any connected Stream
+     */
+    private volatile boolean signalled = false;
+
+    private volatile Continuation continuation;
+    private final AtomicBoolean continuing = new AtomicBoolean(false);
+
+    /**
+     * Construct a RingBufferTopic that spin waits (see {@link SpinWait}) when full or empty
+     *
+     * @param capacity Buffer capacity, rounded up to the next power of 2
+     */
+    public RingBufferTopic(final int capacity) {
+        this(capacity, new SpinWait<>(), new SpinWait<>());
+    }
+
+    /**
+     * Construct a RingBufferTopic
+     *
+     * @param capacity Buffer capacity, rounded up to the next power of 2
+     * @param producerWait Strategy employed by publishers when the slowest subscriber is a full buffer behind
+     * @param consumerWait Strategy employed by subscribers when no new data has been published
+     */
+    public RingBufferTopic(final int capacity, final WaitStrategy<T> producerWait, final WaitStrategy<T> consumerWait) {
+        super(QueueFactories.unboundedQueue());
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "Capacity must be at least 1 : " + capacity);
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.producerWait = producerWait;
+        this.consumerWait = consumerWait;
+    }
+
+    /**
+     * @return Size of the shared buffer
+     */
+    public int capacity() {
+        return buffer.length();
+    }
+
+    /**
+     * Add a single datapoint to this Topic, waiting if the slowest connected Stream is a full buffer behind
+     *
+     * @param data data to add
+     * @return true if added
+     */
+    @Override
+    public boolean offer(final T data) {
+        synchronized (publishLock) {
+            publish(data);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean offerAll(final T[] data) {
+        synchronized (publishLock) {
+            for (int i = 0; i < data.length; i++)
+                publish(data[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean offerAll(final Iterable<? extends T> data) {
+        synchronized (publishLock) {
+            for (final T next : data)
+                publish(next);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean fromStream(final Stream<T> stream) {
+        stream.forEach(this::offer);
+        return true;
+    }
+
+    private void publish(final T data) {
+        if (!open)
+            throw new ClosedQueueException();
+        final long next = published + 1;
+        final long wrapPoint = next - buffer.length();
+        if (wrapPoint >= cachedGatingSequence) {
+            cachedGatingSequence = minimumSequence(next);
+            if (wrapPoint >= cachedGatingSequence)
+                awaitCapacity(next, wrapPoint);
+        }
+        buffer.lazySet((int) next & mask, data);
+        published = next;
+        if (signalled)
+            signalSizes();
+    }
+
+    private void signalSizes() {
+        final List<Cursor> current = cursors;
+        for (int i = 0, n = current.size(); i < n; i++)
+            current.get(i).signalSize();
+    }
+
+    private void awaitCapacity(final long next, final long wrapPoint) {
+        try {
+            while (!producerWait.offer(() -> {
+                if (!open)
+                    throw new ClosedQueueException();
+                return wrapPoint < (cachedGatingSequence = minimumSequence(next));
+            })) {
+
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private long minimumSequence(final long next) {
+        final List<Cursor> current = cursors;
+        long min = next;
+        for (int i = 0, n = current.size(); i < n; i++) {
+            final long seq = current.get(i).sequence;
+            if (seq < min)
+                min = seq;
+        }
+        return min;
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return stream(new AlwaysContinue());
+    }
+
+    @Override
+    public ReactiveSeq<T> stream(final Continueable s) {
+        synchronized (lock) {
+            final Cursor cursor = new Cursor(
+                                             nextId++, published + 1, s);
+            final ReactiveSeq<T> stream = ReactiveSeq.fromSpliterator(cursor);
+            final List<Cursor> updated = new ArrayList<>(cursors);
+            updated.add(cursor);
+            cursors = updated;
+            /*
+             * publishers are not excluded here, once registered the cursor gates them, so it can safely be moved on to
+             * the first sequence not yet published (anything published before registration may already be overwritten)
+             */
+            cursor.sequence = published + 1;
+            streamToCursor = streamToCursor.plus(stream, cursor);
+            return stream;
+        }
+    }
+
+    @Override
+    public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+        return stream().map(CompletableFuture::completedFuture);
+    }
+
+    /**
+     * Disconnect a Stream from this Topic, publishers will no longer wait for it to catch up
+     *
+     * @param stream Stream to disconnect
+     */
+    @Override
+    public void disconnect(final Stream<T> stream) {
+        synchronized (lock) {
+            final Cursor cursor = streamToCursor.get(stream);
+            if (cursor == null)
+                return;
+            final List<Cursor> updated = new ArrayList<>(cursors);
+            updated.remove(cursor);
+            cursors = updated;
+            streamToCursor = streamToCursor.minus(stream);
+        }
+    }
+
+    /**
+     * Close this Topic, connected Streams complete once they have consumed all published data
+     *
+     * @return true if closed
+     */
+    @Override
+    public boolean close() {
+        open = false;
+        return true;
+    }
+
+    @Override
+    public void addContinuation(final Continuation cont) {
+        continuation = cont;
+    }
+
+    /**
+     * @param index Index of a connected Stream, in connection order. Indexes are not reused or shifted when a Stream
+     *            disconnects
+     * @return Signal tracking the number of published elements that Stream has yet to read (null if not set)
+     */
+    @Override
+    public Signal<Integer> getSizeSignal(final int index) {
+        return cursor(index).sizeSignal;
+    }
+
+    /**
+     * @param index Index of a connected Stream, in connection order. Indexes are not reused or shifted when a Stream
+     *            disconnects
+     * @param s Signal to track the number of published elements that Stream has yet to read
+     */
+    @Override
+    public void setSizeSignal(final int index, final Signal<Integer> s) {
+        cursor(index).sizeSignal = s;
+        signalled = true;
+    }
+
+    private Cursor cursor(final int id) {
+        for (final Cursor next : cursors) {
+            if (next.id == id)
+                return next;
+        }
+        throw new IndexOutOfBoundsException(
+                                            "No connected Stream with index " + id);
+    }
+
+    /**
+     * Runs any registered Continuation on the consuming thread, allowing lazy publishers to make progress
+     */
+    private void handleContinuation() {
+        final Continuation cont = continuation;
+        if (cont != null && continuing.compareAndSet(false, true)) {
+            try {
+                continuation = cont.proceed();
+            } catch (final ClosedQueueException e) {
+                continuation = null;
+            } finally {
+                continuing.set(false);
+            }
+        }
+    }
+
+    /**
+     * @return true once seq has been published, false if the Topic or subscription closed first
+     */
+    private boolean awaitPublished(final long seq, final Continueable subscription) {
+        try {
+            while (!consumerWait.offer(() -> {
+                if (seq <= published || !open || subscription.closed())
+                    return true;
+                handleContinuation();
+                return false;
+            })) {
+
+            }
+            return seq <= published;
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Read position of a single connected Stream
+     */
+    final class Cursor extends Spliterators.AbstractSpliterator<T> {
+        final int id;
+        /**
+         * next sequence to be read
+         */
+        volatile long sequence;
+        volatile Signal<Integer> sizeSignal;
+        private final Continueable subscription;
+
+        Cursor(final int id, final long sequence, final Continueable subscription) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.id = id;
+            this.sequence = sequence;
+            this.subscription = subscription;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            final long seq = sequence;
+            if (seq > published && !awaitPublished(seq, subscription))
+                return false;
+            final T value = buffer.get((int) seq & mask);
+            sequence = seq + 1;
+            signalSize();
+            action.accept(value);
+            return true;
+        }
+
+        void signalSize() {
+            final Signal<Integer> signal = sizeSignal;
+            if (signal != null)
+                signal.set((int) Math.max(0, published - sequence + 1));
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package cyclops.async;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -61,6 +63,15 @@ public class Topic<T> implements Adapter<T> {
         distributor.addQueue(q);
     }
 
+    /**
+     * Construct a Topic without an initial Queue, for subclasses that distribute data without per subscriber Queues
+     *
+     * @param factory QueueFactory for subscriber Queues
+     */
+    Topic(final QueueFactory<T> factory) {
+        this.factory = factory;
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic 
@@ -174,11 +185,33 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
-        fromStream(Stream.of(data));
+        distributor.add(data);
         return true;
 
     }
 
+    /**
+     * Add each of the supplied datapoints to this Topic, every subscriber receives all of the data in order
+     *
+     * @param data data to add
+     * @return true if added
+     */
+    public boolean offerAll(final T[] data) {
+        distributor.addAll(data);
+        return true;
+    }
+
+    /**
+     * Add all of the data in the supplied Iterable to this Topic, every subscriber receives all of the data in order
+     *
+     * @param data data to add
+     * @return true if added
+     */
+    public boolean offerAll(final Iterable<? extends T> data) {
+        distributor.addAll(data);
+        return true;
+    }
+
     public void addContinuation(Continuation cont) {
         distributor.subscribers.forEach(q->q.addContinuation(cont));
     }
@@ -188,30 +221,60 @@ public class Topic<T> implements Adapter<T> {
         private static final long serialVersionUID = 1L;
         @Getter
         private volatile PVector<Queue<T>> subscribers = TreePVector.empty();
+        /**
+         * Snapshot of subscribers, replaced (never mutated) on add / remove so publishing
+         * can iterate it without locking or allocating
+         */
+        private volatile List<Queue<T>> subscriberList = Collections.emptyList();
 
         private final Object lock = new Object();
 
         @Synchronized("lock")
         public void addQueue(final Queue<T> q) {
             subscribers = subscribers.plus(q);
+            subscriberList = new ArrayList<>(subscribers);
         }
 
         @Synchronized("lock")
         public void removeQueue(final Queue<T> q) {
             subscribers = subscribers.minus(q);
+            subscriberList = new ArrayList<>(subscribers);
 
         }
 
         @Override
         public boolean add(final T e) {
-
-            subscribers.forEach(it -> it.offer(e));
+            distribute(subscriberList, e);
             return true;
         }
 
+        private void distribute(final List<Queue<T>> queues, final T e) {
+            for (int i = 0, n = queues.size(); i < n; i++)
+                queues.get(i).offer(e);
+        }
+
         @Override
         public boolean addAll(final Collection<? extends T> c) {
-            subscribers.forEach(it -> c.forEach(next -> it.offer(next)));
+            return addAll((Iterable<? extends T>) c);
+        }
+
+        /**
+         * The Iterable is traversed once, each element is offered to every subscriber Queue before the next is read
+         */
+        public boolean addAll(final Iterable<? extends T> c) {
+            final List<Queue<T>> queues = subscriberList;
+            for (final T next : c)
+                distribute(queues, next);
+            return true;
+        }
+
+        /**
+         * As {@link #addAll(Iterable)}, each element is offered to every subscriber Queue before the next
+         */
+        public boolean addAll(final T[] data) {
+            final List<Queue<T>> queues = subscriberList;
+            for (int i = 0; i < data.length; i++)
+                distribute(queues, data[i]);
             return true;
         }
 
@@ -5,7 +5,6 @@ import com.aol.cyclops2.hkt.Higher;
 import com.aol.cyclops2.types.*;
 import cyclops.async.Future;
 import cyclops.collections.box.Mutable;
-import cyclops.collections.DequeX;
 import cyclops.collections.ListX;
 import cyclops.collections.immutable.PVectorX;
 import cyclops.function.*;
@@ -30,8 +29,8 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -721,10 +720,10 @@ public interface Eval<T> extends    To<Eval<T>>,
         public static class Later<T> extends Rec<T> implements Eval<T> {
 
             Later(final Function<Object, ? extends T> s) {
-                super(PVectorX.of(Rec.raw(Memoize.memoizeFunction(s))));
+                super(Steps.of(Rec.raw(Memoize.memoizeFunction(s))));
             }
 
-            Later(final PVectorX<Function<Object, Object>> s) {
+            Later(final Steps s) {
                 super(s);
 
             }
@@ -738,10 +737,11 @@ public interface Eval<T> extends    To<Eval<T>>,
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(super.applyRec())).steps();
+                final Function<Object, Object> memoized = Rec.raw(Memoize.memoizeFunction(mapper));
+                final RecFunction s = in -> asEval((MonadicValue<?>)memoized.apply(in));
 
                 return new Later<R>(
-                                    PVectorX.of(s));
+                                    super.fns.plus(s));
 
             }
 
@@ -794,10 +794,10 @@ public interface Eval<T> extends    To<Eval<T>>,
         public static class Always<T> extends Rec<T>implements Eval<T> {
 
             Always(final Function<Object, ? extends T> s) {
-                super(PVectorX.of(Rec.raw(s)));
+                super(Steps.of(Rec.raw(s)));
             }
 
-            Always(final PVectorX<Function<Object, Object>> s) {
+            Always(final Steps s) {
                 super(s);
 
             }
@@ -812,10 +812,10 @@ public interface Eval<T> extends    To<Eval<T>>,
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(apply())).steps();
+                final RecFunction s = in -> asEval(mapper.apply((T)in));
 
                 return new Always<R>(
-                                     PVectorX.of(s));
+                                     fns.plus(s));
             }
 
             @Override
@@ -1057,11 +1057,61 @@ public interface Eval<T> extends    To<Eval<T>>,
 
         }
 
+        /**
+         * Append only sequence of evaluation steps. Steps share a backing array with the Steps they were derived from,
+         * appending to the most recently created Steps writes into the shared array in place (O(1)), only appending to an
+         * older Steps (branching the chain) copies.
+         */
+        static final class Steps {
+            private static final class Buffer {
+                Object[] fns;
+                int used;
+
+                Buffer(final Object[] fns, final int used) {
+                    this.fns = fns;
+                    this.used = used;
+                }
+            }
+
+            private final Buffer buffer;
+            private final int size;
+
+            private Steps(final Buffer buffer, final int size) {
+                this.buffer = buffer;
+                this.size = size;
+            }
+
+            static Steps of(final Function<Object, ?> fn) {
+                return new Steps(new Buffer(new Object[]{fn,null,null,null}, 1), 1);
+            }
+
+            Steps plus(final Function<Object, ?> fn) {
+                synchronized (buffer) {
+                    if (buffer.used == size) {
+                        if (size == buffer.fns.length)
+                            buffer.fns = Arrays.copyOf(buffer.fns, size * 2);
+                        buffer.fns[size] = fn;
+                        buffer.used++;
+                        return new Steps(buffer, size + 1);
+                    }
+                    final Object[] copy = Arrays.copyOf(buffer.fns, Math.max(4, size * 2));
+                    copy[size] = fn;
+                    return new Steps(new Buffer(copy, size + 1), size + 1);
+                }
+            }
+
+            Object[] array() {
+                synchronized (buffer) {
+                    return buffer.fns;
+                }
+            }
+        }
+
         private static class Rec<T> {
-            final PVectorX<Function<Object, Object>> fns;
+            final Steps fns;
             private final static Object VOID = new Object();
 
-            Rec(final PVectorX<Function<Object, Object>> s) {
+            Rec(final Steps s) {
                 fns = s;
             }
 
@@ -1069,29 +1119,60 @@ public interface Eval<T> extends    To<Eval<T>>,
                 return (Function<Object, Object>) fn;
             }
 
-            static interface RecFunction extends Function<Object, Object> {
-
-            }
+            /**
+             * A flatMap step, returns the Eval whose steps continue the evaluation
+             */
+            static interface RecFunction extends Function<Object, Eval<?>> {
 
-            public PVectorX<Function<Object, Object>> steps() {
-                return fns;
             }
 
             public Object init(){
                 return VOID;
             }
+
+            /*
+             * Evaluates the steps using a single array backed stack of (steps, position) frames, nested Evals returned by
+             * flatMap are pushed as new frames rather than evaluated recursively. A frame that has no steps remaining is
+             * replaced, so right nested (trampolined) flatMap chains run in constant stack space.
+             */
             T applyRec() {
                 Object input = init();
-                for (final Function<Object, Object> n : fns) {
-                    final DequeX<Function<Object, Object>> newFns = DequeX.of(n);
-                    while (newFns.size() > 0) {
-                        final Function<Object, Object> next = newFns.pop();
-                        if (next instanceof RecFunction) {
-                            newFns.plusAll((List) ((RecFunction) next).apply(VOID));
-                        } else
-                            input = next.apply(input);
-
+                Object[][] fnStack = new Object[8][];
+                int[] positions = new int[8];
+                int[] sizes = new int[8];
+                int top = 0;
+                fnStack[0] = fns.array();
+                sizes[0] = fns.size;
+                while (top >= 0) {
+                    if (positions[top] == sizes[top]) {
+                        fnStack[top--] = null;
+                        continue;
                     }
+                    final Object next = fnStack[top][positions[top]++];
+                    if (next instanceof RecFunction) {
+                        final Eval<?> eval = ((RecFunction) next).apply(input);
+                        final Object[] nested;
+                        final int nestedSize;
+                        if (eval instanceof Rec) {
+                            final Steps steps = ((Rec<?>) eval).fns;
+                            nested = steps.array();
+                            nestedSize = steps.size;
+                            input = ((Rec<?>) eval).init();
+                        } else {
+                            nested = new Object[]{(Function<Object, Object>) __ -> eval.get()};
+                            nestedSize = 1;
+                        }
+                        if (positions[top] < sizes[top] && ++top == fnStack.length) {
+                            fnStack = Arrays.copyOf(fnStack, top * 2);
+                            positions = Arrays.copyOf(positions, top * 2);
+                            sizes = Arrays.copyOf(sizes, top * 2);
+                        }
+                        fnStack[top] = nested;
+                        positions[top] = 0;
+                        sizes[top] = nestedSize;
+                    } else
+                        input = ((Function<Object, Object>) next).apply(input);
+
                 }
                 return (T) input;
             }
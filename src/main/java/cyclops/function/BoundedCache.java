@@ -0,0 +1,336 @@
+package cyclops.function;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+/**
+ * A concurrent, dependency free {@link Cacheable} with a maximum size, least recently used eviction and optional expiry
+ * (see {@link CachePolicy}).
+ *
+ * Entries are spread over up to 16 independently locked segments, each an access ordered LinkedHashMap, so eviction is
+ * least recently used within a segment (and exactly LRU for caches of fewer than 128 entries, which use a single segment).
+ * Each key is computed at most once while it is cached, concurrent callers for a key that is being computed wait for
+ * the result, computations for other keys are not blocked. A computation that throws is not cached.
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<User> cache = CachePolicy.maximumSize(10_000).cache();
+ *  Fn1<String,User> lookup = Memoize.memoizeFunction(this::loadUser, cache);
+ *
+ *  cache.getStats().getHitRate();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <OUT> Type of cached values
+ */
+public class BoundedCache<OUT> implements Cacheable<OUT> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Segment<OUT>[] segments;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final boolean expires;
+    private final Stats stats = new Stats();
+
+    BoundedCache(final CachePolicy policy) {
+        final long maximumSize = policy.getMaximumSize();
+        int count = 1;
+        while (count < MAX_SEGMENTS && maximumSize / (count * 2) >= MIN_SEGMENT_SIZE)
+            count *= 2;
+        final long segmentSize = maximumSize == Long.MAX_VALUE ? Long.MAX_VALUE : (maximumSize + count - 1) / count;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++)
+            segments[i] = new Segment<>(
+                                        segmentSize, stats);
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(policy.getExpireAfterWriteMillis());
+        this.expireAfterAccessNanos = TimeUnit.MILLISECONDS.toNanos(policy.getExpireAfterAccessMillis());
+        this.expires = policy.expires();
+    }
+
+    @Override
+    public OUT computeIfAbsent(final Object key, final Function<Object, OUT> fn) {
+        final Segment<OUT> segment = segmentFor(key);
+        final long now = expires ? System.nanoTime() : 0;
+        final Entry<OUT> entry;
+        final boolean compute;
+        segment.lock.lock();
+        try {
+            final Entry<OUT> cached = segment.map.get(key);
+            if (cached != null && !isExpired(cached, now)) {
+                cached.accessed = now;
+                entry = cached;
+                compute = false;
+            } else {
+                if (cached != null) {
+                    segment.map.remove(key);
+                    stats.expirations.increment();
+                }
+                if (expires)
+                    expireEldest(segment, now);
+                entry = new Entry<>(
+                                    now);
+                segment.map.put(key, entry);
+                compute = true;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        if (!compute) {
+            stats.hits.increment();
+            return entry.get();
+        }
+        stats.misses.increment();
+        try {
+            final OUT value = fn.apply(key);
+            entry.complete(value, expires ? System.nanoTime() : 0);
+            return value;
+        } catch (final Throwable t) {
+            remove(segment, key, entry);
+            entry.fail(t);
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+    }
+
+    /**
+     * @return Hit, miss and eviction counts for this cache
+     */
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * @return Number of cached entries (including any that have expired but not yet been removed)
+     */
+    public long size() {
+        long size = 0;
+        for (final Segment<OUT> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove the entry for the supplied key, if present
+     *
+     * @param key Key to remove
+     */
+    public void invalidate(final Object key) {
+        final Segment<OUT> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.map.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void invalidateAll() {
+        for (final Segment<OUT> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Recompute the value of each cached key, without changing its position in the eviction order. Keys evicted while
+     * refreshing are not re-added. If recomputing a key fails its stale value is kept, so a failure doesn't end the
+     * scheduled refresh.
+     */
+    void refresh(final Function<Object, OUT> fn) {
+        for (final Segment<OUT> segment : segments) {
+            final List<Map.Entry<Object, Entry<OUT>>> entries;
+            segment.lock.lock();
+            try {
+                entries = new ArrayList<>(
+                                          segment.map.entrySet());
+            } finally {
+                segment.lock.unlock();
+            }
+            for (final Map.Entry<Object, Entry<OUT>> next : entries) {
+                if (!next.getValue().value.isDone())
+                    continue;
+                final OUT result;
+                try {
+                    result = fn.apply(next.getKey());
+                } catch (final Throwable t) {
+                    continue;
+                }
+                next.getValue()
+                    .refresh(result, expires ? System.nanoTime() : 0);
+            }
+        }
+    }
+
+    private Segment<OUT> segmentFor(final Object key) {
+        final int h = Objects.hashCode(key);
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+
+    private boolean isExpired(final Entry<OUT> entry, final long now) {
+        if (!expires || !entry.value.isDone())
+            return false;
+        return (expireAfterWriteNanos > 0 && now - entry.written >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - entry.accessed >= expireAfterAccessNanos);
+    }
+
+    /*
+     * entries are in access order, so expired entries collect at the head
+     */
+    private void expireEldest(final Segment<OUT> segment, final long now) {
+        final Iterator<Entry<OUT>> it = segment.map.values()
+                                                   .iterator();
+        while (it.hasNext() && isExpired(it.next(), now)) {
+            it.remove();
+            stats.expirations.increment();
+        }
+    }
+
+    private void remove(final Segment<OUT> segment, final Object key, final Entry<OUT> entry) {
+        segment.lock.lock();
+        try {
+            segment.map.remove(key, entry);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private static final class Segment<OUT> {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<Object, Entry<OUT>> map;
+
+        Segment(final long capacity, final Stats stats) {
+            this.map = new LinkedHashMap<Object, Entry<OUT>>(
+                                                             16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Object, Entry<OUT>> eldest) {
+                    if (size() > capacity) {
+                        stats.evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+
+    private static final class Entry<OUT> {
+        volatile CompletableFuture<OUT> value = new CompletableFuture<>();
+        volatile Thread computing = Thread.currentThread();
+        volatile long written;
+        long accessed;
+
+        Entry(final long now) {
+            this.written = now;
+            this.accessed = now;
+        }
+
+        void complete(final OUT result, final long now) {
+            written = now;
+            value.complete(result);
+            computing = null;
+        }
+
+        void fail(final Throwable t) {
+            value.completeExceptionally(t);
+            computing = null;
+        }
+
+        void refresh(final OUT result, final long now) {
+            value = CompletableFuture.completedFuture(result);
+            written = now;
+        }
+
+        OUT get() {
+            final CompletableFuture<OUT> current = value;
+            if (!current.isDone() && computing == Thread.currentThread())
+                throw new IllegalStateException(
+                                                "Recursive computation of a cached key");
+            try {
+                return current.join();
+            } catch (final CompletionException e) {
+                throw ExceptionSoftener.throwSoftenedException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Cache hit, miss and eviction counts for monitoring
+     */
+    public static class Stats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder expirations = new LongAdder();
+
+        /**
+         * @return Number of lookups that found a cached value
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @return Number of lookups that computed a value
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @return Number of entries evicted to keep the cache within its maximum size
+         */
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        /**
+         * @return Number of entries removed after they expired
+         */
+        public long getExpirations() {
+            return expirations.sum();
+        }
+
+        /**
+         * @return Fraction of lookups that found a cached value (1 if there have been no lookups)
+         */
+        public double getHitRate() {
+            final long hits = getHits();
+            final long total = hits + getMisses();
+            return total == 0 ? 1d : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions()
+                    + ", expirations=" + getExpirations() + "]";
+        }
+    }
+}
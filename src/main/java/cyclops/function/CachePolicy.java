@@ -0,0 +1,71 @@
+package cyclops.function;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Wither;
+
+/**
+ * Configuration for the built in {@link BoundedCache} used to memoize functions : a maximum size (least recently used
+ * entries are evicted beyond it) and optional expiry after an entry is written or last accessed.
+ *
+ * <pre>
+ * {@code
+ *  Fn1<String,User> lookup = Memoize.memoizeFunction(this::loadUser,
+ *                                                    CachePolicy.maximumSize(10_000)
+ *                                                               .withExpireAfterWriteMillis(60_000));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@Getter
+@Wither
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachePolicy {
+
+    /**
+     * Maximum number of cached entries, Long.MAX_VALUE for no limit
+     */
+    private final long maximumSize;
+    /**
+     * Time after an entry is computed at which it expires, 0 to never expire
+     */
+    private final long expireAfterWriteMillis;
+    /**
+     * Time after an entry is last read (or computed) at which it expires, 0 to never expire
+     */
+    private final long expireAfterAccessMillis;
+
+    /**
+     * @param maximumSize Maximum number of cached entries
+     * @return CachePolicy that evicts the least recently used entries beyond maximumSize
+     */
+    public static CachePolicy maximumSize(final long maximumSize) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("Maximum size must be at least 1, was " + maximumSize);
+        return new CachePolicy(
+                               maximumSize, 0, 0);
+    }
+
+    /**
+     * @return CachePolicy with no maximum size and no expiry (typically combined with one of the expiry with methods)
+     */
+    public static CachePolicy unbounded() {
+        return new CachePolicy(
+                               Long.MAX_VALUE, 0, 0);
+    }
+
+    /**
+     * @return A new, empty cache configured by this policy
+     */
+    public <OUT> BoundedCache<OUT> cache() {
+        return new BoundedCache<>(
+                                  this);
+    }
+
+    boolean expires() {
+        return expireAfterWriteMillis > 0 || expireAfterAccessMillis > 0;
+    }
+}
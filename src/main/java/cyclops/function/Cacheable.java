@@ -5,7 +5,8 @@ import java.util.function.Function;
 import com.aol.cyclops2.util.ExceptionSoftener;
 
 /**
- * Interface that represents a pluggable cache
+ * Interface that represents a pluggable cache, {@link BoundedCache} (configured via {@link CachePolicy}) is a built in
+ * implementation with a maximum size and expiry
  * 
  * @author johnmcclean
  * 
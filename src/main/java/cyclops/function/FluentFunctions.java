@@ -1,5 +1,7 @@
 package cyclops.function;
 
+import cyclops.async.Future;
+import cyclops.async.RetryPolicy;
 import cyclops.control.Reader;
 import cyclops.monads.AnyM;
 import cyclops.stream.ReactiveSeq;
@@ -476,6 +478,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * A supplier that retries on failure according to the supplied RetryPolicy, without blocking the calling thread
+         * between attempts
+         *
+         * @param policy RetryPolicy determining the number of retries and the delay between them
+         * @return Supplier that returns it's value wrapped in a Future
+         */
+        public FluentSupplier<Future<R>> retryAsync(final RetryPolicy policy) {
+            return FluentFunctions.of(() -> policy.retry(fn));
+        }
+
 
 
         /**
@@ -615,6 +628,14 @@ public class FluentFunctions {
             return withFn(Memoize.memoizeFunction(fn, cache));
         }
 
+        /**
+         * @param policy Maximum size and expiry of the built in cache
+         * @return A caching (memoizing) version of this Function
+         */
+        public FluentFunction<T, R> memoize(final CachePolicy policy) {
+            return withFn(Memoize.memoizeFunction(fn, policy));
+        }
+
         /**
          * @param name To give this Function
          * @return A Function with a name (useful for logging purposes)
@@ -737,6 +758,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * A Function that retries on failure according to the supplied RetryPolicy, without blocking the calling thread
+         * between attempts
+         *
+         * @param policy RetryPolicy determining the number of retries and the delay between them
+         * @return Function that returns it's result wrapped in a Future
+         */
+        public FluentFunction<T, Future<R>> retryAsync(final RetryPolicy policy) {
+            return FluentFunctions.of(t -> policy.retry(fn, t));
+        }
+
 
         /**
          * Generate an infinite Stream that iterates from the specified seed using the currently wrapped function
@@ -978,7 +1010,15 @@ public class FluentFunctions {
          * @return A caching (memoizing) version of this BiFunction, outputs for all inputs will be cached (unless ejected from the cache)
          */
         public FluentBiFunction<T1, T2, R> memoize(final Cacheable<R> cache) {
-            return withFn(Memoize.memoizeBiFunction(fn));
+            return withFn(Memoize.memoizeBiFunction(fn, cache));
+        }
+
+        /**
+         * @param policy Maximum size and expiry of the built in cache
+         * @return A caching (memoizing) version of this BiFunction
+         */
+        public FluentBiFunction<T1, T2, R> memoize(final CachePolicy policy) {
+            return withFn(Memoize.memoizeBiFunction(fn, policy));
         }
 
         /**
@@ -1381,7 +1421,15 @@ public class FluentFunctions {
          * @return A caching (memoizing) version of this BiFunction, outputs for all inputs will be cached (unless ejected from the cache)
          */
         public FluentTriFunction<T1, T2, T3, R> memoize3(final Cacheable<R> cache) {
-            return withFn(Memoize.memoizeTriFunction(fn));
+            return withFn(Memoize.memoizeTriFunction(fn, cache));
+        }
+
+        /**
+         * @param policy Maximum size and expiry of the built in cache
+         * @return A caching (memoizing) version of this TriFunction
+         */
+        public FluentTriFunction<T1, T2, T3, R> memoize3(final CachePolicy policy) {
+            return withFn(Memoize.memoizeTriFunction(fn, policy));
         }
         /**
          * @param name To give this TriFunction
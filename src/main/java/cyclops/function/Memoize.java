@@ -3,6 +3,7 @@ package cyclops.function;
 import static org.jooq.lambda.tuple.Tuple.tuple;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -203,6 +204,71 @@ public class Memoize {
                          .computeIfAbsent(t, (Function) fn);
     }
 
+    /**
+     * Convert a Function into one that caches it's result in a {@link BoundedCache} configured by the supplied
+     * policy, e.g. to limit the number of cached results
+     *
+     * <pre>
+     * {@code
+     *  Fn1<String,User> lookup = Memoize.memoizeFunction(this::loadUser,CachePolicy.maximumSize(10_000)
+     *                                                                             .withExpireAfterAccessMillis(60_000));
+     * }
+     * </pre>
+     *
+     * @param fn Function to memoise
+     * @param policy Maximum size and expiry of the cache
+     * @return Memoised Function
+     */
+    public static <T, R> Fn1<T, R> memoizeFunction(final Function<T, R> fn, final CachePolicy policy) {
+        return memoizeFunction(fn, policy.<R>cache());
+    }
+
+    /**
+     * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service,
+     * holding at most the results allowed by the supplied policy
+     * Does not support null keys
+     *
+     * @param fn Function to Memoize
+     * @param ex Scheduled Executor Service
+     * @param updateRateInMillis Time in millis between async updates
+     * @param policy Maximum size and expiry of the cache
+     * @return Memoized asynchronously updating function
+     */
+    public static <T, R> Fn1<T, R> memoizeFunctionAsync(final Function<T, R> fn, ScheduledExecutorService ex, long updateRateInMillis, final CachePolicy policy){
+        final BoundedCache<R> cache = policy.cache();
+        final Function<Object, R> keyed = k -> fn.apply((T) k);
+
+        ReactiveSeq.generate(()->{
+            cache.refresh(keyed);
+            return null;
+        }).scheduleFixedRate(updateRateInMillis,ex);
+
+        return t -> cache.computeIfAbsent(t, keyed);
+    }
+
+    /**
+     * Memoize this function and update cached values on a schedule, holding at most the results allowed by the supplied
+     * policy
+     * Does not support null keys
+     *
+     * @param fn  Function to Memoize
+     * @param ex Scheduled Executor Service
+     * @param cron Cron expression for updating cached values asynchonrously
+     * @param policy Maximum size and expiry of the cache
+     * @return Memoized asynchronously updating function
+     */
+    public static <T, R> Fn1<T, R> memoizeFunctionAsync(final Function<T, R> fn, ScheduledExecutorService ex, String cron, final CachePolicy policy) {
+        final BoundedCache<R> cache = policy.cache();
+        final Function<Object, R> keyed = k -> fn.apply((T) k);
+
+        ReactiveSeq.generate(()->{
+            cache.refresh(keyed);
+            return null;
+        }).schedule(cron,ex);
+
+        return t -> cache.computeIfAbsent(t, keyed);
+    }
+
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -213,8 +279,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T1, T2, R> Fn2<T1, T2, R> memoizeBiFunctionAsync(final BiFunction<T1, T2, R> fn,ScheduledExecutorService ex, long updateRateInMillis) {
-        val memoise2 = memoizeFunctionAsync((final Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2),ex,updateRateInMillis);
-        return (t1, t2) -> memoise2.apply(tuple(t1, t2));
+        val memoise2 = memoizeFunctionAsync((final Key2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2),ex,updateRateInMillis);
+        return (t1, t2) -> memoise2.apply(new Key2<>(t1, t2));
     }
     /**
      * Memoize this function and update cached values on a schedule
@@ -226,8 +292,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T1, T2, R> Fn2<T1, T2, R> memoizeBiFunctionAsync(final BiFunction<T1, T2, R> fn, ScheduledExecutorService ex, String cron) {
-        val memoise2 = memoizeFunctionAsync((final Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2),ex,cron);
-        return (t1, t2) -> memoise2.apply(tuple(t1, t2));
+        val memoise2 = memoizeFunctionAsync((final Key2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2),ex,cron);
+        return (t1, t2) -> memoise2.apply(new Key2<>(t1, t2));
     }
 
     /**
@@ -237,8 +303,8 @@ public class Memoize {
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> Fn2<T1, T2, R> memoizeBiFunction(final BiFunction<T1, T2, R> fn) {
-        val memoise2 = memoizeFunction((final Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2));
-        return (t1, t2) -> memoise2.apply(tuple(t1, t2));
+        val memoise2 = memoizeFunction((final Key2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2));
+        return (t1, t2) -> memoise2.apply(new Key2<>(t1, t2));
     }
 
     /**
@@ -253,6 +319,17 @@ public class Memoize {
         return (t1, t2) -> memoise2.apply(tuple(t1, t2));
     }
 
+    /**
+     * Convert a BiFunction into one that caches it's result in a {@link BoundedCache} configured by the supplied policy
+     *
+     * @param fn BiFunction to memoise
+     * @param policy Maximum size and expiry of the cache
+     * @return Memoised BiFunction
+     */
+    public static <T1, T2, R> Fn2<T1, T2, R> memoizeBiFunction(final BiFunction<T1, T2, R> fn, final CachePolicy policy) {
+        return memoizeBiFunction(fn, policy.<R>cache());
+    }
+
     /**
      * Convert a TriFunction into one that caches it's result
      * 
@@ -260,8 +337,8 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> Fn3<T1, T2, T3, R> memoizeTriFunction(final Fn3<T1, T2, T3, R> fn) {
-        val memoise2 = memoizeFunction((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3));
-        return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
+        val memoise2 = memoizeFunction((final Key3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3));
+        return (t1, t2, t3) -> memoise2.apply(new Key3<>(t1, t2, t3));
     }
 
     /**
@@ -274,8 +351,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T1, T2, T3, R> Fn3<T1, T2, T3, R> memoizeTriFunctionAsync(final Fn3<T1, T2, T3, R> fn, ScheduledExecutorService ex, String cron) {
-        val memoise2 = memoizeFunctionAsync((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3),ex,cron);
-        return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
+        val memoise2 = memoizeFunctionAsync((final Key3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3),ex,cron);
+        return (t1, t2, t3) -> memoise2.apply(new Key3<>(t1, t2, t3));
     }
     /**
      * Convert a TriFunction into one that caches it's result
@@ -288,6 +365,17 @@ public class Memoize {
         val memoise2 = memoizeFunction((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3), cache);
         return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
     }
+
+    /**
+     * Convert a TriFunction into one that caches it's result in a {@link BoundedCache} configured by the supplied policy
+     *
+     * @param fn TriFunction to memoise
+     * @param policy Maximum size and expiry of the cache
+     * @return Memoised TriFunction
+     */
+    public static <T1, T2, T3, R> Fn3<T1, T2, T3, R> memoizeTriFunction(final Fn3<T1, T2, T3, R> fn, final CachePolicy policy) {
+        return memoizeTriFunction(fn, policy.<R>cache());
+    }
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -298,8 +386,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T1, T2, T3, R> Fn3<T1, T2, T3, R> memoizeTriFunctionAsync(final Fn3<T1, T2, T3, R> fn,ScheduledExecutorService ex, long updateRateInMillis) {
-        val memoise2 = memoizeFunctionAsync((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3),ex,updateRateInMillis);
-        return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
+        val memoise2 = memoizeFunctionAsync((final Key3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3),ex,updateRateInMillis);
+        return (t1, t2, t3) -> memoise2.apply(new Key3<>(t1, t2, t3));
     }
     /**
      * Convert a QuadFunction into one that caches it's result
@@ -308,8 +396,8 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, T4, R> Fn4<T1, T2, T3, T4, R> memoizeQuadFunction(final Fn4<T1, T2, T3, T4, R> fn) {
-        val memoise2 = memoizeFunction((final Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4));
-        return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
+        val memoise2 = memoizeFunction((final Key4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4));
+        return (t1, t2, t3, t4) -> memoise2.apply(new Key4<>(t1, t2, t3, t4));
     }
     /**
      * Memoize this function and update cached values on a schedule
@@ -321,8 +409,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T1, T2, T3, T4, R> Fn4<T1, T2, T3, T4, R> memoizeQuadFunctionAsync(final Fn4<T1, T2, T3, T4, R> fn, ScheduledExecutorService ex, String cron) {
-        val memoise2 = memoizeFunctionAsync((final Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4),ex,cron);
-        return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
+        val memoise2 = memoizeFunctionAsync((final Key4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4),ex,cron);
+        return (t1, t2, t3, t4) -> memoise2.apply(new Key4<>(t1, t2, t3, t4));
     }
 
 
@@ -338,6 +426,18 @@ public class Memoize {
         val memoise2 = memoizeFunction((final Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4), cache);
         return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
     }
+
+    /**
+     * Convert a QuadFunction into one that caches it's result in a {@link BoundedCache} configured by the supplied policy
+     *
+     * @param fn QuadFunction to memoise
+     * @param policy Maximum size and expiry of the cache
+     * @return Memoised QuadFunction
+     */
+    public static <T1, T2, T3, T4, R> Fn4<T1, T2, T3, T4, R> memoizeQuadFunction(final Fn4<T1, T2, T3, T4, R> fn,
+                                                                                 final CachePolicy policy) {
+        return memoizeQuadFunction(fn, policy.<R>cache());
+    }
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -348,8 +448,8 @@ public class Memoize {
      * @return Memoized asynchronously updating function
      */
     public static <T1, T2, T3, T4, R> Fn4<T1, T2, T3, T4, R> memoizeQuadFunctionAsync(final Fn4<T1, T2, T3, T4, R> fn,ScheduledExecutorService ex, long updateRateInMillis) {
-        val memoise2 = memoizeFunctionAsync((final Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4),ex,updateRateInMillis);
-        return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
+        val memoise2 = memoizeFunctionAsync((final Key4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4),ex,updateRateInMillis);
+        return (t1, t2, t3, t4) -> memoise2.apply(new Key4<>(t1, t2, t3, t4));
     }
 
     /**
@@ -377,4 +477,99 @@ public class Memoize {
         return (t) -> t==null? nullR.computeIfAbsent(()->p.test(null)) : memoised.apply(t);
     }
 
+    /*
+     * Composite keys for memoizing multi-argument functions, a single small allocation per call with the hash computed
+     * once (rather than on every probe, as with a Tuple). User supplied Cacheables are still passed (Serializable) Tuple
+     * keys, as they may be backed by serializing or distributed caches.
+     */
+    private static final class Key2<T1, T2> {
+        final T1 v1;
+        final T2 v2;
+        final int hash;
+
+        Key2(final T1 v1, final T2 v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.hash = 31 * Objects.hashCode(v1) + Objects.hashCode(v2);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key2))
+                return false;
+            final Key2<?, ?> other = (Key2<?, ?>) o;
+            return hash == other.hash && Objects.equals(v1, other.v1) && Objects.equals(v2, other.v2);
+        }
+    }
+
+    private static final class Key3<T1, T2, T3> {
+        final T1 v1;
+        final T2 v2;
+        final T3 v3;
+        final int hash;
+
+        Key3(final T1 v1, final T2 v2, final T3 v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.hash = 31 * (31 * Objects.hashCode(v1) + Objects.hashCode(v2)) + Objects.hashCode(v3);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key3))
+                return false;
+            final Key3<?, ?, ?> other = (Key3<?, ?, ?>) o;
+            return hash == other.hash && Objects.equals(v1, other.v1) && Objects.equals(v2, other.v2)
+                    && Objects.equals(v3, other.v3);
+        }
+    }
+
+    private static final class Key4<T1, T2, T3, T4> {
+        final T1 v1;
+        final T2 v2;
+        final T3 v3;
+        final T4 v4;
+        final int hash;
+
+        Key4(final T1 v1, final T2 v2, final T3 v3, final T4 v4) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.hash = 31 * (31 * (31 * Objects.hashCode(v1) + Objects.hashCode(v2)) + Objects.hashCode(v3))
+                    + Objects.hashCode(v4);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key4))
+                return false;
+            final Key4<?, ?, ?, ?> other = (Key4<?, ?, ?, ?>) o;
+            return hash == other.hash && Objects.equals(v1, other.v1) && Objects.equals(v2, other.v2)
+                    && Objects.equals(v3, other.v3) && Objects.equals(v4, other.v4);
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package cyclops.function;
 
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 /**
@@ -89,4 +90,41 @@ public interface Reducer<T> extends Monoid<T> {
             }
         };
     }
+
+    /**
+     * Create a Reducer that performs bulk reductions (mapReduce) with the supplied Collector, typically one that accumulates
+     * into a mutable (transient) builder and produces the result in a single step. The zero value and combiner are used
+     * for all other reductions.
+     *
+     * @param zero Identity value
+     * @param combiner Combining function
+     * @param mapToType Conversion of a single value to the reduced type
+     * @param builder Collector used by mapReduce
+     * @return Reducer
+     */
+    public static <T> Reducer<T> of(final T zero, final Function<T, Function<T, T>> combiner, final Function<?, T> mapToType,
+                                    final Collector<?, ?, T> builder) {
+        return new Reducer<T>() {
+            @Override
+            public T zero() {
+                return zero;
+            }
+
+            @Override
+            public T apply(final T t, final T u) {
+                return combiner.apply(t)
+                               .apply(u);
+            }
+
+            @Override
+            public Stream<T> mapToType(final Stream stream) {
+                return stream.map(mapToType);
+            }
+
+            @Override
+            public T mapReduce(final Stream<?> toReduce) {
+                return (T) ((Stream) toReduce).collect(builder);
+            }
+        };
+    }
 }
@@ -0,0 +1,113 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.StreamBasedDoubleSeq;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequence of unboxed double values.
+ *
+ * map, filter, scanLeft, foldLeft, sliding and zip operate directly on double values, boxing only occurs when
+ * leaving the sequence via {@link #mapToObj(DoubleFunction)} or {@link #boxed()}. DoubleSeqs created via the static
+ * factory methods here are pull based (backed by a {@link DoubleStream}), push based DoubleSeqs can be created via
+ * {@link Spouts} or by converting a push based ReactiveSeq via {@link ReactiveSeq#toDoubleSeq(java.util.function.ToDoubleFunction)}.
+ *
+ * <pre>
+ * {@code
+ *   DoubleSeq.of(1,2,3,4)
+ *           .map(i->i*2)
+ *           .scanLeft(0,(a,b)->a+b)
+ *           .toArray();
+ *
+ *   //[0,2,6,12,20]
+ * }
+ * </pre>
+ *
+ * Like ReactiveSeq, a DoubleSeq may only be traversed once.
+ */
+public interface DoubleSeq {
+
+    /**
+     * @param values doubles to populate the sequence from
+     * @return Pull based DoubleSeq of the supplied values
+     */
+    public static DoubleSeq of(double... values){
+        return new StreamBasedDoubleSeq(DoubleStream.of(values));
+    }
+
+    public static DoubleSeq fromDoubleStream(DoubleStream stream){
+        return new StreamBasedDoubleSeq(stream);
+    }
+
+    public static DoubleSeq fromSpliterator(Spliterator.OfDouble spliterator){
+        return new StreamBasedDoubleSeq(StreamSupport.doubleStream(spliterator,false));
+    }
+
+    DoubleSeq map(DoubleUnaryOperator fn);
+
+    DoubleSeq filter(DoublePredicate fn);
+
+    /**
+     * Running accumulation of the values in this sequence, starting with identity
+     *
+     * <pre>
+     * {@code
+     *   DoubleSeq.of(1,2,3).scanLeft(0,(a,b)->a+b);
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     */
+    DoubleSeq scanLeft(double identity, DoubleBinaryOperator fn);
+
+    double foldLeft(double identity, DoubleBinaryOperator fn);
+
+    /**
+     * Sliding windows of size values, the window moves forward by increment values each time.
+     * A trailing partial window is emitted if the sequence ends before a window is complete.
+     *
+     * <pre>
+     * {@code
+     *   DoubleSeq.of(1,2,3,4,5).sliding(2,2);
+     *   //[[1,2],[3,4],[5]]
+     * }
+     * </pre>
+     */
+    ReactiveSeq<double[]> sliding(int size, int increment);
+
+    default ReactiveSeq<double[]> sliding(int size){
+        return sliding(size,1);
+    }
+
+    /**
+     * Combine the values of this sequence pairwise with those of another, stopping when either is exhausted
+     */
+    DoubleSeq zip(DoubleSeq other, DoubleBinaryOperator zipper);
+
+    <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn);
+
+    default ReactiveSeq<Double> boxed(){
+        return mapToObj(i->i);
+    }
+
+    void forEach(DoubleConsumer action);
+
+    double[] toArray();
+
+    long count();
+
+    default double sum(){
+        return foldLeft(0,(a,b)->a+b);
+    }
+
+    PrimitiveIterator.OfDouble iterator();
+
+    DoubleStream toDoubleStream();
+}
@@ -139,9 +139,43 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return fromStream(stream().timestamp());
     }
 
+    /*
+     * Results are emitted in the order in which this FutureStream emits its elements, as before. The delay between
+     * attempts is scheduled on the default RetryPolicy ScheduledExecutorService, rather than spent sleeping.
+     *
+     * @see cyclops.stream.ReactiveSeq#retry(java.util.function.Function, cyclops.async.RetryPolicy, int)
+     */
     @Override
     default <R> FutureStream<R> retry(final Function<? super U, ? extends R> fn, final int retries, final long delay, final TimeUnit timeUnit) {
-        return fromStream(stream().retry(fn,retries,delay,timeUnit));
+        return fromStream(stream().retry(fn, RetryPolicy.of(retries, delay, timeUnit), 1));
+    }
+
+    /*
+     * Retries are scheduled on the RetryPolicy's ScheduledExecutorService, so the task executor threads are not blocked
+     * while an element backs off. Unlike the other retry operators, results complete (and are emitted) asynchronously
+     * in completion order, an element that is backing off does not hold up later elements.
+     *
+     * @see cyclops.stream.ReactiveSeq#retry(java.util.function.Function, cyclops.async.RetryPolicy)
+     */
+    @Override
+    default <R> FutureStream<R> retry(final Function<? super U, ? extends R> fn, final RetryPolicy policy) {
+        return (FutureStream<R>) flatMapToCompletableFuture(t -> policy.<U, R> retry(fn, t)
+                                                                        .getFuture());
+    }
+
+    /*
+     * At most maxConcurrency elements are transformed (or waiting to retry) at once, further elements are started in
+     * the order in which this FutureStream emits them as earlier ones complete. As with retry(fn,policy) attempts run
+     * on the task executor and the RetryPolicy's ScheduledExecutorService, and results are emitted in completion order
+     * (with a maxConcurrency of 1 that is the order in which this FutureStream emits its elements).
+     *
+     * @see cyclops.stream.ReactiveSeq#retry(java.util.function.Function, cyclops.async.RetryPolicy, int)
+     */
+    @Override
+    default <R> FutureStream<R> retry(final Function<? super U, ? extends R> fn, final RetryPolicy policy, final int maxConcurrency) {
+        final Function<U, cyclops.async.Future<R>> limited = policy.limitedRetry(fn, maxConcurrency);
+        return (FutureStream<R>) flatMapToCompletableFuture(t -> limited.apply(t)
+                                                                        .getFuture());
     }
 
 
@@ -1233,7 +1267,9 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
                                                                                          try {
                                                                                              return CompletableFuture.completedFuture(f.join());
                                                                                          } catch (final Throwable t) {
-                                                                                             return new CompletableFuture().completeExceptionally(t);
+                                                                                             final CompletableFuture failed = new CompletableFuture();
+                                                                                             failed.completeExceptionally(t);
+                                                                                             return failed;
                                                                                          }
                                                                                      }));
 
@@ -0,0 +1,126 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.StreamBasedIntSeq;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequence of unboxed int values.
+ *
+ * map, filter, scanLeft, foldLeft, sliding and zip operate directly on int values, boxing only occurs when
+ * leaving the sequence via {@link #mapToObj(IntFunction)} or {@link #boxed()}. IntSeqs created via the static
+ * factory methods here are pull based (backed by a {@link IntStream}), push based IntSeqs can be created via
+ * {@link Spouts} or by converting a push based ReactiveSeq via {@link ReactiveSeq#toIntSeq(java.util.function.ToIntFunction)}.
+ *
+ * <pre>
+ * {@code
+ *   IntSeq.of(1,2,3,4)
+ *           .map(i->i*2)
+ *           .scanLeft(0,(a,b)->a+b)
+ *           .toArray();
+ *
+ *   //[0,2,6,12,20]
+ * }
+ * </pre>
+ *
+ * Like ReactiveSeq, a IntSeq may only be traversed once.
+ */
+public interface IntSeq {
+
+    /**
+     * @param values ints to populate the sequence from
+     * @return Pull based IntSeq of the supplied values
+     */
+    public static IntSeq of(int... values){
+        return new StreamBasedIntSeq(IntStream.of(values));
+    }
+
+    /**
+     * @param start Start value (inclusive)
+     * @param end End value (exclusive)
+     * @return Pull based IntSeq over the range in ascending order. If start is greater than end the bounds are swapped,
+     *         the values from end (inclusive) to start (exclusive) are emitted, still in ascending order
+     */
+    public static IntSeq range(int start, int end){
+        if(start<end)
+            return new StreamBasedIntSeq(IntStream.range(start,end));
+        else
+            return new StreamBasedIntSeq(IntStream.range(end,start));
+    }
+
+    public static IntSeq fromIntStream(IntStream stream){
+        return new StreamBasedIntSeq(stream);
+    }
+
+    public static IntSeq fromSpliterator(Spliterator.OfInt spliterator){
+        return new StreamBasedIntSeq(StreamSupport.intStream(spliterator,false));
+    }
+
+    IntSeq map(IntUnaryOperator fn);
+
+    IntSeq filter(IntPredicate fn);
+
+    /**
+     * Running accumulation of the values in this sequence, starting with identity
+     *
+     * <pre>
+     * {@code
+     *   IntSeq.of(1,2,3).scanLeft(0,(a,b)->a+b);
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     */
+    IntSeq scanLeft(int identity, IntBinaryOperator fn);
+
+    int foldLeft(int identity, IntBinaryOperator fn);
+
+    /**
+     * Sliding windows of size values, the window moves forward by increment values each time.
+     * A trailing partial window is emitted if the sequence ends before a window is complete.
+     *
+     * <pre>
+     * {@code
+     *   IntSeq.of(1,2,3,4,5).sliding(2,2);
+     *   //[[1,2],[3,4],[5]]
+     * }
+     * </pre>
+     */
+    ReactiveSeq<int[]> sliding(int size, int increment);
+
+    default ReactiveSeq<int[]> sliding(int size){
+        return sliding(size,1);
+    }
+
+    /**
+     * Combine the values of this sequence pairwise with those of another, stopping when either is exhausted
+     */
+    IntSeq zip(IntSeq other, IntBinaryOperator zipper);
+
+    <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn);
+
+    default ReactiveSeq<Integer> boxed(){
+        return mapToObj(i->i);
+    }
+
+    void forEach(IntConsumer action);
+
+    int[] toArray();
+
+    long count();
+
+    default int sum(){
+        return foldLeft(0,(a,b)->a+b);
+    }
+
+    PrimitiveIterator.OfInt iterator();
+
+    IntStream toIntStream();
+}
@@ -0,0 +1,126 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.StreamBasedLongSeq;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequence of unboxed long values.
+ *
+ * map, filter, scanLeft, foldLeft, sliding and zip operate directly on long values, boxing only occurs when
+ * leaving the sequence via {@link #mapToObj(LongFunction)} or {@link #boxed()}. LongSeqs created via the static
+ * factory methods here are pull based (backed by a {@link LongStream}), push based LongSeqs can be created via
+ * {@link Spouts} or by converting a push based ReactiveSeq via {@link ReactiveSeq#toLongSeq(java.util.function.ToLongFunction)}.
+ *
+ * <pre>
+ * {@code
+ *   LongSeq.of(1,2,3,4)
+ *           .map(i->i*2)
+ *           .scanLeft(0,(a,b)->a+b)
+ *           .toArray();
+ *
+ *   //[0,2,6,12,20]
+ * }
+ * </pre>
+ *
+ * Like ReactiveSeq, a LongSeq may only be traversed once.
+ */
+public interface LongSeq {
+
+    /**
+     * @param values longs to populate the sequence from
+     * @return Pull based LongSeq of the supplied values
+     */
+    public static LongSeq of(long... values){
+        return new StreamBasedLongSeq(LongStream.of(values));
+    }
+
+    /**
+     * @param start Start value (inclusive)
+     * @param end End value (exclusive)
+     * @return Pull based LongSeq over the range in ascending order. If start is greater than end the bounds are swapped,
+     *         the values from end (inclusive) to start (exclusive) are emitted, still in ascending order
+     */
+    public static LongSeq range(long start, long end){
+        if(start<end)
+            return new StreamBasedLongSeq(LongStream.range(start,end));
+        else
+            return new StreamBasedLongSeq(LongStream.range(end,start));
+    }
+
+    public static LongSeq fromLongStream(LongStream stream){
+        return new StreamBasedLongSeq(stream);
+    }
+
+    public static LongSeq fromSpliterator(Spliterator.OfLong spliterator){
+        return new StreamBasedLongSeq(StreamSupport.longStream(spliterator,false));
+    }
+
+    LongSeq map(LongUnaryOperator fn);
+
+    LongSeq filter(LongPredicate fn);
+
+    /**
+     * Running accumulation of the values in this sequence, starting with identity
+     *
+     * <pre>
+     * {@code
+     *   LongSeq.of(1,2,3).scanLeft(0,(a,b)->a+b);
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     */
+    LongSeq scanLeft(long identity, LongBinaryOperator fn);
+
+    long foldLeft(long identity, LongBinaryOperator fn);
+
+    /**
+     * Sliding windows of size values, the window moves forward by increment values each time.
+     * A trailing partial window is emitted if the sequence ends before a window is complete.
+     *
+     * <pre>
+     * {@code
+     *   LongSeq.of(1,2,3,4,5).sliding(2,2);
+     *   //[[1,2],[3,4],[5]]
+     * }
+     * </pre>
+     */
+    ReactiveSeq<long[]> sliding(int size, int increment);
+
+    default ReactiveSeq<long[]> sliding(int size){
+        return sliding(size,1);
+    }
+
+    /**
+     * Combine the values of this sequence pairwise with those of another, stopping when either is exhausted
+     */
+    LongSeq zip(LongSeq other, LongBinaryOperator zipper);
+
+    <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn);
+
+    default ReactiveSeq<Long> boxed(){
+        return mapToObj(i->i);
+    }
+
+    void forEach(LongConsumer action);
+
+    long[] toArray();
+
+    long count();
+
+    default long sum(){
+        return foldLeft(0,(a,b)->a+b);
+    }
+
+    PrimitiveIterator.OfLong iterator();
+
+    LongStream toLongStream();
+}
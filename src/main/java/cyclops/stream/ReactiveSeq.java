@@ -5,6 +5,7 @@ import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.data.collections.extensions.LazyFluentCollectionX;
 import com.aol.cyclops2.hkt.Higher;
 import com.aol.cyclops2.internal.stream.OneShotStreamX;
+import com.aol.cyclops2.internal.stream.SharedBufferCopier;
 import com.aol.cyclops2.internal.stream.spliterators.*;
 import com.aol.cyclops2.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
 import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
@@ -38,6 +39,8 @@ import cyclops.monads.Witness;
 import cyclops.monads.Witness.reactiveSeq;
 import cyclops.monads.WitnessType;
 import cyclops.monads.transformers.StreamT;
+import cyclops.stream.sketch.HyperLogLog;
+import cyclops.stream.sketch.QuantileSketch;
 import cyclops.typeclasses.Pure;
 import cyclops.typeclasses.foldable.Foldable;
 import cyclops.typeclasses.functor.Functor;
@@ -673,6 +676,45 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Convert to a sequence of unboxed ints, subsequent map / filter / scanLeft / foldLeft / sliding / zip
+     * operations do not box. Push based ReactiveSeqs (e.g. those created via {@link Spouts}) remain push based.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq.of(1,2,3)
+     *              .toIntSeq(i->i)
+     *              .scanLeft(0,(a,b)->a+b)
+     *              .toArray();
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     *
+     * @param fn Conversion function applied once to each value
+     * @return IntSeq
+     */
+    default IntSeq toIntSeq(ToIntFunction<? super T> fn){
+        return IntSeq.fromIntStream(StreamSupport.stream(this.spliterator(),false).mapToInt(fn));
+    }
+
+    /**
+     * @see #toIntSeq(ToIntFunction)
+     * @param fn Conversion function applied once to each value
+     * @return LongSeq
+     */
+    default LongSeq toLongSeq(ToLongFunction<? super T> fn){
+        return LongSeq.fromLongStream(StreamSupport.stream(this.spliterator(),false).mapToLong(fn));
+    }
+
+    /**
+     * @see #toIntSeq(ToIntFunction)
+     * @param fn Conversion function applied once to each value
+     * @return DoubleSeq
+     */
+    default DoubleSeq toDoubleSeq(ToDoubleFunction<? super T> fn){
+        return DoubleSeq.fromDoubleStream(StreamSupport.stream(this.spliterator(),false).mapToDouble(fn));
+    }
+
 
 
     /**
@@ -822,6 +864,33 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * As {@link ReactiveSeq#parallel(Function)} but without preserving encounter order, allowing the parallel Stream to
+     * skip the buffering required to restore order (e.g. for limit, distinct or findFirst)
+     *
+     * @param fn Function to apply to a parallel Stream of this ReactiveSeq's elements
+     * @return ReactiveSeq populated with the results of the parallel Stream
+     */
+    default <R> ReactiveSeq<R> parallelUnordered(Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return parallel(s->fn.apply(s.unordered()));
+    }
+    default <R> ReactiveSeq<R> parallelUnordered(ForkJoinPool fj,Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return parallel(fj,s->fn.apply(s.unordered()));
+    }
+
+    /**
+     * As {@link ReactiveSeq#foldParallel(Function)} but without preserving encounter order
+     *
+     * @param fn Function to apply to a parallel Stream of this ReactiveSeq's elements
+     * @return Result of the function
+     */
+    default <R> R foldParallelUnordered(Function<? super Stream<T>,? extends R> fn){
+        return foldParallel(s->fn.apply(s.unordered()));
+    }
+    default <R> R foldParallelUnordered(ForkJoinPool fj,Function<? super Stream<T>,? extends R> fn){
+        return foldParallel(fj,s->fn.apply(s.unordered()));
+    }
+
 
     /* (non-Javadoc)
      * @see org.jooq.lambda.Seq#foldRight(java.lang.Object, java.util.function.BiFunction)
@@ -964,6 +1033,55 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate();
     Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(Supplier<Deque<T>> bufferFactory);
 
+    /**
+     * Duplicate a Stream, the copies share a single bounded buffer. When the leading copy is bound elements ahead of the
+     * other the overflow policy is applied (wait for the other copy, drop its oldest buffered elements or error).
+     * The copies may be consumed on different threads.
+     *
+     * <pre>
+     * {@code
+     *  Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,1_000_000)
+     *                                                                         .duplicate(1000, Overflow.BLOCK);
+     * }
+     * </pre>
+     *
+     * @param bound Maximum number of elements the leading copy may be ahead of the other
+     * @param overflow Policy applied when the bound is reached
+     * @return duplicated reactiveStream
+     */
+    default Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(long bound, SharedBufferCopier.Overflow overflow){
+        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 2, bound, overflow);
+        return Tuple.tuple(ReactiveSeq.fromIterable(copy.get(0)),ReactiveSeq.fromIterable(copy.get(1)));
+    }
+
+    /**
+     * Triplicate a Stream, the copies share a single bounded buffer
+     *
+     * @see ReactiveSeq#duplicate(long, SharedBufferCopier.Overflow)
+     * @param bound Maximum number of elements the leading copy may be ahead of the slowest copy
+     * @param overflow Policy applied when the bound is reached
+     * @return Tuple3 containing 3 copies of this ReactiveSeq
+     */
+    default Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(long bound, SharedBufferCopier.Overflow overflow){
+        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 3, bound, overflow);
+        return Tuple.tuple(ReactiveSeq.fromIterable(copy.get(0)),ReactiveSeq.fromIterable(copy.get(1)),
+                ReactiveSeq.fromIterable(copy.get(2)));
+    }
+
+    /**
+     * Makes four copies of a Stream, the copies share a single bounded buffer
+     *
+     * @see ReactiveSeq#duplicate(long, SharedBufferCopier.Overflow)
+     * @param bound Maximum number of elements the leading copy may be ahead of the slowest copy
+     * @param overflow Policy applied when the bound is reached
+     * @return Tuple4 containing 4 copies of this ReactiveSeq
+     */
+    default Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(long bound, SharedBufferCopier.Overflow overflow){
+        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 4, bound, overflow);
+        return Tuple.tuple(ReactiveSeq.fromIterable(copy.get(0)),ReactiveSeq.fromIterable(copy.get(1)),
+                ReactiveSeq.fromIterable(copy.get(2)),ReactiveSeq.fromIterable(copy.get(3)));
+    }
+
     /**
      * Split a Stream at it's head (similar to headAndTail)
      *
@@ -1263,6 +1381,78 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<PVectorX<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Create a sliding view over this Sequence, applying the supplied function to each window. The window passed to
+     * windowFn is a view over the internal window buffer that is only valid for the duration of the call, so no copy
+     * of the window is made. The window must not escape the call : windowFn must not retain it, return it, or return
+     * anything that reads it later - including lazy collections built from it, such as ListX.fromIterable(w) or
+     * PVectorX.fromIterable(w), which read the buffer when they are first accessed, by which time it holds later
+     * elements. Copy the window eagerly (e.g. new ArrayList<>(w)) if it is needed after the call.
+     *
+     * <pre>
+     * {@code
+     *  List<Integer> sums = ReactiveSeq.of(1, 2, 3, 4, 5, 6).sliding(3, 1, w -> w.stream().mapToInt(i -> i).sum()).toList();
+     *
+     *  //[6, 9, 12, 15]
+     * }
+     *
+     * </pre>
+     *
+     * @param windowSize
+     *            number of elements in each window
+     * @param increment
+     *            for each window
+     * @param windowFn
+     *            Function to apply to each (transient) window
+     * @return ReactiveSeq of windowFn results
+     */
+    default <R> ReactiveSeq<R> sliding(int windowSize, int increment, Function<? super PVectorX<T>, ? extends R> windowFn){
+        return sliding(windowSize,increment).map(windowFn);
+    }
+
+    /**
+     * Reduce each sliding window (with an increment of 1) using the supplied Monoid. Aggregates are maintained
+     * incrementally as the window slides, so each element is combined a constant number of times (amortised) however
+     * large the window. Elements are always combined in encounter order, so the Monoid need not be commutative.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5, 6).slidingReduce(3, Monoids.intSum).toList();
+     *
+     *  //[6, 9, 12, 15]
+     * }
+     *
+     * </pre>
+     *
+     * @param windowSize number of elements in each window
+     * @param monoid Monoid to reduce each window with
+     * @return ReactiveSeq of window aggregates
+     */
+    default ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> monoid){
+        return slidingMapReduce(windowSize,Function.identity(),monoid);
+    }
+
+    /**
+     * As {@link ReactiveSeq#slidingReduce(int, Monoid)} but each element is first mapped to the type of the Monoid
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of("a", "bb", "ccc", "dddd").slidingMapReduce(2, String::length, Monoids.intMax).toList();
+     *
+     *  //[2, 3, 4]
+     * }
+     *
+     * </pre>
+     *
+     * @param windowSize number of elements in each window
+     * @param mapper Function to map each element to the type of the Monoid
+     * @param monoid Monoid to reduce each window with
+     * @return ReactiveSeq of window aggregates
+     */
+    default <R> ReactiveSeq<R> slidingMapReduce(int windowSize, Function<? super T, ? extends R> mapper, Monoid<R> monoid){
+        return sliding(windowSize,1,w->monoid.foldMap(w.stream(),mapper));
+    }
+
     /**
      * Group elements in a Stream
      *
@@ -1331,6 +1521,33 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<ListX<T>> groupedBySizeAndTime(int size, long time, TimeUnit t);
 
+    /**
+     * Batch elements by size into a List, emitting partially filled batches when their time window expires.
+     *
+     * On push based Streams (e.g. those created via {@link Spouts}) the supplied ScheduledExecutorService is used
+     * to emit a partially filled batch as soon as its time window expires (if there is downstream demand), even if no further
+     * elements arrive. Other Streams check the time window as each element arrives, as with {@link ReactiveSeq#groupedBySizeAndTime(int, long, TimeUnit)}
+     *
+     * <pre>
+     * {@code
+     * Spouts.of(1,2,3,4,5,6)
+     *       .groupedBySizeAndTime(3,10,TimeUnit.SECONDS,Executors.newScheduledThreadPool(1))
+     *       .toList();
+     *
+     * //[[1,2,3],[4,5,6]]
+     * }
+     * </pre>
+     *
+     * @param size Max size of a batch
+     * @param time (Max) time period to build a single batch in
+     * @param t time unit for batch
+     * @param ex ScheduledExecutorService used to emit batches when their time window expires
+     * @return ReactiveSeq batched by size and time
+     */
+    default ReactiveSeq<ListX<T>> groupedBySizeAndTime(int size, long time, TimeUnit t, ScheduledExecutorService ex){
+        return groupedBySizeAndTime(size,time,t);
+    }
+
     /**
      * Batch elements by size into a collection created by the supplied factory
      *
@@ -1381,6 +1598,24 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<ListX<T>> groupedByTime(long time, TimeUnit t);
 
+    /**
+     * Batch elements in a Stream by time period, emitting each batch when its time window expires.
+     *
+     * On push based Streams (e.g. those created via {@link Spouts}) the supplied ScheduledExecutorService is used
+     * to emit a batch as soon as its time window expires (if there is downstream demand), even if no further
+     * elements arrive. Other Streams check the time window as each element arrives, as with {@link ReactiveSeq#groupedByTime(long, TimeUnit)}
+     *
+     * @param time
+     *            - time period to build a single batch in
+     * @param t
+     *            time unit for batch
+     * @param ex ScheduledExecutorService used to emit batches when their time window expires
+     * @return ReactiveSeq batched into lists by time period
+     */
+    default ReactiveSeq<ListX<T>> groupedByTime(long time, TimeUnit t, ScheduledExecutorService ex){
+        return groupedByTime(time,t);
+    }
+
     /**
      * Batch elements by time into a collection created by the supplied factory
      *
@@ -1599,6 +1834,57 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     <U> ReactiveSeq<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function);
 
+    /**
+     * Emit the approximate percentile of all elements so far, as each element arrives. State is held in a bounded
+     * {@link QuantileSketch}, so this is suitable for unbounded Streams
+     *
+     * <pre>
+     * {@code
+     *  Spouts.from(latencies)
+     *        .runningPercentile(0.99,Comparator.naturalOrder())
+     *        .forEach(p99->dashboard.update(p99));
+     * }
+     * </pre>
+     *
+     * @param percentile Percentile between 0 and 1
+     * @param comparator Ordering of the elements
+     * @return ReactiveSeq of running percentiles
+     */
+    default ReactiveSeq<T> runningPercentile(final double percentile, final Comparator<? super T> comparator) {
+        //a sketch is created for each run of the Stream by the first element
+        return this.<QuantileSketch<T>>scanLeft(null, (sketch, next) -> (sketch == null ? new QuantileSketch<T>(comparator) : sketch).add(next))
+                   .skip(1)
+                   .map(sketch -> sketch.percentile(percentile)
+                                        .get());
+    }
+
+    /**
+     * As {@link #runningPercentile(double, Comparator)} for Comparable elements
+     */
+    default ReactiveSeq<T> runningPercentile(final double percentile) {
+        return runningPercentile(percentile, (Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Emit the approximate number of distinct elements so far, as each element arrives. State is held in a fixed size
+     * {@link HyperLogLog}, so this is suitable for unbounded Streams
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,1,3).runningCountDistinct().toList();
+     *
+     *  //[1,2,2,3]
+     * }
+     * </pre>
+     *
+     * @return ReactiveSeq of running distinct counts
+     */
+    default ReactiveSeq<Long> runningCountDistinct() {
+        return this.<HyperLogLog<T>>scanLeft(null, (hll, next) -> (hll == null ? new HyperLogLog<T>() : hll).add(next))
+                   .skip(1)
+                   .map(HyperLogLog::estimate);
+    }
+
     /**
      * Scan right
      *
@@ -3873,6 +4159,44 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return (ReactiveSeq) FoldableTraversable.super.retry(fn, retries, delay, timeUnit);
     }
 
+    /**
+     * Retry a transformation if it fails, according to the supplied RetryPolicy. Unlike {@link ReactiveSeq#retry(Function, int, long, TimeUnit)}
+     * the backoff between attempts does not block the processing thread, retries are scheduled on the policy's ScheduledExecutorService.
+     * Results are emitted in order, so later elements wait for an element that is backing off (without blocking a thread
+     * on push based Streams, the consuming thread waits on pull based Streams).
+     *
+     * <pre>
+     * {@code
+     *  Spouts.of(1,2,3)
+     *        .retry(this::callService,RetryPolicy.of(7,200,TimeUnit.MILLISECONDS).withJitter(0.2))
+     *        .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param fn Function to retry if fails
+     * @param policy RetryPolicy determining the number of retries and the delay between them
+     * @return ReactiveSeq with the transformation applied
+     */
+    default <R> ReactiveSeq<R> retry(final Function<? super T, ? extends R> fn, final RetryPolicy policy) {
+        return retry(fn, policy, 1);
+    }
+
+    /**
+     * Retry a transformation if it fails, according to the supplied RetryPolicy, with up to maxConcurrency elements in flight.
+     * Retries are scheduled on the policy's ScheduledExecutorService, other elements continue to flow while an element
+     * backs off. On push based Streams (e.g. {@link Spouts}), if maxConcurrency is greater than 1, results are emitted as
+     * they complete and may be out of order. Pull based Streams (and FutureStreams) start up to maxConcurrency elements at
+     * a time and emit their results in order.
+     *
+     * @param fn Function to retry if fails
+     * @param policy RetryPolicy determining the number of retries and the delay between them
+     * @param maxConcurrency Maximum number of elements being transformed (or waiting to retry) at once
+     * @return ReactiveSeq with the transformation applied
+     */
+    default <R> ReactiveSeq<R> retry(final Function<? super T, ? extends R> fn, final RetryPolicy policy, final int maxConcurrency) {
+        return flatMapP(maxConcurrency, t -> policy.<T, R> retry(fn, t));
+    }
+
     /**
      * Remove all occurances of the specified element from the ReactiveSeq
      *
@@ -4662,7 +4986,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      * @return List of Streams that recieve data from this Stream
      */
     default ListX<ReactiveSeq<T>> multicast(int num){
-        return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
+        return Streams.toBufferingCopier(() -> iterator(),num)
                 .map(ReactiveSeq::fromIterable);
     }
     default <R1,R2,R3> ReactiveSeq<R3> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
@@ -4675,7 +4999,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     default <R1,R2,R3> ReactiveSeq<R3> parallelFanOutZipIn(ForkJoinPool fj, Function<? super Stream<T>, ? extends Stream<? extends R1>> path1,
                                                    Function<? super Stream<T>, ? extends Stream<? extends R2>> path2,
                                                    BiFunction<? super R1, ? super R2, ? extends R3> zipFn){
-        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate(()->new ArrayDeque<T>(100));
+        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate();
         Tuple2<? extends Stream<? extends R1>, ? extends Stream<? extends R2>> d2 = d.map1(path1).map2(path2);
 
         ReactiveSeq<R1> res1 = d.v1.parallel(fj, path1);
@@ -4695,7 +5019,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     default <R> ReactiveSeq<R> parallelFanOut(ForkJoinPool fj,Function<? super Stream<T>, ? extends Stream<? extends R>> path1,
                                       Function<? super Stream<T>, ? extends Stream<? extends R>> path2){
 
-        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate(()->new ArrayDeque<T>(100));
+        Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> d = duplicate();
         Tuple2<? extends Stream<? extends R>, ? extends Stream<? extends R>> d2 = d.map1(path1).map2(path2);
 
         ReactiveSeq<R> res1 = d.v1.parallel(fj, path1);
@@ -4724,7 +5048,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                               Function<? super Stream<T>, ? extends Stream<? extends R>> path3){
 
 
-        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate(()->new ArrayDeque<T>(100));
+        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate();
         val res = d.map1(path1).map2(path2).map3(path3);
 
         ReactiveSeq<R> res1 = d.v1.parallel(fj, path1);
@@ -4740,7 +5064,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                                       Function<? super Stream<T>, ? extends Stream<? extends R3>> path3,
                                                       Fn3<? super R1, ? super R2, ? super R3, ? extends R4> zipFn){
 
-        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate(()->new ArrayDeque<T>(100));
+        Tuple3<ReactiveSeq<T>, ReactiveSeq<T>,ReactiveSeq<T>> d = triplicate();
         val res = d.map1(path1).map2(path2).map3(path3);
         ReactiveSeq<R1> res1 = d.v1.parallel(fj, path1);
         ReactiveSeq<R2> res2 = d.v2.parallel(fj, path2);
@@ -4775,7 +5099,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                       Function<? super Stream<T>, ? extends Stream<? extends R>> path3,
                                       Function<? super Stream<T>, ? extends Stream<? extends R>> path4){
 
-        val d = quadruplicate(()->new ArrayDeque<T>(100));
+        val d = quadruplicate();
         val res = d.map1(path1).map2(path2).map3(path3).map4(path4);
         ReactiveSeq<R> res1 = d.v1.parallel(fj, path1);
         ReactiveSeq<R> res2 = d.v2.parallel(fj, path2);
@@ -4802,7 +5126,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
                                                          Function<? super Stream<T>, ? extends Stream<? extends R4>> path4,
                                                          Fn4<? super R1, ? super R2, ? super R3, ? super R4, ? extends R5> zipFn){
 
-        val d = quadruplicate(()->new ArrayDeque<T>(100));
+        val d = quadruplicate();
         val res = d.map1(path1).map2(path2).map3(path3).map4(path4);
         ReactiveSeq<R1> res1 = d.v1.parallel(fj, path1);
         ReactiveSeq<R2> res2 = d.v2.parallel(fj, path2);
@@ -1,10 +1,18 @@
 package cyclops.stream;
 
 import com.aol.cyclops2.hkt.Higher;
+import com.aol.cyclops2.internal.stream.OperatorBasedDoubleSeq;
+import com.aol.cyclops2.internal.stream.OperatorBasedIntSeq;
+import com.aol.cyclops2.internal.stream.OperatorBasedLongSeq;
 import com.aol.cyclops2.internal.stream.ReactiveStreamX;
 import com.aol.cyclops2.internal.stream.ReactiveStreamX.Type;
 import com.aol.cyclops2.internal.stream.spliterators.UnfoldSpliterator;
 import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import com.aol.cyclops2.internal.stream.spliterators.push.doubles.DoubleArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.ints.IntArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.ints.IntRangeOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.longs.LongArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.longs.LongRangeOperator;
 import com.aol.cyclops2.types.stream.reactive.AsyncSubscriber;
 import com.aol.cyclops2.types.stream.reactive.ReactiveSubscriber;
 import cyclops.async.Future;
@@ -176,6 +184,52 @@ public interface Spouts {
         return new ReactiveStreamX<>(new SingleValueOperator<T>(value));
     }
 
+    /**
+     * @param values ints to populate the sequence from
+     * @return Push based IntSeq, values are emitted without boxing
+     */
+    public static IntSeq intSeq(int... values){
+        return new OperatorBasedIntSeq(new IntArrayOperator(values),Type.SYNC);
+    }
+    /**
+     * @param start Start value (inclusive)
+     * @param end End value (exclusive)
+     * @return Push based IntSeq over the range in ascending order. If start is greater than end the bounds are swapped,
+     *         the values from end (inclusive) to start (exclusive) are emitted, still in ascending order
+     */
+    public static IntSeq rangeIntSeq(int start, int end){
+        if(start<end)
+            return new OperatorBasedIntSeq(new IntRangeOperator(start,end),Type.SYNC);
+        else
+            return new OperatorBasedIntSeq(new IntRangeOperator(end,start),Type.SYNC);
+    }
+    /**
+     * @param values longs to populate the sequence from
+     * @return Push based LongSeq, values are emitted without boxing
+     */
+    public static LongSeq longSeq(long... values){
+        return new OperatorBasedLongSeq(new LongArrayOperator(values),Type.SYNC);
+    }
+    /**
+     * @param start Start value (inclusive)
+     * @param end End value (exclusive)
+     * @return Push based LongSeq over the range in ascending order. If start is greater than end the bounds are swapped,
+     *         the values from end (inclusive) to start (exclusive) are emitted, still in ascending order
+     */
+    public static LongSeq rangeLongSeq(long start, long end){
+        if(start<end)
+            return new OperatorBasedLongSeq(new LongRangeOperator(start,end),Type.SYNC);
+        else
+            return new OperatorBasedLongSeq(new LongRangeOperator(end,start),Type.SYNC);
+    }
+    /**
+     * @param values doubles to populate the sequence from
+     * @return Push based DoubleSeq, values are emitted without boxing
+     */
+    public static DoubleSeq doubleSeq(double... values){
+        return new OperatorBasedDoubleSeq(new DoubleArrayOperator(values),Type.SYNC);
+    }
+
     public static <T> ReactiveSeq<T> ofNullable(T nullable){
         if(nullable==null){
             return empty();
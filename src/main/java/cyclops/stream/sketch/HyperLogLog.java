@@ -0,0 +1,167 @@
+package cyclops.stream.sketch;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+/**
+ * A mergeable, fixed size summary of a Stream from which the number of distinct elements can be estimated
+ * (HyperLogLog). Each element's hashCode is mixed to 64 bits, the first precision bits select a register which records
+ * the longest run of leading zeros seen in the remaining bits. With the default precision of 14 the summary uses 16KB
+ * and the standard error is around 0.8%.
+ *
+ * As elements are identified by their hashCode, elements with equal hashCodes are counted once.
+ *
+ * <pre>
+ * {@code
+ *   HyperLogLog<String> users = Spouts.from(events)
+ *                                     .map(Event::getUser)
+ *                                     .collect(HyperLogLog.collector());
+ *   users.estimate();
+ * }
+ * </pre>
+ *
+ * Instances are not thread safe.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements counted
+ */
+public class HyperLogLog<T> {
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+    private final byte[] registers;
+    /*
+     * maintained incrementally so estimate is O(1)
+     */
+    private double inverseSum;
+    private int zeros;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param precision Number of bits used to select a register, between 4 and 18. Memory use is 2^precision bytes and
+     *            the standard error is 1.04 / sqrt(2^precision)
+     */
+    public HyperLogLog(final int precision) {
+        if (precision < 4 || precision > 18)
+            throw new IllegalArgumentException("Precision must be between 4 and 18, was " + precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+        this.inverseSum = registers.length;
+        this.zeros = registers.length;
+    }
+
+    /**
+     * @return Collector that summarises a Stream into a HyperLogLog, merging partial summaries when run in parallel
+     */
+    public static <T> Collector<T, ?, HyperLogLog<T>> collector() {
+        return collector(DEFAULT_PRECISION);
+    }
+
+    public static <T> Collector<T, ?, HyperLogLog<T>> collector(final int precision) {
+        return Collector.of(() -> new HyperLogLog<T>(
+                                                     precision),
+                            HyperLogLog::add, HyperLogLog::merge, Collector.Characteristics.UNORDERED,
+                            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * @param next Element to add
+     * @return This HyperLogLog
+     */
+    public HyperLogLog<T> add(final T next) {
+        final long hash = mix(next == null ? 0 : next.hashCode());
+        final int index = (int) (hash >>> (64 - precision));
+        final int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        final int current = registers[index];
+        if (rank > current) {
+            if (current == 0)
+                zeros--;
+            inverseSum += Math.scalb(1d, -rank) - Math.scalb(1d, -current);
+            registers[index] = (byte) rank;
+        }
+        return this;
+    }
+
+    /**
+     * Merge the supplied HyperLogLog into this one, the supplied HyperLogLog is not changed
+     *
+     * @param other HyperLogLog to merge, with the same precision
+     * @return This HyperLogLog
+     */
+    public HyperLogLog<T> merge(final HyperLogLog<T> other) {
+        if (other.precision != precision)
+            throw new IllegalArgumentException("Cannot merge HyperLogLogs with precision " + precision + " and " + other.precision);
+        double sum = 0;
+        int empty = 0;
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i])
+                registers[i] = other.registers[i];
+            sum += Math.scalb(1d, -registers[i]);
+            if (registers[i] == 0)
+                empty++;
+        }
+        inverseSum = sum;
+        zeros = empty;
+        return this;
+    }
+
+    /**
+     * @return Estimated number of distinct elements added
+     */
+    public long estimate() {
+        final int m = registers.length;
+        final double estimate = alpha(m) * m * m / inverseSum;
+        if (estimate <= 2.5 * m && zeros > 0)
+            return Math.round(m * Math.log((double) m / zeros));
+        return Math.round(estimate);
+    }
+
+    private static double alpha(final int m) {
+        switch (m) {
+        case 16:
+            return 0.673;
+        case 32:
+            return 0.697;
+        case 64:
+            return 0.709;
+        default:
+            return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+
+    /*
+     * murmur3 finalizer, spreads the 32 bits of a hashCode over all 64 bits
+     */
+    private static long mix(final long hashCode) {
+        long h = hashCode;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog[precision=" + precision + ", estimate=" + estimate() + "]";
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof HyperLogLog))
+            return false;
+        final HyperLogLog<?> other = (HyperLogLog<?>) o;
+        return precision == other.precision && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+}
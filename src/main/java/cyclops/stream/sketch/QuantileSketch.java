@@ -0,0 +1,298 @@
+package cyclops.stream.sketch;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collector;
+
+/**
+ * A mergeable, bounded memory summary of a Stream from which approximate percentiles can be read (a KLL sketch).
+ * Each retained element belongs to a level, an element at level h stands for 2^h elements of the input. When a level
+ * fills, one element of each adjacent pair (picked at random) is promoted to the next level and the other is discarded.
+ * Level capacities shrink geometrically towards the bottom, so memory is O(k) however many elements are added and the
+ * rank error is roughly O(1/k). The minimum and maximum are tracked exactly.
+ *
+ * All retained elements are held in a single sorted array tagged with their level, so reading a percentile is a linear
+ * scan of the weights without any comparisons, and compacting a level is a single pass that does not allocate.
+ *
+ * Sketches built over different parts of a Stream can be merged, e.g. by a parallel collect
+ *
+ * <pre>
+ * {@code
+ *   QuantileSketch<Integer> sketch = ReactiveSeq.range(0,1_000_000)
+ *                                               .foldParallel(s->s.collect(QuantileSketch.collector(Comparator.naturalOrder())));
+ *   sketch.percentile(0.99); //Optional[~990_000]
+ * }
+ * </pre>
+ *
+ * Instances are not thread safe.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements summarised
+ */
+public class QuantileSketch<T> {
+
+    /**
+     * Default accuracy parameter, a rank error of around 1%
+     */
+    public static final int DEFAULT_K = 200;
+
+    private static final double SHRINK = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 8;
+
+    private final Comparator<? super T> comparator;
+    private final int k;
+    private Object[] items = new Object[MIN_CAPACITY * 4];
+    private byte[] levels = new byte[MIN_CAPACITY * 4];
+    private int retained = 0;
+    /*
+     * number of retained elements at each level
+     */
+    private int[] sizes = new int[0];
+    private int maxRetained = 0;
+    private long count = 0;
+    private T min;
+    private T max;
+
+    public QuantileSketch(final Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_K);
+    }
+
+    /**
+     * @param comparator Ordering of the elements
+     * @param k Accuracy parameter, larger values use more memory for smaller errors
+     */
+    public QuantileSketch(final Comparator<? super T> comparator, final int k) {
+        if (k < MIN_CAPACITY)
+            throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY + ", was " + k);
+        this.comparator = comparator;
+        this.k = k;
+        grow();
+    }
+
+    /**
+     * @param comparator Ordering of the elements
+     * @return Collector that summarises a Stream into a QuantileSketch, merging partial sketches when run in parallel
+     */
+    public static <T> Collector<T, ?, QuantileSketch<T>> collector(final Comparator<? super T> comparator) {
+        return collector(comparator, DEFAULT_K);
+    }
+
+    public static <T> Collector<T, ?, QuantileSketch<T>> collector(final Comparator<? super T> comparator, final int k) {
+        return Collector.of(() -> new QuantileSketch<T>(
+                                                        comparator, k),
+                            QuantileSketch::add, QuantileSketch::merge, Collector.Characteristics.UNORDERED,
+                            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * @param next Element to add to this sketch
+     * @return This sketch
+     */
+    public QuantileSketch<T> add(final T next) {
+        if (count++ == 0) {
+            min = max = next;
+        } else if (comparator.compare(next, min) < 0) {
+            min = next;
+        } else if (comparator.compare(next, max) > 0) {
+            max = next;
+        }
+        ensureCapacity(retained + 1);
+        final int index = upperBound(next);
+        System.arraycopy(items, index, items, index + 1, retained - index);
+        System.arraycopy(levels, index, levels, index + 1, retained - index);
+        items[index] = next;
+        levels[index] = 0;
+        sizes[0]++;
+        if (++retained >= maxRetained)
+            compress();
+        return this;
+    }
+
+    /**
+     * Merge the supplied sketch into this one, the supplied sketch is not changed
+     *
+     * @param other Sketch to merge
+     * @return This sketch
+     */
+    public QuantileSketch<T> merge(final QuantileSketch<T> other) {
+        if (other.count == 0)
+            return this;
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            if (comparator.compare(other.min, min) < 0)
+                min = other.min;
+            if (comparator.compare(other.max, max) > 0)
+                max = other.max;
+        }
+        while (sizes.length < other.sizes.length)
+            grow();
+        final Object[] mergedItems = new Object[Math.max(items.length, retained + other.retained)];
+        final byte[] mergedLevels = new byte[mergedItems.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < retained || j < other.retained) {
+            if (j == other.retained || (i < retained && comparator.compare((T) items[i], (T) other.items[j]) <= 0)) {
+                mergedLevels[n] = levels[i];
+                mergedItems[n++] = items[i++];
+            } else {
+                mergedLevels[n] = other.levels[j];
+                mergedItems[n++] = other.items[j++];
+            }
+        }
+        items = mergedItems;
+        levels = mergedLevels;
+        retained = n;
+        for (int h = 0; h < other.sizes.length; h++)
+            sizes[h] += other.sizes[h];
+        count += other.count;
+        while (retained >= maxRetained)
+            compress();
+        return this;
+    }
+
+    /**
+     * @return Number of elements added to this sketch (and the sketches merged into it)
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @param percentile Percentile between 0 and 1
+     * @return Approximate percentile (exact for 0 and 1), or Optional.empty if this sketch is empty
+     */
+    public Optional<T> percentile(final double percentile) {
+        if (count == 0)
+            return Optional.empty();
+        if (percentile <= 0d)
+            return Optional.of(min);
+        if (percentile >= 1d)
+            return Optional.of(max);
+        final long total = totalWeight();
+        final long target = Math.max(1, (long) Math.ceil(percentile * total));
+        if (percentile <= 0.5) {
+            long cumulative = 0;
+            for (int i = 0; i < retained; i++) {
+                cumulative += 1L << levels[i];
+                if (cumulative >= target)
+                    return Optional.of((T) items[i]);
+            }
+        } else {
+            //scan from the top, the answer is the highest element with less than target weight beneath it
+            long above = 0;
+            for (int i = retained - 1; i > 0; i--) {
+                above += 1L << levels[i];
+                if (total - above < target)
+                    return Optional.of((T) items[i]);
+            }
+        }
+        return Optional.of((T) items[0]);
+    }
+
+    /**
+     * @return Approximate median, or Optional.empty if this sketch is empty
+     */
+    public Optional<T> median() {
+        return percentile(0.5);
+    }
+
+    /**
+     * @param value Value to rank
+     * @return Approximate fraction of elements less than or equal to the supplied value
+     */
+    public double rank(final T value) {
+        if (count == 0)
+            return 0d;
+        final int index = upperBound(value);
+        long below = 0;
+        for (int i = 0; i < index; i++)
+            below += 1L << levels[i];
+        return (double) below / totalWeight();
+    }
+
+    private long totalWeight() {
+        long total = 0;
+        for (int h = 0; h < sizes.length; h++)
+            total += (long) sizes[h] << h;
+        return total;
+    }
+
+    /*
+     * index of the first retained element greater than the supplied value
+     */
+    private int upperBound(final T value) {
+        int low = 0;
+        int high = retained;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare((T) items[mid], value) <= 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required > items.length) {
+            final int size = Math.max(required, items.length * 2);
+            items = Arrays.copyOf(items, size);
+            levels = Arrays.copyOf(levels, size);
+        }
+    }
+
+    private int capacity(final int level) {
+        final int depth = sizes.length - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(SHRINK, depth)));
+    }
+
+    private void grow() {
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        maxRetained = 0;
+        for (int h = 0; h < sizes.length; h++)
+            maxRetained += capacity(h);
+    }
+
+    private void compress() {
+        for (int h = 0; h < sizes.length; h++) {
+            if (sizes[h] >= capacity(h)) {
+                if (h + 1 == sizes.length)
+                    grow();
+                compact(h);
+                if (retained < maxRetained)
+                    return;
+            }
+        }
+    }
+
+    /*
+     * Promote one (randomly chosen) element of each adjacent pair at this level to the next, an odd element out stays.
+     * Elements keep their position in the sorted array, so this is a single pass.
+     */
+    private void compact(final int h) {
+        final int pairs = sizes[h] / 2;
+        final int offset = ThreadLocalRandom.current()
+                                            .nextBoolean() ? 1 : 0;
+        int ordinal = 0;
+        int write = 0;
+        for (int read = 0; read < retained; read++) {
+            if (levels[read] == h && ordinal < 2 * pairs) {
+                if ((ordinal++ & 1) != offset)
+                    continue;
+                levels[read] = (byte) (h + 1);
+            }
+            items[write] = items[read];
+            levels[write++] = levels[read];
+        }
+        Arrays.fill(items, write, retained, null);
+        retained = write;
+        sizes[h] -= 2 * pairs;
+        sizes[h + 1] += pairs;
+    }
+}
@@ -0,0 +1,211 @@
+package cyclops.stream.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import cyclops.collections.ListX;
+
+/**
+ * A mergeable, bounded summary of the most frequent elements of a Stream (the Space-Saving algorithm). Up to capacity
+ * elements are counted, when an untracked element arrives and all counters are in use the least frequent element is
+ * evicted and the new element inherits its count. Counts are therefore over estimates, but any element occurring more
+ * than count / capacity times is guaranteed to be tracked.
+ *
+ * The counters are held in a min-heap, so adding an element is O(log capacity) and evicting does not allocate.
+ *
+ * <pre>
+ * {@code
+ *   ListX<Tuple2<String,Long>> top10 = Spouts.from(requests)
+ *                                           .map(Request::getPath)
+ *                                           .collect(SpaceSaving.collector(100))
+ *                                           .top(10);
+ * }
+ * </pre>
+ *
+ * Instances are not thread safe.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements counted
+ */
+public class SpaceSaving<T> {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Map<T, Counter<T>> counters;
+    private final Counter<T>[] heap;
+    private int size = 0;
+    private long count = 0;
+
+    public SpaceSaving() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Maximum number of distinct elements counted
+     */
+    public SpaceSaving(final int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be at least 1, was " + capacity);
+        this.capacity = capacity;
+        this.counters = new HashMap<>(
+                                      capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    /**
+     * @param capacity Maximum number of distinct elements counted
+     * @return Collector that summarises a Stream into a SpaceSaving, merging partial summaries when run in parallel
+     */
+    public static <T> Collector<T, ?, SpaceSaving<T>> collector(final int capacity) {
+        return Collector.of(() -> new SpaceSaving<T>(
+                                                     capacity),
+                            SpaceSaving::add, SpaceSaving::merge, Collector.Characteristics.UNORDERED,
+                            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * @param next Element to count
+     * @return This SpaceSaving
+     */
+    public SpaceSaving<T> add(final T next) {
+        add(next, 1);
+        return this;
+    }
+
+    /**
+     * Merge the supplied SpaceSaving into this one, by adding each of its counters. The supplied SpaceSaving is not
+     * changed.
+     *
+     * @param other SpaceSaving to merge
+     * @return This SpaceSaving
+     */
+    public SpaceSaving<T> merge(final SpaceSaving<T> other) {
+        for (int i = 0; i < other.size; i++)
+            add(other.heap[i].value, other.heap[i].count);
+        return this;
+    }
+
+    /**
+     * @return Number of elements added (including those of merged summaries)
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @param value Element to look up
+     * @return Upper bound for the number of times the supplied element occurred
+     */
+    public long frequency(final T value) {
+        final Counter<T> counter = counters.get(value);
+        if (counter != null)
+            return counter.count;
+        return size < capacity ? 0 : heap[0].count;
+    }
+
+    /**
+     * @param n Number of elements
+     * @return Up to n of the most frequent elements with their (over) estimated counts, most frequent first
+     */
+    public ListX<Tuple2<T, Long>> top(final int n) {
+        final List<Counter<T>> sorted = new ArrayList<>(
+                                                        size);
+        for (int i = 0; i < size; i++)
+            sorted.add(heap[i]);
+        sorted.sort(Comparator.comparingLong((final Counter<T> c) -> c.count)
+                              .reversed());
+        final List<Tuple2<T, Long>> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(n, sorted.size()); i++)
+            result.add(Tuple.tuple(sorted.get(i).value, sorted.get(i).count));
+        return ListX.fromIterable(result);
+    }
+
+    /**
+     * @return The (approximately) most frequent element, or Optional.empty if nothing has been added
+     */
+    public Optional<T> mode() {
+        Counter<T> max = null;
+        for (int i = 0; i < size; i++) {
+            if (max == null || heap[i].count > max.count)
+                max = heap[i];
+        }
+        return max == null ? Optional.empty() : Optional.ofNullable(max.value);
+    }
+
+    private void add(final T value, final long n) {
+        count += n;
+        final Counter<T> existing = counters.get(value);
+        if (existing != null) {
+            existing.count += n;
+            siftDown(existing.index);
+        } else if (size < capacity) {
+            final Counter<T> counter = new Counter<>(
+                                                     value, n);
+            counter.index = size;
+            heap[size++] = counter;
+            counters.put(value, counter);
+            siftUp(counter.index);
+        } else {
+            final Counter<T> min = heap[0];
+            counters.remove(min.value);
+            min.value = value;
+            min.count += n;
+            counters.put(value, min);
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int index) {
+        final Counter<T> counter = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count)
+                break;
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        final Counter<T> counter = heap[index];
+        for (;;) {
+            int child = 2 * index + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && heap[child + 1].count < heap[child].count)
+                child++;
+            if (counter.count <= heap[child].count)
+                break;
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(final Counter<T> counter, final int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter<T> {
+        T value;
+        long count;
+        int index;
+
+        Counter(final T value, final long count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+}
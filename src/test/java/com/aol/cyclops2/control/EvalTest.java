@@ -9,6 +9,7 @@ import org.junit.Test;
 import reactor.core.publisher.Flux;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -24,6 +25,53 @@ public class EvalTest {
         
     }
 
+    @Test
+    public void deepMapChainIsStackSafe(){
+        Eval<Integer> eval = Eval.always(()->0);
+        for(int i=0;i<1_000_000;i++)
+            eval = eval.map(x->x+1);
+        assertThat(eval.get(),equalTo(1_000_000));
+    }
+
+    @Test
+    public void deepFlatMapChainIsStackSafe(){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<100_000;i++)
+            eval = eval.flatMap(x->Eval.later(()->x+1));
+        assertThat(eval.get(),equalTo(100_000));
+    }
+
+    @Test
+    public void recursiveFlatMapIsStackSafe(){
+        assertThat(sum(100_000,0).get(),equalTo(5000050000l));
+    }
+    private Eval<Long> sum(long n, long acc){
+        if(n==0)
+            return Eval.now(acc);
+        return Eval.always(()->n).flatMap(i->sum(i-1,acc+i));
+    }
+
+    @Test
+    public void sharedLaterFromFlatMapEvaluatesOnce(){
+        AtomicInteger count = new AtomicInteger(0);
+        Eval<Integer> shared = Eval.later(()->count.incrementAndGet());
+        for(int i=0;i<10;i++){
+            assertThat(Eval.now(i).flatMap(x->shared).get(),equalTo(1));
+            assertThat(Eval.later(()->0).map(x->x+10).flatMap(x->shared).get(),equalTo(1));
+        }
+        assertThat(count.get(),equalTo(1));
+    }
+
+    @Test
+    public void branchedChainsDoNotInterfere(){
+        Eval<Integer> base = Eval.always(()->10);
+        Eval<Integer> doubled = base.map(i->i*2);
+        Eval<Integer> tripled = base.map(i->i*3);
+        assertThat(doubled.map(i->i+1).get(),equalTo(21));
+        assertThat(tripled.get(),equalTo(30));
+        assertThat(base.get(),equalTo(10));
+    }
+
     @Test
     public void completableTest(){
         CompletableEval<Integer,Integer> completable = Eval.eval();
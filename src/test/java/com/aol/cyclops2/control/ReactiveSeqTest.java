@@ -13,6 +13,7 @@ import cyclops.async.Future;
 import cyclops.collections.ListX;
 import cyclops.collections.immutable.PBagX;
 import cyclops.control.Eval;
+import cyclops.function.Monoid;
 import cyclops.monads.AnyM;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
@@ -497,6 +498,79 @@ public class ReactiveSeqTest {
         }
     }
 
+    @Test
+    public void foldParallelSplitsSources(){
+        List<Integer> expected = IntStream.range(0,10000).mapToObj(i->i*2).collect(Collectors.toList());
+        List<Integer> list = IntStream.range(0,10000).boxed().collect(Collectors.toList());
+
+        assertThat(ReactiveSeq.range(0,10000).foldParallel(s->s.map(i->i*2).collect(Collectors.toList())),equalTo(expected));
+        assertThat(ReactiveSeq.fromList(list).foldParallel(s->s.map(i->i*2).collect(Collectors.toList())),equalTo(expected));
+        assertThat(ReactiveSeq.of(list.toArray(new Integer[0])).foldParallel(s->s.map(i->i*2).collect(Collectors.toList())),equalTo(expected));
+        assertThat(ReactiveSeq.fromIterable(new LinkedList<>(list)).foldParallel(s->s.map(i->i*2).collect(Collectors.toList())),equalTo(expected));
+        assertThat(ReactiveSeq.fromIterable(()->list.iterator()).foldParallel(s->s.map(i->i*2).collect(Collectors.toList())),equalTo(expected));
+        assertThat(ReactiveSeq.rangeLong(0,10000).foldParallel(s->s.mapToLong(i->i*2).sum()),equalTo(expected.stream().mapToLong(i->i).sum()));
+    }
+    @Test
+    public void foldParallelReversedSources(){
+        assertThat(ReactiveSeq.of(1,2,3,4,5).reverse().foldParallel(s->s.collect(Collectors.toList())),equalTo(asList(5,4,3,2,1)));
+        assertThat(ReactiveSeq.fromList(asList(1,2,3,4,5)).reverse().foldParallel(s->s.collect(Collectors.toList())),equalTo(asList(5,4,3,2,1)));
+        assertThat(ReactiveSeq.range(0,5).reverse().foldParallel(s->s.collect(Collectors.toList())),
+                            equalTo(ReactiveSeq.range(0,5).reverse().toList()));
+        assertThat(ReactiveSeq.of(1,2,3,4,5).skip(1).limit(3).foldParallel(s->s.collect(Collectors.toList())),equalTo(asList(2,3,4)));
+    }
+    @Test
+    public void foldParallelUnsplittable(){
+        assertThat(ReactiveSeq.range(0,1000).map(i->i*2).foldParallel(s->s.mapToInt(i->i).sum()),
+                            equalTo(IntStream.range(0,1000).map(i->i*2).sum()));
+        assertThat(ReactiveSeq.iterate(0,i->i+1).limit(1000).foldParallel(new ForkJoinPool(4),s->s.count()),equalTo(1000l));
+    }
+    @Test
+    public void reduceParallel(){
+        List<Integer> list = IntStream.range(0,10000).boxed().collect(Collectors.toList());
+        assertThat(ReactiveSeq.fromList(list).map(i->(long)i).reduceParallel(Monoids.longSum),equalTo(49995000l));
+        assertThat(ReactiveSeq.range(0,10000).reduceParallel(new ForkJoinPool(2),Monoids.intMax),equalTo(9999));
+        assertThat(ReactiveSeq.range(0,1000).map(i->i+",").reduceParallel(Monoid.of("",(a,b)->a+b)),
+                            equalTo(ReactiveSeq.range(0,1000).map(i->i+",").join()));
+        assertThat(ReactiveSeq.iterate(0,i->i+1).limit(1000).map(i->i+",").reduceParallel(new ForkJoinPool(4),Monoid.of("",(a,b)->a+b)),
+                            equalTo(ReactiveSeq.range(0,1000).map(i->i+",").join()));
+        assertThat(ReactiveSeq.<Integer>empty().reduceParallel(Monoids.intSum),equalTo(0));
+        assertThat(ListX.fromIterable(list).reduceParallel(Monoids.intSum),equalTo(49995000));
+    }
+    @Test
+    public void reduceParallelSplitsCollectionsWithoutBuffering(){
+        List<Integer> list = new ArrayList<Integer>(IntStream.range(0,10000).boxed().collect(Collectors.toList())){
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new UnsupportedOperationException("Collection sources should be split, not iterated");
+            }
+        };
+        assertThat(ReactiveSeq.fromIterable(list).reduceParallel(Monoids.intSum),equalTo(49995000));
+        assertThat(ReactiveSeq.fromIterable(list).mapReduceParallel(new ForkJoinPool(2),i->(long)i,Monoids.longSum),equalTo(49995000l));
+    }
+    @Test
+    public void mapReduceParallel(){
+        assertThat(ReactiveSeq.range(0,10000).mapReduceParallel(i->(long)i,Monoids.longSum),equalTo(49995000l));
+        assertThat(ReactiveSeq.of("a","bb","ccc").mapReduceParallel(new ForkJoinPool(2),String::length,Monoids.intSum),equalTo(6));
+        assertThat(Spouts.range(0,1000).mapReduceParallel(i->i,Monoids.intSum),equalTo(499500));
+        assertThat(Spouts.range(0,1000).mapReduceParallel(i->i+",",Monoid.of("",(a,b)->a+b)),
+                            equalTo(ReactiveSeq.range(0,1000).map(i->i+",").join()));
+    }
+    @Test
+    public void parallelUnordered(){
+        assertThat(ReactiveSeq.range(0,1000)
+                              .parallelUnordered(s -> s.map(i -> i * 2))
+                              .toSet(),equalTo(IntStream.range(0,1000).mapToObj(i->i*2).collect(Collectors.toSet())));
+        assertThat(ReactiveSeq.range(0,1000)
+                              .foldParallelUnordered(new ForkJoinPool(4),s -> s.mapToInt(i -> i * 2).sum()),
+                              equalTo(IntStream.range(0,1000).map(i->i*2).sum()));
+    }
+    @Test
+    public void parallelOrdered(){
+        assertThat(ReactiveSeq.range(0,1000)
+                              .parallel(s -> s.map(i -> i * 2))
+                              .toList(),equalTo(IntStream.range(0,1000).mapToObj(i->i*2).collect(Collectors.toList())));
+    }
+
     @Test
     public void testLimit(){
         assertThat(ReactiveSeq.fill(1).limit(2).count(),equalTo(2l));
@@ -0,0 +1,103 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.SharedBufferCopier.Overflow;
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class SharedBufferCopierTest {
+
+    private List<Integer> drain(Iterator<Integer> it){
+        List<Integer> list = new ArrayList<>();
+        it.forEachRemaining(list::add);
+        return list;
+    }
+    private List<Iterator<Integer>> copies(int size, int copies, long bound, Overflow overflow){
+        return new SharedBufferCopier<>(ReactiveSeq.range(0,size).iterator(),copies,bound,overflow).copies();
+    }
+
+    @Test
+    public void unboundedCopiesSeeAllElements(){
+        List<Iterator<Integer>> copies = new SharedBufferCopier<>(ReactiveSeq.range(0,1000).iterator(),3).copies();
+        List<Integer> expected = ReactiveSeq.range(0,1000).toList();
+        assertThat(drain(copies.get(1)),equalTo(expected));
+        assertThat(drain(copies.get(0)),equalTo(expected));
+        assertThat(drain(copies.get(2)),equalTo(expected));
+    }
+    @Test
+    public void interleaved(){
+        List<Iterator<Integer>> copies = copies(200,2,Long.MAX_VALUE,Overflow.BLOCK);
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        while(copies.get(0).hasNext()){
+            first.add(copies.get(0).next());
+            if(first.size()%3==0)
+                second.add(copies.get(1).next());
+        }
+        second.addAll(drain(copies.get(1)));
+        assertThat(first,equalTo(ReactiveSeq.range(0,200).toList()));
+        assertThat(second,equalTo(ReactiveSeq.range(0,200).toList()));
+    }
+    @Test
+    public void dropOldest(){
+        List<Iterator<Integer>> copies = copies(10,2,3,Overflow.DROP);
+        assertThat(drain(copies.get(0)),equalTo(ListX.range(0,10)));
+        assertThat(drain(copies.get(1)),equalTo(ListX.of(7,8,9)));
+    }
+    @Test(expected = IllegalStateException.class)
+    public void errorWhenBoundReached(){
+        List<Iterator<Integer>> copies = copies(10,2,3,Overflow.ERROR);
+        drain(copies.get(0));
+    }
+    @Test
+    public void errorLeavesLaggardIntact(){
+        List<Iterator<Integer>> copies = copies(10,2,3,Overflow.ERROR);
+        List<Integer> first = new ArrayList<>();
+        try{
+            while(copies.get(0).hasNext())
+                first.add(copies.get(0).next());
+        }catch(IllegalStateException e){
+
+        }
+        assertThat(first,equalTo(ListX.of(0,1,2)));
+        assertThat(copies.get(1).next(),equalTo(0));
+    }
+    @Test
+    public void blockAcrossThreads() throws Exception {
+        List<Iterator<Integer>> copies = copies(100_000,3,10,Overflow.BLOCK);
+        List<CompletableFuture<List<Integer>>> results = new ArrayList<>();
+        for(Iterator<Integer> copy : copies)
+            results.add(CompletableFuture.supplyAsync(()->drain(copy)));
+        List<Integer> expected = ReactiveSeq.range(0,100_000).toList();
+        for(CompletableFuture<List<Integer>> next : results)
+            assertThat(next.get(10, TimeUnit.SECONDS),equalTo(expected));
+    }
+    @Test
+    public void boundedDuplicate(){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,10)
+                                                                              .duplicate(3,Overflow.DROP);
+        assertThat(copies.v1.toList(),equalTo(ListX.range(0,10)));
+        assertThat(copies.v2.toList(),equalTo(ListX.of(7,8,9)));
+    }
+    @Test
+    public void sourceIteratedOnce(){
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.of(1,2,3)
+                                                                              .peek(seen::add)
+                                                                              .duplicate();
+        assertThat(copies.v1.toList(),equalTo(ListX.of(1,2,3)));
+        assertThat(copies.v2.toList(),equalTo(ListX.of(1,2,3)));
+        assertThat(seen,equalTo(ListX.of(1,2,3)));
+    }
+}
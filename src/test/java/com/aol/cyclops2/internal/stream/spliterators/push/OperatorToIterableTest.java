@@ -0,0 +1,133 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import cyclops.collections.ListX;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OperatorToIterableTest {
+
+    Consumer<Throwable> rethrow = e -> { throw (RuntimeException)e; };
+
+    static class RecordingOperator<T> implements Operator<T> {
+        final Operator<T> source;
+        final List<Long> requests = new ArrayList<>();
+
+        RecordingOperator(Operator<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            StreamSubscription upstream = source.subscribe(onNext, onError, onComplete);
+            return new StreamSubscription() {
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    upstream.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    upstream.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            source.subscribeAll(onNext, onError, onComplete);
+        }
+    }
+
+    @Test
+    public void forEachRemainingRequestsInBatches(){
+        RecordingOperator<Integer> op = new RecordingOperator<>(new RangeIntOperator(0, 100));
+        List<Integer> result = new ArrayList<>();
+        new OperatorToIterable<>(op, rethrow, true, 16).iterator()
+                                                     .forEachRemaining(result::add);
+        assertThat(result.size(), equalTo(100));
+        assertThat(result.get(0), equalTo(0));
+        assertThat(result.get(99), equalTo(99));
+        assertThat(op.requests.get(0), equalTo(16l));
+        assertThat(op.requests.size() < 20, equalTo(true));
+    }
+
+    /*
+     * requests everything from its source on the first request, regardless of the demand signalled
+     */
+    static class OverDeliveringOperator<T> implements Operator<T> {
+        final Operator<T> source;
+
+        OverDeliveringOperator(Operator<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            StreamSubscription upstream = source.subscribe(onNext, onError, onComplete);
+            return new StreamSubscription() {
+                @Override
+                public void request(long n) {
+                    upstream.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void cancel() {
+                    upstream.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            source.subscribeAll(onNext, onError, onComplete);
+        }
+    }
+
+    @Test
+    public void batchedKeepsElementsDeliveredBeyondDemand(){
+        List<Integer> result = new ArrayList<>();
+        new OperatorToIterable<>(new OverDeliveringOperator<>(new RangeIntOperator(0, 100)), rethrow, true, 4).iterator()
+                                                                                                          .forEachRemaining(result::add);
+        assertThat(result.size(), equalTo(100));
+        for (int i = 0; i < 100; i++)
+            assertThat(result.get(i), equalTo(i));
+    }
+
+    @Test
+    public void iteratorRequestsOneAtATime(){
+        RecordingOperator<Integer> op = new RecordingOperator<>(new RangeIntOperator(0, 5));
+        Iterator<Integer> it = new OperatorToIterable<>(op, rethrow, true, 16).iterator();
+        assertThat(it.next(), equalTo(0));
+        assertThat(it.next(), equalTo(1));
+        assertThat(op.requests, equalTo(ListX.of(1l, 1l)));
+    }
+
+    @Test
+    public void batchedPreservesNulls(){
+        List<String> result = new ArrayList<>();
+        new OperatorToIterable<>(new ArrayOfValuesOperator<>("a", null, "b"), rethrow, true, 2).iterator()
+                                                                                             .forEachRemaining(result::add);
+        assertThat(result, equalTo(ListX.of("a", null, "b")));
+    }
+
+    @Test
+    public void batchedErrorsPassedToHandlerInOrder(){
+        List<Object> result = new ArrayList<>();
+        Operator<Integer> op = new MapOperator<>(new RangeIntOperator(0, 5), i -> {
+            if (i == 2)
+                throw new IllegalStateException();
+            return i;
+        });
+        new OperatorToIterable<>(op, e -> result.add("error"), true, 4).iterator()
+                                                                      .forEachRemaining(result::add);
+        assertThat(result, equalTo(ListX.of(0, 1, "error", 3, 4)));
+    }
+}
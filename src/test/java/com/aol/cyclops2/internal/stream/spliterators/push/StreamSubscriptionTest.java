@@ -0,0 +1,41 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StreamSubscriptionTest {
+
+    @Test
+    public void producedSubtractsBatch(){
+        StreamSubscription sub = new StreamSubscription();
+        sub.request(10);
+        assertThat(sub.produced(4),equalTo(6l));
+        assertThat(sub.produced(6),equalTo(0l));
+        assertThat(sub.isActive(),equalTo(false));
+    }
+
+    @Test
+    public void producedIncludesConcurrentDemand(){
+        StreamSubscription sub = new StreamSubscription();
+        sub.request(10);
+        sub.request(5);
+        assertThat(sub.produced(10),equalTo(5l));
+    }
+
+    @Test
+    public void producedNeverNegative(){
+        StreamSubscription sub = new StreamSubscription();
+        sub.request(2);
+        assertThat(sub.produced(3),equalTo(0l));
+    }
+
+    @Test
+    public void unboundedDemandNotDecremented(){
+        StreamSubscription sub = new StreamSubscription();
+        sub.request(Long.MAX_VALUE);
+        assertThat(sub.produced(1000),equalTo(Long.MAX_VALUE));
+        assertThat(sub.isActive(),equalTo(true));
+    }
+}
@@ -0,0 +1,83 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.flatMap.publisher;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class FlatMapPublisherOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new FlatMapPublisherOperator<Integer,Integer>(new ArrayOfValuesOperator<>(), i-> Spouts.of(i*2),2);
+    }
+    public Operator<Integer> createOne(){
+        return new FlatMapPublisherOperator<Integer,Integer>(new SingleValueOperator<>(1), i->Spouts.of(i*2),2);
+    }
+
+    public Operator<Integer> createThree(){
+        return  new FlatMapPublisherOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3),i->Spouts.of(i*2),2);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new FlatMapPublisherOperator<Integer,Integer>(Fixtures.twoAndErrorSource, i->Spouts.of(i*2),2);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new FlatMapPublisherOperator<Integer,Integer>(Fixtures.threeErrorsSource, i->Spouts.of(i*2),2);
+    }
+
+
+
+    @Test
+    public void noUpstreamDemandUntilRequested(){
+        AtomicLong upstreamRequested = new AtomicLong(0);
+        Publisher<Integer> source = s -> s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                upstreamRequested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+
+            }
+        });
+        Subscription sub = new FlatMapPublisherOperator<Integer,Integer>(new PublisherToOperator<>(source),i->Spouts.of(i*2),2)
+                                .subscribe(values::add,errors::add,()->onComplete =true);
+        assertThat(upstreamRequested.get(),equalTo(0l));
+        sub.request(1l);
+        assertThat(upstreamRequested.get(),equalTo(2l));
+        sub.request(1l);
+        assertThat(upstreamRequested.get(),equalTo(2l));
+    }
+    @Test
+    public void innerPublisherErrorIsTerminal(){
+        Publisher<Integer> failing = s -> {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+
+                }
+
+                @Override
+                public void cancel() {
+
+                }
+            });
+            s.onError(new RuntimeException("boo!"));
+        };
+        Subscription sub = new FlatMapPublisherOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3),i->failing,1)
+                                .subscribe(values::add,errors::add,()->onComplete =true);
+        sub.request(Long.MAX_VALUE);
+        assertThat(values.size(),equalTo(0));
+        assertThat(errors.size(),equalTo(3));
+        assertTrue(onComplete);
+    }
+
+}
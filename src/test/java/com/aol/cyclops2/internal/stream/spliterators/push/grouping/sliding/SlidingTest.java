@@ -1,5 +1,8 @@
 package com.aol.cyclops2.internal.stream.spliterators.push.grouping.sliding;
 
+import cyclops.Monoids;
+import cyclops.collections.ListX;
+import cyclops.collections.immutable.PVectorX;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import org.junit.Before;
@@ -7,6 +10,8 @@ import org.junit.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -27,6 +32,61 @@ public class SlidingTest {
         complete = new AtomicInteger();
     }
     @Test
+    public void slidingTransient(){
+        assertThat(Spouts.of(1,2,3,4,5,6).sliding(3,1,w->w.stream().mapToInt(i->i).sum()).toList(),
+                    equalTo(ListX.of(6,9,12,15)));
+    }
+    @Test
+    public void slidingReduce(){
+        assertThat(Spouts.of(1,2,3,4,5,6).slidingReduce(3,Monoids.intSum).toList(),
+                    equalTo(ListX.of(6,9,12,15)));
+        assertThat(Spouts.of(1,2).slidingReduce(3,Monoids.intSum).toList(),
+                    equalTo(ListX.of(3)));
+        assertThat(Spouts.<Integer>of().slidingReduce(3,Monoids.intSum).toList(),
+                    equalTo(ListX.empty()));
+        assertThat(Spouts.of("a","bb","ccc","dddd").slidingMapReduce(2,String::length,Monoids.intMax).toList(),
+                    equalTo(ListX.of(2,3,4)));
+    }
+    @Test
+    public void slidingReduceBackpressure(){
+        List<Integer> received = new ArrayList<>();
+        Spouts.range(0,100).slidingReduce(10,Monoids.intSum)
+              .subscribe(new Subscriber<Integer>() {
+                  @Override
+                  public void onSubscribe(Subscription s) {
+                      sub = s;
+                  }
+
+                  @Override
+                  public void onNext(Integer next) {
+                      received.add(next);
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                      error.incrementAndGet();
+                  }
+
+                  @Override
+                  public void onComplete() {
+                      complete.incrementAndGet();
+                  }
+              });
+        sub.request(3);
+        assertThat(received,equalTo(ListX.of(45,55,65)));
+        sub.request(1000);
+        assertThat(received.size(),equalTo(91));
+        assertThat(complete.get(),equalTo(1));
+        assertThat(error.get(),equalTo(0));
+    }
+    @Test
+    public void slidingLargeWindows(){
+        List<PVectorX<Integer>> windows = Spouts.range(0,1000).sliding(100,10).toList();
+        assertThat(windows.size(),equalTo(91));
+        assertThat(windows.get(90),equalTo(ReactiveSeq.range(900,1000).toList()));
+        assertThat(windows.get(3).get(0),equalTo(30));
+    }
+    @Test
     public void cancelPosition(){
         Spouts.concat(Spouts.of(1l,2l,3l,4l,5l),Spouts.iterate(0l, i->i+1l).sliding(2,1).skip(4).map(l->l.get(0))).limit(20)
               .subscribe(new Subscriber<Long>() {
@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.merge;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MergeOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new MergeOperator<>(new Operator[]{new ArrayOfValuesOperator<>(),new ArrayOfValuesOperator<>()});
+    }
+    public Operator<Integer> createOne(){
+        return new MergeOperator<>(new Operator[]{new ArrayOfValuesOperator<>(),new SingleValueOperator<>(1)});
+    }
+
+    public Operator<Integer> createThree(){
+        return  new MergeOperator<>(new Operator[]{new ArrayOfValuesOperator<>(1),new ArrayOfValuesOperator<>(2,3)});
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new MergeOperator<>(new Operator[]{new ArrayOfValuesOperator<>(),Fixtures.twoAndErrorSource});
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new MergeOperator<>(new Operator[]{Fixtures.threeErrorsSource,new ArrayOfValuesOperator<>()});
+    }
+
+    @Test
+    public void prefetchIsReplenished(){
+        Operator<Integer> merge = new MergeOperator<>(new Operator[]{new ArrayOfValuesOperator<>(1,2,3,4,5,6,7,8,9,10),
+                                                                      new ArrayOfValuesOperator<>(11,12,13,14,15,16,17,18,19,20)},2);
+        Subscription sub = merge.subscribe(values::add,errors::add,()->onComplete =true);
+        sub.request(5l);
+        assertThat(values.size(),equalTo(5));
+        assertFalse(onComplete);
+        sub.request(Long.MAX_VALUE);
+        assertThat(values.size(),equalTo(20));
+        assertThat(values.filter(i->i<=10),equalTo(ListX.range(1,11)));
+        assertThat(values.filter(i->i>10),equalTo(ListX.range(11,21)));
+        assertThat(errors.size(),equalTo(0));
+        assertTrue(onComplete);
+    }
+
+    @Test
+    public void noInnerDemandUntilRequested(){
+        ListX<ReactiveSeq<Integer>> copies = Spouts.from(Flux.just(1,2,3)).multicast(2);
+        Operator<Integer> merge = new MergeOperator<>(new Operator[]{new PublisherToOperator<>(copies.get(0)),
+                                                                      new PublisherToOperator<>(copies.get(1))});
+        Subscription sub = merge.subscribe(values::add,errors::add,()->onComplete =true);
+        assertThat(values.size(),equalTo(0));
+        sub.request(Long.MAX_VALUE);
+        assertThat(values,containsInAnyOrder(1,1,2,2,3,3));
+        assertTrue(onComplete);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.time;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.async.HashedWheelTimer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Time based operators backed by a timer whose executor never runs its tasks
+ */
+public class TimeOperatorTest {
+
+    HashedWheelTimer stalled = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, r -> { });
+
+    @After
+    public void teardown(){
+        stalled.shutdown();
+    }
+
+    private Operator<Integer> slowSource(){
+        return new MapOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3,4,5,6,7,8,9,10), i->{
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return i;
+        });
+    }
+
+    @Test
+    public void limitExpiresWithoutTimerTask(){
+        List<Integer> result = new ArrayList<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+        new LimitWhileTimeOperator<Integer,Integer>(slowSource(), 25, TimeUnit.MILLISECONDS, stalled)
+                .subscribeAll(result::add, e -> { }, () -> complete.set(true));
+
+        assertThat(result.size(), lessThan(10));
+        assertThat(result.size(), greaterThan(0));
+        assertTrue(complete.get());
+    }
+
+    @Test
+    public void skipEndsWithoutTimerTask(){
+        List<Integer> result = new ArrayList<>();
+        new SkipWhileTimeOperator<Integer,Integer>(slowSource(), 25, TimeUnit.MILLISECONDS, stalled)
+                .subscribeAll(result::add, e -> { }, () -> { });
+
+        assertThat(result.size(), lessThan(10));
+        assertThat(result.size(), greaterThan(0));
+        assertThat(result.get(result.size()-1), equalTo(10));
+    }
+
+    @Test
+    public void subTickDelayEmitsInline(){
+        List<Integer> result = new ArrayList<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+        long fiftyMicros = TimeUnit.MICROSECONDS.toNanos(50);
+        new DelayOperator<Integer>(new ArrayOfValuesOperator<>(1,2,3,4,5), () -> now -> fiftyMicros, stalled)
+                .subscribeAll(result::add, e -> { }, () -> complete.set(true));
+
+        assertThat(result, equalTo(Arrays.asList(1,2,3,4,5)));
+        assertTrue(complete.get());
+    }
+}
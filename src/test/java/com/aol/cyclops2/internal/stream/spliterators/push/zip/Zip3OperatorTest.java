@@ -0,0 +1,45 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.zip;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class Zip3OperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new Zipping3Operator<Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(),new ArrayOfValuesOperator<>(),new ArrayOfValuesOperator<>(),(a,b,c)->a+b+c);
+    }
+    public Operator<Integer> createOne(){
+        return new Zipping3Operator<Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(1),new ArrayOfValuesOperator<>(2),new ArrayOfValuesOperator<>(3,4),(a,b,c)->a+b+c);
+    }
+
+    public Operator<Integer> createThree(){
+        return new Zipping3Operator<Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3),new ArrayOfValuesOperator<>(10,11,12),new ArrayOfValuesOperator<>(20,21,22),(a,b,c)->a+b+c);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return new Zipping3Operator<Integer,Integer,Integer,Integer>(Fixtures.twoAndErrorSource,new ArrayOfValuesOperator<>(10,11,12),new ArrayOfValuesOperator<>(20,21,22),(a,b,c)->a+b+c);
+
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new Zipping3Operator<Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(10,11,12),new ArrayOfValuesOperator<>(20,21,22),Fixtures.threeErrorsSource,(a,b,c)->a+b+c);
+
+    }
+
+    @Test
+    public void subscribeThreeErrors() throws Exception {
+        Subscription sub = threeErrors.subscribe(values::add,errors::add,()->onComplete =true);
+        sub.request(1l);
+        assertThat(values.size(),equalTo(0));
+        assertThat(errors.size(),equalTo(3));
+        assertTrue(onComplete);
+
+    }
+
+
+
+}
@@ -273,6 +273,30 @@ public class ZipAsyncTest {
                 .toListX(),equalTo(ListX.of(Tuple.tuple(1,1),Tuple.tuple(2,2))));
 
     }
+    @Test
+    public void zip3Async(){
+        for(int i=0;i<100;i++) {
+            assertThat(flux(1, 2, 3, 4, 5, 6).zip3(flux(100, 200, 300, 400), flux('a', 'b', 'c'))
+                            .toListX(),
+                    equalTo(ListX.of(Tuple.tuple(1, 100, 'a'), Tuple.tuple(2, 200, 'b'), Tuple.tuple(3, 300, 'c'))));
+        }
+    }
+    @Test
+    public void zip4Async(){
+        for(int i=0;i<100;i++) {
+            assertThat(flux(1, 2, 3, 4, 5, 6).zip4(flux(100, 200, 300, 400), flux('a', 'b', 'c'), flux("hello", "world"),
+                                                   (a, b, c, d) -> a + b + "" + c + d)
+                            .toListX(),
+                    equalTo(ListX.of("101ahello", "202bworld")));
+        }
+    }
+    @Test
+    public void zipLargeAsync(){
+        assertThat(Spouts.from(Flux.range(0, 100_000).subscribeOn(Schedulers.fromExecutor(ForkJoinPool.commonPool())))
+                         .zipS(Spouts.from(Flux.range(0, 100_000).subscribeOn(Schedulers.fromExecutor(ForkJoinPool.commonPool()))))
+                         .filter(t -> !t.v1.equals(t.v2))
+                         .count(),equalTo(0l));
+    }
     private ReactiveSeq<Integer> nextAsync() {
         AsyncSubscriber<Integer> sub = Spouts.asyncSubscriber();
         new Thread(()->{
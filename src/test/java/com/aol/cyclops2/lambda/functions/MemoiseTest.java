@@ -7,10 +7,15 @@ import static cyclops.function.Memoize.memoizePredicate;
 import static cyclops.function.Memoize.memoizeQuadFunction;
 import static cyclops.function.Memoize.memoizeSupplier;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -23,6 +28,9 @@ import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 
+import cyclops.function.BoundedCache;
+import cyclops.function.Cacheable;
+import cyclops.function.CachePolicy;
 import cyclops.function.Memoize;
 
 import lombok.val;
@@ -115,6 +123,68 @@ public class MemoiseTest {
 		assertThat(s.apply(1,1),equalTo(3));
 	}
 
+	@Test
+	public void testMemoiseFunctionBounded() {
+		Function<Integer,Integer> s = memoizeFunction( a->a + ++called, CachePolicy.maximumSize(2));
+		assertThat(s.apply(0),equalTo(1));
+		assertThat(s.apply(0),equalTo(1));
+		assertThat(s.apply(1),equalTo(3));
+		assertThat(s.apply(2),equalTo(5));
+		assertThat(s.apply(2),equalTo(5));
+		assertThat(s.apply(0),equalTo(4));
+		assertThat(called,equalTo(4));
+	}
+	@Test
+	public void cacheableKeysAreSerializable() throws Exception {
+		Map<Object,Integer> map = new ConcurrentHashMap<>();
+		Cacheable<Integer> serializing = (key, fn) -> {
+			new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(key);
+			return map.computeIfAbsent(key, fn);
+		};
+		assertThat(memoizeBiFunction((Integer a, Integer b)->a + b, serializing).apply(1,2),equalTo(3));
+		assertThat(Memoize.memoizeTriFunction((Integer a, Integer b, Integer c)->a + b + c, serializing).apply(1,2,3),equalTo(6));
+		assertThat(memoizeQuadFunction((Integer a, Integer b, Integer c, Integer d)->a + b + c + d, serializing).apply(1,2,3,4),equalTo(10));
+		assertThat(map.size(),equalTo(3));
+	}
+
+	@Test
+	public void boundedAsyncRefreshSurvivesFailure() throws InterruptedException {
+		AtomicInteger calls = new AtomicInteger(0);
+		Function<Integer,Integer> fn = Memoize.memoizeFunctionAsync((Integer i) -> {
+			int call = calls.incrementAndGet();
+			if (call == 2)
+				throw new RuntimeException("boom");
+			return call;
+		}, ex, 20, CachePolicy.maximumSize(10));
+		assertThat(fn.apply(1),equalTo(1));
+		for (int i = 0; i < 100 && calls.get() < 4; i++)
+			Thread.sleep(20);
+		assertTrue(calls.get() >= 4);
+		assertTrue(fn.apply(1) >= 3);
+	}
+
+	@Test
+	public void testMemoiseBiFunctionBounded() {
+		BoundedCache<Integer> cache = CachePolicy.maximumSize(100).cache();
+		BiFunction<Integer,Integer,Integer> s = memoizeBiFunction( (a,b)->a==null ? null : a + ++called, cache);
+		assertThat(s.apply(0,1),equalTo(1));
+		assertThat(s.apply(0,1),equalTo(1));
+		assertThat(s.apply(1,0),equalTo(3));
+		assertThat(s.apply(null,null),nullValue());
+		assertThat(s.apply(null,null),nullValue());
+		assertThat(cache.size(),equalTo(3l));
+		assertThat(cache.getStats().getHits(),equalTo(2l));
+		assertThat(cache.getStats().getMisses(),equalTo(3l));
+	}
+	@Test
+	public void testMemoiseQuadFunctionBounded(){
+		val cached = memoizeQuadFunction(this::addAll, CachePolicy.maximumSize(10)
+																	.withExpireAfterWriteMillis(50));
+
+		assertThat(cached.apply(1,2,3,4),equalTo(10));
+		assertThat(cached.apply(1,2,3,4),equalTo(10));
+		assertThat(called,equalTo(1));
+	}
 	@Test
 	public void testMemoisePredicate() {
 		Predicate<Integer> s = memoizePredicate( a-> a==++called);
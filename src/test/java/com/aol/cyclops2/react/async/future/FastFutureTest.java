@@ -6,12 +6,15 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +22,9 @@ import org.junit.Test;
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 import com.aol.cyclops2.internal.react.async.future.FinalPipeline;
 import com.aol.cyclops2.internal.react.async.future.PipelineBuilder;
+import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
+import com.aol.cyclops2.internal.react.exceptions.SimpleReactCompletionException;
+import com.aol.cyclops2.react.BlockingWait;
 
 import io.netty.util.internal.chmv8.ForkJoinPool;
 
@@ -199,6 +205,71 @@ public class FastFutureTest {
 		}
 	}
 
+	@Test
+	public void filteredSkipsRemainingStages() {
+		FastFuture f = future.<Integer> filter(i -> i > 10)
+				.<Integer, Integer> thenApply(i -> {
+					sizes.add(i);
+					return i;
+				})
+				.<Integer, Integer> thenApplyAsync(i -> {
+					sizes2.add(i);
+					return i;
+				}, ForkJoinPool.commonPool())
+				.build();
+		f.set(5);
+		assertNull(f.joinOrFiltered(null));
+		assertTrue(f.isFiltered());
+		assertFalse(f.isCompletedExceptionally());
+		assertTrue(sizes.isEmpty());
+		assertTrue(sizes2.isEmpty());
+	}
+
+	@Test
+	public void filterAsyncPasses() {
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		try {
+			FastFuture f = future.<Integer> filterAsync(i -> i > 10, exec)
+					.<Integer, Integer> thenApply(i -> i * 2)
+					.build();
+			f.set(50);
+			assertThat(f.join(), equalTo(100));
+			assertFalse(f.isFiltered());
+		} finally {
+			exec.shutdown();
+		}
+	}
+
+	@Test
+	public void filteredEvent() {
+		FastFuture<Integer> f = future.<Integer> filter(i -> i > 10).build();
+		f.set(5);
+		f.essential(event -> called = event.filtered && !event.exceptionally);
+		assertTrue(called);
+	}
+
+	@Test
+	public void filteredNotRecovered() {
+		FastFuture f = future.<Integer> filter(i -> i > 10)
+				.exceptionally(e -> 100)
+				.build();
+		f.set(5);
+		assertTrue(f.isFiltered());
+		assertThat(f.joinOrFiltered(-1), equalTo(-1));
+	}
+
+	@Test
+	public void filteredJoinThrows() {
+		FastFuture<Integer> f = future.<Integer> filter(i -> i > 10).build();
+		f.set(5);
+		try {
+			f.join();
+			fail("filtered result should not be returned");
+		} catch (SimpleReactCompletionException e) {
+			assertTrue(e.getCause() instanceof FilteredExecutionPathException);
+		}
+	}
+
 	volatile boolean called = false;
 
 	@Test
@@ -436,6 +507,72 @@ public class FastFutureTest {
 		}
 
 	}
+	@Test
+	public void joinParksUntilCompleted() throws InterruptedException {
+		for (int i = 0; i < 1000; i++) {
+			FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),0, BlockingWait.PARK);
+			int value = i;
+			Thread t1 = new Thread(()->f.set(value));
+			t1.start();
+			assertThat(f.join(),equalTo(i));
+			t1.join();
+		}
+	}
+	@Test
+	public void joinSpinThenParkUntilCompleted() throws InterruptedException {
+		for (int i = 0; i < 1000; i++) {
+			FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),0, BlockingWait.SPIN_THEN_PARK);
+			int value = i;
+			Thread t1 = new Thread(()->f.set(value));
+			t1.start();
+			assertThat(f.join(),equalTo(i));
+			t1.join();
+		}
+	}
+	@Test
+	public void multipleWaitersReleased() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),0);
+		CountDownLatch released = new CountDownLatch(4);
+		for(int i=0;i<4;i++){
+			new Thread(()->{
+				f.await();
+				released.countDown();
+			}).start();
+		}
+		Thread.sleep(50);
+		assertThat(released.getCount(),equalTo(4l));
+		f.set(10);
+		released.await();
+		assertTrue(f.isDone());
+	}
+	@Test
+	public void awaitReleasedOnFailure() throws InterruptedException {
+		FastFuture f = future.thenApply(v -> {
+			throw new RuntimeException();
+		}).build();
+		Thread t1 = new Thread(()->f.set("boo!"));
+		t1.start();
+		f.await();
+		t1.join();
+		assertTrue(f.isCompletedExceptionally());
+	}
+	@Test
+	public void awaitPreservesInterrupt() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>(FinalPipeline.empty(),0);
+		boolean[] interrupted = {false};
+		Thread waiter = new Thread(()->{
+			f.await();
+			interrupted[0] = Thread.currentThread().isInterrupted();
+		});
+		waiter.start();
+		Thread.sleep(50);
+		waiter.interrupt();
+		Thread.sleep(50);
+		assertTrue(waiter.isAlive());
+		f.set(1);
+		waiter.join();
+		assertTrue(interrupted[0]);
+	}
 	volatile boolean complete= false;
 	@Test
 	public void testAllOf() throws InterruptedException {
@@ -0,0 +1,127 @@
+package com.aol.cyclops2.react.async.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.FuturePool;
+
+import cyclops.async.LazyReact;
+import cyclops.stream.FutureStream;
+
+public class FuturePoolTest {
+
+	@Test
+	public void emptyPoolMisses() {
+		FuturePool pool = new FuturePool(64, 4);
+		FastFuture f = pool.next(() -> new FastFuture());
+		assertTrue(f != null);
+		assertThat(pool.getMisses(), equalTo(1l));
+		assertThat(pool.getHits(), equalTo(0l));
+	}
+
+	@Test
+	public void recycledOnSameThread() {
+		FuturePool pool = new FuturePool(64, 4);
+		FastFuture f = new FastFuture();
+		pool.done(f);
+		assertTrue(pool.next(() -> new FastFuture()) == f);
+		assertThat(pool.getHits(), equalTo(1l));
+		assertThat(pool.getMisses(), equalTo(0l));
+	}
+
+	@Test
+	public void fullMagazinesSharedViaDepot() throws InterruptedException {
+		FuturePool pool = new FuturePool(64, 4);
+		List<FastFuture> recycled = new ArrayList<>();
+		Thread completer = new Thread(() -> {
+			for (int i = 0; i < 5; i++) {
+				FastFuture f = new FastFuture();
+				recycled.add(f);
+				pool.done(f);
+			}
+		});
+		completer.start();
+		completer.join();
+
+		//the completer's stripe may be shared with this thread, in which case its partial magazine is served too
+		for (int i = 0; i < 4; i++)
+			assertTrue(recycled.contains(pool.next(() -> new FastFuture())));
+		assertThat(pool.getHits(), equalTo(4l));
+		assertThat(pool.getMisses(), equalTo(0l));
+	}
+
+	@Test
+	public void pooledFuturesNotRetainedByThreads() throws Exception {
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		try {
+			List<WeakReference<FastFuture>> recycled = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				FuturePool pool = new FuturePool(64, 4);
+				FastFuture f = new FastFuture();
+				recycled.add(new WeakReference<>(f));
+				ex.submit(() -> pool.done(f))
+				  .get();
+			}
+			for (int i = 0; i < 10 && recycled.stream()
+											  .anyMatch(r -> r.get() != null); i++) {
+				System.gc();
+				Thread.sleep(50);
+			}
+			assertTrue(recycled.stream()
+							   .allMatch(r -> r.get() == null));
+		} finally {
+			ex.shutdown();
+		}
+	}
+
+	@Test
+	public void discardsWhenDepotFull() {
+		FuturePool pool = new FuturePool(2, 1);
+		for (int i = 0; i < 10; i++)
+			pool.done(new FastFuture());
+		assertThat(pool.getDiscards(), greaterThan(0l));
+	}
+
+	@Test
+	public void concurrentRecycling() throws InterruptedException {
+		FuturePool pool = new FuturePool(1024);
+		ExecutorService ex = Executors.newFixedThreadPool(8);
+		CountDownLatch latch = new CountDownLatch(8);
+		for (int t = 0; t < 8; t++) {
+			ex.submit(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					FastFuture f = pool.next(() -> new FastFuture());
+					pool.done(f);
+				}
+				latch.countDown();
+			});
+		}
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		ex.shutdown();
+		assertThat(pool.getHits() + pool.getMisses(), equalTo(80_000l));
+		assertThat(pool.getHits(), greaterThan(pool.getMisses()));
+	}
+
+	@Test
+	public void lazyReactPoolingStatistics() {
+		FutureStream<Integer> stream = new LazyReact().objectPoolingOn()
+														.range(0, 1000)
+														.map(i -> i * 2);
+		assertThat(stream.toList().size(), equalTo(1000));
+		FuturePool pool = stream.getLastActive().getPool();
+		assertThat(pool.getHits() + pool.getMisses(), equalTo(1000l));
+	}
+}
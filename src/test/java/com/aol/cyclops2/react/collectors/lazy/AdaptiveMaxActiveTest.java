@@ -0,0 +1,97 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import cyclops.async.LazyReact;
+
+public class AdaptiveMaxActiveTest {
+
+	@Test
+	public void increasesWhenSaturatedAndLatencyStable() {
+		AdaptiveMaxActive max = AdaptiveMaxActive.aimd(10, 1, 100);
+		for(int i=0;i<1000;i++)
+			max.sample(1000, max.getMaxActive());
+		assertThat(max.getMaxActive(), greaterThan(10));
+	}
+
+	@Test
+	public void unchangedWhenNotSaturated() {
+		AdaptiveMaxActive max = AdaptiveMaxActive.aimd(10, 1, 100);
+		for(int i=0;i<1000;i++)
+			max.sample(1000, 2);
+		assertThat(max.getMaxActive(), equalTo(10));
+	}
+
+	@Test
+	public void decreasesWhenLatencyRises() {
+		AdaptiveMaxActive max = AdaptiveMaxActive.aimd(50, 1, 100);
+		for(int i=0;i<50;i++)
+			max.sample(1000, 1);
+		for(int i=0;i<200;i++)
+			max.sample(10_000, max.getMaxActive());
+		assertThat(max.getMaxActive(), lessThan(50));
+		assertThat(max.getBaselineLatency(), lessThan(10_000l));
+	}
+
+	@Test
+	public void boundedByMinAndMax() {
+		AdaptiveMaxActive max = AdaptiveMaxActive.aimd(5, 4, 6);
+		for(int i=0;i<1000;i++)
+			max.sample(1000, 100);
+		assertThat(max.getMaxActive(), equalTo(6));
+		for(int i=0;i<100;i++)
+			max.sample(1_000_000, 100);
+		assertThat(max.getMaxActive(), equalTo(4));
+	}
+
+	@Test
+	public void reduceToBelowLimit() {
+		assertThat(AdaptiveMaxActive.aimd(100, 1, 100).getReduceTo(), equalTo(90));
+		assertThat(AdaptiveMaxActive.aimd(1, 1, 100).getReduceTo(), equalTo(1));
+	}
+
+	@Test
+	public void withMaxActiveStaysAdaptive() {
+		AdaptiveMaxActive max = AdaptiveMaxActive.aimd(10, 4, 50).withMaxActive(20);
+		assertThat(max.getMaxActive(), equalTo(20));
+		assertThat(max.getMinLimit(), equalTo(4));
+		assertThat(max.getMaxLimit(), equalTo(50));
+		assertThat(max.withMaxActive(100).getMaxActive(), equalTo(50));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void withReduceToUnsupported() {
+		AdaptiveMaxActive.aimd(10, 1, 100).withReduceTo(5);
+	}
+	@Test
+	public void latencySamplesOldestFirst() {
+		AdaptiveMaxActive max = AdaptiveMaxActive.aimd(10, 1, 100);
+		for(int i=0;i<200;i++)
+			max.sample(i, 1);
+		long[] samples = max.getLatencySamples();
+		assertThat(samples.length, equalTo(128));
+		assertThat(samples[0], equalTo(72l));
+		assertThat(samples[127], equalTo(199l));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidBounds() {
+		AdaptiveMaxActive.aimd(10, 5, 4);
+	}
+
+	@Test
+	public void lazyReactRecordsLatencies() {
+		LazyReact react = new LazyReact().adaptiveMaxActive();
+		assertThat(react.range(0, 1000)
+						.map(i -> i * 2)
+						.toList()
+						.size(),
+					equalTo(1000));
+		AdaptiveMaxActive max = (AdaptiveMaxActive)react.getMaxActive();
+		assertThat(max.getLatencySamples().length, greaterThan(0));
+	}
+}
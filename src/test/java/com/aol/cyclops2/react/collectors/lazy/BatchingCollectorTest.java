@@ -1,13 +1,22 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import cyclops.stream.FutureStream;
 import org.junit.Before;
@@ -16,6 +25,7 @@ import org.mockito.Mockito;
 
 import cyclops.async.LazyReact;
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.PipelineBuilder;
 
 public class BatchingCollectorTest {
 
@@ -33,65 +43,106 @@ public class BatchingCollectorTest {
 	@Test
 	public void testAcceptMock() {
 		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,atLeastOnce()).isDone();
+		verify(cf,times(1000)).onComplete(any(Consumer.class));
+		verify(cf,never()).isDone();
 	}
 	@Test
 	public void testAcceptMock495() {
 		collector = new BatchingCollector(new MaxActive(500,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
 		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,never()).isDone();
 	}
 	@Test
 	public void testAcceptMock50() {
 		collector = new BatchingCollector(new MaxActive(500,450), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
 		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,never()).isDone();
 	}
 
 	@Test
 	public void testBuilder() {
 		collector = BatchingCollector.builder().blocking(LazyReact.sequentialBuilder().of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
 		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(999)).isDone();
+		verify(cf,never()).isDone();
 	}
 
 	@Test
 	public void testWithMaxActive() {
 		collector = collector.withMaxActive(new MaxActive(10000,5));
 		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(0)).isDone();
+		verify(cf,never()).isDone();
 	}
 
 	@Test
 	public void testBatchingCollectorMaxActive() {
 		collector = new BatchingCollector(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new HashSet<>());
 		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(990)).isDone();
+		verify(cf,never()).isDone();
 	}
 
+	@Test
+	public void completedFuturesCollected() {
+		for(int i=0;i<1000;i++){
+			collector.accept(FastFuture.completedFuture(10l));
+		}
+		assertThat(collector.getAllResults().size(),equalTo(1000));
+	}
+
+	@Test
+	public void acceptBlocksUntilActiveReduced() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(2,1), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		List<FastFuture> futures = new ArrayList<>();
+		for(int i=0;i<3;i++)
+			futures.add(new PipelineBuilder().build());
+		collector.accept(futures.get(0));
+		collector.accept(futures.get(1));
+		CountDownLatch accepted = new CountDownLatch(1);
+		Thread producer = new Thread(()->{
+			collector.accept(futures.get(2));
+			accepted.countDown();
+		});
+		producer.start();
+
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		futures.get(0).set(1);
+		assertFalse(accepted.await(100, TimeUnit.MILLISECONDS));
+		futures.get(1).set(2);
+		assertTrue(accepted.await(10, TimeUnit.SECONDS));
+		assertThat(collector.getResults().size(),equalTo(2));
+
+		futures.get(2).set(3);
+		assertThat(collector.getAllResults().size(),equalTo(3));
+	}
+
+	private void completeOnRegistration(FastFuture cf){
+		doAnswer(invocation -> {
+			((Consumer)invocation.getArguments()[0]).accept(null);
+			return null;
+		}).when(cf).onComplete(any(Consumer.class));
+	}
 
 }
@@ -3,16 +3,20 @@ package com.aol.cyclops2.react.collectors.lazy;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.function.Consumer;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.PipelineBuilder;
 
 public class EmptyCollectorTest {
 
@@ -30,31 +34,32 @@ public class EmptyCollectorTest {
 	@Test
 	public void testAcceptMock() {
 		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,atLeastOnce()).isDone();
+		verify(cf,times(1000)).onComplete(any(Consumer.class));
+		verify(cf,never()).isDone();
 	}
 	@Test
 	public void testAcceptMock495() {
 		collector = new EmptyCollector<>(new MaxActive(500,5),cf -> cf.join());
 		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,never()).isDone();
 	}
 	@Test
 	public void testAcceptMock50() {
 		collector = new EmptyCollector<>(new MaxActive(500,450),cf -> cf.join());
 		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		completeOnRegistration(cf);
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,never()).isDone();
 	}
 
 	@Test
@@ -74,7 +79,27 @@ public class EmptyCollectorTest {
 		assertThat(collector.getMaxActive().getMaxActive(),is(MaxActive.IO.getMaxActive()));
 	}
 
-	
-	
+	@Test
+	public void failuresHandledOnCompletion() {
+		int[] failures = {0};
+		collector = new EmptyCollector<>(new MaxActive(500,5),cf -> {
+			if(cf.isCompletedExceptionally())
+				failures[0]++;
+			return null;
+		});
+		for(int i=0;i<10;i++){
+			FastFuture f = new PipelineBuilder().thenApply(v->{ throw new RuntimeException(); }).build();
+			f.set(i);
+			collector.accept(f);
+		}
+		assertThat(failures[0],is(10));
+	}
+
+	private void completeOnRegistration(FastFuture cf){
+		doAnswer(invocation -> {
+			((Consumer)invocation.getArguments()[0]).accept(null);
+			return null;
+		}).when(cf).onComplete(any(Consumer.class));
+	}
 
 }
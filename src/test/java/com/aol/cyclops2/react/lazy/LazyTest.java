@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 
+import com.aol.cyclops2.react.BlockingWait;
 import com.aol.cyclops2.react.ThreadPools;
 import com.aol.cyclops2.react.async.subscription.Subscription;
 import com.aol.cyclops2.types.mixins.Printable;
@@ -44,6 +45,23 @@ public class LazyTest implements Printable {
 		}
 	}
     @Test
+    public void spinThenPark(){
+        assertThat(new LazyReact().spinThenPark()
+                                  .range(0, 1000)
+                                  .map(i -> i * 2)
+                                  .toList()
+                                  .size(), equalTo(1000));
+    }
+    @Test
+    public void spinThenParkObjectPooling(){
+        assertThat(new LazyReact().objectPoolingOn()
+                                  .withBlockingWait(BlockingWait.SPIN_THEN_PARK)
+                                  .range(0, 1000)
+                                  .map(i -> i * 2)
+                                  .toList()
+                                  .size(), equalTo(1000));
+    }
+    @Test
     public void combineNoOrder(){
         assertThat(LazyReact.parallelCommonBuilder().of(1,2,3)
                    .combine((a, b)->a.equals(b),Semigroups.intSum)
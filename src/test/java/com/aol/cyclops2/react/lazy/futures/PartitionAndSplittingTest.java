@@ -6,10 +6,13 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
+import com.aol.cyclops2.internal.react.exceptions.SimpleReactCompletionException;
 import cyclops.stream.FutureStream;
 import org.junit.Test;
 
@@ -39,6 +42,23 @@ public class PartitionAndSplittingTest {
 		}
 	}
 
+	@Test
+	public void testSplitAtHeadFiltered() {
+		assertEquals(Optional.of(1), of(1, 2, 3).filter(i -> i != 2).actOnFutures().splitAtHead().v1);
+		assertEquals(asList(3), of(1, 2, 3).filter(i -> i != 2).actOnFutures().splitAtHead().v2.toList());
+		try {
+			of(1, 2, 3).filter(i -> i != 1).actOnFutures().splitAtHead();
+			fail("a filtered head should not be returned as null");
+		} catch (SimpleReactCompletionException e) {
+			assertTrue(e.getCause() instanceof FilteredExecutionPathException);
+		}
+	}
+
+	@Test
+	public void convertToSimpleReactFiltered() {
+		assertEquals(asList(1, 3), of(1, 2, 3).filter(i -> i != 2).convertToSimpleReact().block());
+	}
+
 	@Test
 	public void testSplitAtHead() {
 
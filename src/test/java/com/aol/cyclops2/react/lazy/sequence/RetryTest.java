@@ -9,10 +9,18 @@ import static org.mockito.Matchers.anyInt;
 import java.io.IOException;
 import java.net.SocketException;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import cyclops.async.LazyReact;
+import cyclops.async.RetryPolicy;
+import cyclops.collections.ListX;
 import cyclops.stream.FutureStream;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -158,4 +166,58 @@ public class RetryTest {
 
 	
 
-}
\ No newline at end of file
+	@Test
+	public void retryWithDelayKeepsEncounterOrder() {
+		AtomicInteger attempts = new AtomicInteger(0);
+		List<Integer> result = LazyReact.parallelBuilder(4)
+										.of(1, 2, 3, 4)
+										.retry(i -> {
+											if (i == 1 && attempts.incrementAndGet() < 3)
+												throw new RuntimeException("boom");
+											return i;
+										}, 3, 50, TimeUnit.MILLISECONDS)
+										.toList();
+
+		assertThat(result, equalTo(ListX.of(1, 2, 3, 4)));
+		assertThat(attempts.get(), equalTo(3));
+	}
+
+	@Test
+	public void retryPolicyHonoursMaxConcurrency() {
+		Map<Integer, Boolean> failedOnce = new ConcurrentHashMap<>();
+		AtomicInteger backingOff = new AtomicInteger(0);
+		AtomicInteger maxBackingOff = new AtomicInteger(0);
+		List<Integer> result = LazyReact.parallelBuilder(4)
+										.of(1, 2, 3, 4, 5, 6, 7, 8)
+										.retry(i -> {
+											if (failedOnce.putIfAbsent(i, true) == null) {
+												maxBackingOff.accumulateAndGet(backingOff.incrementAndGet(), Math::max);
+												throw new RuntimeException("boom");
+											}
+											backingOff.decrementAndGet();
+											return i;
+										}, RetryPolicy.of(1, 20, TimeUnit.MILLISECONDS), 2)
+										.toList();
+
+		assertThat(ListX.fromIterable(result).sorted(), equalTo(ListX.of(1, 2, 3, 4, 5, 6, 7, 8)));
+		assertThat(maxBackingOff.get() <= 2, is(true));
+	}
+
+	@Test
+	public void retryPolicyRunsOnTaskExecutor() {
+		Thread consumer = Thread.currentThread();
+		AtomicBoolean onConsumer = new AtomicBoolean(false);
+		List<Integer> result = LazyReact.parallelBuilder(4)
+										.of(1, 2, 3, 4, 5, 6)
+										.retry(i -> {
+											if (Thread.currentThread() == consumer)
+												onConsumer.set(true);
+											return i;
+										}, RetryPolicy.of(1, 20, TimeUnit.MILLISECONDS), 2)
+										.toList();
+
+		assertThat(ListX.fromIterable(result).sorted(), equalTo(ListX.of(1, 2, 3, 4, 5, 6)));
+		assertThat(onConsumer.get(), is(false));
+	}
+
+}
@@ -12,6 +12,8 @@ import java.net.SocketException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -20,6 +22,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import cyclops.async.RetryPolicy;
+import cyclops.collections.ListX;
 import cyclops.stream.ReactiveSeq;
 import com.aol.cyclops2.util.ExceptionSoftener;
 
@@ -160,4 +164,45 @@ public class RetryTest {
 
 	
 
-}
\ No newline at end of file
+	@Test
+	public void retryWithPolicyInOrderAndBounded() {
+		AtomicInteger active = new AtomicInteger(0);
+		AtomicInteger maxActive = new AtomicInteger(0);
+		AtomicInteger attempts = new AtomicInteger(0);
+		List<Integer> result = ReactiveSeq.of(1, 2, 3, 4, 5)
+										  .peek(i -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+										  .retry(i -> {
+											  if (i == 1 && attempts.incrementAndGet() < 3)
+												  throw new RuntimeException("boom");
+											  active.decrementAndGet();
+											  return i;
+										  }, RetryPolicy.of(3, 20, TimeUnit.MILLISECONDS), 2)
+										  .toList();
+
+		assertThat(result, equalTo(ListX.of(1, 2, 3, 4, 5)));
+		assertThat(maxActive.get() <= 2, is(true));
+	}
+
+	@Test
+	public void retryWithPolicyStartsNextWhenHeadEmitted() {
+		AtomicBoolean twoDone = new AtomicBoolean(false);
+		AtomicBoolean threeStartedWhileTwoBackingOff = new AtomicBoolean(false);
+		AtomicInteger attempts = new AtomicInteger(0);
+		List<Integer> result = ReactiveSeq.of(1, 2, 3, 4)
+										  .retry(i -> {
+											  if (i == 2) {
+												  if (attempts.incrementAndGet() < 2)
+													  throw new RuntimeException("boom");
+												  twoDone.set(true);
+											  }
+											  if (i == 3)
+												  threeStartedWhileTwoBackingOff.set(!twoDone.get());
+											  return i;
+										  }, RetryPolicy.of(1, 300, TimeUnit.MILLISECONDS), 2)
+										  .toList();
+
+		assertThat(result, equalTo(ListX.of(1, 2, 3, 4)));
+		assertThat(threeStartedWhileTwoBackingOff.get(), is(true));
+	}
+
+}
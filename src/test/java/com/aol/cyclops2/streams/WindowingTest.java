@@ -7,16 +7,20 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import cyclops.Monoids;
 import cyclops.collections.immutable.PVectorX;
+import cyclops.function.Monoid;
 import org.junit.Before;
 import org.junit.Test;
 
 import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
 import cyclops.stream.Streamable;
 import cyclops.collections.ListX;
 
@@ -138,6 +142,36 @@ public class WindowingTest {
 		assertThat(sliding, contains(asList(1, 2, 3), asList(3, 4, 5)));
 	}
 
+	@Test
+	public void slidingTransient() {
+
+		List<Integer> sums = ReactiveSeq.of(1, 2, 3, 4, 5, 6).sliding(3, 1, w -> w.stream().mapToInt(i -> i).sum()).toList();
+
+		assertThat(sums, contains(6, 9, 12, 15));
+	}
+
+	@Test
+	public void slidingTransientIterative() {
+
+		Iterator<List<Integer>> it = ReactiveSeq.of(1, 2, 3, 4, 5).sliding(2, 2, w -> (List<Integer>)new ArrayList<>(w)).iterator();
+		List<List<Integer>> sliding = ReactiveSeq.fromIterator(it).toList();
+
+		assertThat(sliding, contains(asList(1, 2), asList(3, 4), asList(5)));
+	}
+
+	@Test
+	public void slidingWindowsAreImmutableSnapshots() {
+
+		List<PVectorX<Integer>> sliding = ReactiveSeq.range(0, 1000).sliding(100, 1).toList();
+
+		assertThat(sliding.size(), equalTo(901));
+		assertThat(sliding.get(0).get(0), equalTo(0));
+		assertThat(sliding.get(0).get(99), equalTo(99));
+		assertThat(sliding.get(900).get(0), equalTo(900));
+		assertThat(sliding.get(900).subList(98, 100), contains(998, 999));
+		assertThat(sliding.get(5).plus(-1).size(), equalTo(101));
+	}
+
 	@Test
 	public void slidingEmpty() {
 
@@ -153,6 +187,36 @@ public class WindowingTest {
 
 		assertThat(sliding, contains(asList(1, 2), asList(3, 4), asList(5)));
 	}
+	@Test(expected = IllegalArgumentException.class)
+	public void slidingIncrementZero() {
+		ReactiveSeq.of(1, 2, 3).sliding(2, 0);
+	}
+	@Test(expected = IllegalArgumentException.class)
+	public void slidingIncrementZeroPush() {
+		Spouts.of(1, 2, 3).sliding(2, 0);
+	}
+	@Test(expected = IllegalArgumentException.class)
+	public void slidingIncrementNegative() {
+		ReactiveSeq.of(1, 2, 3).sliding(2, -1, w -> w.size());
+	}
+	@Test
+	public void slidingIncrementEdgeCases() {
+		assertThat(ReactiveSeq.of(1, 2, 3, 4, 5, 6).sliding(2, 2).toList(), contains(asList(1, 2), asList(3, 4), asList(5, 6)));
+		assertThat(ReactiveSeq.of(1, 2, 3, 4, 5, 6).sliding(2, 3).toList(), contains(asList(1, 2), asList(3, 4), asList(5, 6)));
+		assertThat(Spouts.of(1, 2, 3, 4, 5, 6).sliding(2, 2).toList(), contains(asList(1, 2), asList(3, 4), asList(5, 6)));
+		assertThat(Spouts.of(1, 2, 3, 4, 5, 6).sliding(2, 3).toList(), contains(asList(1, 2), asList(3, 4), asList(5, 6)));
+		assertThat(ReactiveSeq.of(1, 2, 3).sliding(1, 1).toList(), contains(asList(1), asList(2), asList(3)));
+	}
+	@Test
+	public void slidingWindowsSpanBufferChunks() {
+		List<PVectorX<Integer>> pull = ReactiveSeq.range(0, 10_000).sliding(5, 3).toList();
+		List<PVectorX<Integer>> push = Spouts.range(0, 10_000).sliding(5, 3).toList();
+		assertThat(pull.size(), equalTo(3333));
+		for (int i = 0; i < 3332; i++)
+			assertThat(pull.get(i), equalTo(ReactiveSeq.range(3 * i, 3 * i + 5).toList()));
+		assertThat(pull.get(3332), equalTo(asList(9996, 9997, 9998, 9999)));
+		assertThat(push, equalTo(pull));
+	}
 	@Test
 	public void slidingWithSmallWindowAtEndIterative() {
 
@@ -213,6 +277,32 @@ public class WindowingTest {
 		assertThat(fixed.reactiveSeq().grouped(3).count(),equalTo(1l));
 	}
 
+	@Test
+	public void slidingReduce(){
+		assertThat(ReactiveSeq.of(1,2,3,4,5,6).slidingReduce(3,Monoids.intSum).toList(),equalTo(Arrays.asList(6,9,12,15)));
+		assertThat(ReactiveSeq.of(1,2).slidingReduce(3,Monoids.intSum).toList(),equalTo(Arrays.asList(3)));
+		assertThat(empty.slidingReduce(3,Monoids.intSum).toList().size(),equalTo(0));
+		assertThat(ReactiveSeq.of("a","b","c","d").slidingReduce(2,Monoid.of("",(a,b)->a+b)).toList(),
+				equalTo(Arrays.asList("ab","bc","cd")));
+	}
+	@Test
+	public void slidingReduceMatchesSliding(){
+		for(int windowSize=1;windowSize<12;windowSize++) {
+			assertThat(ReactiveSeq.range(0, 100).slidingReduce(windowSize, Monoids.intSum).toList(),
+					equalTo(ReactiveSeq.range(0, 100).sliding(windowSize).map(w -> w.stream().reduce(0, (a, b) -> a + b)).toList()));
+			List<Integer> pulled = new ArrayList<>();
+			ReactiveSeq.range(0, 100).slidingReduce(windowSize, Monoids.intMax).iterator().forEachRemaining(pulled::add);
+			assertThat(pulled,equalTo(ReactiveSeq.range(windowSize-1,100).toList()));
+		}
+	}
+	@Test
+	public void slidingMapReduce(){
+		assertThat(ReactiveSeq.of("a","bb","ccc","dddd").slidingMapReduce(2,String::length,Monoids.intMax).toList(),
+				equalTo(Arrays.asList(2,3,4)));
+		assertThat(ReactiveSeq.range(0,1_000_000).slidingMapReduce(1000,i->(long)i,Monoids.longSum).foldLeft(0l,(last,next)->next),
+				equalTo(999499500l));
+	}
+
 	@Test
 	public void groupedEmpty() throws Exception {
 		
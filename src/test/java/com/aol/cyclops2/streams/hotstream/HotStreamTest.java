@@ -1,10 +1,15 @@
 package com.aol.cyclops2.streams.hotstream;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
@@ -13,12 +18,16 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.junit.Test;
 
 import cyclops.stream.ReactiveSeq;
+import com.aol.cyclops2.types.stream.HotStream.Overflow;
 import com.aol.cyclops2.types.stream.PausableHotStream;
+import com.aol.cyclops2.util.ExceptionSoftener;
 
 public class HotStreamTest {
 	static final Executor exec = Executors.newFixedThreadPool(15);
@@ -97,6 +106,39 @@ public class HotStreamTest {
               .forEach(c->captured=c);
         
           assertThat(System.currentTimeMillis() - diff,greaterThan(1500l));
+    }
+	/*
+	 * the connected Queue holds one element, so the producer can be at most one element (blocked waiting for space)
+	 * ahead of the Queue, however long the scheduler takes to run it. Production is held until the Queue is connected,
+	 * as anything emitted before then is not delivered to it
+	 */
+	@Test
+    public void backpressureScheduledRateBoundsProducer(){
+          CountDownLatch connected = new CountDownLatch(1);
+          AtomicInteger produced = new AtomicInteger(0);
+          AtomicInteger consumed = new AtomicInteger(0);
+          AtomicInteger maxAhead = new AtomicInteger(0);
+          List<String> received = new ArrayList<>();
+          LinkedBlockingQueue<String> blockingQueue = new LinkedBlockingQueue<String>(1);
+          blockingQueue.add("10");
+          ReactiveSeq<String> stream = ReactiveSeq.range(0, Integer.MAX_VALUE)
+              .limit(5)
+              .peek(v-> {
+                  ExceptionSoftener.softenRunnable(()->connected.await()).run();
+                  produced.incrementAndGet();
+              })
+              .map(i -> i.toString())
+              .scheduleFixedRate(1l, scheduled)
+              .connect(blockingQueue);
+          connected.countDown();
+          stream.onePer(10, TimeUnit.MILLISECONDS)
+              .forEach(c->{
+                  received.add(c);
+                  maxAhead.accumulateAndGet(produced.get()-consumed.incrementAndGet(), Math::max);
+              });
+
+          assertThat(received,equalTo(Arrays.asList("10","0","1","2","3","4")));
+          assertThat(maxAhead.get(),lessThan(2));
     }
 	@Test
     public void backpressureScheduledCron(){
@@ -243,5 +285,82 @@ public class HotStreamTest {
 		assertTrue(value!=null);
 		active=false;
 	}
+	@Test
+	public void pausedHotStreamStopsEmitting() throws InterruptedException{
+		AtomicInteger emitted = new AtomicInteger(0);
+		active=true;
+		PausableHotStream<Integer> s = ReactiveSeq.range(0,Integer.MAX_VALUE)
+				.limitWhile(i->active)
+				.peek(i->emitted.incrementAndGet())
+				.pausableHotStream(exec2);
+		while(emitted.get()==0)
+			Thread.sleep(10);
+		s.pause();
+		Thread.sleep(100);
+		int paused = emitted.get();
+		Thread.sleep(200);
+		assertThat(emitted.get(),equalTo(paused));
+		s.unpause();
+		while(emitted.get()==paused)
+			Thread.sleep(10);
+		active=false;
+	}
+	@Test
+	public void hotStreamEmitsToManyConnections() throws InterruptedException{
+		CountDownLatch connected = new CountDownLatch(1);
+		PausableHotStream<Integer> s = ReactiveSeq.range(0,100)
+				.peek(i->{ if(i==0) ExceptionSoftener.softenRunnable(()->connected.await()).run(); })
+				.pausableHotStream(exec2);
+		List<ReactiveSeq<Integer>> streams = new ArrayList<>();
+		for(int i=0;i<16;i++)
+			streams.add(s.connect(new LinkedBlockingQueue<>()));
+		connected.countDown();
+		for(ReactiveSeq<Integer> next : streams)
+			assertThat(next.toList().size(),equalTo(100));
+	}
+	@Test
+	public void hotStreamEmitsToHundredsOfConnections() throws InterruptedException{
+		CountDownLatch connected = new CountDownLatch(1);
+		PausableHotStream<Integer> s = ReactiveSeq.range(0,100)
+				.peek(i->{ if(i==0) ExceptionSoftener.softenRunnable(()->connected.await()).run(); })
+				.pausableHotStream(exec2);
+		List<ReactiveSeq<Integer>> streams = new ArrayList<>();
+		for(int i=0;i<500;i++)
+			streams.add(s.connect(new LinkedBlockingQueue<>()));
+		connected.countDown();
+		for(ReactiveSeq<Integer> next : streams)
+			assertThat(next.toList().size(),equalTo(100));
+	}
+	@Test
+	public void disconnectedQueueNoLongerBlocksHotStream() throws InterruptedException{
+		CountDownLatch connected = new CountDownLatch(1);
+		PausableHotStream<Integer> s = ReactiveSeq.range(0,100)
+				.peek(i->{ if(i==0) ExceptionSoftener.softenRunnable(()->connected.await()).run(); })
+				.pausableHotStream(exec2);
+		LinkedBlockingQueue<Integer> stalled = new LinkedBlockingQueue<>(1);
+		ReactiveSeq<Integer> disconnected = s.connect(stalled);
+		ReactiveSeq<Integer> live = s.connect(new LinkedBlockingQueue<>());
+		connected.countDown();
+		while(stalled.isEmpty())
+			Thread.sleep(10);
+		assertTrue(s.disconnect(stalled));
+		assertThat(live.toList().size(),equalTo(100));
+		assertThat(disconnected.toList(),equalTo(Arrays.asList(0)));
+		assertFalse(s.disconnect(stalled));
+	}
+	@Test
+	public void overflowPolicies() throws InterruptedException{
+		CountDownLatch connected = new CountDownLatch(1);
+		PausableHotStream<Integer> s = ReactiveSeq.range(0,100)
+				.peek(i->{ if(i==0) ExceptionSoftener.softenRunnable(()->connected.await()).run(); })
+				.pausableHotStream(exec2);
+		ReactiveSeq<Integer> oldest = s.connect(new ManyToManyConcurrentArrayQueue<>(4),Overflow.DROP_OLDEST);
+		ReactiveSeq<Integer> newest = s.connect(new ManyToManyConcurrentArrayQueue<>(4),Overflow.DROP_NEWEST);
+		ReactiveSeq<Integer> all = s.connect(Overflow.BLOCK);
+		connected.countDown();
+		assertThat(all.toList().size(),equalTo(100));
+		assertThat(oldest.toList(),equalTo(Arrays.asList(96,97,98,99)));
+		assertThat(newest.toList(),equalTo(Arrays.asList(0,1,2,3)));
+	}
 	volatile boolean active;
 }
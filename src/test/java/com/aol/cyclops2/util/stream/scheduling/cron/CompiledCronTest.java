@@ -0,0 +1,71 @@
+package com.aol.cyclops2.util.stream.scheduling.cron;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class CompiledCronTest {
+
+    static final String[] expressions = { "* * * * * ?", "0/5 * * * * ?", "0 0 12 * * ?", "0 15 10 ? * *",
+            "0 15 10 * * ? 2030", "0 0/5 14,18 * * ?", "0 10,44 14 ? 3 WED", "0 15 10 ? * MON-FRI", "0 15 10 L * ?",
+            "0 15 10 L-2 * ?", "0 15 10 ? * 6L", "0 15 10 ? * 6#3", "0 0 12 1/5 * ?", "0 0 0 LW * ?", "0 0 0 15W * ?",
+            "0 0 0 1W * ?", "30 30 2 * * ?", "0 0 0 31 * ?", "0 0 0 29 2 ?", "0 0 0 ? * 2#5",
+            "10-20/3 50-10 22-3 * 11-2 ?" };
+    static final String[] zones = { "UTC", "Europe/London", "America/New_York" };
+
+    @Test
+    public void matchesCronExpression() throws ParseException {
+        Random random = new Random(42);
+        for (String zone : zones) {
+            TimeZone tz = TimeZone.getTimeZone(zone);
+            for (String expression : expressions) {
+                CronExpression cron = new CronExpression(expression);
+                cron.setTimeZone(tz);
+                CompiledCron compiled = CompiledCron.of(cron);
+                for (int i = 0; i < 50; i++) {
+                    long start = 1_500_000_000_000L + (long) (random.nextDouble() * 400L * 24 * 3600 * 1000);
+                    Date expected = cron.getNextValidTimeAfter(new Date(start));
+                    assertThat(expression + " " + zone + " " + start, compiled.nextFireMillis(start),
+                               equalTo(expected == null ? -1l : expected.getTime()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void skipsDaylightSavingGap() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("30 30 2 * * ?", ZoneId.of("America/New_York"));
+        ZonedDateTime before = ZonedDateTime.of(2018, 3, 10, 2, 30, 30, 0, ZoneId.of("America/New_York"));
+        assertThat(cron.nextAfter(before),
+                   equalTo(ZonedDateTime.of(2018, 3, 12, 2, 30, 30, 0, ZoneId.of("America/New_York"))));
+    }
+
+    @Test
+    public void nthDayOfWeek() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("0 15 10 ? * 6#3", ZoneId.of("UTC"));
+        ZonedDateTime start = ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        //third Friday of January 2017
+        assertThat(cron.nextAfter(start), equalTo(ZonedDateTime.of(2017, 1, 20, 10, 15, 0, 0, ZoneId.of("UTC"))));
+    }
+
+    @Test
+    public void noFurtherFireTimes() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("0 0 0 1 1 ? 2016", ZoneId.of("UTC"));
+        assertThat(cron.nextAfter(ZonedDateTime.of(2017, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"))), nullValue());
+        assertThat(cron.nextFireMillis(System.currentTimeMillis()), equalTo(-1l));
+    }
+
+    @Test(expected = ParseException.class)
+    public void invalid() throws ParseException {
+        CompiledCron.compile("0 0 25 * * ?");
+    }
+}
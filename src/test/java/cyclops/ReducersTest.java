@@ -0,0 +1,88 @@
+package cyclops;
+
+import cyclops.collections.immutable.PBagX;
+import cyclops.collections.immutable.PStackX;
+import cyclops.collections.immutable.PVectorX;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+import org.pcollections.POrderedSet;
+import org.pcollections.PQueue;
+import org.pcollections.PSet;
+import org.pcollections.PStack;
+import org.pcollections.PVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ReducersTest {
+
+    @Test
+    public void pVectorKeepsOrder(){
+        PVector<Integer> vec = Reducers.<Integer>toPVector().mapReduce(Stream.of(1,2,3,4));
+        assertThat(vec,equalTo(Arrays.asList(1,2,3,4)));
+    }
+    @Test
+    public void pVectorParallel(){
+        PVector<Integer> vec = Reducers.<Integer>toPVector().mapReduce(ReactiveSeq.range(0,10_000).toList().parallelStream());
+        assertThat(vec,equalTo(ReactiveSeq.range(0,10_000).toList()));
+    }
+    @Test
+    public void pVectorXLarge(){
+        PVectorX<Integer> vec = ReactiveSeq.range(0,1_000_000).toPVectorX();
+        assertThat(vec.size(),equalTo(1_000_000));
+        assertThat(vec.get(999_999),equalTo(999_999));
+    }
+    @Test
+    public void pStackKeepsOrder(){
+        PStack<Integer> stack = Reducers.<Integer>toPStack().mapReduce(Stream.of(1,2,3,4));
+        assertThat(stack,equalTo(Arrays.asList(1,2,3,4)));
+    }
+    @Test
+    public void pStackReversed(){
+        PStack<Integer> stack = Reducers.<Integer>toPStackReversed().mapReduce(Stream.of(1,2,3,4));
+        assertThat(stack,equalTo(Arrays.asList(4,3,2,1)));
+    }
+    @Test
+    public void pStackLarge(){
+        PStack<Integer> stack = Reducers.<Integer>toPStack().mapReduce(ReactiveSeq.range(0,100_000));
+        assertThat(stack.size(),equalTo(100_000));
+        assertThat(stack.get(0),equalTo(0));
+    }
+    @Test
+    public void pStackX(){
+        PStackX<Integer> stack = Reducers.<Integer>toPStackX().mapReduce(Stream.of(1,2,3));
+        assertThat(stack.size(),equalTo(3));
+    }
+    @Test
+    public void pBagX(){
+        PBagX<Integer> bag = Reducers.<Integer>toPBagX().mapReduce(Stream.of(1,1,2));
+        assertThat(bag.size(),equalTo(3));
+    }
+    @Test
+    public void pSetAndOrderedSet(){
+        PSet<Integer> set = Reducers.<Integer>toPSet().mapReduce(Stream.of(3,1,2,1));
+        assertThat(set.size(),equalTo(3));
+        POrderedSet<Integer> ordered = Reducers.<Integer>toPOrderedSet().mapReduce(Stream.of(3,1,2,1));
+        assertThat(new ArrayList<>(ordered),equalTo(Arrays.asList(3,1,2)));
+    }
+    @Test
+    public void pQueueKeepsOrder(){
+        PQueue<Integer> queue = Reducers.<Integer>toPQueue().mapReduce(Stream.of(1,2,3,4));
+        assertThat(new ArrayList<>(queue),equalTo(Arrays.asList(1,2,3,4)));
+    }
+    @Test
+    public void pStackParallel(){
+        PStack<Integer> stack = Reducers.<Integer>toPStack().mapReduce(ReactiveSeq.range(0,10_000).toList().parallelStream());
+        assertThat(stack,equalTo(ReactiveSeq.range(0,10_000).toList()));
+        PStack<Integer> reversed = Reducers.<Integer>toPStackReversed().mapReduce(ReactiveSeq.range(0,10_000).toList().parallelStream());
+        assertThat(reversed,equalTo(ReactiveSeq.range(0,10_000).map(i->9_999-i).toList()));
+    }
+    @Test
+    public void monoidOperationsUnchanged(){
+        assertThat(Reducers.<Integer>toPVectorX().apply(PVectorX.of(1),PVectorX.of(2)),equalTo(PVectorX.of(1,2)));
+    }
+}
@@ -0,0 +1,112 @@
+package cyclops.async;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HashedWheelTimerTest {
+
+    HashedWheelTimer timer;
+
+    @Before
+    public void setup(){
+        timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, ForkJoinPool.commonPool());
+    }
+    @After
+    public void teardown(){
+        timer.shutdown();
+    }
+
+    @Test
+    public void neverRunsEarly() throws InterruptedException {
+        int tasks = 100;
+        CountDownLatch latch = new CountDownLatch(tasks);
+        AtomicInteger early = new AtomicInteger(0);
+        for(int i=0;i<tasks;i++){
+            long delay = i % 30; //spans several rotations of an 8 bucket wheel
+            long start = System.nanoTime();
+            timer.schedule(()->{
+                if(System.nanoTime()-start < TimeUnit.MILLISECONDS.toNanos(delay))
+                    early.incrementAndGet();
+                latch.countDown();
+            },delay,TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(5,TimeUnit.SECONDS));
+        assertThat(early.get(),equalTo(0));
+    }
+
+    @Test
+    public void callable() throws Exception {
+        ScheduledFuture<String> f = timer.schedule(()->"hello",10,TimeUnit.MILLISECONDS);
+        assertThat(f.get(1,TimeUnit.SECONDS),equalTo("hello"));
+        assertTrue(f.isDone());
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        ScheduledFuture<?> f = timer.schedule(()->ran.set(true),50,TimeUnit.MILLISECONDS);
+        assertTrue(f.cancel(false));
+        Thread.sleep(100);
+        assertFalse(ran.get());
+        assertTrue(f.isCancelled());
+    }
+
+    @Test
+    public void fixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        ScheduledFuture<?> f = timer.scheduleAtFixedRate(latch::countDown,0,5,TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(1,TimeUnit.SECONDS));
+        f.cancel(false);
+    }
+
+    @Test
+    public void fixedDelay() throws InterruptedException {
+        AtomicLong last = new AtomicLong(-1);
+        AtomicInteger tooSoon = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(5);
+        ScheduledFuture<?> f = timer.scheduleWithFixedDelay(()->{
+            long now = System.nanoTime();
+            if(last.get()!=-1 && now-last.get() < TimeUnit.MILLISECONDS.toNanos(10))
+                tooSoon.incrementAndGet();
+            last.set(now);
+            latch.countDown();
+        },0,10,TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(1,TimeUnit.SECONDS));
+        f.cancel(false);
+        assertThat(tooSoon.get(),equalTo(0));
+    }
+
+    @Test
+    public void shutdown() throws InterruptedException {
+        timer.schedule(()->{},1,TimeUnit.MILLISECONDS);
+        timer.shutdown();
+        assertTrue(timer.awaitTermination(1,TimeUnit.SECONDS));
+        assertTrue(timer.isTerminated());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void rejectedAfterShutdown(){
+        timer.shutdown();
+        timer.schedule(()->{},1,TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedCanNotBeShutdown(){
+        HashedWheelTimer.shared().shutdown();
+    }
+}
@@ -11,10 +11,14 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -62,6 +66,43 @@ public class QueueTest {
                 .toList().get(0)
                 .size(),is(8));
 
+    }
+    @Test
+    public void batchByTimeScheduledEmitsPartialBatch() throws InterruptedException {
+        ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+        Queue<Integer> queue = new Queue<>();
+        queue.add(1);
+        queue.add(2);
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        Thread consumer = new Thread(()->queue.streamGroupedByTime(1,TimeUnit.SECONDS,ex)
+                                              .forEach(batches::add));
+        consumer.start();
+
+        long deadline = System.currentTimeMillis()+10_000;
+        while(batches.isEmpty() && System.currentTimeMillis()<deadline)
+            Thread.sleep(10);
+        assertThat(batches,equalTo(Arrays.asList(Arrays.asList(1,2))));
+
+        queue.add(3);
+        queue.close();
+        consumer.join();
+        ex.shutdown();
+        assertThat(batches,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3))));
+
+    }
+    @Test
+    public void batchBySizeAndTimeScheduled(){
+        ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+        Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(10).build();
+        queue.fromStream(of(1,2,3,4,5,6));
+        queue.add(1);
+        queue.add(2);
+        queue.close();
+
+        assertThat(queue.streamGroupedBySizeAndTime(3,10,TimeUnit.SECONDS,ex)
+                .toList().get(0)
+                .size(),is(3));
+        ex.shutdown();
     }
 	@Test
 	public void parallelStreamClose(){
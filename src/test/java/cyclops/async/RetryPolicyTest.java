@@ -0,0 +1,90 @@
+package cyclops.async;
+
+import org.junit.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void succeedsFirstTime(){
+        RetryPolicy policy = RetryPolicy.of(3, 10, TimeUnit.MILLISECONDS);
+        assertThat(policy.retry((Integer i)->i*2,10).get(),equalTo(20));
+        assertThat(policy.getStats().getRetries(),equalTo(0l));
+    }
+
+    @Test
+    public void succeedsAfterRetries(){
+        AtomicInteger count = new AtomicInteger(0);
+        RetryPolicy policy = RetryPolicy.of(3, 10, TimeUnit.MILLISECONDS);
+        Future<String> result = policy.retry(() -> {
+            if (count.incrementAndGet() < 3)
+                throw new RuntimeException("boom");
+            return "hello";
+        });
+        assertThat(result.get(),equalTo("hello"));
+        assertThat(count.get(),equalTo(3));
+        assertThat(policy.getStats().getRetries(),equalTo(2l));
+        assertThat(policy.getStats().getTotalDelayMillis(),equalTo(30l));
+        assertThat(policy.getStats().getLastDelayMillis(),equalTo(20l));
+    }
+
+    @Test
+    public void exhausted(){
+        AtomicInteger count = new AtomicInteger(0);
+        RetryPolicy policy = RetryPolicy.of(2, 1, TimeUnit.MILLISECONDS);
+        Future<String> result = policy.retry(() -> {
+            count.incrementAndGet();
+            throw new IllegalStateException("boom");
+        });
+        assertThat(result.recover(e->"recovered").get(),equalTo("recovered"));
+        assertTrue(result.isFailed());
+        assertThat(count.get(),equalTo(3));
+        assertThat(policy.getStats().getExhausted(),equalTo(1l));
+    }
+
+    @Test
+    public void delayBackoff(){
+        RetryPolicy policy = RetryPolicy.of(10, 100, TimeUnit.MILLISECONDS)
+                                         .withMaxDelayMillis(500);
+        assertThat(policy.delayMillis(0),equalTo(100l));
+        assertThat(policy.delayMillis(1),equalTo(200l));
+        assertThat(policy.delayMillis(2),equalTo(400l));
+        assertThat(policy.delayMillis(3),equalTo(500l));
+        assertThat(policy.delayMillis(9),equalTo(500l));
+    }
+
+    @Test
+    public void delayJitter(){
+        RetryPolicy policy = RetryPolicy.of(10, 100, TimeUnit.MILLISECONDS)
+                                         .withMultiplier(1)
+                                         .withJitter(0.5);
+        for(int i=0;i<1000;i++){
+            assertThat(policy.delayMillis(i),allOf(greaterThanOrEqualTo(50l),lessThanOrEqualTo(150l)));
+        }
+    }
+
+    @Test
+    public void customScheduler(){
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            AtomicInteger count = new AtomicInteger(0);
+            Future<Integer> result = RetryPolicy.of(5, 1, TimeUnit.MILLISECONDS, scheduler)
+                                                .retry(() -> {
+                                                    if (count.incrementAndGet() < 5)
+                                                        throw new RuntimeException("boom");
+                                                    return count.get();
+                                                });
+            assertThat(result.get(),equalTo(5));
+        }finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.aol.cyclops2.types.futurestream.Continuation;
+import cyclops.async.wait.WaitStrategy;
+import cyclops.stream.ReactiveSeq;
+
+public class RingBufferTopicTest {
+
+	@Test
+	public void capacityRoundedToPowerOf2(){
+		assertThat(new RingBufferTopic<Integer>(1).capacity(),is(1));
+		assertThat(new RingBufferTopic<Integer>(5).capacity(),is(8));
+		assertThat(new RingBufferTopic<Integer>(8).capacity(),is(8));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void zeroCapacity(){
+		new RingBufferTopic<Integer>(0);
+	}
+
+	@Test
+	public void multipleSubscribersGetSameMessages() {
+		RingBufferTopic<String> topic = new RingBufferTopic<>(16);
+
+		ReactiveSeq<String> data1 = topic.stream();
+		ReactiveSeq<String> data2 = topic.stream();
+		topic.offerAll(new String[]{"hello","world"});
+		topic.close();
+
+		assertThat(data1.toList(), equalTo(Arrays.asList("hello","world")));
+		assertThat(data2.toList(), equalTo(Arrays.asList("hello","world")));
+	}
+	@Test
+	public void nullsArePublished() {
+		RingBufferTopic<String> topic = new RingBufferTopic<>(16);
+
+		ReactiveSeq<String> data = topic.stream();
+		topic.offerAll(Arrays.asList("hello",null));
+		topic.close();
+
+		assertThat(data.toList(), equalTo(Arrays.asList("hello",null)));
+	}
+	@Test
+	public void onlyDataPublishedAfterConnectingIsReceived() {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(16);
+
+		ReactiveSeq<Integer> early = topic.stream();
+		topic.offer(1);
+		ReactiveSeq<Integer> late = topic.stream();
+		topic.offer(2);
+		topic.close();
+
+		assertThat(early.toList(), equalTo(Arrays.asList(1,2)));
+		assertThat(late.toList(), equalTo(Arrays.asList(2)));
+	}
+	@Test
+	public void publisherWaitsForSlowestSubscriber() throws Exception {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(4, WaitStrategy.spinWait(),WaitStrategy.spinWait());
+		ReactiveSeq<Integer> fast = topic.stream();
+		ReactiveSeq<Integer> slow = topic.stream();
+
+		CompletableFuture<List<Integer>> fastResult = CompletableFuture.supplyAsync(()->fast.toList());
+		CompletableFuture<List<Integer>> slowResult = CompletableFuture.supplyAsync(()->slow.peek(i->sleep(1)).toList());
+
+		topic.fromStream(ReactiveSeq.range(0,100));
+		topic.close();
+
+		List<Integer> expected = ReactiveSeq.range(0,100).toList();
+		assertThat(fastResult.get(), equalTo(expected));
+		assertThat(slowResult.get(), equalTo(expected));
+	}
+	@Test
+	public void disconnectedSubscriberDoesNotBlockPublisher() {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(2);
+		ReactiveSeq<Integer> connected = topic.stream();
+		ReactiveSeq<Integer> idle = topic.stream();
+		topic.disconnect(idle);
+		topic.disconnect(connected);
+		assertThat(topic.getStreamToCursor().size(),is(0));
+
+		topic.offerAll(new Integer[]{1,2,3,4,5});
+	}
+	@Test
+	public void disconnectReleasesWaitingPublisher() throws Exception {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(2);
+		ReactiveSeq<Integer> idle = topic.stream();
+
+		CompletableFuture<Boolean> publisher = CompletableFuture.supplyAsync(()->topic.offerAll(new Integer[]{1,2,3,4,5}));
+		sleep(50);
+		topic.disconnect(idle);
+
+		assertThat(publisher.get(5, TimeUnit.SECONDS),is(true));
+	}
+	@Test
+	public void closeReleasesWaitingPublisher() throws Exception {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(2);
+		ReactiveSeq<Integer> idle = topic.stream();
+
+		CompletableFuture<Boolean> publisher = CompletableFuture.supplyAsync(()->topic.offerAll(new Integer[]{1,2,3,4,5}));
+		sleep(50);
+		topic.close();
+
+		try {
+			publisher.get(5, TimeUnit.SECONDS);
+			fail("ClosedQueueException expected");
+		}catch(ExecutionException e){
+			assertThat(e.getCause(),instanceOf(Queue.ClosedQueueException.class));
+		}
+	}
+	@Test
+	public void sizeSignalTracksUnreadElements() {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(16);
+		ReactiveSeq<Integer> data = topic.stream();
+		Signal<Integer> signal = Signal.queueBackedSignal();
+		topic.setSizeSignal(0,signal);
+		assertThat(topic.getSizeSignal(0),is(signal));
+
+		topic.offerAll(new Integer[]{1,2,3});
+		assertThat(data.limit(1).toList(), equalTo(Arrays.asList(1)));
+		signal.close();
+
+		assertThat(signal.getContinuous().stream().toList(), equalTo(Arrays.asList(1,2,3,2)));
+	}
+	@Test
+	public void sizeSignalIndexStableAfterDisconnect() {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(16);
+		ReactiveSeq<Integer> first = topic.stream();
+		ReactiveSeq<Integer> second = topic.stream();
+		Signal<Integer> signal = Signal.queueBackedSignal();
+		topic.disconnect(first);
+		topic.setSizeSignal(1,signal);
+		assertThat(topic.getSizeSignal(1),is(signal));
+
+		topic.offerAll(Arrays.asList(1,2));
+		assertThat(second.limit(2).toList(), equalTo(Arrays.asList(1,2)));
+		signal.close();
+
+		assertThat(signal.getContinuous().stream().toList(), equalTo(Arrays.asList(1,2,1,0)));
+	}
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void sizeSignalOfDisconnectedStream() {
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(16);
+		ReactiveSeq<Integer> first = topic.stream();
+		topic.stream();
+		topic.disconnect(first);
+		topic.getSizeSignal(0);
+	}
+	@Test
+	public void continuationDrivesPublisher(){
+		RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+		ReactiveSeq<Integer> data = topic.stream();
+		Iterator<Integer> it = Arrays.asList(1,2,3).iterator();
+		Continuation[] ref = {null};
+		ref[0] = new Continuation(()->{
+			if(!it.hasNext()){
+				topic.close();
+				return Continuation.empty();
+			}
+			topic.offer(it.next());
+			return ref[0];
+		});
+		topic.addContinuation(ref[0]);
+
+		assertThat(data.toList(), equalTo(Arrays.asList(1,2,3)));
+	}
+
+	private void sleep(int i) {
+		try {
+			Thread.sleep(i);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -47,6 +47,22 @@ public class TopicTest {
 				is(" hello world"));
 	}
 
+	@Test
+	public void offerAllOneShotIterableReachesAllSubscribers() {
+		Topic<String> topic = new Topic<>(new Queue<>());
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		Iterable<String> once = Stream.of("hello", "world")::iterator;
+		topic.offerAll(once);
+
+
+		assertThat(data1.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+
 	@Test
 	public void multipleSubscribersGetSameMessagesSimpleReact() throws InterruptedException, ExecutionException {
 		Topic<String> topic = new Topic<>(new Queue<>());
@@ -277,6 +293,31 @@ public class TopicTest {
 		assertThat(topic.getDistributor().getSubscribers().size(),is(1));
 		assertThat(topic.getStreamToQueue().size(),is(1));
 	}
+	@Test
+	public void offerDistributesToAllSubscribers(){
+		Topic<Integer> topic = new Topic<>(new Queue<>());
+		Stream<Integer> s1 = topic.stream();
+		Stream<Integer> s2 = topic.stream();
+
+		topic.offer(1);
+		topic.offerAll(new Integer[]{2,3});
+		topic.offerAll(Arrays.asList(4,5));
+
+		assertThat(s1.limit(5).collect(Collectors.toList()),is(Arrays.asList(1,2,3,4,5)));
+		assertThat(s2.limit(5).collect(Collectors.toList()),is(Arrays.asList(1,2,3,4,5)));
+	}
+	@Test
+	public void offerSkipsDisconnectedStreams(){
+		Topic<Integer> topic = new Topic<>(new Queue<>());
+		Stream<Integer> s1 = topic.stream();
+		Stream<Integer> s2 = topic.stream();
+		topic.disconnect(s1);
+
+		topic.offerAll(new Integer[]{1,2});
+
+		assertThat(topic.getStreamToQueue().get(s2).size(),is(2));
+		assertThat(topic.getDistributor().getSubscribers().size(),is(1));
+	}
 	
 	
 	
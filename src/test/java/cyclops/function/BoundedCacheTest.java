@@ -0,0 +1,134 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+public class BoundedCacheTest {
+
+    AtomicInteger called = new AtomicInteger();
+    Function<Object,Integer> doubler = k->{
+        called.incrementAndGet();
+        return (Integer)k*2;
+    };
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        BoundedCache<Integer> cache = CachePolicy.maximumSize(3).cache();
+        cache.computeIfAbsent(1,doubler);
+        cache.computeIfAbsent(2,doubler);
+        cache.computeIfAbsent(3,doubler);
+        cache.computeIfAbsent(1,doubler);
+        cache.computeIfAbsent(4,doubler);
+
+        assertThat(called.get(),equalTo(4));
+        assertThat(cache.computeIfAbsent(1,doubler),equalTo(2));
+        assertThat(cache.computeIfAbsent(3,doubler),equalTo(6));
+        assertThat(cache.computeIfAbsent(4,doubler),equalTo(8));
+        assertThat(called.get(),equalTo(4));
+        cache.computeIfAbsent(2,doubler);
+        assertThat(called.get(),equalTo(5));
+        assertThat(cache.size(),equalTo(3l));
+        assertThat(cache.getStats().getEvictions(),equalTo(2l));
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        BoundedCache<Integer> cache = CachePolicy.maximumSize(10_000).cache();
+        for(int i=0;i<100_000;i++)
+            cache.computeIfAbsent(i,doubler);
+        assertThat(cache.size(),lessThanOrEqualTo(10_016l));
+        assertThat(cache.getStats().getMisses(),equalTo(100_000l));
+    }
+
+    @Test
+    public void expireAfterWrite() throws InterruptedException {
+        BoundedCache<Integer> cache = CachePolicy.unbounded().withExpireAfterWriteMillis(50).cache();
+        cache.computeIfAbsent(1,doubler);
+        cache.computeIfAbsent(1,doubler);
+        assertThat(called.get(),equalTo(1));
+        Thread.sleep(100);
+        cache.computeIfAbsent(1,doubler);
+        assertThat(called.get(),equalTo(2));
+        assertThat(cache.getStats().getExpirations(),equalTo(1l));
+    }
+
+    @Test
+    public void expireAfterAccess() throws InterruptedException {
+        BoundedCache<Integer> cache = CachePolicy.unbounded().withExpireAfterAccessMillis(200).cache();
+        for(int i=0;i<5;i++) {
+            cache.computeIfAbsent(1, doubler);
+            Thread.sleep(20);
+        }
+        assertThat(called.get(),equalTo(1));
+        Thread.sleep(300);
+        cache.computeIfAbsent(1,doubler);
+        assertThat(called.get(),equalTo(2));
+    }
+
+    @Test
+    public void failuresAreNotCached() {
+        BoundedCache<Integer> cache = CachePolicy.maximumSize(10).cache();
+        try {
+            cache.computeIfAbsent(1, k -> {
+                throw new IllegalStateException("boom");
+            });
+            fail("exception expected");
+        }catch(IllegalStateException e){
+
+        }
+        assertThat(cache.computeIfAbsent(1,doubler),equalTo(2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void recursiveComputation() {
+        BoundedCache<Integer> cache = CachePolicy.maximumSize(10).cache();
+        cache.computeIfAbsent(1, k -> cache.computeIfAbsent(1, doubler));
+    }
+
+    @Test
+    public void computedOncePerKey() throws Exception {
+        BoundedCache<Integer> cache = CachePolicy.maximumSize(1000).cache();
+        ExecutorService ex = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t=0;t<4;t++){
+            futures.add(ex.submit(()->{
+                for(int i=0;i<200;i++)
+                    cache.computeIfAbsent(i%50,doubler);
+            }));
+        }
+        for(Future<?> f : futures)
+            f.get();
+        ex.shutdown();
+        assertThat(called.get(),equalTo(50));
+        assertThat(cache.getStats().getHits(),equalTo(750l));
+    }
+
+    @Test
+    public void invalidate() {
+        BoundedCache<Integer> cache = CachePolicy.maximumSize(10).cache();
+        cache.computeIfAbsent(1,doubler);
+        cache.computeIfAbsent(2,doubler);
+        cache.invalidate(1);
+        assertThat(cache.size(),equalTo(1l));
+        cache.invalidateAll();
+        assertThat(cache.size(),equalTo(0l));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumSizeMustBePositive() {
+        CachePolicy.maximumSize(0);
+    }
+}
@@ -0,0 +1,93 @@
+package cyclops.stream;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import cyclops.collections.ListX;
+
+/*
+ * the operators shared with IntSeq are covered by IntSeqTest, these tests cover fractional values and NaN
+ */
+public class DoubleSeqTest {
+
+    //each test is run against the pull (DoubleStream) and push (Operator) based implementations
+    private final ListX<Function<double[], DoubleSeq>> engines = ListX.of(DoubleSeq::of, Spouts::doubleSeq);
+
+    @Test
+    public void fractionalValues() {
+        for (Function<double[], DoubleSeq> of : engines) {
+            assertThat(of.apply(new double[]{0.5, 1.5, 2.5})
+                         .map(x -> x / 2)
+                         .toArray(),
+                       equalTo(new double[]{0.25, 0.75, 1.25}));
+            assertThat(of.apply(new double[]{0.1, 0.2, 0.3})
+                         .scanLeft(0d, (a, b) -> a + b)
+                         .toArray()[3],
+                       closeTo(0.6, 0.000001));
+            assertThat(of.apply(new double[]{0.1, 0.2})
+                         .sliding(2)
+                         .map(Arrays::toString)
+                         .toListX(),
+                       equalTo(ListX.of(Arrays.toString(new double[]{0.1, 0.2}))));
+        }
+    }
+
+    @Test
+    public void nan() {
+        for (Function<double[], DoubleSeq> of : engines) {
+            assertThat(of.apply(new double[]{1, Double.NaN, 2})
+                         .filter(x -> !Double.isNaN(x))
+                         .sum(),
+                       equalTo(3d));
+            assertThat(Double.isNaN(of.apply(new double[]{1, Double.NaN})
+                                      .sum()),
+                       equalTo(true));
+        }
+    }
+
+    @Test
+    public void zip() {
+        for (Function<double[], DoubleSeq> of : engines)
+            for (Function<double[], DoubleSeq> other : engines)
+                assertThat(of.apply(new double[]{0.5, 1.5, 2.5})
+                             .zip(other.apply(new double[]{0.5, 0.5}), (a, b) -> a * b)
+                             .toArray(),
+                           equalTo(new double[]{0.25, 0.75}));
+    }
+
+    @Test
+    public void boxedIterator() {
+        for (Function<double[], DoubleSeq> of : engines) {
+            assertThat(of.apply(new double[]{0.5})
+                         .boxed()
+                         .toListX(),
+                       equalTo(ListX.of(0.5)));
+            PrimitiveIterator.OfDouble it = of.apply(new double[]{0.5, 1.5})
+                                              .iterator();
+            assertThat(it.nextDouble(), equalTo(0.5));
+            assertThat(it.nextDouble(), equalTo(1.5));
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void toDoubleSeq() {
+        assertThat(Spouts.of(1, 2)
+                         .toDoubleSeq(i -> i / 2d)
+                         .toArray(),
+                   equalTo(new double[]{0.5, 1}));
+        assertThat(ReactiveSeq.of(1, 2)
+                              .toDoubleSeq(i -> i / 2d)
+                              .toDoubleStream()
+                              .sum(),
+                   equalTo(1.5));
+    }
+}
@@ -0,0 +1,238 @@
+package cyclops.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import cyclops.collections.ListX;
+
+public class IntSeqTest {
+
+    //each test is run against the pull (IntStream) and push (Operator) based implementations
+    private final ListX<Function<int[], IntSeq>> engines = ListX.of(IntSeq::of, Spouts::intSeq);
+
+    @Test
+    public void mapFilter() {
+        for (Function<int[], IntSeq> of : engines)
+            assertThat(of.apply(new int[]{1, 2, 3, 4, 5})
+                         .map(x -> x * 2)
+                         .filter(x -> x > 4)
+                         .toArray(),
+                       equalTo(new int[]{6, 8, 10}));
+    }
+
+    @Test
+    public void mapCompose() {
+        for (Function<int[], IntSeq> of : engines)
+            assertThat(of.apply(new int[]{1, 2, 3})
+                         .map(x -> x * 2)
+                         .map(x -> x + 1)
+                         .toArray(),
+                       equalTo(new int[]{3, 5, 7}));
+    }
+
+    @Test
+    public void scanLeft() {
+        for (Function<int[], IntSeq> of : engines) {
+            assertThat(of.apply(new int[]{1, 2, 3})
+                         .scanLeft(0, (a, b) -> a + b)
+                         .toArray(),
+                       equalTo(new int[]{0, 1, 3, 6}));
+            assertThat(of.apply(new int[]{})
+                         .scanLeft(0, (a, b) -> a + b)
+                         .toArray(),
+                       equalTo(new int[]{0}));
+        }
+    }
+
+    @Test
+    public void scanLeftIterator() {
+        for (Function<int[], IntSeq> of : engines) {
+            PrimitiveIterator.OfInt it = of.apply(new int[]{1, 2, 3})
+                                              .scanLeft(0, (a, b) -> a + b)
+                                              .iterator();
+            assertThat(it.nextInt(), equalTo(0));
+            assertThat(it.nextInt(), equalTo(1));
+            assertThat(it.nextInt(), equalTo(3));
+            assertThat(it.nextInt(), equalTo(6));
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void foldLeftSumCount() {
+        for (Function<int[], IntSeq> of : engines) {
+            assertThat(of.apply(new int[]{1, 2, 3, 4, 5})
+                         .foldLeft(1, (a, b) -> a * b),
+                       equalTo(120));
+            assertThat(of.apply(new int[]{1, 2, 3, 4, 5})
+                         .sum(),
+                       equalTo(15));
+            assertThat(of.apply(new int[]{1, 2, 3, 4, 5})
+                         .filter(x -> x % 2 == 0)
+                         .count(),
+                       equalTo(2l));
+        }
+    }
+
+    private ListX<String> windows(ReactiveSeq<int[]> windows) {
+        return windows.map(Arrays::toString)
+                      .toListX();
+    }
+
+    @Test
+    public void sliding() {
+        for (Function<int[], IntSeq> of : engines) {
+            assertThat(windows(of.apply(new int[]{1, 2, 3, 4, 5})
+                                 .sliding(3)),
+                       equalTo(ListX.of(Arrays.toString(new int[]{1, 2, 3}),
+                                        Arrays.toString(new int[]{2, 3, 4}),
+                                        Arrays.toString(new int[]{3, 4, 5}))));
+            assertThat(windows(of.apply(new int[]{1, 2, 3, 4, 5})
+                                 .sliding(2, 2)),
+                       equalTo(ListX.of(Arrays.toString(new int[]{1, 2}),
+                                        Arrays.toString(new int[]{3, 4}),
+                                        Arrays.toString(new int[]{5}))));
+            assertThat(windows(of.apply(new int[]{1, 2})
+                                 .sliding(3)),
+                       equalTo(ListX.of(Arrays.toString(new int[]{1, 2}))));
+            assertThat(windows(of.apply(new int[]{})
+                                 .sliding(3)),
+                       equalTo(ListX.empty()));
+        }
+    }
+
+    @Test
+    public void slidingLargeIncrement() {
+        for (Function<int[], IntSeq> of : engines)
+            assertThat(windows(of.apply(new int[]{1, 2, 3, 4, 5, 6})
+                                 .sliding(2, 3)),
+                       equalTo(ListX.of(Arrays.toString(new int[]{1, 2}),
+                                        Arrays.toString(new int[]{3, 4}),
+                                        Arrays.toString(new int[]{5, 6}))));
+    }
+
+    @Test
+    public void slidingIterator() {
+        for (Function<int[], IntSeq> of : engines)
+            assertThat(ListX.fromIterator(of.apply(new int[]{1, 2, 3, 4})
+                                            .sliding(2)
+                                            .map(Arrays::toString)
+                                            .iterator()),
+                       equalTo(ListX.of(Arrays.toString(new int[]{1, 2}),
+                                        Arrays.toString(new int[]{2, 3}),
+                                        Arrays.toString(new int[]{3, 4}))));
+    }
+
+    @Test
+    public void zip() {
+        for (Function<int[], IntSeq> of : engines)
+            for (Function<int[], IntSeq> other : engines) {
+                assertThat(of.apply(new int[]{1, 2, 3})
+                             .zip(other.apply(new int[]{10, 20}), (a, b) -> a + b)
+                             .toArray(),
+                           equalTo(new int[]{11, 22}));
+                assertThat(of.apply(new int[]{1, 2})
+                             .zip(other.apply(new int[]{10, 20, 30}), (a, b) -> a + b)
+                             .toArray(),
+                           equalTo(new int[]{11, 22}));
+            }
+    }
+
+    @Test
+    public void boxed() {
+        for (Function<int[], IntSeq> of : engines) {
+            assertThat(of.apply(new int[]{1, 2, 3})
+                         .boxed()
+                         .toListX(),
+                       equalTo(ListX.of(1, 2, 3)));
+            assertThat(of.apply(new int[]{1, 2, 3})
+                         .mapToObj(i -> "" + i)
+                         .toListX(),
+                       equalTo(ListX.of("" + 1, "" + 2, "" + 3)));
+        }
+    }
+
+    @Test
+    public void iterator() {
+        for (Function<int[], IntSeq> of : engines) {
+            PrimitiveIterator.OfInt it = of.apply(new int[]{1, 2, 3, 4})
+                                              .filter(x -> x % 2 == 0)
+                                              .iterator();
+            assertThat(it.nextInt(), equalTo(2));
+            assertThat(it.nextInt(), equalTo(4));
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void toIntStream() {
+        for (Function<int[], IntSeq> of : engines)
+            assertThat(of.apply(new int[]{1, 2, 3})
+                         .toIntStream()
+                         .sum(),
+                       equalTo(6));
+    }
+
+    @Test
+    public void toIntSeq() {
+        assertThat(ReactiveSeq.of(1, 2, 3)
+                              .toIntSeq(i -> i)
+                              .map(x -> x * 2)
+                              .toArray(),
+                   equalTo(new int[]{2, 4, 6}));
+        assertThat(Spouts.of(1, 2, 3)
+                         .toIntSeq(i -> i)
+                         .map(x -> x * 2)
+                         .toArray(),
+                   equalTo(new int[]{2, 4, 6}));
+        assertThat(Spouts.of(1, 2, 3)
+                         .toIntSeq(i -> i)
+                         .scanLeft(0, (a, b) -> a + b)
+                         .boxed()
+                         .toListX(),
+                   equalTo(ListX.of(0, 1, 3, 6)));
+    }
+
+    @Test
+    public void range() {
+        assertThat(IntSeq.range(0, 5)
+                           .toArray(),
+                   equalTo(new int[]{0, 1, 2, 3, 4}));
+        assertThat(Spouts.rangeIntSeq(0, 5)
+                         .toArray(),
+                   equalTo(new int[]{0, 1, 2, 3, 4}));
+        assertThat(Spouts.rangeIntSeq(0, 1000)
+                         .filter(x -> x % 2 == 0)
+                         .map(x -> x / 2)
+                         .sum(),
+                   equalTo(IntSeq.range(0, 500)
+                                   .sum()));
+    }
+
+    @Test
+    public void rangeSwapsBounds() {
+        assertThat(IntSeq.range(5, 0)
+                         .toArray(),
+                   equalTo(new int[]{0, 1, 2, 3, 4}));
+        assertThat(Spouts.rangeIntSeq(5, 0)
+                         .toArray(),
+                   equalTo(new int[]{0, 1, 2, 3, 4}));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void pushErrorsRethrown() {
+        Spouts.intSeq(1, 2, 3)
+              .map(x -> {
+                  throw new IllegalStateException();
+              })
+              .forEach(x -> {
+              });
+    }
+}
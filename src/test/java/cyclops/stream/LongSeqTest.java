@@ -0,0 +1,103 @@
+package cyclops.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import cyclops.collections.ListX;
+
+/*
+ * the operators shared with IntSeq are covered by IntSeqTest, these tests cover values and ranges outside of the int range
+ */
+public class LongSeqTest {
+
+    //each test is run against the pull (LongStream) and push (Operator) based implementations
+    private final ListX<Function<long[], LongSeq>> engines = ListX.of(LongSeq::of, Spouts::longSeq);
+
+    private static final long BIG = Integer.MAX_VALUE + 1l;
+
+    @Test
+    public void mapScanBeyondIntRange() {
+        for (Function<long[], LongSeq> of : engines) {
+            assertThat(of.apply(new long[]{1, 2, 3})
+                         .map(x -> x * BIG)
+                         .filter(x -> x > BIG)
+                         .toArray(),
+                       equalTo(new long[]{2 * BIG, 3 * BIG}));
+            assertThat(of.apply(new long[]{BIG, BIG})
+                         .scanLeft(0l, (a, b) -> a + b)
+                         .toArray(),
+                       equalTo(new long[]{0, BIG, 2 * BIG}));
+            assertThat(of.apply(new long[]{BIG, BIG, BIG})
+                         .sum(),
+                       equalTo(3 * BIG));
+        }
+    }
+
+    @Test
+    public void slidingZipBeyondIntRange() {
+        for (Function<long[], LongSeq> of : engines) {
+            assertThat(of.apply(new long[]{BIG, BIG + 1, BIG + 2})
+                         .sliding(2)
+                         .map(Arrays::toString)
+                         .toListX(),
+                       equalTo(ListX.of(Arrays.toString(new long[]{BIG, BIG + 1}),
+                                        Arrays.toString(new long[]{BIG + 1, BIG + 2}))));
+            for (Function<long[], LongSeq> other : engines)
+                assertThat(of.apply(new long[]{BIG, 1})
+                             .zip(other.apply(new long[]{BIG, 2}), (a, b) -> a + b)
+                             .toArray(),
+                           equalTo(new long[]{2 * BIG, 3}));
+        }
+    }
+
+    @Test
+    public void boxedIterator() {
+        for (Function<long[], LongSeq> of : engines) {
+            assertThat(of.apply(new long[]{BIG})
+                         .boxed()
+                         .toListX(),
+                       equalTo(ListX.of(BIG)));
+            PrimitiveIterator.OfLong it = of.apply(new long[]{BIG, 2})
+                                            .iterator();
+            assertThat(it.nextLong(), equalTo(BIG));
+            assertThat(it.nextLong(), equalTo(2l));
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void toLongSeq() {
+        assertThat(Spouts.of(1, 2)
+                         .toLongSeq(i -> i * BIG)
+                         .toArray(),
+                   equalTo(new long[]{BIG, 2 * BIG}));
+        assertThat(ReactiveSeq.of(1, 2)
+                              .toLongSeq(i -> i * BIG)
+                              .toLongStream()
+                              .sum(),
+                   equalTo(3 * BIG));
+    }
+
+    @Test
+    public void rangeBeyondIntRange() {
+        assertThat(LongSeq.range(BIG, BIG + 3)
+                          .toArray(),
+                   equalTo(new long[]{BIG, BIG + 1, BIG + 2}));
+        assertThat(Spouts.rangeLongSeq(Long.MAX_VALUE - 2, Long.MAX_VALUE)
+                         .toArray(),
+                   equalTo(new long[]{Long.MAX_VALUE - 2, Long.MAX_VALUE - 1}));
+        assertThat(LongSeq.range(BIG + 2, BIG)
+                          .toArray(),
+                   equalTo(new long[]{BIG, BIG + 1}));
+        assertThat(Spouts.rangeLongSeq(BIG + 2, BIG)
+                         .toArray(),
+                   equalTo(new long[]{BIG, BIG + 1}));
+    }
+}
@@ -0,0 +1,62 @@
+package cyclops.stream.sketch;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+public class HyperLogLogTest {
+
+    private double error(long estimate, long actual) {
+        return Math.abs(estimate - actual) / (double) actual;
+    }
+
+    @Test
+    public void estimates() {
+        for (int distinct : new int[]{10, 1000, 100_000, 1_000_000}) {
+            HyperLogLog<Integer> hll = ReactiveSeq.range(0, distinct * 2)
+                                                  .map(i -> i % distinct)
+                                                  .collect(HyperLogLog.collector());
+            assertThat(error(hll.estimate(), distinct), lessThan(0.03));
+        }
+    }
+
+    @Test
+    public void mergeMatchesSinglePass() {
+        HyperLogLog<Integer> single = ReactiveSeq.range(0, 500_000)
+                                                 .collect(HyperLogLog.collector());
+        HyperLogLog<Integer> merged = ReactiveSeq.range(0, 500_000)
+                                                 .foldParallel(s -> s.collect(HyperLogLog.<Integer>collector()));
+        assertThat(merged, equalTo(single));
+        assertThat(merged.estimate(), equalTo(single.estimate()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergeDifferentPrecision() {
+        new HyperLogLog<Integer>(10).merge(new HyperLogLog<>(12));
+    }
+
+    @Test
+    public void approximateCountDistinct() {
+        assertThat(ListX.of("a", "b", "a", "c").approximateCountDistinct(), equalTo(3l));
+        assertThat(error(Spouts.range(0, 100_000).map(i -> "user" + i % 20_000).approximateCountDistinct(), 20_000), lessThan(0.03));
+    }
+
+    @Test
+    public void runningCountDistinct() {
+        assertThat(Spouts.of(1, 2, 1, 3, 2)
+                         .runningCountDistinct()
+                         .toList(),
+                   equalTo(ListX.of(1l, 2l, 2l, 3l, 3l)));
+        assertThat(error(ReactiveSeq.range(0, 100_000)
+                                    .runningCountDistinct()
+                                    .foldLeft(0l, (last, next) -> next),
+                         100_000),
+                   lessThan(0.03));
+    }
+}
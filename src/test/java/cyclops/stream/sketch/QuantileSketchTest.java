@@ -0,0 +1,84 @@
+package cyclops.stream.sketch;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Comparator;
+
+import org.junit.Test;
+
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+public class QuantileSketchTest {
+
+    static final int N = 1_000_000;
+
+    private double error(int value, double percentile) {
+        return Math.abs(value - percentile * N) / N;
+    }
+
+    @Test
+    public void empty() {
+        assertFalse(new QuantileSketch<Integer>(Comparator.naturalOrder()).median().isPresent());
+        assertFalse(ReactiveSeq.<Integer>empty().approximateMedian().isPresent());
+    }
+
+    @Test
+    public void smallIsExact() {
+        QuantileSketch<Integer> sketch = new QuantileSketch<>(Comparator.naturalOrder());
+        for (int i = 1; i <= 10; i++)
+            sketch.add(i);
+        assertThat(sketch.median().get(), equalTo(5));
+        assertThat(sketch.percentile(0.55).get(), equalTo(6));
+        assertThat(sketch.percentile(0).get(), equalTo(1));
+        assertThat(sketch.percentile(1).get(), equalTo(10));
+        assertThat(sketch.percentile(0.5).get(), equalTo(ReactiveSeq.range(1, 11).percentile(0.5).get()));
+    }
+
+    @Test
+    public void percentiles() {
+        QuantileSketch<Integer> sketch = ReactiveSeq.range(0, N)
+                                                    .collect(QuantileSketch.collector(Comparator.naturalOrder()));
+        assertThat(sketch.count(), equalTo((long) N));
+        for (double p : new double[]{0.01, 0.25, 0.5, 0.9, 0.99})
+            assertThat(error(sketch.percentile(p).get(), p), lessThan(0.02));
+        assertThat(sketch.percentile(0).get(), equalTo(0));
+        assertThat(sketch.percentile(1).get(), equalTo(N - 1));
+        assertThat(Math.abs(sketch.rank(N / 2) - 0.5), lessThan(0.02));
+    }
+
+    @Test
+    public void mergedPartialSketches() {
+        QuantileSketch<Integer> sketch = ReactiveSeq.range(0, N)
+                                                    .foldParallel(s -> s.collect(QuantileSketch.collector(Comparator.<Integer>naturalOrder())));
+        assertThat(sketch.count(), equalTo((long) N));
+        for (double p : new double[]{0.01, 0.5, 0.99})
+            assertThat(error(sketch.percentile(p).get(), p), lessThan(0.02));
+    }
+
+    @Test
+    public void approximatePercentile() {
+        assertThat(error(ReactiveSeq.range(0, N).approximatePercentile(0.99).get(), 0.99), lessThan(0.02));
+        assertThat(error(Spouts.range(0, N).approximateMedian().get(), 0.5), lessThan(0.02));
+        assertThat(ListX.of("b", "c", "a").approximatePercentile(0.5, Comparator.reverseOrder()).get(), equalTo("b"));
+    }
+
+    @Test
+    public void runningPercentile() {
+        assertThat(ReactiveSeq.of(5, 1, 3, 2, 4)
+                              .runningPercentile(1)
+                              .toList(),
+                   equalTo(ListX.of(5, 5, 5, 5, 5)));
+        assertThat(Spouts.of(5, 1, 3, 2, 4)
+                         .runningPercentile(0.5)
+                         .toList(),
+                   equalTo(ListX.of(5, 1, 3, 2, 3)));
+        ReactiveSeq<Integer> running = ReactiveSeq.of(3, 1, 2)
+                                                  .runningPercentile(0);
+        assertThat(running.toList(), equalTo(ListX.of(3, 1, 1)));
+    }
+}
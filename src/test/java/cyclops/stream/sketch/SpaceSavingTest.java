@@ -0,0 +1,61 @@
+package cyclops.stream.sketch;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.junit.Test;
+
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+
+public class SpaceSavingTest {
+
+    @Test
+    public void exactWithinCapacity() {
+        SpaceSaving<String> counts = ReactiveSeq.of("a", "b", "a", "c", "a", "b")
+                                                .collect(SpaceSaving.collector(10));
+        assertThat(counts.top(2), equalTo(ListX.of(Tuple.tuple("a", 3l), Tuple.tuple("b", 2l))));
+        assertThat(counts.frequency("c"), equalTo(1l));
+        assertThat(counts.frequency("d"), equalTo(0l));
+        assertThat(counts.mode().get(), equalTo("a"));
+    }
+
+    @Test
+    public void heavyHittersInLongTail() {
+        Random random = new Random(7);
+        SpaceSaving<Integer> counts = new SpaceSaving<>(50);
+        int zeros = 0;
+        for (int i = 0; i < 200_000; i++) {
+            int next = random.nextDouble() < 0.5 ? random.nextInt(5) : 5 + random.nextInt(100_000);
+            if (next == 0)
+                zeros++;
+            counts.add(next);
+        }
+        assertThat(counts.top(5)
+                         .map(t -> t.v1)
+                         .sorted(),
+                   equalTo(ListX.of(0, 1, 2, 3, 4)));
+        assertThat(counts.frequency(0), greaterThanOrEqualTo((long) zeros));
+        assertThat(counts.count(), equalTo(200_000l));
+    }
+
+    @Test
+    public void mergedPartialSummaries() {
+        //range is splittable, mapping inside the parallel Stream keeps it so and the partial summaries are merged
+        SpaceSaving<Integer> counts = ReactiveSeq.range(0, 20_000)
+                                                 .foldParallel(s -> s.map(i -> i % 7 == 0 ? -1 : i)
+                                                                     .collect(SpaceSaving.<Integer>collector(20)));
+        assertThat(counts.mode().get(), equalTo(-1));
+        assertThat(counts.count(), equalTo(20_000l));
+    }
+
+    @Test
+    public void heavyHitters() {
+        assertThat(ListX.of(1, 2, 2, 3, 3, 3).heavyHitters(1), equalTo(ListX.of(Tuple.tuple(3, 3l))));
+        assertThat(ReactiveSeq.of(1, 2, 2).approximateMode().get(), equalTo(2));
+    }
+}
@@ -6,9 +6,14 @@ import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import lombok.Value;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -408,6 +413,82 @@ public class BatchingTest {
 		assertThat(of(1,2,3,4,5,6).groupedByTime(1,TimeUnit.SECONDS).collect(Collectors.toList()).size(),is(1));
 	}
 	@Test
+	public void batchByTimeScheduled(){
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		assertThat(of(1,2,3,4,5,6).groupedByTime(1,TimeUnit.SECONDS,ex).collect(Collectors.toList()),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3,4,5,6))));
+		ex.shutdown();
+	}
+	@Test
+	public void batchBySizeAndTimeScheduled(){
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		assertThat(of(1,2,3,4,5,6).groupedBySizeAndTime(4,1,TimeUnit.SECONDS,ex).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3,4),Arrays.asList(5,6))));
+		ex.shutdown();
+	}
+	@Test
+	public void batchByTimeScheduledEmitsPartialBatchOnSparseStream() throws InterruptedException {
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		AtomicInteger emitted = new AtomicInteger(0);
+		List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+		Spouts.fromIterable(()->ReactiveSeq.of(1,2,3)
+										   .peek(i->{ if(i==2) sleep(500); })
+										   .peek(i->emitted.incrementAndGet())
+										   .iterator())
+				.groupedBySizeAndTime(10,100,TimeUnit.MILLISECONDS,ex)
+				.forEach(l->{
+					if(batches.size()==0)
+						assertThat(emitted.get(),is(1));
+					batches.add(l);
+				});
+
+		assertThat(batches,equalTo(Arrays.asList(Arrays.asList(1),Arrays.asList(2,3))));
+		ex.shutdown();
+	}
+	@Test
+	public void batchBySizeAndTimeScheduledRespectsDemand() throws InterruptedException {
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+		AtomicInteger pulled = new AtomicInteger(0);
+		Subscription[] sub = {null};
+		of(1,2,3,4,5).peek(i->pulled.incrementAndGet())
+				.groupedBySizeAndTime(2,10,TimeUnit.SECONDS,ex)
+				.subscribe(new Subscriber<ListX<Integer>>() {
+					@Override
+					public void onSubscribe(Subscription s) {
+						sub[0]=s;
+					}
+
+					@Override
+					public void onNext(ListX<Integer> l) {
+						batches.add(l);
+					}
+
+					@Override
+					public void onError(Throwable t) {
+
+					}
+
+					@Override
+					public void onComplete() {
+
+					}
+				});
+		sub[0].request(1);
+		assertThat(batches,equalTo(Arrays.asList(Arrays.asList(1,2))));
+		assertThat(pulled.get(),equalTo(2));
+		sub[0].request(10);
+		assertThat(batches,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+		ex.shutdownNow();
+	}
+	private void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	@Test
 	public void batchByTimeSet(){
 		
 		assertThat(of(1,1,1,1,1,1).groupedByTime(1500,TimeUnit.MICROSECONDS,()-> new TreeSet<>()).toList().get(0).size(),is(1));
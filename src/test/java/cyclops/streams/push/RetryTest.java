@@ -1,6 +1,7 @@
 package cyclops.streams.push;
 
 import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.async.RetryPolicy;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import org.junit.Before;
@@ -12,7 +13,9 @@ import org.mockito.MockitoAnnotations;
 import java.io.IOException;
 import java.net.SocketException;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -106,6 +109,38 @@ public class RetryTest {
 		assertThat(result, is("42"));
 	}
 
+	@Test
+	public void shouldSucceedAfterFewRetriesWithPolicy() throws Exception {
+
+		given(serviceMock.apply(anyInt())).willThrow(
+				new RuntimeException(new SocketException("First")),
+				new RuntimeException(new IOException("Second"))).willReturn(
+				"42");
+
+		long time = System.currentTimeMillis();
+		String result = Spouts.of( 1,  2, 3)
+				.retry(serviceMock, RetryPolicy.of(7,200,TimeUnit.MILLISECONDS))
+				.firstValue();
+		assertThat(System.currentTimeMillis()-time,greaterThan(200l));
+		assertThat(result, is("42"));
+	}
+
+	@Test
+	public void retryWithPolicyConcurrently() throws Exception {
+		RetryPolicy policy = RetryPolicy.of(3,10,TimeUnit.MILLISECONDS);
+		Set<Integer> failed = ConcurrentHashMap.newKeySet();
+		List<Integer> result = Spouts.of(1,2,3,4)
+				.retry(i->{
+					if(i%2==0 && failed.add(i))
+						throw new RuntimeException("boom");
+					return i*10;
+				},policy,4)
+				.toList();
+		assertThat(result, containsInAnyOrder(10,20,30,40));
+		assertThat(policy.getStats().getRetries(),equalTo(2l));
+		assertThat(policy.getStats().getExhausted(),equalTo(0l));
+	}
+
 	private CompletableFuture<String> failedAsync(Throwable throwable) {
 		final CompletableFuture<String> future = new CompletableFuture<>();
 		future.completeExceptionally(throwable);
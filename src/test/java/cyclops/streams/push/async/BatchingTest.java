@@ -149,6 +149,48 @@ public class BatchingTest {
 	 assertTrue("failed time was " + (System.currentTimeMillis()-start),System.currentTimeMillis()-start>1600);
 
 	}
+	@Test
+	public void onePerAsync() {
+		long start = System.currentTimeMillis();
+		assertThat(of(1,2,3,4)
+				.onePer(100, TimeUnit.MILLISECONDS)
+				.toList(),equalTo(Arrays.asList(1,2,3,4)));
+		assertTrue(System.currentTimeMillis()-start>=290);
+	}
+	@Test
+	public void xPerAsync() {
+		long start = System.currentTimeMillis();
+		assertThat(of(1,2,3,4,5,6)
+				.xPer(2,100, TimeUnit.MILLISECONDS)
+				.toList(),equalTo(Arrays.asList(1,2,3,4,5,6)));
+		assertTrue(System.currentTimeMillis()-start>=190);
+	}
+	@Test
+	public void fixedDelayAsync() {
+		long start = System.currentTimeMillis();
+		assertThat(of(1,2,3,4,5)
+				.fixedDelay(20, TimeUnit.MILLISECONDS)
+				.toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+		assertTrue(System.currentTimeMillis()-start>=100);
+	}
+	@Test
+	public void jitterAsync() {
+		assertThat(of(1,2,3,4,5)
+				.jitter(1000000l)
+				.toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+	}
+	@Test
+	public void debounceAsync() {
+		assertThat(of(1,2,3,4,5,6)
+				.debounce(1, TimeUnit.SECONDS)
+				.toList(),equalTo(Arrays.asList(1)));
+	}
+	@Test
+	public void limitTimeAsync() {
+		assertThat(of(1,2,3,4,5,6)
+				.limit(1, TimeUnit.SECONDS)
+				.toList(),equalTo(Arrays.asList(1,2,3,4,5,6)));
+	}
 
 	@Value
 	static class Status{